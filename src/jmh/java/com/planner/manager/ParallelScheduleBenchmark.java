@@ -0,0 +1,49 @@
+package com.planner.manager;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how {@link ScheduleManager#buildSchedule(ForkJoinPool)} scales with the number of threads in the pool.
+ * A single thread is the baseline to compare the other pool sizes against.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class ParallelScheduleBenchmark {
+
+    @Param({"10000", "100000"})
+    private int numTasks;
+
+    @Param({"365", "1000"})
+    private int maxDays;
+
+    @Param({"1", "2", "4", "8"})
+    private int threads;
+
+    private ScheduleManager sm;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sm = ScheduleWorkload.createScheduleManager(numTasks, maxDays);
+        pool = new ForkJoinPool(threads);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public int buildScheduleParallel() throws IOException {
+        sm.buildSchedule(pool);
+        return sm.getSchedule().size();
+    }
+}
@@ -0,0 +1,54 @@
+package com.planner.manager;
+
+import com.planner.models.Task;
+import com.planner.util.Time;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of {@link ScheduleManager#buildSchedule()} on a synthetic workload of Tasks spread across
+ * the scheduling horizon along with a dense set of recurring Events that break up every Day, both as a full
+ * rebuild and as an incremental rebuild after adding a single Task
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class ScheduleManagerBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int numTasks;
+
+    @Param({"30", "365", "1000"})
+    private int maxDays;
+
+    private ScheduleManager sm;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        sm = ScheduleWorkload.createScheduleManager(numTasks, maxDays);
+        sm.buildSchedule();
+    }
+
+    @Benchmark
+    public int buildSchedule() throws IOException {
+        // resetting the config forces a full rebuild rather than an incremental one
+        sm.setUserConfig(sm.getUserConfig());
+        sm.buildSchedule();
+        return sm.getSchedule().size();
+    }
+
+    @Benchmark
+    public int rebuildAfterAddTask() throws IOException {
+        // a Task due near the end of the horizon only invalidates the Days that reach that far into the heap
+        Task task = sm.addTask("new task", 2, Time.getFormattedCalendarInstance(maxDays - 2), null);
+        sm.buildSchedule();
+        sm.deleteTask(task.getId());
+        sm.buildSchedule();
+        return sm.getSchedule().size();
+    }
+}
@@ -0,0 +1,137 @@
+package com.planner.manager;
+
+import com.planner.models.Card;
+import com.planner.models.UserConfig;
+import com.planner.util.EventLog;
+import com.planner.util.JsonHandler;
+import com.planner.util.Time;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Builds the synthetic {@link ScheduleManager} workloads shared by the JMH benchmarks. Every workload is generated
+ * from a fixed seed so that runs are comparable across commits.
+ */
+public class ScheduleWorkload {
+
+    /** Seed used for all randomly generated Tasks and Events */
+    private static final long SEED = 34;
+    /** Number of recent entries kept by the EventLog of every workload */
+    private static final int LOG_CAPACITY = 4096;
+
+    /**
+     * Creates a {@link UserConfig} with the given scheduling horizon. Gson bypasses the UserConfig setters, which
+     * allows horizons beyond what the config dialog permits.
+     *
+     * @param maxDays number of Days to schedule
+     * @return UserConfig for benchmarking
+     */
+    public static UserConfig createUserConfig(int maxDays) {
+        return JsonHandler.readUserConfig("{\"dailyHoursRange\":[7,22],\"hoursPerDayOfWeek\":[8,8,8,8,8,8,8],"
+                + "\"subtaskRange\":[1.0,4.0],\"maxDays\":" + maxDays + ",\"archiveDays\":7,\"priority\":false,"
+                + "\"overflow\":true,\"optimizeDay\":false,\"defaultAtStart\":true,\"formatPrettyTime\":true}");
+    }
+
+    /**
+     * Creates an empty instance-scoped {@link ScheduleManager} with an in-memory {@link EventLog} at INFO level, so
+     * that neither the settings file nor the session log on disk is part of what a benchmark measures
+     *
+     * @param maxDays number of Days to schedule
+     * @return empty ScheduleManager
+     */
+    public static ScheduleManager createEmptyScheduleManager(int maxDays) {
+        return new ScheduleManager(createUserConfig(maxDays), new EventLog(null, EventLog.Level.INFO, LOG_CAPACITY), null);
+    }
+
+    /**
+     * Creates a {@link ScheduleManager} filled with Tasks due across the scheduling horizon, a dense set of
+     * recurring Events which split every Day into several free blocks, and an individual Event every third Day
+     *
+     * @param numTasks number of Tasks to add
+     * @param maxDays number of Days to schedule
+     * @return populated ScheduleManager
+     */
+    public static ScheduleManager createScheduleManager(int numTasks, int maxDays) {
+        ScheduleManager sm = createEmptyScheduleManager(maxDays);
+        Random rand = new Random(SEED);
+
+        Card.Color[] colors = Card.Color.values();
+        for (int i = 0; i < 8; i++) {
+            sm.addCard("card" + i, colors[i % colors.length]);
+        }
+
+        for (int i = 0; i < numTasks; i++) {
+            double hours = 1 + rand.nextInt(6) * 0.5;
+            Integer cardId = rand.nextInt(3) == 0 ? rand.nextInt(8) : null;
+            sm.addTask("task" + i, hours, Time.getFormattedCalendarInstance(rand.nextInt(maxDays)), cardId);
+        }
+
+        addRecurringEvent(sm, "class1", 9, 10, Calendar.MONDAY, Calendar.WEDNESDAY, Calendar.FRIDAY);
+        addRecurringEvent(sm, "class2", 12, 13, Calendar.MONDAY, Calendar.WEDNESDAY, Calendar.FRIDAY);
+        addRecurringEvent(sm, "lab", 14, 16, Calendar.TUESDAY, Calendar.THURSDAY);
+        addRecurringEvent(sm, "seminar", 10, 11, Calendar.TUESDAY, Calendar.THURSDAY);
+        addRecurringEvent(sm, "gym", 17, 18, Calendar.SUNDAY, Calendar.MONDAY, Calendar.TUESDAY,
+                Calendar.WEDNESDAY, Calendar.THURSDAY, Calendar.FRIDAY, Calendar.SATURDAY);
+        addRecurringEvent(sm, "dinner", 19, 20, Calendar.SUNDAY, Calendar.MONDAY, Calendar.TUESDAY,
+                Calendar.WEDNESDAY, Calendar.THURSDAY, Calendar.FRIDAY, Calendar.SATURDAY);
+
+        for (int i = 1; i < maxDays; i += 3) {
+            Calendar start = Time.getFormattedCalendarInstance(i);
+            start.set(Calendar.HOUR_OF_DAY, 8 + rand.nextInt(2) * 7);
+            Calendar end = (Calendar) start.clone();
+            end.add(Calendar.MINUTE, 30 + rand.nextInt(2) * 30);
+            sm.addEvent("meeting" + i, null, new Time.TimeStamp(start, end), false, null);
+        }
+        return sm;
+    }
+
+    /**
+     * Generates the CLI lines which would create the same kind of Tasks and Events as
+     * {@link #createScheduleManager(int, int)}
+     *
+     * @param numLines number of lines to generate
+     * @return list of 'task' and 'event' commands
+     */
+    public static List<String> createCommandLines(int numLines) {
+        Random rand = new Random(SEED);
+        String[] days = {"mon", "tue", "wed", "thu", "fri", "sat", "sun"};
+        List<String> lines = new ArrayList<>(numLines);
+        for (int i = 0; i < numLines; i++) {
+            Calendar date = Time.getFormattedCalendarInstance(rand.nextInt(365));
+            String dateStr = String.format("%02d-%02d-%04d", date.get(Calendar.DAY_OF_MONTH),
+                    date.get(Calendar.MONTH) + 1, date.get(Calendar.YEAR));
+            switch (rand.nextInt(4)) {
+                case 0:
+                    lines.add("event true \"recurring event " + i + "\" +c" + rand.nextInt(8) + " @ "
+                            + days[rand.nextInt(7)] + " " + days[rand.nextInt(7)] + " 9:30am-11am");
+                    break;
+                case 1:
+                    lines.add("event false \"event " + i + "\" @ " + dateStr + " 2pm-3:45pm");
+                    break;
+                default:
+                    lines.add("task \"task " + i + "\" " + (1 + rand.nextInt(6) * 0.5) + " +c" + rand.nextInt(8)
+                            + " @ " + dateStr);
+            }
+        }
+        return Collections.unmodifiableList(lines);
+    }
+
+    private static void addRecurringEvent(ScheduleManager sm, String name, int startHour, int endHour, int... daysOfWeek) {
+        Calendar start = Time.getFormattedCalendarInstance(0);
+        start.set(Calendar.HOUR_OF_DAY, startHour);
+        Calendar end = Time.getFormattedCalendarInstance(0);
+        end.set(Calendar.HOUR_OF_DAY, endHour);
+
+        List<Calendar> dates = new ArrayList<>();
+        for (int dayOfWeek : daysOfWeek) {
+            Calendar date = Time.getFormattedCalendarInstance(0);
+            date.set(Calendar.DAY_OF_WEEK, dayOfWeek);
+            dates.add(date);
+        }
+        sm.addEvent(name, null, new Time.TimeStamp(start, end), true, dates);
+    }
+}
@@ -0,0 +1,58 @@
+package com.planner.manager;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a full {@link ScheduleManager#buildSchedule()} with each {@link com.planner.schedule.Scheduler} strategy
+ * on the same workload, and prints the {@link com.planner.schedule.ScheduleMetrics} of the schedule each one built
+ * so that the speed of a strategy can be weighed against the quality of its schedules, with and without
+ * {@link com.planner.schedule.Scheduler#optimizeDay} merging the SubTasks broken up by Events
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class SchedulerStrategyBenchmark {
+
+    @Param({"compact", "edf", "sjf", "balanced"})
+    private String strategy;
+
+    @Param({"1000", "10000"})
+    private int numTasks;
+
+    @Param({"30", "365"})
+    private int maxDays;
+
+    @Param({"false", "true"})
+    private boolean optimizeDay;
+
+    private ScheduleManager sm;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        sm = ScheduleWorkload.createScheduleManager(numTasks, maxDays);
+        sm.setScheduler(strategy);
+        sm.getUserConfig().setOptimizeDay(optimizeDay);
+        sm.buildSchedule();
+    }
+
+    @TearDown(Level.Trial)
+    public void printMetrics() {
+        System.out.println();
+        System.out.println(strategy + " (" + numTasks + " tasks, " + maxDays + " days, optimizeDay=" + optimizeDay + "): "
+                + sm.getScheduleMetrics());
+    }
+
+    @Benchmark
+    public int buildSchedule() throws IOException {
+        // resetting the config forces a full rebuild rather than an incremental one
+        sm.setUserConfig(sm.getUserConfig());
+        sm.buildSchedule();
+        return sm.getSchedule().size();
+    }
+}
@@ -0,0 +1,47 @@
+package com.planner.manager;
+
+import com.planner.models.Task;
+import com.planner.util.Time;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures editing and deleting Tasks in a large backlog through {@link ScheduleManager#modTask} and
+ * {@link ScheduleManager#deleteTask}, which have to find the Task within the active and archived heaps
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class TaskEditBenchmark {
+
+    @Param({"1000", "50000"})
+    private int numTasks;
+
+    private ScheduleManager sm;
+    /** Next Task to be edited */
+    private int nextId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sm = ScheduleWorkload.createScheduleManager(numTasks, 30);
+    }
+
+    @Benchmark
+    public Task modTaskHours() {
+        int id = nextId;
+        nextId = (nextId + 7919) % numTasks;
+        Task task = sm.getTask(id);
+        sm.modTask(id, null, task.getTotalHours() + 0.5, null, null);
+        return sm.modTask(id, null, task.getTotalHours() - 0.5, null, null);
+    }
+
+    @Benchmark
+    public boolean addDeleteTask() {
+        Task task = sm.addTask("new task", 2, Time.getFormattedCalendarInstance(15), null);
+        return sm.deleteTask(task.getId());
+    }
+}
@@ -0,0 +1,67 @@
+package com.planner.schedule;
+
+import com.planner.manager.ScheduleManager;
+import com.planner.manager.ScheduleWorkload;
+import com.planner.models.Event;
+import com.planner.models.Task;
+import com.planner.schedule.day.Day;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a single call to {@link CompactScheduler#assignDay(Day, int, java.util.Queue, java.util.Queue, Calendar)} for
+ * tomorrow's {@link Day} with its recurring Events, drawing from the full heap of Tasks
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class CompactSchedulerBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int numTasks;
+
+    @Param({"30", "365", "1000"})
+    private int maxDays;
+
+    private Scheduler scheduler;
+    private List<Task> tasks;
+    private List<Event> dayEvents;
+    private PriorityQueue<Task> taskManager;
+    private Day day;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ScheduleManager sm = ScheduleWorkload.createScheduleManager(numTasks, maxDays);
+        scheduler = Scheduler.newInstance(sm.getUserConfig(), sm.getEventLog());
+        scheduler.updateConfig(sm.getUserConfig());
+        tasks = new ArrayList<>(sm.getTaskManager());
+        int tomorrow = (Calendar.getInstance().get(Calendar.DAY_OF_WEEK)) % 7;
+        dayEvents = sm.getRecurEvents().get(tomorrow);
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpDay() {
+        taskManager = new PriorityQueue<>(tasks.size());
+        for (Task task : tasks) {
+            task.reset();
+            taskManager.add(task);
+        }
+        day = new Day(1, 8, 1);
+        for (Event event : dayEvents) {
+            day.addEvent(event);
+        }
+    }
+
+    @Benchmark
+    public int assignDay() {
+        return scheduler.assignDay(day, 0, new PriorityQueue<>(), taskManager, Calendar.getInstance());
+    }
+}
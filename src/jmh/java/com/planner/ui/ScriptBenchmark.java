@@ -0,0 +1,114 @@
+package com.planner.ui;
+
+import com.planner.manager.ScheduleManager;
+import com.planner.manager.ScheduleWorkload;
+import com.planner.models.Card;
+import com.planner.models.UserConfig;
+import com.planner.schedule.Scheduler;
+import com.planner.util.EventLog;
+import com.planner.util.Parser;
+import com.planner.util.Time;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a bulk load of generated 'card', 'task' and 'event' commands through {@link ScriptRunner}, against
+ * parsing them alone and against running them one at a time the way the CLI does, with a confirmation printed and
+ * the action logged for every command and the schedule built once at the end
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class ScriptBenchmark {
+
+    @Param({"10000"})
+    private int numLines;
+
+    private UserConfig userConfig;
+    private List<String> lines;
+    private PrintStream out;
+    private ScheduleManager sm;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        userConfig = ScheduleWorkload.createUserConfig(30);
+        lines = new ArrayList<>();
+        Card.Color[] colors = Card.Color.values();
+        for (int i = 0; i < 8; i++) {
+            lines.add("card \"card" + i + "\" " + colors[i % colors.length]);
+        }
+        for (String line : ScheduleWorkload.createCommandLines(numLines)) {
+            String[] tokens = Parser.tokenize(line);
+            // recurring Events given the same day twice are rejected by the ScheduleManager
+            if (!"true".equals(tokens[1]) || !tokens[tokens.length - 3].equals(tokens[tokens.length - 2])) {
+                lines.add(line);
+            }
+        }
+        out = new PrintStream(OutputStream.nullOutputStream());
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpManager() {
+        EventLog eventLog = new EventLog();
+        sm = new ScheduleManager(userConfig, eventLog, Scheduler.newInstance(userConfig, eventLog));
+    }
+
+    @Benchmark
+    public void parse(Blackhole bh) {
+        for (String line : lines) {
+            String[] tokens = Parser.tokenize(line);
+            switch (tokens[0]) {
+                case "card":
+                    bh.consume(Parser.parseCard(tokens));
+                    break;
+                case "task":
+                    bh.consume(Parser.parseTask(tokens));
+                    break;
+                default:
+                    bh.consume(Parser.parseEvent(tokens));
+                    break;
+            }
+        }
+    }
+
+    @Benchmark
+    public int script() throws IOException {
+        return new ScriptRunner(sm, out).run("benchmark.qs", lines);
+    }
+
+    @Benchmark
+    public ScheduleManager interactive() throws IOException {
+        for (String line : lines) {
+            String[] tokens = Parser.tokenize(line);
+            switch (tokens[0]) {
+                case "card":
+                    Parser.CardInfo ci = Parser.parseCard(tokens);
+                    out.println("Added Card " + sm.addCard(ci.getName(), ci.getColor()).getId() + ".");
+                    break;
+                case "task":
+                    Parser.TaskInfo ti = Parser.parseTask(tokens);
+                    out.println("Added Task " + sm.addTask(ti.getDesc(), ti.getHours(), ti.getDue(), ti.getCardId()).getId() + ".");
+                    break;
+                default:
+                    Parser.EventInfo eventInfo = Parser.parseEvent(tokens);
+                    Calendar[] timeStamp = eventInfo.getTimestamp();
+                    out.println("Added Event " + sm.addEvent(eventInfo.getName(), eventInfo.getCardId(),
+                            new Time.TimeStamp(timeStamp[0], timeStamp[1]), eventInfo.isRecurring(), eventInfo.getDates()).getId() + ".");
+                    break;
+            }
+        }
+        sm.buildSchedule();
+        return sm;
+    }
+}
@@ -0,0 +1,114 @@
+package com.planner.ui;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time from launching the application in a new JVM until the CLI shows its first prompt, with and
+ * without the {@value TUI#FAST_START_FLAG} flag. The application is launched from the project directory, where it
+ * finds 'settings/profile.json', on one of the following runtimes:
+ * <ul>
+ *     <li>classpath: the JDK running the benchmark, with the classpath of the benchmark</li>
+ *     <li>jar: the same JDK, with the fat jar</li>
+ *     <li>jar-cds: the same JDK and jar, with the archive of 'gradle cdsArchive'</li>
+ *     <li>image: the runtime image of 'gradle jlinkImage' without its application archive</li>
+ *     <li>image-cds: the launcher of the runtime image, which uses the application archive</li>
+ * </ul>
+ * All but the first need the artifacts of 'gradle startupBenchmark', which builds them and runs this benchmark on
+ * every runtime.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 10)
+@Fork(1)
+public class StartupBenchmark {
+
+    /** Last characters printed before the CLI waits for input */
+    private static final String PROMPT = "commands.\n> ";
+
+    @Param({"fast", "splash"})
+    private String mode;
+
+    @Param({"classpath"})
+    private String runtime;
+
+    private List<String> command;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        command = new ArrayList<>();
+        switch (runtime) {
+            case "classpath":
+                command.add(java);
+                command.add("-cp");
+                command.add(System.getProperty("java.class.path"));
+                command.add(TUI.class.getName());
+                break;
+            case "jar":
+                command.add(java);
+                command.add("-jar");
+                command.add(getArtifact("quick-sched.jar").toString());
+                break;
+            case "jar-cds":
+                command.add(java);
+                command.add("-XX:SharedArchiveFile=" + getArtifact("quick-sched.cds"));
+                command.add("-jar");
+                command.add(getArtifact("quick-sched.jar").toString());
+                break;
+            case "image":
+                command.add(getArtifact("quick-sched.image").resolve("bin").resolve("java").toString());
+                command.add("-jar");
+                command.add(getArtifact("quick-sched.image").resolve("app").resolve("quick-sched.jar").toString());
+                break;
+            case "image-cds":
+                command.add(getArtifact("quick-sched.image").resolve("bin").resolve("quick-sched").toString());
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown runtime '" + runtime + "'.");
+        }
+        if ("fast".equals(mode)) {
+            command.add(TUI.FAST_START_FLAG);
+        }
+    }
+
+    @Benchmark
+    public int timeToFirstPrompt() throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        try (InputStream in = process.getInputStream()) {
+            StringBuilder out = new StringBuilder();
+            int c;
+            while ((c = in.read()) != -1) {
+                out.append((char) c);
+                if (out.length() >= PROMPT.length() && out.lastIndexOf(PROMPT) == out.length() - PROMPT.length()) {
+                    return out.length();
+                }
+            }
+            throw new IllegalStateException("Application exited before its first prompt:\n" + out);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    /**
+     * Gets the location of a build artifact from the system property set by the 'jmh' and 'startupBenchmark' tasks
+     */
+    private static Path getArtifact(String property) {
+        String location = System.getProperty(property);
+        if (location == null || !Files.exists(Paths.get(location))) {
+            throw new IllegalStateException("Missing " + property + ", run 'gradle startupBenchmark' to build it.");
+        }
+        return Paths.get(location);
+    }
+}
@@ -0,0 +1,52 @@
+package com.planner.ui.tables;
+
+import com.planner.manager.ScheduleManager;
+import com.planner.manager.ScheduleWorkload;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link TableFormatter#formatScheduleTable(java.util.List, boolean)} on a built schedule, both rendering
+ * every Day and reusing the Days already held by a {@link RenderCache}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class TableFormatterBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int numTasks;
+
+    @Param({"30", "365", "1000"})
+    private int maxDays;
+
+    @Param({"false", "true"})
+    private boolean useColor;
+
+    private ScheduleManager sm;
+
+    private RenderCache cache;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        sm = ScheduleWorkload.createScheduleManager(numTasks, maxDays);
+        sm.buildSchedule();
+        cache = new RenderCache();
+        TableFormatter.formatScheduleTable(sm.getSchedule(), useColor, cache);
+    }
+
+    @Benchmark
+    public String formatScheduleTable() {
+        return TableFormatter.formatScheduleTable(sm.getSchedule(), useColor);
+    }
+
+    @Benchmark
+    public String formatScheduleTableCached() {
+        return TableFormatter.formatScheduleTable(sm.getSchedule(), useColor, cache);
+    }
+}
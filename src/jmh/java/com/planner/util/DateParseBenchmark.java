@@ -0,0 +1,42 @@
+package com.planner.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Calendar;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing the dates of commands and '.sched' records through {@link Parser}, both written out and as
+ * relative keywords, along with event lines where every token after '@' is tried as a date before a timestamp.
+ * Run with '-t N' to see how parsing scales across threads.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DateParseBenchmark {
+
+    private final Tokens tokens = new Tokens();
+
+    @Benchmark
+    public Calendar[] numericDates() {
+        return Parser.parseDateRange("05-09-2024", "01-10-2024");
+    }
+
+    @Benchmark
+    public Calendar[] keywordDates() {
+        return Parser.parseDateRange("tmrw", "eow");
+    }
+
+    @Benchmark
+    public Parser.EventInfo eventLine() {
+        return Parser.parseEvent(tokens.reset("true \"gym\" +C1 @ mon wed fri 9:30am-11am"), 0);
+    }
+
+    @Benchmark
+    public Parser.DayInfo dayRecord() {
+        return Parser.parseDay(tokens.reset("05-09-2024 T3 1-2:15pm E0"));
+    }
+}
@@ -0,0 +1,50 @@
+package com.planner.util;
+
+import com.planner.manager.ScheduleWorkload;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Parser#tokenize(String)} alone and combined with {@link Parser#parseTask(String[])} and
+ * {@link Parser#parseEvent(String[])} over a batch of generated 'task' and 'event' commands
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class ParserBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int numLines;
+
+    private List<String> lines;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        lines = ScheduleWorkload.createCommandLines(numLines);
+    }
+
+    @Benchmark
+    public void tokenize(Blackhole bh) {
+        for (String line : lines) {
+            bh.consume(Parser.tokenize(line));
+        }
+    }
+
+    @Benchmark
+    public void tokenizeAndParse(Blackhole bh) {
+        for (String line : lines) {
+            String[] tokens = Parser.tokenize(line);
+            if ("task".equals(tokens[0])) {
+                bh.consume(Parser.parseTask(tokens));
+            } else {
+                bh.consume(Parser.parseEvent(tokens));
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.planner.util;
+
+import com.planner.manager.ScheduleManager;
+import com.planner.manager.ScheduleWorkload;
+import com.planner.models.Event;
+import com.planner.models.Task;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing the Event, Task and Day records of a large '.sched' file, as {@link Serializer} does when reading a
+ * schedule, either split into Strings by {@link Parser#tokenize(String)} with the command name prepended, or parsed
+ * straight from the line through a reused {@link Tokens}. Only the parsing is measured, not adding the records to a
+ * ScheduleManager.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class SchedRecordBenchmark {
+
+    @Param({"100000"})
+    private int numTasks;
+
+    @Param({"365"})
+    private int maxDays;
+
+    private final List<String> events = new ArrayList<>();
+    private final List<String> tasks = new ArrayList<>();
+    private final List<String> days = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ScheduleManager sm = ScheduleWorkload.createScheduleManager(numTasks, maxDays);
+        sm.buildSchedule();
+        List<Task> allTasks = new ArrayList<>(sm.getTaskManager());
+        allTasks.addAll(sm.getArchivedTasks());
+        Set<Event> recurEvents = new LinkedHashSet<>();
+        for (List<Event> dayEvents : sm.getRecurEvents()) {
+            recurEvents.addAll(dayEvents);
+        }
+        String data = Serializer.serializeSchedule(sm.getCards(), allTasks, sm.getIndivEvents(),
+                new ArrayList<>(recurEvents), sm.getSchedule());
+
+        List<String> section = null;
+        for (String line : data.split("\n")) {
+            switch (line.trim()) {
+                case "EVENT {":
+                    section = events;
+                    break;
+                case "TASK {":
+                    section = tasks;
+                    break;
+                case "DAY {":
+                    section = days;
+                    break;
+                case "}":
+                case "CARD {":
+                    section = null;
+                    break;
+                default:
+                    if (section != null) {
+                        section.add(line);
+                    }
+            }
+        }
+    }
+
+    @Benchmark
+    public void parseStrings(Blackhole bh) {
+        for (String line : events) {
+            bh.consume(Parser.parseEvent(Parser.tokenize("event " + line)));
+        }
+        for (String line : tasks) {
+            bh.consume(Parser.parseTask(Parser.tokenize("task " + line)));
+        }
+        for (String line : days) {
+            bh.consume(Parser.parseDay(Parser.tokenize(line)));
+        }
+    }
+
+    @Benchmark
+    public void parseViews(Blackhole bh) {
+        Tokens tokens = new Tokens();
+        for (String line : events) {
+            bh.consume(Parser.parseEvent(tokens.reset(line), 0));
+        }
+        for (String line : tasks) {
+            bh.consume(Parser.parseTask(tokens.reset(line), 0));
+        }
+        for (String line : days) {
+            bh.consume(Parser.parseDay(tokens.reset(line)));
+        }
+    }
+
+    @Benchmark
+    public void tokenizeStrings(Blackhole bh) {
+        for (String line : tasks) {
+            bh.consume(Parser.tokenize("task " + line));
+        }
+        for (String line : days) {
+            bh.consume(Parser.tokenize(line));
+        }
+    }
+
+    @Benchmark
+    public void tokenizeViews(Blackhole bh) {
+        Tokens tokens = new Tokens();
+        for (String line : tasks) {
+            bh.consume(tokens.reset(line));
+        }
+        for (String line : days) {
+            bh.consume(tokens.reset(line));
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.planner.util;
+
+import com.planner.manager.ScheduleManager;
+import com.planner.manager.ScheduleWorkload;
+import com.planner.models.Event;
+import com.planner.models.Task;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Serializer#serializeSchedule(List, List, List, List, List)} and
+ * {@link Serializer#deserializeSchedule(String, ScheduleManager)} on a built schedule, along with the streaming
+ * {@link Serializer#writeSchedule(Appendable, List, List, List, List, List)} and
+ * {@link Serializer#readSchedule(Reader, ScheduleManager)} compared against the String based path they replace for
+ * files (building the whole String before writing it, or reading the whole file into a String first), and the
+ * binary {@link JBin} format
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class SerializerBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int numTasks;
+
+    @Param({"30", "365", "1000"})
+    private int maxDays;
+
+    private ScheduleManager sm;
+    private List<Task> tasks;
+    private List<Event> recurEvents;
+    private String data;
+    private byte[] bytes;
+    private byte[] jbin;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        sm = ScheduleWorkload.createScheduleManager(numTasks, maxDays);
+        sm.buildSchedule();
+        tasks = new ArrayList<>(sm.getTaskManager());
+        tasks.addAll(sm.getArchivedTasks());
+        Set<Event> recurEventsSet = new LinkedHashSet<>();
+        for (List<Event> dayEvents : sm.getRecurEvents()) {
+            recurEventsSet.addAll(dayEvents);
+        }
+        recurEvents = new ArrayList<>(recurEventsSet);
+        data = serializeSchedule();
+        bytes = data.getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JBin.writeSchedule(out, sm.getCards(), tasks, sm.getIndivEvents(), recurEvents, sm.getSchedule());
+        jbin = out.toByteArray();
+    }
+
+    @Benchmark
+    public String serializeSchedule() {
+        return Serializer.serializeSchedule(sm.getCards(), tasks, sm.getIndivEvents(), recurEvents, sm.getSchedule());
+    }
+
+    @Benchmark
+    public ScheduleManager deserializeSchedule() {
+        ScheduleManager target = ScheduleWorkload.createEmptyScheduleManager(maxDays);
+        Serializer.deserializeSchedule(data, target);
+        return target;
+    }
+
+    @Benchmark
+    public void serializeScheduleToStream() throws IOException {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(OutputStream.nullOutputStream(), StandardCharsets.UTF_8))) {
+            writer.write(Serializer.serializeSchedule(sm.getCards(), tasks, sm.getIndivEvents(), recurEvents, sm.getSchedule()));
+        }
+    }
+
+    @Benchmark
+    public void writeScheduleToStream() throws IOException {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(OutputStream.nullOutputStream(), StandardCharsets.UTF_8))) {
+            Serializer.writeSchedule(writer, sm.getCards(), tasks, sm.getIndivEvents(), recurEvents, sm.getSchedule());
+        }
+    }
+
+    @Benchmark
+    public ScheduleManager deserializeScheduleFromStream() {
+        ScheduleManager target = ScheduleWorkload.createEmptyScheduleManager(maxDays);
+        Serializer.deserializeSchedule(new String(bytes, StandardCharsets.UTF_8), target);
+        return target;
+    }
+
+    @Benchmark
+    public ScheduleManager readScheduleFromStream() throws IOException {
+        ScheduleManager target = ScheduleWorkload.createEmptyScheduleManager(maxDays);
+        try (Reader reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8))) {
+            Serializer.readSchedule(reader, target);
+        }
+        return target;
+    }
+
+    @Benchmark
+    public void writeJBinToStream() throws IOException {
+        try (OutputStream out = new BufferedOutputStream(OutputStream.nullOutputStream())) {
+            JBin.writeSchedule(out, sm.getCards(), tasks, sm.getIndivEvents(), recurEvents, sm.getSchedule());
+        }
+    }
+
+    @Benchmark
+    public ScheduleManager readJBin() {
+        ScheduleManager target = ScheduleWorkload.createEmptyScheduleManager(maxDays);
+        JBin.readSchedule(ByteBuffer.wrap(jbin), target);
+        return target;
+    }
+}
@@ -0,0 +1,56 @@
+package com.planner.util;
+
+import com.planner.manager.ScheduleManager;
+import com.planner.manager.ScheduleWorkload;
+import com.planner.models.Event;
+import com.planner.models.Task;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how {@link Serializer#writeSchedule(Appendable, List, List, List, List, List)} scales as the number of
+ * Tasks grows by a factor of four per step over a fixed year-long schedule. Since every Task, SubTask and Event index
+ * is looked up in O(1), the time per op should grow linearly with the number of Tasks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class SerializerScalingBenchmark {
+
+    @Param({"1000", "4000", "16000", "64000"})
+    private int numTasks;
+
+    private ScheduleManager sm;
+    private List<Task> tasks;
+    private List<Event> recurEvents;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        sm = ScheduleWorkload.createScheduleManager(numTasks, 365);
+        sm.buildSchedule();
+        tasks = new ArrayList<>(sm.getTaskManager());
+        tasks.addAll(sm.getArchivedTasks());
+        Set<Event> recurEventsSet = new LinkedHashSet<>();
+        for (List<Event> dayEvents : sm.getRecurEvents()) {
+            recurEventsSet.addAll(dayEvents);
+        }
+        recurEvents = new ArrayList<>(recurEventsSet);
+    }
+
+    @Benchmark
+    public void writeSchedule() throws IOException {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(OutputStream.nullOutputStream(), StandardCharsets.UTF_8))) {
+            Serializer.writeSchedule(writer, sm.getCards(), tasks, sm.getIndivEvents(), recurEvents, sm.getSchedule());
+        }
+    }
+}
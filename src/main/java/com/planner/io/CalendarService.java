@@ -0,0 +1,62 @@
+package com.planner.io;
+
+import com.planner.models.UserConfig;
+import com.planner.schedule.day.Day;
+import com.planner.util.EventLog;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.util.List;
+
+/**
+ * Exchanges schedules with an external calendar. The Google API client behind it is only loaded once a session
+ * first connects, so sessions which never use the calendar start without it.
+ */
+public interface CalendarService {
+
+    /**
+     * Connects to Google Calendar, authorizing the user if needed
+     *
+     * @param eventLog EventLog for logging calendar actions
+     * @return CalendarService backed by Google Calendar
+     * @throws GeneralSecurityException if a secure connection could not be set up
+     * @throws IOException if the credentials could not be read
+     */
+    static CalendarService connect(EventLog eventLog) throws GeneralSecurityException, IOException {
+        return new GoogleCalendarIO(eventLog);
+    }
+
+    /**
+     * Exports every Event and SubTask of the schedule to the calendar
+     *
+     * @param userConfig user settings for the export
+     * @param week List of Days to be exported
+     * @return Result of the export
+     * @throws IOException if the export was interrupted
+     */
+    GoogleCalendarExporter.Result exportScheduleToGoogle(UserConfig userConfig, List<Day> week) throws IOException;
+
+    /**
+     * Imports the schedule from the calendar
+     *
+     * @throws IOException if the calendar cannot be read
+     */
+    void importScheduleFromGoogle() throws IOException;
+
+    /**
+     * Brings the calendar in line with the schedule
+     *
+     * @param week List of Days to be synced
+     * @return Result of the sync
+     * @throws IOException if the calendar cannot be listed or the sync was interrupted
+     */
+    GoogleCalendarExporter.Result syncScheduleToGoogle(List<Day> week) throws IOException;
+
+    /**
+     * Deletes every event of the application from the calendar
+     *
+     * @return number of events deleted
+     * @throws IOException if the calendar cannot be listed
+     */
+    int cleanGoogleSchedule() throws IOException;
+}
@@ -0,0 +1,376 @@
+package com.planner.io;
+
+import com.google.api.client.googleapis.batch.BatchRequest;
+import com.google.api.client.googleapis.batch.json.JsonBatchCallback;
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.services.calendar.Calendar;
+import com.google.api.services.calendar.CalendarRequest;
+import com.google.api.services.calendar.model.Event;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends Google Calendar inserts, updates and deletes through the Calendar API's batch endpoint. Calls are coalesced into
+ * batches of up to {@link #MAX_BATCH_SIZE} per HTTP request, and the batches are sent on a bounded pool of threads.
+ * Calls rejected with a rate limit or server error are retried with exponential backoff.
+ */
+public class GoogleCalendarExporter {
+
+    /** Maximum number of calls accepted by the Calendar API in one batch request */
+    public static final int MAX_BATCH_SIZE = 50;
+    /** Default number of batch requests in flight at once */
+    public static final int DEFAULT_CONCURRENCY = 4;
+    /** Default number of times a failed request is retried */
+    public static final int DEFAULT_MAX_RETRIES = 5;
+    /** Default delay before the first retry */
+    public static final long DEFAULT_INITIAL_BACKOFF_MS = 250;
+    /** Upper bound on the delay between two retries */
+    private static final long MAX_BACKOFF_MS = 32_000;
+
+    /** Calendar service used to create the requests */
+    private final Calendar service;
+    /** Calendar the events belong to */
+    private final String calendarId;
+    /** Number of calls per batch request */
+    private final int batchSize;
+    /** Number of batch requests in flight at once */
+    private final int concurrency;
+    /** Number of times a failed request is retried */
+    private final int maxRetries;
+    /** Delay before the first retry, doubled on every further attempt */
+    private final long initialBackoffMs;
+
+    /**
+     * Listener notified as requests complete, called from the threads sending the batch requests
+     */
+    public interface Progress {
+
+        /**
+         * Called after every batch request with the running totals of the run
+         *
+         * @param completed number of requests which succeeded or failed for good
+         * @param total number of requests in the run
+         */
+        void update(int completed, int total);
+    }
+
+    /**
+     * Constructs a new {@code GoogleCalendarExporter} with the default batching, concurrency and retry settings
+     *
+     * @param service Calendar service used to create the requests
+     * @param calendarId Calendar the events belong to
+     */
+    public GoogleCalendarExporter(Calendar service, String calendarId) {
+        this(service, calendarId, MAX_BATCH_SIZE, DEFAULT_CONCURRENCY, DEFAULT_MAX_RETRIES, DEFAULT_INITIAL_BACKOFF_MS);
+    }
+
+    /**
+     * Constructs a new {@code GoogleCalendarExporter}
+     *
+     * @param service Calendar service used to create the requests
+     * @param calendarId Calendar the events belong to
+     * @param batchSize number of calls per batch request, at most {@link #MAX_BATCH_SIZE}
+     * @param concurrency number of batch requests in flight at once
+     * @param maxRetries number of times a failed request is retried
+     * @param initialBackoffMs delay before the first retry, doubled on every further attempt
+     */
+    public GoogleCalendarExporter(Calendar service, String calendarId, int batchSize, int concurrency,
+                                  int maxRetries, long initialBackoffMs) {
+        if (service == null || calendarId == null) {
+            throw new IllegalArgumentException("Calendar service and id cannot be null");
+        }
+        if (batchSize < 1 || batchSize > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch size must be between 1 and " + MAX_BATCH_SIZE);
+        }
+        if (concurrency < 1 || maxRetries < 0 || initialBackoffMs < 0) {
+            throw new IllegalArgumentException("Invalid concurrency or retry settings");
+        }
+        this.service = service;
+        this.calendarId = calendarId;
+        this.batchSize = batchSize;
+        this.concurrency = concurrency;
+        this.maxRetries = maxRetries;
+        this.initialBackoffMs = initialBackoffMs;
+    }
+
+    /**
+     * Inserts every given event into the calendar
+     *
+     * @param events Google events to be inserted
+     * @param progress listener notified after every batch request, or null
+     * @return Result of the export
+     * @throws IOException if the export was interrupted or a request could not be created
+     */
+    public Result export(List<Event> events, Progress progress) throws IOException {
+        List<CalendarRequest<?>> requests = new ArrayList<>(events.size());
+        for (Event event : events) {
+            requests.add(service.events().insert(calendarId, event));
+        }
+        return execute(requests, progress);
+    }
+
+    /**
+     * Inserts, updates and deletes events so the calendar matches the given sync plan
+     *
+     * @param sync changes to be sent
+     * @param progress listener notified after every batch request, or null
+     * @return Result of the sync, with links in the order inserts, updates, deletes
+     * @throws IOException if the sync was interrupted or a request could not be created
+     */
+    public Result sync(GoogleCalendarSync sync, Progress progress) throws IOException {
+        List<CalendarRequest<?>> requests = new ArrayList<>(sync.size());
+        for (Event event : sync.getInserts()) {
+            requests.add(service.events().insert(calendarId, event));
+        }
+        for (Event event : sync.getUpdates()) {
+            requests.add(service.events().update(calendarId, event.getId(), event));
+        }
+        for (String id : sync.getDeletes()) {
+            requests.add(service.events().delete(calendarId, id));
+        }
+        return execute(requests, progress);
+    }
+
+    /**
+     * Sends the given Calendar requests as batches
+     *
+     * @param requests requests to be sent
+     * @param progress listener notified after every batch request, or null
+     * @return Result of the requests, holding the link of every event returned
+     * @throws IOException if the requests were interrupted or one could not be queued
+     */
+    public Result execute(List<? extends CalendarRequest<?>> requests, Progress progress) throws IOException {
+        Result result = new Result(requests.size());
+        if (requests.isEmpty()) {
+            return result;
+        }
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(concurrency, (requests.size() + batchSize - 1) / batchSize));
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int from = 0; from < requests.size(); from += batchSize) {
+                int lo = from;
+                int hi = Math.min(from + batchSize, requests.size());
+                futures.add(executor.submit(() -> {
+                    executeBatch(requests, lo, hi, result, progress);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Google Calendar requests were interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+            result.elapsedNanos = System.nanoTime() - start;
+        }
+        return result;
+    }
+
+    /**
+     * Sends the requests in [lo, hi) as one batch request, then resends whichever requests failed with a retryable
+     * error until they succeed or run out of attempts
+     */
+    private void executeBatch(List<? extends CalendarRequest<?>> requests, int lo, int hi, Result result, Progress progress)
+            throws IOException, InterruptedException {
+        List<Integer> pending = new ArrayList<>(hi - lo);
+        for (int i = lo; i < hi; i++) {
+            pending.add(i);
+        }
+        for (int attempt = 0; !pending.isEmpty(); attempt++) {
+            if (attempt > 0) {
+                result.retries.addAndGet(pending.size());
+                Thread.sleep(getBackoff(attempt));
+            }
+            boolean lastAttempt = attempt == maxRetries;
+            List<Integer> retry = new ArrayList<>();
+            // set by the callback of every request answered by the server
+            boolean[] answered = new boolean[pending.size()];
+            BatchRequest batch = service.batch();
+            for (int j = 0; j < pending.size(); j++) {
+                queue(batch, requests.get(pending.get(j)), pending.get(j), j, answered, lastAttempt, retry, result);
+            }
+            result.requests.incrementAndGet();
+            try {
+                batch.execute();
+            } catch (IOException e) {
+                // the whole request failed, so everything the server did not answer is sent again
+                for (int j = 0; j < pending.size(); j++) {
+                    if (answered[j]) {
+                        continue;
+                    }
+                    if (lastAttempt) {
+                        result.failed.incrementAndGet();
+                    } else {
+                        retry.add(pending.get(j));
+                    }
+                }
+            }
+            if (progress != null) {
+                progress.update(result.getExported() + result.getFailed(), result.total);
+            }
+            pending = retry;
+        }
+    }
+
+    /**
+     * Queues a request on the batch, recording its outcome in the Result or marking it for retry
+     */
+    private <T> void queue(BatchRequest batch, CalendarRequest<T> request, int index, int slot, boolean[] answered,
+                           boolean lastAttempt, List<Integer> retry, Result result) throws IOException {
+        request.queue(batch, new JsonBatchCallback<T>() {
+            @Override
+            public void onSuccess(T response, HttpHeaders responseHeaders) {
+                answered[slot] = true;
+                if (response instanceof Event) {
+                    result.links[index] = ((Event) response).getHtmlLink();
+                }
+                result.exported.incrementAndGet();
+            }
+
+            @Override
+            public void onFailure(GoogleJsonError error, HttpHeaders responseHeaders) {
+                answered[slot] = true;
+                if (!lastAttempt && isRetryable(error)) {
+                    retry.add(index);
+                } else {
+                    result.failed.incrementAndGet();
+                }
+            }
+        });
+    }
+
+    /**
+     * Gets the delay before the given attempt, doubling from the initial backoff with up to 50% random jitter
+     */
+    private long getBackoff(int attempt) {
+        long delay = Math.min(MAX_BACKOFF_MS, initialBackoffMs << Math.min(attempt - 1, 20));
+        return delay + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+    }
+
+    /**
+     * Checks whether a request failed because of rate limiting or a server error, rather than a bad request
+     */
+    private static boolean isRetryable(GoogleJsonError error) {
+        int code = error.getCode();
+        if (code == 429 || code >= 500) {
+            return true;
+        }
+        if (code == 403 && error.getErrors() != null) {
+            for (GoogleJsonError.ErrorInfo info : error.getErrors()) {
+                if ("rateLimitExceeded".equals(info.getReason()) || "userRateLimitExceeded".equals(info.getReason())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Outcome of a run of requests, holding the link of every returned event along with throughput
+     */
+    public static class Result {
+
+        /** Number of requests in the run */
+        private final int total;
+        /** Link of every returned event in request order, null for failed requests and deletes */
+        private final String[] links;
+        /** Number of requests which succeeded */
+        private final AtomicInteger exported = new AtomicInteger();
+        /** Number of requests which failed for good */
+        private final AtomicInteger failed = new AtomicInteger();
+        /** Number of requests sent again after a failure */
+        private final AtomicInteger retries = new AtomicInteger();
+        /** Number of batch requests sent */
+        private final AtomicInteger requests = new AtomicInteger();
+        /** Wall clock time taken by the run */
+        private long elapsedNanos;
+
+        private Result(int total) {
+            this.total = total;
+            this.links = new String[total];
+        }
+
+        /**
+         * Gets the link of every returned event
+         *
+         * @return List of links in request order, with null for failed requests and deletes
+         */
+        public List<String> getLinks() {
+            return Collections.unmodifiableList(Arrays.asList(links));
+        }
+
+        /**
+         * Gets the number of requests which succeeded
+         *
+         * @return number of exported events, updates and deletes
+         */
+        public int getExported() {
+            return exported.get();
+        }
+
+        /**
+         * Gets the number of requests which failed for good
+         *
+         * @return number of failed requests
+         */
+        public int getFailed() {
+            return failed.get();
+        }
+
+        /**
+         * Gets the number of requests sent again after a failure
+         *
+         * @return number of retries
+         */
+        public int getRetries() {
+            return retries.get();
+        }
+
+        /**
+         * Gets the number of batch HTTP requests sent, including retries
+         *
+         * @return number of HTTP requests
+         */
+        public int getRequests() {
+            return requests.get();
+        }
+
+        /**
+         * Gets the wall clock time taken by the run
+         *
+         * @return elapsed time in nanoseconds
+         */
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         * Gets the throughput of the run
+         *
+         * @return number of successful requests per second
+         */
+        public double getEventsPerSecond() {
+            return elapsedNanos == 0 ? 0 : getExported() * 1e9 / elapsedNanos;
+        }
+    }
+}
@@ -18,6 +18,7 @@ import com.google.api.client.json.gson.GsonFactory;
 import com.google.api.client.util.DateTime;
 import com.google.api.client.util.store.FileDataStoreFactory;
 import com.google.api.services.calendar.Calendar;
+import com.google.api.services.calendar.CalendarRequest;
 import com.google.api.services.calendar.CalendarScopes;
 import com.google.api.services.calendar.model.*;
 
@@ -26,6 +27,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.security.GeneralSecurityException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -34,7 +36,7 @@ import java.util.List;
  *
  * @author Abah Olotuche Gabriel
  */
-public class GoogleCalendarIO {
+public class GoogleCalendarIO implements CalendarService {
     /**
      * Application name.
      */
@@ -56,7 +58,10 @@ public class GoogleCalendarIO {
             Collections.singletonList(CalendarScopes.CALENDAR);
     private static final String CREDENTIALS_FILE_PATH = "/credentials.json";
     private static final String calendarId = "primary";
+    /** Largest page of events returned by the Calendar API */
+    private static final int MAX_RESULTS_PER_PAGE = 2500;
     private final Calendar service;
+    private final GoogleCalendarExporter exporter;
     private EventLog eventLog;
 
     public GoogleCalendarIO(EventLog eventLog) throws GeneralSecurityException, IOException {
@@ -65,9 +70,16 @@ public class GoogleCalendarIO {
         service = new Calendar.Builder(HTTP_TRANSPORT, JSON_FACTORY, getCredentials(HTTP_TRANSPORT))
                 .setApplicationName(APPLICATION_NAME)
                 .build();
+        exporter = new GoogleCalendarExporter(service, calendarId);
         this.eventLog.reportGoogleCalendarAuthorization();
     }
 
+    GoogleCalendarIO(Calendar service, EventLog eventLog) {
+        this.eventLog = eventLog;
+        this.service = service;
+        exporter = new GoogleCalendarExporter(service, calendarId);
+    }
+
     /**
      * Creates an authorized Credential object.
      *
@@ -97,23 +109,26 @@ public class GoogleCalendarIO {
     }
 
     // [COMPLETE]
-    public void exportScheduleToGoogle(UserConfig userconfig, List<Day> week) throws IOException {
+    public GoogleCalendarExporter.Result exportScheduleToGoogle(UserConfig userconfig, List<Day> week) throws IOException {
         // need to handle null pointer here since if we try to export to Google without building, else we'll get an exception
+        List<Event> events = new ArrayList<>();
         for(Day day : week) {
-            // todo need config option that prevents writing of log output to console
             for (com.planner.models.Event e1 : day.getEventList()) {
-                Event event = GoogleCalendarUtil.formatEventToGoogleEvent(e1);
-                event = service.events().insert(calendarId, event).execute();
-                System.out.printf("Event created: %s\n", event.getHtmlLink());
+                events.add(GoogleCalendarUtil.formatEventToGoogleEvent(e1));
             }
 
             for(Task.SubTask subTask : day.getSubTaskList()) {
-                Event event = GoogleCalendarUtil.formatTaskToGoogleEvent(subTask);
-                event = service.events().insert(calendarId, event).execute();
-                System.out.printf("Task created: %s\n", event.getHtmlLink());
+                events.add(GoogleCalendarUtil.formatTaskToGoogleEvent(subTask));
             }
         }
-        eventLog.reportGoogleCalendarExportSchedule();
+        // todo need config option that prevents writing of log output to console
+        GoogleCalendarExporter.Result result = exporter.export(events, (completed, total) ->
+                System.out.printf("Exporting to Google Calendar: %d/%d\r", completed, total));
+        System.out.printf("Exported %d of %d items to Google Calendar in %.1f s (%d requests, %d retries, %d failed)\n",
+                result.getExported(), events.size(), result.getElapsedNanos() / 1e9,
+                result.getRequests(), result.getRetries(), result.getFailed());
+        eventLog.reportGoogleCalendarExportSchedule(result.getExported(), result.getFailed());
+        return result;
     }
 
     // [COMPLETE]
@@ -138,24 +153,68 @@ public class GoogleCalendarIO {
         eventLog.reportGoogleCalendarImportSchedule();
     }
 
-    // [COMPLETE]
-    public int cleanGoogleSchedule() throws IOException {
+    /**
+     * Brings the calendar in line with the schedule, sending only the inserts, updates and deletes for the events which
+     * changed since the last export. Only the calendar from the start of today onward is listed, so Days before today
+     * are left out of the sync rather than being inserted again.
+     *
+     * @param week List of Days to be synced
+     * @return Result of the sync
+     * @throws IOException if the calendar cannot be listed or the sync was interrupted
+     */
+    public GoogleCalendarExporter.Result syncScheduleToGoogle(List<Day> week) throws IOException {
+        long today = Time.toEpochDay(Time.getFormattedCalendarInstance(0));
+        List<Day> upcoming = new ArrayList<>();
+        for (Day day : week) {
+            if (day.getEpochDay() >= today) {
+                upcoming.add(day);
+            }
+        }
+        List<Event> local = GoogleCalendarUtil.formatScheduleToGoogleEvents(upcoming);
+        GoogleCalendarSync sync = GoogleCalendarSync.plan(local, listTaggedEvents());
+        GoogleCalendarExporter.Result result = exporter.sync(sync, null);
+        System.out.printf("Synced Google Calendar in %.1f s: %d inserted, %d updated, %d deleted, %d unchanged (%d requests, %d failed)\n",
+                result.getElapsedNanos() / 1e9, sync.getInserts().size(), sync.getUpdates().size(),
+                sync.getDeletes().size(), sync.getUnchanged(), result.getRequests(), result.getFailed());
+        eventLog.reportGoogleCalendarSyncSchedule(sync.getInserts().size(), sync.getUpdates().size(),
+                sync.getDeletes().size(), result.getFailed());
+        return result;
+    }
+
+    /**
+     * Lists every Agile Planner event from the start of today onward, following every page of results
+     *
+     * @return List of tagged events
+     * @throws IOException if the calendar cannot be listed
+     */
+    private List<Event> listTaggedEvents() throws IOException {
         DateTime now = new DateTime(Time.getFormattedCalendarInstance(0).getTime());
-        Events events = service.events().list("primary")
-                .setMaxResults(100)
-                .setTimeMin(now)
-                .setOrderBy("startTime")
-                .setSingleEvents(true)
-                .execute();
-        List<Event> items = events.getItems();
-        int count = 0;
-        for(Event e : items) {
-            // hashcode representing an Agile Planner created event
-            if(e.getDescription() != null && e.getDescription().contains("eb007aba6df2559a02ceb17ddba47c85b3e2b930")) {
-                service.events().delete(calendarId, e.getId()).execute();
-                count++;
+        List<Event> tagged = new ArrayList<>();
+        String pageToken = null;
+        do {
+            Events events = service.events().list(calendarId)
+                    .setMaxResults(MAX_RESULTS_PER_PAGE)
+                    .setTimeMin(now)
+                    .setFields("nextPageToken,items(id,description,extendedProperties)")
+                    .setPageToken(pageToken)
+                    .execute();
+            for (Event e : events.getItems()) {
+                if (GoogleCalendarUtil.isTagged(e)) {
+                    tagged.add(e);
+                }
             }
+            pageToken = events.getNextPageToken();
+        } while (pageToken != null);
+        return tagged;
+    }
+
+    // [COMPLETE]
+    public int cleanGoogleSchedule() throws IOException {
+        List<CalendarRequest<?>> requests = new ArrayList<>();
+        for(Event e : listTaggedEvents()) {
+            requests.add(service.events().delete(calendarId, e.getId()));
         }
+        int count = exporter.execute(requests, null).getExported();
         eventLog.reportGoogleCalendarCleanSchedule(count);
         return count;
     }
@@ -0,0 +1,107 @@
+package com.planner.io;
+
+import com.planner.util.GoogleCalendarUtil;
+import com.google.api.services.calendar.model.Event;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Computes the changes needed to bring the Agile Planner events of a Google Calendar in line with a local schedule.
+ * Local and remote events are matched by the stable key stored with every exported event, and only the events which
+ * are new, changed or gone are turned into inserts, updates and deletes.
+ */
+public class GoogleCalendarSync {
+
+    /** Local events not yet in the calendar */
+    private final List<Event> inserts = new ArrayList<>();
+    /** Local events whose content changed, each carrying the id of the remote event it replaces */
+    private final List<Event> updates = new ArrayList<>();
+    /** Ids of remote events no longer in the schedule */
+    private final List<String> deletes = new ArrayList<>();
+    /** Number of events already up to date */
+    private int unchanged;
+
+    private GoogleCalendarSync() {
+    }
+
+    /**
+     * Computes the changes between the local schedule and the calendar
+     *
+     * @param local tagged Google events of the local schedule
+     * @param remote Agile Planner events currently in the calendar
+     * @return GoogleCalendarSync holding the inserts, updates and deletes
+     */
+    public static GoogleCalendarSync plan(List<Event> local, List<Event> remote) {
+        GoogleCalendarSync sync = new GoogleCalendarSync();
+        Map<String, Event> remoteByKey = new HashMap<>();
+        for (Event event : remote) {
+            String key = GoogleCalendarUtil.getKey(event);
+            // events from older exports have no key and duplicates of a key are dropped
+            if (key == null || remoteByKey.putIfAbsent(key, event) != null) {
+                sync.deletes.add(event.getId());
+            }
+        }
+        for (Event event : local) {
+            Event match = remoteByKey.remove(GoogleCalendarUtil.getKey(event));
+            if (match == null) {
+                sync.inserts.add(event);
+            } else if (!GoogleCalendarUtil.getHash(event).equals(GoogleCalendarUtil.getHash(match))) {
+                sync.updates.add(event.clone().setId(match.getId()));
+            } else {
+                sync.unchanged++;
+            }
+        }
+        for (Event event : remoteByKey.values()) {
+            sync.deletes.add(event.getId());
+        }
+        return sync;
+    }
+
+    /**
+     * Gets the local events not yet in the calendar
+     *
+     * @return List of events to be inserted
+     */
+    public List<Event> getInserts() {
+        return inserts;
+    }
+
+    /**
+     * Gets the local events whose content changed
+     *
+     * @return List of events to be updated, each with the id of its remote event
+     */
+    public List<Event> getUpdates() {
+        return updates;
+    }
+
+    /**
+     * Gets the remote events no longer in the schedule
+     *
+     * @return List of ids of events to be deleted
+     */
+    public List<String> getDeletes() {
+        return deletes;
+    }
+
+    /**
+     * Gets the number of events already up to date
+     *
+     * @return number of unchanged events
+     */
+    public int getUnchanged() {
+        return unchanged;
+    }
+
+    /**
+     * Gets the number of changes to be sent
+     *
+     * @return number of inserts, updates and deletes
+     */
+    public int size() {
+        return inserts.size() + updates.size() + deletes.size();
+    }
+}
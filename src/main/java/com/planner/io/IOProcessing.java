@@ -1,5 +1,8 @@
 package com.planner.io;
 
+import com.planner.models.UserConfig;
+import com.planner.util.JsonHandler;
+
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -13,20 +16,35 @@ import java.nio.file.Paths;
  */
 public class IOProcessing {
 
-    public static void writeSysLogToFile(String str) throws IOException {
-        // Define the path for the 'logs' directory
-        Path logsDirectory = Paths.get("logs");
+    /** Location of the user settings */
+    private static final Path USER_CONFIG_FILE = Paths.get("settings", "profile.json");
+    /** Contents of 'settings/profile.json', read from disk on first use */
+    private static String userConfigJson;
 
-        // Create the 'logs' directory if it does not exist
-        if (!Files.exists(logsDirectory)) {
-            Files.createDirectories(logsDirectory);
+    /**
+     * Reads the user settings from 'settings/profile.json'. The file is only read once per session, but every call
+     * returns a new UserConfig, so changing the settings of one ScheduleManager never changes those of another.
+     *
+     * @return new UserConfig with the saved settings
+     * @throws IOException if the settings file could not be read
+     */
+    public static synchronized UserConfig readUserConfig() throws IOException {
+        if (userConfigJson == null) {
+            userConfigJson = Files.readString(USER_CONFIG_FILE);
         }
+        return JsonHandler.readUserConfig(userConfigJson);
+    }
 
-        // Create a PrintStream to write to a file in the 'logs' directory
-        Path logFile = logsDirectory.resolve("system.log");
-        try (PrintStream outputStream = new PrintStream(logFile.toFile())) {
-            outputStream.print(str);
-        }
+    /**
+     * Writes the user settings to 'settings/profile.json', so they are the settings read from then on
+     *
+     * @param userConfig UserConfig being written
+     * @throws IOException if the settings file could not be written
+     */
+    public static synchronized void writeUserConfig(UserConfig userConfig) throws IOException {
+        String json = JsonHandler.createUserConfig(userConfig);
+        Files.writeString(USER_CONFIG_FILE, json);
+        userConfigJson = json;
     }
 
     public static void writeSesLogToFile(String str) throws IOException {
@@ -45,17 +63,30 @@ public class IOProcessing {
         }
     }
 
-    public static void writeSerializationFile(String filename, String str) throws IOException {
-        File scheduleFile = new File("schedules\\" + filename);
-        if (!scheduleFile.getParentFile().exists()) {
-            scheduleFile.getParentFile().mkdir();
-        }
-        scheduleFile.createNewFile();
-
-        FileWriter fw = new FileWriter(scheduleFile.getAbsoluteFile());
-        BufferedWriter scheduleWriter = new BufferedWriter(fw);
+    /**
+     * Opens a buffered writer over the given file within the 'schedules' directory, creating the directory if needed
+     *
+     * @param filename name of the schedule file
+     * @return BufferedWriter for streaming the schedule to the file
+     * @throws IOException if the file could not be created
+     */
+    public static BufferedWriter openSerializationFile(String filename) throws IOException {
+        Path scheduleFile = Paths.get("schedules", filename);
+        Files.createDirectories(scheduleFile.getParent());
+        return Files.newBufferedWriter(scheduleFile, StandardCharsets.UTF_8);
+    }
 
-        scheduleWriter.write(str);
-        scheduleWriter.close();
+    /**
+     * Opens a buffered output stream over the given JBin file within the 'schedules' directory, creating the
+     * directory if needed
+     *
+     * @param filename name of the JBin file
+     * @return OutputStream for writing the JBin file
+     * @throws IOException if the file could not be created
+     */
+    public static OutputStream openJBinFile(String filename) throws IOException {
+        Path jbinFile = Paths.get("schedules", filename);
+        Files.createDirectories(jbinFile.getParent());
+        return new BufferedOutputStream(Files.newOutputStream(jbinFile));
     }
 }
\ No newline at end of file
@@ -15,15 +15,15 @@ import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.security.GeneralSecurityException;
+import java.util.Collection;
 import java.util.List;
-import java.util.PriorityQueue;
 
 /**
  * Class to handle operations related to spreadsheet files.
  *
  * @author Abah Olotuche Gabriel
  */
-public class SpreadsheetIO {
+public class SpreadsheetIO implements SpreadsheetService {
     private String filename = "schedule.xlsx";
     private EventLog eventLog;
 
@@ -81,7 +81,7 @@ public class SpreadsheetIO {
     public void exportScheduleToExcel(
             List<Day> schedule,
             List<Card> cards,
-            PriorityQueue<Task> archivedTasks,
+            Collection<Task> archivedTasks,
             UserConfig userConfig
     ) throws IOException {
         if (schedule.isEmpty())
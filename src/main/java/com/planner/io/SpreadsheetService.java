@@ -0,0 +1,49 @@
+package com.planner.io;
+
+import com.planner.models.Card;
+import com.planner.models.Task;
+import com.planner.models.UserConfig;
+import com.planner.schedule.day.Day;
+import com.planner.util.EventLog;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Exports schedules to spreadsheets. The spreadsheet library behind it is only loaded once a session first exports,
+ * so sessions which never export start without it.
+ */
+public interface SpreadsheetService {
+
+    /**
+     * Opens the Excel exporter
+     *
+     * @param eventLog EventLog for logging spreadsheet actions
+     * @return SpreadsheetService which writes Excel files
+     * @throws GeneralSecurityException if the exporter could not be set up
+     * @throws IOException if the exporter could not be set up
+     */
+    static SpreadsheetService open(EventLog eventLog) throws GeneralSecurityException, IOException {
+        return new SpreadsheetIO(eventLog);
+    }
+
+    /**
+     * Sets the name of the file exported to
+     *
+     * @param filename name of the file, or 'none' to keep the current one
+     */
+    void setFilename(String filename);
+
+    /**
+     * Exports the schedule to the file
+     *
+     * @param schedule Days to be exported
+     * @param cards Cards to be exported
+     * @param archivedTasks archived Tasks, which are flagged in the export
+     * @param userConfig user settings for the export
+     * @throws IOException if the file could not be written
+     */
+    void exportScheduleToExcel(List<Day> schedule, List<Card> cards, Collection<Task> archivedTasks, UserConfig userConfig) throws IOException;
+}
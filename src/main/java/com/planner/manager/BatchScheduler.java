@@ -0,0 +1,198 @@
+package com.planner.manager;
+
+import com.planner.models.UserConfig;
+import com.planner.schedule.Scheduler;
+import com.planner.util.EventLog;
+import com.planner.util.JsonHandler;
+import com.planner.util.Serializer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * Generates schedules for many '.sched' inputs at once. Every input is loaded into its own {@link ScheduleManager}
+ * with its own {@link UserConfig}, {@link EventLog} and {@link Scheduler}, so the schedules are built concurrently on
+ * a bounded pool of threads without sharing any state.
+ * <p>
+ * Usage: {@code BatchScheduler [--threads N] [--config profile.json] <file.sched | directory>...}
+ */
+public class BatchScheduler {
+
+    /** Config used when no '--config' option is given */
+    private static final String DEFAULT_CONFIG = "settings/profile.json";
+    /** Number of recent entries kept by the EventLog of every schedule */
+    private static final int BATCH_LOG_CAPACITY = 256;
+
+    /** Raw JSON of the UserConfig, parsed separately for every schedule */
+    private final String userConfigJson;
+    /** Number of threads used to build schedules */
+    private final int threads;
+
+    /**
+     * Constructs a new {@code BatchScheduler}
+     *
+     * @param userConfigJson JSON of the UserConfig applied to every schedule
+     * @param threads number of threads used to build schedules
+     */
+    public BatchScheduler(String userConfigJson, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Number of threads must be at least 1");
+        }
+        JsonHandler.readUserConfig(userConfigJson);
+        this.userConfigJson = userConfigJson;
+        this.threads = threads;
+    }
+
+    /**
+     * Builds a schedule for every given '.sched' input
+     *
+     * @param inputs contents of the '.sched' inputs
+     * @return Result of the batch
+     */
+    public Result run(List<String> inputs) {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            long start = System.nanoTime();
+            List<Future<ScheduleManager>> futures = new ArrayList<>(inputs.size());
+            for (String data : inputs) {
+                futures.add(executor.submit(createJob(data)));
+            }
+            List<ScheduleManager> managers = new ArrayList<>(inputs.size());
+            int failures = 0;
+            for (Future<ScheduleManager> future : futures) {
+                try {
+                    managers.add(future.get());
+                } catch (ExecutionException e) {
+                    managers.add(null);
+                    failures++;
+                }
+            }
+            return new Result(managers, failures, System.nanoTime() - start);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalArgumentException("Batch scheduling was interrupted");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Callable<ScheduleManager> createJob(String data) {
+        return () -> {
+            UserConfig userConfig = JsonHandler.readUserConfig(userConfigJson);
+            // per-Day tracing is skipped, since nobody reads it back during a batch
+            EventLog eventLog = new EventLog(null, EventLog.Level.INFO, BATCH_LOG_CAPACITY);
+            ScheduleManager sm = new ScheduleManager(userConfig, eventLog, Scheduler.newInstance(userConfig, eventLog));
+            Serializer.deserializeSchedule(data, sm);
+            sm.buildSchedule();
+            return sm;
+        };
+    }
+
+    /**
+     * Outcome of a batch, holding one ScheduleManager per input (null for inputs which failed) along with throughput
+     */
+    public static class Result {
+
+        /** Built ScheduleManagers in input order */
+        private final List<ScheduleManager> managers;
+        /** Number of inputs which failed to be scheduled */
+        private final int failures;
+        /** Wall clock time taken by the batch */
+        private final long elapsedNanos;
+
+        private Result(List<ScheduleManager> managers, int failures, long elapsedNanos) {
+            this.managers = managers;
+            this.failures = failures;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /**
+         * Gets the built ScheduleManagers in input order
+         *
+         * @return List of ScheduleManagers, with null for inputs which failed
+         */
+        public List<ScheduleManager> getManagers() {
+            return managers;
+        }
+
+        /**
+         * Gets the number of inputs which failed to be scheduled
+         *
+         * @return number of failures
+         */
+        public int getFailures() {
+            return failures;
+        }
+
+        /**
+         * Gets the wall clock time taken by the batch
+         *
+         * @return elapsed time in nanoseconds
+         */
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         * Gets the throughput of the batch
+         *
+         * @return number of schedules built per second
+         */
+        public double getSchedulesPerSecond() {
+            int built = managers.size() - failures;
+            return elapsedNanos == 0 ? 0 : built * 1e9 / elapsedNanos;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int threads = Runtime.getRuntime().availableProcessors();
+        String configFile = DEFAULT_CONFIG;
+        List<Path> files = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if ("--threads".equals(args[i]) && i + 1 < args.length) {
+                threads = Integer.parseInt(args[++i]);
+            } else if ("--config".equals(args[i]) && i + 1 < args.length) {
+                configFile = args[++i];
+            } else {
+                Path path = Paths.get(args[i]);
+                if (Files.isDirectory(path)) {
+                    try (Stream<Path> stream = Files.list(path)) {
+                        stream.filter(p -> p.toString().endsWith(".sched")).sorted().forEach(files::add);
+                    }
+                } else {
+                    files.add(path);
+                }
+            }
+        }
+        if (files.isEmpty()) {
+            System.out.println("Usage: BatchScheduler [--threads N] [--config profile.json] <file.sched | directory>...");
+            return;
+        }
+
+        List<String> inputs = new ArrayList<>(files.size());
+        for (Path file : files) {
+            inputs.add(Files.readString(file));
+        }
+
+        BatchScheduler batch = new BatchScheduler(Files.readString(Paths.get(configFile)), threads);
+        Result result = batch.run(inputs);
+        for (int i = 0; i < files.size(); i++) {
+            if (result.getManagers().get(i) == null) {
+                System.out.println("Failed to schedule " + files.get(i));
+            }
+        }
+        System.out.printf("Scheduled %d of %d inputs on %d threads in %.1f ms (%.1f schedules/sec)%n",
+                files.size() - result.getFailures(), files.size(), threads,
+                result.getElapsedNanos() / 1e6, result.getSchedulesPerSecond());
+    }
+}
@@ -0,0 +1,135 @@
+package com.planner.manager;
+
+import com.planner.models.Card;
+import com.planner.models.Task;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds the Cards of a schedule by id, in the order they were added, along with a reverse index from every Card to
+ * the Tasks assigned to it. Looking up, deleting or listing the Tasks of a Card only touches that Card's Tasks.
+ * The Events of a Card are indexed by the {@link EventStore}.
+ * <p>
+ * Tasks are indexed by id since their hash code changes along with their hours.
+ */
+public class CardRegistry {
+
+    /** Cards by id, in the order they were added */
+    private final Map<Integer, Card> cards = new LinkedHashMap<>();
+    /** Tasks by id, by the id of their Card */
+    private final Map<Integer, Map<Integer, Task>> cardTasks = new HashMap<>();
+
+    /**
+     * Adds a Card
+     *
+     * @param card Card being added
+     */
+    public void add(Card card) {
+        if (cards.putIfAbsent(card.getId(), card) != null) {
+            throw new IllegalArgumentException("Card " + card.getId() + " already exists.");
+        }
+    }
+
+    /**
+     * Removes the Card with the given id and unassigns it from all of its Tasks
+     *
+     * @param id id of the Card
+     * @return removed Card, or null if there is none
+     */
+    public Card remove(int id) {
+        Card card = cards.remove(id);
+        if (card != null) {
+            Map<Integer, Task> tasks = cardTasks.remove(id);
+            if (tasks != null) {
+                for (Task task : tasks.values()) {
+                    task.setCard(null);
+                }
+            }
+        }
+        return card;
+    }
+
+    /**
+     * Gets the Card with the given id
+     *
+     * @param id id of the Card
+     * @return Card with the id, or null if there is none
+     */
+    public Card get(int id) {
+        return cards.get(id);
+    }
+
+    /**
+     * Gets every Card
+     *
+     * @return List of Cards in the order they were added
+     */
+    public List<Card> getCards() {
+        return new ArrayList<>(cards.values());
+    }
+
+    /**
+     * Gets the number of Cards
+     *
+     * @return number of Cards
+     */
+    public int size() {
+        return cards.size();
+    }
+
+    /**
+     * Indexes a Task under its Card, if it has one
+     *
+     * @param task Task being indexed
+     */
+    public void addTask(Task task) {
+        if (task.getCard() != null) {
+            cardTasks.computeIfAbsent(task.getCard().getId(), k -> new LinkedHashMap<>()).put(task.getId(), task);
+        }
+    }
+
+    /**
+     * Removes a Task from the index of its Card
+     *
+     * @param task Task being removed
+     */
+    public void removeTask(Task task) {
+        if (task.getCard() != null) {
+            Map<Integer, Task> tasks = cardTasks.get(task.getCard().getId());
+            if (tasks != null) {
+                tasks.remove(task.getId());
+                if (tasks.isEmpty()) {
+                    cardTasks.remove(task.getCard().getId());
+                }
+            }
+        }
+    }
+
+    /**
+     * Assigns a Task to another Card, moving it between the indexes of both Cards
+     *
+     * @param task Task being assigned
+     * @param card new Card of the Task
+     */
+    public void setTaskCard(Task task, Card card) {
+        removeTask(task);
+        task.setCard(card);
+        addTask(task);
+    }
+
+    /**
+     * Gets the Tasks assigned to the given Card
+     *
+     * @param card Card of the Tasks
+     * @return List of Tasks in the order they were assigned
+     */
+    public List<Task> getTasks(Card card) {
+        Map<Integer, Task> tasks = cardTasks.get(card.getId());
+        return tasks == null ? Collections.emptyList() : new ArrayList<>(tasks.values());
+    }
+}
@@ -0,0 +1,236 @@
+package com.planner.manager;
+
+import com.planner.models.Card;
+import com.planner.models.Event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Holds the Events of a schedule behind an index by id, an index of individual Events by date and an index of
+ * recurring Events by day of the week, along with an index of every Event by Card. Looking an Event up by id or
+ * Card no longer walks every Event, and gathering the Events of a Day only touches the Events falling on it, no
+ * matter how many past Events are kept.
+ * <p>
+ * Events must be removed before their date, days or Card are changed and added back afterwards.
+ */
+public class EventStore {
+
+    /** Every Event by id */
+    private final Map<Integer, Event> events = new HashMap<>();
+    /** Individual Events by epoch day, each List ordered by start time */
+    private final NavigableMap<Long, List<Event>> indivEvents = new TreeMap<>();
+    /** Recurring Events by day of the week, each List ordered by id */
+    private final List<List<Event>> recurringEvents = new ArrayList<>(7);
+    /** Read-only views of the recurring Events by day of the week */
+    private final List<List<Event>> recurringView;
+    /** Events by id of their Card */
+    private final Map<Integer, Set<Event>> cardEvents = new HashMap<>();
+    /** Number of individual Events */
+    private int numIndivEvents;
+
+    /**
+     * Constructs an empty EventStore
+     */
+    public EventStore() {
+        List<List<Event>> views = new ArrayList<>(7);
+        for (int i = 0; i < 7; i++) {
+            List<Event> dayEvents = new ArrayList<>();
+            recurringEvents.add(dayEvents);
+            views.add(Collections.unmodifiableList(dayEvents));
+        }
+        recurringView = Collections.unmodifiableList(views);
+    }
+
+    /**
+     * Adds an Event to every index
+     *
+     * @param event Event being added
+     */
+    public void add(Event event) {
+        if (events.putIfAbsent(event.getId(), event) != null) {
+            throw new IllegalArgumentException("Event " + event.getId() + " already exists.");
+        }
+        if (event.isRecurring()) {
+            for (Event.DayOfWeek day : event.getDays()) {
+                List<Event> dayEvents = recurringEvents.get(day.ordinal());
+                dayEvents.add(-Collections.binarySearch(dayEvents, event, EventStore::compareIds) - 1, event);
+            }
+        } else {
+            List<Event> dayEvents = indivEvents.computeIfAbsent(event.getTimeStamp().getEpochDay(), k -> new ArrayList<>());
+            // placed after every Event starting at the same time, so ties keep the order they were added in
+            int idx = dayEvents.size();
+            while (idx > 0 && dayEvents.get(idx - 1).compareTo(event) > 0) {
+                idx--;
+            }
+            dayEvents.add(idx, event);
+            numIndivEvents++;
+        }
+        if (event.getCard() != null) {
+            cardEvents.computeIfAbsent(event.getCard().getId(), k -> new LinkedHashSet<>()).add(event);
+        }
+    }
+
+    /**
+     * Removes the Event with the given id from every index
+     *
+     * @param id id of the Event
+     * @return removed Event, or null if there is none
+     */
+    public Event remove(int id) {
+        Event event = events.remove(id);
+        if (event == null) {
+            return null;
+        }
+        if (event.isRecurring()) {
+            for (Event.DayOfWeek day : event.getDays()) {
+                List<Event> dayEvents = recurringEvents.get(day.ordinal());
+                dayEvents.remove(Collections.binarySearch(dayEvents, event, EventStore::compareIds));
+            }
+        } else {
+            long epochDay = event.getTimeStamp().getEpochDay();
+            List<Event> dayEvents = indivEvents.get(epochDay);
+            for (int i = 0; i < dayEvents.size(); i++) {
+                if (dayEvents.get(i) == event) {
+                    dayEvents.remove(i);
+                    break;
+                }
+            }
+            if (dayEvents.isEmpty()) {
+                indivEvents.remove(epochDay);
+            }
+            numIndivEvents--;
+        }
+        if (event.getCard() != null) {
+            Set<Event> withCard = cardEvents.get(event.getCard().getId());
+            withCard.remove(event);
+            if (withCard.isEmpty()) {
+                cardEvents.remove(event.getCard().getId());
+            }
+        }
+        return event;
+    }
+
+    /**
+     * Gets the Event with the given id
+     *
+     * @param id id of the Event
+     * @return Event with the id, or null if there is none
+     */
+    public Event get(int id) {
+        return events.get(id);
+    }
+
+    /**
+     * Gets the individual Events on the given day
+     *
+     * @param epochDay epoch day of the Events
+     * @return List of individual Events ordered by start time
+     */
+    public List<Event> getIndivEvents(long epochDay) {
+        List<Event> dayEvents = indivEvents.get(epochDay);
+        return dayEvents == null ? Collections.emptyList() : Collections.unmodifiableList(dayEvents);
+    }
+
+    /**
+     * Gets the individual Events between the given days
+     *
+     * @param fromDay first epoch day, inclusive
+     * @param toDay last epoch day, inclusive
+     * @return List of individual Events ordered by start time
+     */
+    public List<Event> getIndivEvents(long fromDay, long toDay) {
+        List<Event> range = new ArrayList<>();
+        if (fromDay <= toDay) {
+            for (List<Event> dayEvents : indivEvents.subMap(fromDay, true, toDay, true).values()) {
+                range.addAll(dayEvents);
+            }
+        }
+        return range;
+    }
+
+    /**
+     * Gets every individual Event
+     *
+     * @return List of individual Events ordered by start time
+     */
+    public List<Event> getIndivEvents() {
+        List<Event> all = new ArrayList<>(numIndivEvents);
+        for (List<Event> dayEvents : indivEvents.values()) {
+            all.addAll(dayEvents);
+        }
+        return all;
+    }
+
+    /**
+     * Gets the recurring Events by day of the week, where index 0 holds the Events of Sunday
+     *
+     * @return read-only List of recurring Events for each day of the week
+     */
+    public List<List<Event>> getRecurringEvents() {
+        return recurringView;
+    }
+
+    /**
+     * Gets the recurring Events occurring on the given day of the week
+     *
+     * @param dayOfWeek index of the day of the week, starting with Sunday at 0
+     * @return read-only List of recurring Events ordered by id
+     */
+    public List<Event> getRecurringEvents(int dayOfWeek) {
+        return recurringView.get(dayOfWeek);
+    }
+
+    /**
+     * Gets every recurring Event once
+     *
+     * @return List of recurring Events
+     */
+    public List<Event> getRecurringEventsList() {
+        Set<Event> all = new LinkedHashSet<>();
+        for (List<Event> dayEvents : recurringEvents) {
+            all.addAll(dayEvents);
+        }
+        return new ArrayList<>(all);
+    }
+
+    /**
+     * Gets the Events assigned to the given Card
+     *
+     * @param card Card of the Events
+     * @return List of Events with the Card
+     */
+    public List<Event> getEventsWithCard(Card card) {
+        Set<Event> withCard = cardEvents.get(card.getId());
+        return withCard == null ? Collections.emptyList() : new ArrayList<>(withCard);
+    }
+
+    /**
+     * Gets the number of individual Events
+     *
+     * @return number of individual Events
+     */
+    public int getNumIndivEvents() {
+        return numIndivEvents;
+    }
+
+    /**
+     * Gets the number of Events
+     *
+     * @return number of Events
+     */
+    public int size() {
+        return events.size();
+    }
+
+    private static int compareIds(Event e1, Event e2) {
+        return Integer.compare(e1.getId(), e2.getId());
+    }
+}
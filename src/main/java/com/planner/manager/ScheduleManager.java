@@ -6,15 +6,21 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.GeneralSecurityException;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import com.planner.io.IOProcessing;
-import com.planner.io.SpreadsheetIO;
+import com.planner.io.SpreadsheetService;
 import com.planner.models.*;
-import com.planner.io.GoogleCalendarIO;
+import com.planner.io.CalendarService;
+import com.planner.schedule.ScheduleMetrics;
 import com.planner.schedule.Scheduler;
+import com.planner.schedule.SchedulerRegistry;
+import com.planner.schedule.TaskHeap;
 import com.planner.schedule.day.Day;
 import com.planner.ui.formatters.FormatType;
 import com.planner.util.*;
+import com.planner.ui.tables.RenderCache;
 import com.planner.ui.tables.TableFormatter;
 
 /**
@@ -25,18 +31,25 @@ import com.planner.ui.tables.TableFormatter;
  */
 public class ScheduleManager {
 
-    /** List of Cards holding Tasks */
-    private List<Card> cards;
+    /** Number of Days shown on each page of the schedule */
+    public static final int SCHEDULE_PAGE_DAYS = 7;
+
+    /** Cards holding Tasks, indexed by id along with the Tasks of each Card */
+    private final CardRegistry cards;
     /** LinkedList of Days representing a single schedule */
     private List<Day> schedule;
-    /** PriorityQueue of all archived Tasks in sorted order */
-    private PriorityQueue<Task> archivedTasks;
-    /** PriorityQueue of all Tasks in sorted order */
-    private PriorityQueue<Task> taskManager;
+    /** Heap of all archived Tasks in sorted order */
+    private TaskHeap archivedTasks;
+    /** Heap of all Tasks in sorted order */
+    private TaskHeap taskManager;
     /** Mapping of all Tasks via their unique IDs */
     private Map<Integer, Task> taskMap;
     /** Performs all scheduling operations for each day */
     private Scheduler scheduler;
+    /** Name of the strategy of the Scheduler */
+    private String schedulerName;
+    /** Whether the Scheduler is the one shared by the session rather than an instance of its own */
+    private final boolean sharedScheduler;
     /** Holds all user settings for scheduling purposes */
     private UserConfig userConfig;
     /** Logs all actions performed by user */
@@ -45,6 +58,14 @@ public class ScheduleManager {
     private Map<Integer, Integer> customHours;
     /** Total count for the number of errors that occurred in schedule generation */
     private int errorCount;
+    /** Running error count at the end of each Day of the schedule */
+    private List<Integer> dayErrorCounts;
+    /** Index of the earliest Day affected by changes since the schedule was last built */
+    private int rebuildIdx;
+    /** Incremented on every change to the Tasks, Cards, Events or schedule */
+    private long version;
+    /** Tables and Days rendered since the last changes */
+    private final RenderCache renderCache = new RenderCache();
     /** ID counter for Tasks */
     private int taskId;
     /** ID specifier for each Day */
@@ -53,69 +74,104 @@ public class ScheduleManager {
     private int cardId;
     /** Last day Task is due */
     private int lastDueDate;
-    private GoogleCalendarIO googleCalendarIO;
-    private SpreadsheetIO spreadsheetIO;
+    /** Google Calendar connection, opened on first use */
+    private CalendarService calendarService;
+    /** Excel exporter, opened on first use */
+    private SpreadsheetService spreadsheetService;
     private Calendar scheduleTime;
-    /** List for storing individual events */
-    private final List<Event> indivEvents;
-    /** List of Lists for storing recurring events.
-     * The outer List is of size 7 representing each day of the week.
-     * Each element inside the outer List represents a list of events that occur on that day every week.
-     * For example, to access the List of events that reoccur on the first day of the week we can use <code>recurringEvents.get(0)</code>*/
-    private final List<List<Event>> recurringEvents;
+    /** Individual and recurring events, indexed by id, date, day of the week and card */
+    private final EventStore eventStore;
     /** ID for event */
     private int eventId;
 
     /**
-     * Private constructor of ScheduleManager
-     * Initially performs task processing as well as schedule generation
+     * Constructs the ScheduleManager used by the application, sharing the session {@link EventLog} and
+     * {@link Scheduler} and loading the user settings from 'settings/profile.json'
      */
     public ScheduleManager() {
-        try {
-            eventLog = EventLog.getEventLog();
-        } catch (FileNotFoundException e) {
-            throw new IllegalArgumentException("Could not locate logging file");
-        }
-        eventLog.reportUserLogin();
-        processUserConfigFile();
+        this(getSessionEventLog());
+    }
+
+    private ScheduleManager(EventLog eventLog) {
+        this(processUserConfigFile(eventLog), eventLog, null, true);
+    }
 
-        taskManager = new PriorityQueue<>();
-//        spreadsheetIO = new SpreadsheetIO(eventLog);
+    /**
+     * Constructs an instance-scoped ScheduleManager around the given collaborators. Nothing is read from disk and no
+     * state is shared with other instances as long as each is given its own {@link EventLog} and {@link Scheduler},
+     * so separate instances can build schedules concurrently.
+     *
+     * @param userConfig user settings for scheduling purposes
+     * @param eventLog EventLog for logging actions performed on this schedule
+     * @param scheduler Scheduler used to assign Days, or null for a new Scheduler of the strategy in the UserConfig
+     */
+    public ScheduleManager(UserConfig userConfig, EventLog eventLog, Scheduler scheduler) {
+        this(userConfig, eventLog, scheduler, false);
+    }
+
+    /**
+     * Constructs a ScheduleManager, where a null Scheduler is replaced either by the Scheduler shared by the session
+     * or by a new one logging to the given EventLog
+     */
+    private ScheduleManager(UserConfig userConfig, EventLog eventLog, Scheduler scheduler, boolean sharedScheduler) {
+        if (userConfig == null || eventLog == null) {
+            throw new IllegalArgumentException("UserConfig and EventLog must be provided");
+        }
+        this.userConfig = userConfig;
+        this.eventLog = eventLog;
 
-        scheduler = Scheduler.getInstance(userConfig, eventLog);
+        taskManager = new TaskHeap();
+        this.sharedScheduler = scheduler == null && sharedScheduler;
+        if (scheduler != null) {
+            this.scheduler = scheduler;
+        } else {
+            this.scheduler = sharedScheduler ? Scheduler.getInstance(userConfig, eventLog) : Scheduler.newInstance(userConfig, eventLog);
+        }
+        this.schedulerName = userConfig.getScheduler();
         // in situations where ScheduleManager is run multiple times after updates to config, this ensures options are set up properly
-        scheduler.updateConfig(userConfig);
+        this.scheduler.updateConfig(userConfig);
 
         schedule = new LinkedList<>();
+        dayErrorCounts = new ArrayList<>();
         customHours = new HashMap<>();
         taskMap = new HashMap<>();
-        cards = new ArrayList<>();
-        archivedTasks = new PriorityQueue<>();
-        indivEvents = new ArrayList<>();
-
-        // Gotta initialize all the lists lol
-        recurringEvents = new ArrayList<>(7);
-        for (int i = 0; i < 7; i++)
-            recurringEvents.add(new ArrayList<>());
+        cards = new CardRegistry();
+        archivedTasks = new TaskHeap();
+        eventStore = new EventStore();
 
         eventId = 0;
         taskId = 0;
         cardId = 0;
+    }
 
-        //processSettingsCfg(filename);
-        //processJBinFile("data/week.jbin");
-
+    /**
+     * Gets the session EventLog and reports the user login
+     *
+     * @return session EventLog
+     */
+    private static EventLog getSessionEventLog() {
+        EventLog eventLog;
+        try {
+            eventLog = EventLog.getEventLog();
+        } catch (FileNotFoundException e) {
+            throw new IllegalArgumentException("Could not locate logging file");
+        }
+        eventLog.reportUserLogin();
+        return eventLog;
     }
 
     /**
      * Processes all settings configurations to be used
+     *
+     * @param eventLog EventLog for reporting the processed settings
+     * @return UserConfig read from 'settings/profile.json'
      */
-    private void processUserConfigFile() {
+    private static UserConfig processUserConfigFile(EventLog eventLog) {
         try {
             eventLog.reportProcessConfig("profile.json");
-            String configStr = Files.readString(Paths.get("settings/profile.json"));
-            userConfig = JsonHandler.readUserConfig(configStr);
+            UserConfig userConfig = IOProcessing.readUserConfig();
             eventLog.reportUserConfigAttr(userConfig);
+            return userConfig;
         } catch (FileNotFoundException e) {
             eventLog.reportException(e);
             throw new IllegalArgumentException("Could not locate settings file");
@@ -128,59 +184,64 @@ public class ScheduleManager {
     /**
      * Imports JBin file to generate cards and possible schedule
      *
-     * @param filename jbin filename
-     */
-    public void importJBinFile(String filename) {
-//        String binStr = IOProcessing.readJBinFile(filename);
-//        if(binStr != null) {
-//            eventLog.reportReadJBinFile(filename);
-//            List<Event> eventList = new ArrayList<>();
-//            JBin.processJBin(binStr, taskManager, eventList, eventId, cards, schedule, userConfig.getArchiveDays());
-//            eventLog.reportProcessJBin();
-//
-//            Calendar currDate = Time.getFormattedCalendarInstance(0);
-//            while (!taskManager.isEmpty()) {
-//                Task task = taskManager.remove();
-//                if (task.getDueDate().compareTo(currDate) < 0) {
-//                    archivedTasks.add(task);
-//                    // eventlog needs to report the archiving of a task
-//                    eventLog.reportTaskAction(task, 3);
-//                }
-//                else {
-//                    taskManager.add(task);
-//                    break;
-//                }
-//            }
-//            taskId = taskManager.size();
-//
-//            for (Event e : eventList) {
-//                if (e.isRecurring()) {
-//                    for (Event.DayOfWeek dayOfWeek : e.getDays()) {
-//                        recurringEvents.get(dayOfWeek.ordinal()).add(e);
-//                    }
-//                } else indivEvents.add(e);
-//            }
-//            eventId = eventList.get(eventList.size() - 1).getId() + 1;
-//        }
-    }
-
-    public void exportJBinFile(String filename) {
-//        eventLog.reportCreateJBin();
-//        IOProcessing.writeJBinFile(
-//                filename,
-//                JBin.createJBin(
-//                        cards,
-//                        schedule,
-//                        indivEvents,
-//                        recurringEvents
-//                )
-//        );
-//        eventLog.reportWriteJBinFile(filename);
-    }
-
-//    public void setScheduleOption(int idx) {
-//        scheduler = Scheduler.getInstance(userConfig, eventLog, idx);
-//    }
+     * @param filename jbin filename within the 'schedules' directory
+     * @throws IOException if the file could not be read
+     */
+    public void importJBinFile(String filename) throws IOException {
+        eventLog.reportReadJBinFile(filename);
+        JBin.readSchedule(Paths.get("schedules", filename), this);
+        eventLog.reportProcessJBin();
+    }
+
+    /**
+     * Exports the cards, tasks, events and schedule to a JBin file
+     *
+     * @param filename jbin filename within the 'schedules' directory
+     * @throws IOException if the file could not be written
+     */
+    public void exportJBinFile(String filename) throws IOException {
+        try (OutputStream out = IOProcessing.openJBinFile(filename)) {
+            JBin.writeSchedule(out, cards.getCards(), new ArrayList<>(taskMap.values()), eventStore.getIndivEvents(), eventStore.getRecurringEventsList(), schedule);
+        }
+        eventLog.reportCreateJBin();
+        eventLog.reportWriteJBinFile(filename);
+    }
+
+    /**
+     * Selects the scheduling strategy used from the next build onward, which is also saved in the UserConfig
+     *
+     * @param name name of a strategy registered with the {@link SchedulerRegistry}
+     */
+    public void setScheduler(String name) {
+        if (!SchedulerRegistry.contains(name)) {
+            throw new IllegalArgumentException("Unknown scheduler: " + name);
+        }
+        userConfig.setScheduler(name);
+        updateScheduler();
+    }
+
+    /**
+     * Gets the name of the scheduling strategy
+     *
+     * @return name of the strategy
+     */
+    public String getSchedulerName() {
+        return schedulerName;
+    }
+
+    /**
+     * Replaces the Scheduler when the UserConfig selects another strategy, which makes the whole schedule stale
+     */
+    private void updateScheduler() {
+        String name = userConfig.getScheduler();
+        if (!name.equals(schedulerName)) {
+            scheduler = sharedScheduler ? Scheduler.getInstance(userConfig, eventLog) : Scheduler.newInstance(userConfig, eventLog);
+            scheduler.updateConfig(userConfig);
+            schedulerName = name;
+            version++;
+            rebuildIdx = 0;
+        }
+    }
 
     /**
      * Gets cards
@@ -188,25 +249,34 @@ public class ScheduleManager {
      * @return List of cards
      */
     public List<Card> getCards() {
-        return cards;
+        return cards.getCards();
     }
 
     /**
      * Gets individual events
      *
-     * @return List of individual events
+     * @return List of individual events ordered by start time
      */
     public List<Event> getIndivEvents() {
-        return indivEvents;
+        return eventStore.getIndivEvents();
     }
 
     /**
      * Gets recurring events
      *
-     * @return List of recurring events
+     * @return read-only List of recurring events for each day of the week
      */
     public List<List<Event>> getRecurEvents() {
-        return recurringEvents;
+        return eventStore.getRecurringEvents();
+    }
+
+    /**
+     * Gets the store indexing every event
+     *
+     * @return EventStore of the schedule
+     */
+    public EventStore getEventStore() {
+        return eventStore;
     }
 
     /**
@@ -232,7 +302,7 @@ public class ScheduleManager {
      *
      * @return Priority queue storing all non-archived tasks in sorted order
      */
-    public PriorityQueue<Task> getTaskManager() {
+    public TaskHeap getTaskManager() {
         return taskManager;
     }
 
@@ -241,13 +311,16 @@ public class ScheduleManager {
      *
      * @return Priority queue storing all archived tasks in sorted order
      */
-    public PriorityQueue<Task> getArchivedTasks() { return archivedTasks; }
+    public TaskHeap getArchivedTasks() { return archivedTasks; }
 
     public void setUserConfig(UserConfig userConfig) {
         if (userConfig == null) {
             throw new IllegalArgumentException("UserConfig cannot be null");
         }
         this.userConfig = userConfig;
+        updateScheduler();
+        version++;
+        rebuildIdx = 0;
     }
 
     /**
@@ -286,11 +359,8 @@ public class ScheduleManager {
             }
 
             e = new Event(eventId, name, card, timeStamp, days);
-            Event.DayOfWeek[] eventDays = e.getDays();
-
-            for (Event.DayOfWeek eventDay : eventDays) {
-                recurringEvents.get(eventDay.ordinal()).add(e);
-            }
+            eventStore.add(e);
+            markDaysOfWeekChanged(e.getDays());
         } else {
             if (dates != null && dates.size() > 1) {
                 throw new IllegalArgumentException("Event is non-recurring but has recurrent days");
@@ -312,9 +382,11 @@ public class ScheduleManager {
             }
 
             e = new Event(eventId, name, card, timeStamp);
-            indivEvents.add(e);
+            eventStore.add(e);
+            markDateChanged(timeStamp.getEpochDay());
         }
 
+        version++;
         eventLog.reportEventAction(e, 0);
 
         eventId++;
@@ -333,6 +405,7 @@ public class ScheduleManager {
         Card card = new Card(cardId, title, color);
 
         cards.add(card);
+        version++;
         eventLog.reportCardAction(card, 0);
 
         cardId++;
@@ -361,11 +434,14 @@ public class ScheduleManager {
             archivedTasks.add(task);
         } else {
             taskManager.add(task);
+            markTaskChanged(task.getDueDay());
         }
 
         taskMap.put(taskId, task);
+        cards.addTask(task);
         taskId++;
 
+        version++;
         eventLog.reportTaskAction(task, 0);
 
         return task;
@@ -387,6 +463,9 @@ public class ScheduleManager {
         if (task == null) {
             throw new IllegalArgumentException("Could not locate Task " + id + ".");
         }
+        if (hours != null || due != null) {
+            markTaskChanged(task.getDueDay());
+        }
 
         if (name != null) {
             task.setName(name);
@@ -400,24 +479,37 @@ public class ScheduleManager {
         if (cardId != null) {
             Card c = getCardById(cardId);
             if (c != null) {
-                task.setCard(c);
+                cards.setTaskCard(task, c);
             }
         }
 
         Calendar curr = Calendar.getInstance();
-        boolean isActive = taskManager.remove(task);
+        boolean isActive = taskManager.contains(task);
         if (task.getTotalHours() == 0 || (!Time.doDatesMatch(curr, task.getDueDate()) && task.getDueDate().compareTo(curr) < 0)) {
             // check if it's in archived or active
             if (isActive) {
+                taskManager.remove(task);
                 archivedTasks.add(task);
+            } else {
+                archivedTasks.update(task);
             }
         } else {
-            if (!isActive) {
+            if (isActive) {
+                taskManager.update(task);
+            } else {
                 archivedTasks.remove(task);
+                taskManager.add(task);
+            }
+            if (hours != null || due != null) {
+                markTaskChanged(task.getDueDay());
             }
-            taskManager.add(task);
         }
 
+        version++;
+        if (name != null || due != null || cardId != null) {
+            // SubTasks already scheduled show the name, due date and Card of their Task
+            renderCache.invalidate();
+        }
         eventLog.reportTaskAction(task, 2);
 
         return task;
@@ -437,22 +529,43 @@ public class ScheduleManager {
             card.setColor(color);
         }
 
+        version++;
+        renderCache.invalidate();
         eventLog.reportCardAction(card, 2);
 
         return card;
     }
 
     public Event modEvent(int id, String name, Integer cardId, Calendar[] timeStamp, List<Calendar> dates) {
-        Event event = findEvent(id);
+        Event event = eventStore.get(id);
 
         if (event == null) {
             return null;
         }
+        markEventChanged(event);
 
         if (dates != null && dates.size() > 1 && !event.isRecurring()) {
             throw new IllegalArgumentException("Individual event can't be assigned to multiple days");
         }
 
+        // the date, days and card are indexed, so the event is taken out while they change
+        eventStore.remove(id);
+        try {
+            modEvent(event, name, cardId, timeStamp, dates);
+        } finally {
+            eventStore.add(event);
+        }
+
+        markEventChanged(event);
+        version++;
+        renderCache.invalidate();
+        eventLog.reportEventAction(event, 2);
+
+        return event;
+    }
+
+    private void modEvent(Event event, String name, Integer cardId, Calendar[] timeStamp, List<Calendar> dates) {
+
         if (dates != null && dates.size() == 1 && !event.isRecurring()) {
             Calendar start = event.getTimeStamp().getStart();
             Calendar end = event.getTimeStamp().getEnd();
@@ -464,6 +577,8 @@ public class ScheduleManager {
             end.set(Calendar.DAY_OF_MONTH, dates.get(0).get(Calendar.DAY_OF_MONTH));
             end.set(Calendar.MONTH, dates.get(0).get(Calendar.MONTH));
             end.set(Calendar.YEAR, dates.get(0).get(Calendar.YEAR));
+
+            event.setTimeStamp(new Time.TimeStamp(start, end));
         }
 
         if (name != null) {
@@ -503,27 +618,7 @@ public class ScheduleManager {
             }
 
             event.setDays(days);
-
-            for (List<Event> recurringEvent : recurringEvents) {
-                for (int i = 0; i < recurringEvent.size(); i++) {
-                    Event e = recurringEvent.get(i);
-                    if (e.getId() == event.getId()) {
-                        recurringEvent.remove(i);
-                        break;
-                    }
-                }
-            }
-
-            Event.DayOfWeek[] eventDays = event.getDays();
-
-            for (Event.DayOfWeek eventDay : eventDays) {
-                recurringEvents.get(eventDay.ordinal()).add(event);
-            }
         }
-
-        eventLog.reportEventAction(event, 2);
-
-        return event;
     }
 
     public boolean deleteTask(int id) {
@@ -532,118 +627,62 @@ public class ScheduleManager {
         if (taskMap.containsKey(id)) {
             task = taskMap.get(id);
             taskMap.remove(id);
+            cards.removeTask(task);
         } else {
             return false;
         }
 
         boolean taskRemoved = taskManager.remove(task);
 
-        if (!taskRemoved) {
+        if (taskRemoved) {
+            markTaskChanged(task.getDueDay());
+        } else {
             taskRemoved = archivedTasks.remove(task);
         }
 
+        version++;
         eventLog.reportTaskAction(task, 1);
 
         return taskRemoved;
     }
 
     public boolean deleteCard(int id) {
-        for (int i = 0; i < cards.size(); i++) {
-            if (cards.get(i).getId() == id) {
-                Card card = cards.get(i);
+        // also unassigns the Card from its Tasks
+        Card card = cards.remove(id);
 
-                cards.remove(i);
-
-                removeTasksWithCard(card);
-                removeEventsWithCard(card);
+        if (card == null) {
+            return false;
+        }
 
-                eventLog.reportCardAction(card, 1);
+        removeEventsWithCard(card);
 
-                return true;
-            }
-        }
+        version++;
+        renderCache.invalidate();
+        eventLog.reportCardAction(card, 1);
 
-        return false;
+        return true;
     }
 
     public boolean deleteEvent(int id) {
-        for (int i = 0; i < indivEvents.size(); i++) {
-            if (indivEvents.get(i).getId() == id) {
-                eventLog.reportEventAction(indivEvents.get(i), 2);
-                indivEvents.remove(i);
-                return true;
-            }
-        }
-
-        boolean eventRemoved = false;
-
-        Event event = null;
-        for (List<Event> events : recurringEvents) {
-            for (int i = 0; i < events.size(); i++) {
-                if (events.get(i).getId() == id) {
-                    event = events.remove(i);
-                    eventRemoved = true;
-                }
-            }
-        }
+        Event event = eventStore.remove(id);
 
-        if (event != null) {
-            eventLog.reportEventAction(event, 1);
+        if (event == null) {
+            return false;
         }
 
-        return eventRemoved;
-    }
-
-    private void removeTasksWithCard(Card card) {
-        for (Task task : taskManager) {
-            if (task.getCard() != null && task.getCard().getId() == card.getId()) {
-                task.setCard(null);
-            }
-        }
+        version++;
+        markEventChanged(event);
+        eventLog.reportEventAction(event, 1);
 
-        for (Task task : archivedTasks) {
-            if (task.getCard() != null && task.getCard().getId() == card.getId()) {
-                task.setCard(null);
-            }
-        }
+        return true;
     }
 
     private void removeEventsWithCard(Card card) {
-        for (List<Event> dayEvents : recurringEvents) {
-            for (Event e : dayEvents) {
-                if (e.getCard() != null && e.getCard().getId() == card.getId()) {
-                    e.setCard(null);
-                }
-            }
-        }
-
-        for (Event e : indivEvents) {
-            if (e.getCard() != null && e.getCard().getId() == card.getId()) {
-                e.setCard(null);
-            }
-        }
-    }
-
-    private Event findEvent(int id)
-    {
-        Event event = null;
-
-        for (Event indivEvent : indivEvents) {
-            if (indivEvent.getId() == id) {
-                return indivEvent;
-            }
+        for (Event e : eventStore.getEventsWithCard(card)) {
+            eventStore.remove(e.getId());
+            e.setCard(null);
+            eventStore.add(e);
         }
-
-        for (List<Event> events : recurringEvents)
-        {
-            for (Event recurringEvent : events) {
-                if (recurringEvent.getId() == id) {
-                    return recurringEvent;
-                }
-            }
-        }
-
-        return null;
     }
 
     public int getNumActiveTasks() {
@@ -657,10 +696,35 @@ public class ScheduleManager {
      * @return Card with matching ID
      */
     public Card getCardById(int id) {
-        for (Card c : cards) {
-            if (c.getId() == id) return c;
+        return cards.get(id);
+    }
+
+    /**
+     * Gets the Tasks assigned to the Card with the given ID
+     *
+     * @param id ID of Card
+     * @return List of Tasks with the Card
+     */
+    public List<Task> getCardTasks(int id) {
+        Card card = cards.get(id);
+        if (card == null) {
+            throw new IllegalArgumentException("Could not locate Card " + id + ".");
         }
-        return null;
+        return cards.getTasks(card);
+    }
+
+    /**
+     * Gets the Events assigned to the Card with the given ID
+     *
+     * @param id ID of Card
+     * @return List of Events with the Card
+     */
+    public List<Event> getCardEvents(int id) {
+        Card card = cards.get(id);
+        if (card == null) {
+            throw new IllegalArgumentException("Could not locate Card " + id + ".");
+        }
+        return eventStore.getEventsWithCard(card);
     }
 
     /**
@@ -674,78 +738,245 @@ public class ScheduleManager {
     }
 
     /**
-     * Generates an entire schedule following a distributive approach
+     * Generates an entire schedule following a distributive approach. If the schedule was already built today,
+     * only the Days from the earliest one affected by changes since then are regenerated.
      */
     public void buildSchedule() throws IOException {
         eventLog.reportSchedulingStart();
-        resetSchedule();
         //Tasks that are "finished scheduling" are added here
-        PriorityQueue<Task> complete = new PriorityQueue<>();
+        TaskHeap complete = new TaskHeap();
+
+        Calendar now = Calendar.getInstance();
+        int startIdx = 0;
+        if (rebuildIdx > 0 && scheduleTime != null && Time.doDatesMatch(now, scheduleTime)) {
+            startIdx = Math.min(rebuildIdx, schedule.size());
+            resetSchedule(startIdx, complete);
+        } else {
+            startFullBuild(now);
+        }
+
+        errorCount = scheduleDays(schedule, dayErrorCounts, taskManager, complete, startIdx, userConfig.getMaxDays(), errorCount);
+        finishBuild(complete);
+
+        version++;
+        eventLog.reportSchedulingFinish();
+    }
+
+    /**
+     * Generates an entire schedule by splitting the Days into consecutive windows which are scheduled in parallel
+     * on the given pool. Each window only receives the Tasks due within it, so a window matches the sequential
+     * schedule as long as none of its Days ran out of Tasks while still having room for a later one (which is when
+     * the sequential schedule would have started working ahead on later Tasks). From the first window where that
+     * happens onward, the Days are scheduled sequentially, so the result is always identical to {@link #buildSchedule()}.
+     *
+     * @param pool ForkJoinPool used for scheduling the windows
+     */
+    public void buildSchedule(ForkJoinPool pool) throws IOException {
+        eventLog.reportSchedulingStart();
+        TaskHeap complete = new TaskHeap();
+        startFullBuild(Calendar.getInstance());
+
+        int maxDays = userConfig.getMaxDays();
+        int numWindows = Math.max(1, Math.min(pool.getParallelism(), maxDays));
+        List<ScheduleWindow> windows = new ArrayList<>(numWindows);
+        for (int i = 0; i < numWindows; i++) {
+            windows.add(new ScheduleWindow(i * maxDays / numWindows, (i + 1) * maxDays / numWindows));
+        }
+        // Tasks due after the horizon belong to the last window
+        long firstDay = Time.toEpochDay(scheduleTime);
+        for (Task task : taskManager) {
+            int i = numWindows - 1;
+            while (i > 0 && task.getDueDay() - firstDay < windows.get(i).startIdx) {
+                i--;
+            }
+            windows.get(i).heap.add(task);
+        }
+        taskManager = new TaskHeap();
+        // smallest Task due after each window, which tells whether an idle Day of the window would have drawn it
+        double minHours = Double.MAX_VALUE;
+        for (int i = numWindows - 1; i >= 0; i--) {
+            ScheduleWindow window = windows.get(i);
+            window.minLaterHours = minHours;
+            for (Task task : window.heap) {
+                minHours = Math.min(minHours, task.getTotalHours());
+            }
+        }
+
+        for (ScheduleWindow window : windows) {
+            pool.execute(window);
+        }
+        for (ScheduleWindow window : windows) {
+            window.join();
+        }
+
+        for (int i = 0; i < numWindows; i++) {
+            ScheduleWindow window = windows.get(i);
+            if (i < numWindows - 1 && !window.isIndependent()) {
+                // the remaining windows were scheduled from the wrong starting state, so they are redone in order
+                for (ScheduleWindow w : windows.subList(i, numWindows)) {
+                    for (Task task : w.heap) {
+                        task.reset();
+                        taskManager.add(task);
+                    }
+                    for (Task task : w.complete) {
+                        task.reset();
+                        taskManager.add(task);
+                    }
+                }
+                errorCount = scheduleDays(schedule, dayErrorCounts, taskManager, complete, window.startIdx, maxDays, errorCount);
+                break;
+            }
+            schedule.addAll(window.days);
+            for (int count : window.errorCounts) {
+                dayErrorCounts.add(errorCount + count);
+            }
+            errorCount += window.errors;
+            complete.addAll(window.complete);
+            taskManager.addAll(window.heap);
+        }
+        finishBuild(complete);
+
+        version++;
+        eventLog.reportSchedulingFinish();
+    }
 
+    /**
+     * Resets the schedule for a full build and archives all Tasks that are past due
+     *
+     * @param now time at which the schedule is built
+     */
+    private void startFullBuild(Calendar now) {
+        resetSchedule();
         schedule = new ArrayList<>(userConfig.getMaxDays());
-        scheduleTime = Calendar.getInstance();
-        int idx = scheduleTime.get(Calendar.DAY_OF_WEEK) - 1;
-        int dayCount = 0;
-        Day currDay;
+        scheduleTime = now;
+
+        long today = Time.toEpochDay(scheduleTime);
 
         // need to archive tasks that are 'past due' (this is to handle edge case where we started at 11PM, and now it's 1AM)
         Task head = taskManager.peek();
-        while (head != null && !Time.doDatesMatch(head.getDueDate(), scheduleTime)
-                && head.getDueDate().compareTo(scheduleTime) < 0) {
+        while (head != null && head.getDueDay() < today) {
             archivedTasks.add(taskManager.remove());
             head = taskManager.peek();
         }
+    }
 
-        int eventIdx = 0;
-        while(!taskManager.isEmpty() && dayId < userConfig.getMaxDays()) {
-            currDay = new Day(dayId++, userConfig.getHoursPerDayOfWeek()[idx++ % 7], dayCount++);
-            schedule.add(currDay);
+    /**
+     * Finishes a build by making every Task active again for the next build
+     *
+     * @param complete Tasks finished scheduling
+     */
+    private void finishBuild(TaskHeap complete) {
+        // Tasks beyond the last Day remain active for the next build
+        complete.addAll(taskManager);
+        this.taskManager = complete;
+        dayId = schedule.size();
+        rebuildIdx = schedule.size();
+    }
 
-            if (!recurringEvents.get(currDay.getDate().get(Calendar.DAY_OF_WEEK) - 1).isEmpty()) {
-                for (Event e1 : recurringEvents.get(currDay.getDate().get(Calendar.DAY_OF_WEEK) - 1)) {
-                    currDay.addEvent(e1);
-                }
+    /**
+     * Schedules consecutive Days from the given index until the heap of Tasks runs out or the end index is reached
+     *
+     * @param days list receiving the scheduled Days
+     * @param errorCounts list receiving the running error count after each Day
+     * @param heap Tasks waiting to be scheduled
+     * @param complete Tasks that are "finished scheduling" are added here
+     * @param startIdx index of the first Day
+     * @param endIdx index after the last Day that may be scheduled
+     * @param errors running error count before the first Day
+     * @return running error count after the last Day
+     */
+    private int scheduleDays(List<Day> days, List<Integer> errorCounts, TaskHeap heap, TaskHeap complete,
+                             int startIdx, int endIdx, int errors) {
+        int idx = scheduleTime.get(Calendar.DAY_OF_WEEK) - 1 + startIdx;
+        for (int dayIdx = startIdx; dayIdx < endIdx && !heap.isEmpty(); dayIdx++) {
+            Day currDay = new Day(dayIdx, userConfig.getHoursPerDayOfWeek()[idx++ % 7], dayIdx);
+            days.add(currDay);
+
+            for (Event e1 : eventStore.getRecurringEvents(Time.getDayOfWeekIndex(currDay.getEpochDay()))) {
+                currDay.addEvent(e1);
             }
-
-            while (eventIdx < indivEvents.size()) {
-                Calendar eventDate = indivEvents.get(eventIdx).getTimeStamp().getStart();
-                Calendar dayDate = currDay.getDate();
-                if (Time.doDatesMatch(eventDate, dayDate)) {
-                    currDay.addEvent(indivEvents.get(eventIdx));
-                    eventIdx++;
-                } else break;
+            for (Event e1 : eventStore.getIndivEvents(currDay.getEpochDay())) {
+                currDay.addEvent(e1);
             }
 
             // don't need incomplete as argument (should be local to schedulers)
-            errorCount = scheduler.assignDay(currDay, errorCount, complete, taskManager, scheduleTime);
+            errors = scheduler.assignDay(currDay, errors, complete, heap, scheduleTime);
+            if (userConfig.isOptimizeDay()) {
+                scheduler.optimizeDay(currDay);
+            }
+            errorCounts.add(errors);
         }
-        this.taskManager = complete;
-
-        eventLog.reportSchedulingFinish();
+        return errors;
     }
 
-    public void serializeScheduleToFile(String filename) throws IOException {
-        String data = Serializer.serializeSchedule(cards, new ArrayList<>(taskMap.values()), indivEvents, getRecurEventsList(recurringEvents), schedule);
+    /**
+     * Window of consecutive Days scheduled independently from the rest of the schedule
+     */
+    private class ScheduleWindow extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        /** Index of the first Day in the window */
+        private final int startIdx;
+        /** Index after the last Day in the window */
+        private final int endIdx;
+        /** Tasks due within the window */
+        private final TaskHeap heap = new TaskHeap();
+        /** Tasks finished scheduling within the window */
+        private final TaskHeap complete = new TaskHeap();
+        /** Days scheduled for the window */
+        private final List<Day> days = new ArrayList<>();
+        /** Error count after each Day of the window (starting from zero) */
+        private final List<Integer> errorCounts = new ArrayList<>();
+        /** Number of errors within the window */
+        private int errors;
+        /** Fewest hours of any Task due after the window */
+        private double minLaterHours;
+
+        private ScheduleWindow(int startIdx, int endIdx) {
+            this.startIdx = startIdx;
+            this.endIdx = endIdx;
+        }
 
-        IOProcessing.writeSerializationFile(filename, data);
+        @Override
+        protected void compute() {
+            errors = scheduleDays(days, errorCounts, heap, complete, startIdx, endIdx, 0);
+        }
 
-        eventLog.reportSerializingSchedule(filename);
+        /**
+         * Determines whether the window was scheduled exactly as the sequential schedule would have done it,
+         * i.e. every Day was scheduled and none of them would have drawn a Task due after the window. A Day that
+         * ran out of Tasks with fewer idle hours than the smallest SubTask only sets aside Tasks that need more
+         * hours than it has left, so it is unaffected by later Tasks that are all larger than that.
+         *
+         * @return boolean value for whether the window is independent of later windows
+         */
+        private boolean isIndependent() {
+            if (days.size() != endIdx - startIdx) {
+                return false;
+            }
+            for (Day day : days) {
+                if (day.getLastDueDay() == Long.MAX_VALUE && (day.getIdleHours() >= userConfig.getSubtaskRange()[0]
+                        || day.getIdleHours() >= minLaterHours)) {
+                    return false;
+                }
+            }
+            return true;
+        }
     }
 
-    public void deserializeScheduleFromFile(Path path) throws IOException {
-        Serializer.deserializeSchedule(Files.readString(path), this);
+    public void serializeScheduleToFile(String filename) throws IOException {
+        try (Writer writer = IOProcessing.openSerializationFile(filename)) {
+            Serializer.writeSchedule(writer, cards.getCards(), new ArrayList<>(taskMap.values()), eventStore.getIndivEvents(), eventStore.getRecurringEventsList(), schedule);
+        }
 
-        eventLog.reportDeserializingSchedule(String.valueOf(path.getFileName()));
+        eventLog.reportSerializingSchedule(filename);
     }
 
-    private List<Event> getRecurEventsList(List<List<Event>> recurringEvents) {
-        Set<Event> recurEventsSet = new HashSet<Event>();
-
-        for (List<Event> dayEvents : recurringEvents) {
-            recurEventsSet.addAll(dayEvents);
+    public void deserializeScheduleFromFile(Path path) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(path)) {
+            Serializer.readSchedule(reader, this);
         }
 
-        return new ArrayList<>(recurEventsSet);
+        eventLog.reportDeserializingSchedule(String.valueOf(path.getFileName()));
     }
 
     /**
@@ -763,16 +994,112 @@ public class ScheduleManager {
     private void resetSchedule() {
         scheduler.updateConfig(userConfig);
         schedule = new LinkedList<>();
-        PriorityQueue<Task> copy = new PriorityQueue<>();
-        while(!taskManager.isEmpty()) {
-            Task task = taskManager.remove();
+        // resetting changes the order of the Tasks, which is restored all at once
+        for (Task task : taskManager) {
             task.reset();
-            copy.add(task);
         }
-        taskManager = copy;
+        taskManager.heapify();
+        dayErrorCounts.clear();
         errorCount = 0;
         dayId = 0;
-        Collections.sort(indivEvents);
+    }
+
+    /**
+     * Resets the schedule from the given Day onward, restoring the Tasks to the state they were in when that
+     * Day was first scheduled. Days before it are kept as they are.
+     *
+     * @param startIdx index of the first Day to be regenerated
+     * @param complete heap which receives all Tasks finished before the first regenerated Day
+     */
+    private void resetSchedule(int startIdx, TaskHeap complete) {
+        scheduler.updateConfig(userConfig);
+        // gives back the hours of every SubTask on the Days being discarded
+        for (int i = startIdx; i < schedule.size(); i++) {
+            for (Task.SubTask subTask : schedule.get(i).getSubTaskList()) {
+                if (subTask != null) {
+                    subTask.getParentTask().removeSubTaskHours(subTask.getSubTaskHours());
+                }
+            }
+        }
+        schedule.subList(startIdx, schedule.size()).clear();
+        dayErrorCounts.subList(startIdx, dayErrorCounts.size()).clear();
+        errorCount = startIdx == 0 ? 0 : dayErrorCounts.get(startIdx - 1);
+        dayId = startIdx;
+
+        // Tasks still needing hours and not yet due are exactly the ones in the heap at the start of the Day
+        long startDay = Time.toEpochDay(scheduleTime) + startIdx;
+        List<Task> active = new ArrayList<>(taskManager.size());
+        List<Task> finished = new ArrayList<>();
+        for (Task task : taskManager) {
+            if (task.getSubTotalHoursRemaining() > 0 && task.getDueDay() >= startDay) {
+                active.add(task);
+            } else {
+                finished.add(task);
+            }
+        }
+        taskManager = new TaskHeap(active);
+        complete.addAll(finished);
+    }
+
+    /**
+     * Marks the schedule for regeneration from the first Day whose scheduling could be changed by adding or
+     * removing a Task due on the given day
+     *
+     * @param dueDay epoch day on which the Task is due
+     */
+    private void markTaskChanged(long dueDay) {
+        for (int i = 0; i < rebuildIdx && i < schedule.size(); i++) {
+            Day day = schedule.get(i);
+            if (dueDay <= Math.max(day.getLastDueDay(), day.getEpochDay())) {
+                rebuildIdx = i;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Marks the schedule for regeneration from the Day on the given date
+     *
+     * @param epochDay epoch day which changed
+     */
+    private void markDateChanged(long epochDay) {
+        if (schedule.isEmpty()) {
+            return;
+        }
+        long dayIdx = epochDay - schedule.get(0).getEpochDay();
+        if (dayIdx >= 0) {
+            rebuildIdx = (int) Math.min(rebuildIdx, dayIdx);
+        }
+    }
+
+    /**
+     * Marks the schedule for regeneration from the first Day falling on any of the given days of the week
+     *
+     * @param days days of the week which changed
+     */
+    private void markDaysOfWeekChanged(Event.DayOfWeek[] days) {
+        for (int i = 0; i < rebuildIdx && i < schedule.size(); i++) {
+            int dayOfWeek = Time.getDayOfWeekIndex(schedule.get(i).getEpochDay());
+            for (Event.DayOfWeek d : days) {
+                if (d.ordinal() == dayOfWeek) {
+                    rebuildIdx = i;
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Marks the schedule for regeneration from the first Day on which the Event currently occurs
+     *
+     * @param event Event which changed
+     */
+    private void markEventChanged(Event event) {
+        if (event.isRecurring()) {
+            markDaysOfWeekChanged(event.getDays());
+        } else {
+            markDateChanged(event.getTimeStamp().getEpochDay());
+        }
     }
 
     /**
@@ -781,12 +1108,16 @@ public class ScheduleManager {
      * @return Schedule table as a String
      */
     public String buildScheduleStr() {
-        return TableFormatter.formatScheduleTable(schedule, true);
+        return renderCache.getTable("schedule", version, () -> TableFormatter.formatScheduleTable(schedule, true, renderCache));
     }
 
     public String buildCurrentScheduleStr() {
-        List<Day> days = new ArrayList<>();
         Calendar curr = Time.getFormattedCalendarInstance(0);
+        return renderCache.getTable("current-schedule-" + Time.toEpochDay(curr), version, () -> buildCurrentScheduleStr(curr));
+    }
+
+    private String buildCurrentScheduleStr(Calendar curr) {
+        List<Day> days = new ArrayList<>();
         for (Day d : schedule) {
             if (!Time.doDatesMatch(d.getDate(), curr) && d.getDate().compareTo(curr) < 0) {
                 // don't add
@@ -794,18 +1125,80 @@ public class ScheduleManager {
                 days.add(d);
             }
         }
-        return TableFormatter.formatScheduleTable(days, true);
+        return TableFormatter.formatScheduleTable(days, true, renderCache);
     }
 
     public String buildArchivedScheduleStr() {
-        List<Day> days = new ArrayList<>();
         Calendar curr = Time.getFormattedCalendarInstance(0);
+        return renderCache.getTable("archived-schedule-" + Time.toEpochDay(curr), version, () -> buildArchivedScheduleStr(curr));
+    }
+
+    private String buildArchivedScheduleStr(Calendar curr) {
+        List<Day> days = new ArrayList<>();
         for (Day d : schedule) {
             if (!Time.doDatesMatch(d.getDate(), curr) && d.getDate().compareTo(curr) < 0) {
                 days.add(d);
             }
         }
-        return TableFormatter.formatScheduleTable(days, true);
+        return TableFormatter.formatScheduleTable(days, true, renderCache);
+    }
+
+    /**
+     * Prints the Days of the schedule falling between the given dates, rendering only those Days
+     *
+     * @param out stream receiving the schedule table
+     * @param from first date to be shown
+     * @param to last date to be shown
+     */
+    public void printSchedule(PrintStream out, Calendar from, Calendar to) {
+        if (Time.toEpochDay(from) > Time.toEpochDay(to)) {
+            throw new IllegalArgumentException("Start date must not be after end date.");
+        }
+        int fromIdx = 0;
+        int toIdx = 0;
+        if (!schedule.isEmpty()) {
+            long firstDay = schedule.get(0).getEpochDay();
+            fromIdx = (int) Math.max(0, Math.min(schedule.size(), Time.toEpochDay(from) - firstDay));
+            toIdx = (int) Math.max(fromIdx, Math.min(schedule.size(), Time.toEpochDay(to) - firstDay + 1));
+        }
+        TableFormatter.printScheduleTable(out, schedule.subList(fromIdx, toIdx), true, renderCache);
+    }
+
+    /**
+     * Prints one page of the current schedule, each page holding {@link #SCHEDULE_PAGE_DAYS} Days starting today
+     *
+     * @param out stream receiving the schedule table
+     * @param page number of the page, starting at 1
+     */
+    public void printSchedulePage(PrintStream out, int page) {
+        int numPages = getNumSchedulePages();
+        if (page < 1 || page > numPages) {
+            throw new IllegalArgumentException("Page must be between 1 and " + numPages + ".");
+        }
+        int fromIdx = getTodayIdx() + (page - 1) * SCHEDULE_PAGE_DAYS;
+        int toIdx = Math.min(schedule.size(), fromIdx + SCHEDULE_PAGE_DAYS);
+        TableFormatter.printScheduleTable(out, schedule.subList(fromIdx, toIdx), true, renderCache);
+    }
+
+    /**
+     * Gets the number of pages of the current schedule
+     *
+     * @return number of pages, at least 1
+     */
+    public int getNumSchedulePages() {
+        int numDays = schedule.size() - getTodayIdx();
+        return Math.max(1, (numDays + SCHEDULE_PAGE_DAYS - 1) / SCHEDULE_PAGE_DAYS);
+    }
+
+    /**
+     * Gets the index of the first Day of the schedule which is not in the past
+     */
+    private int getTodayIdx() {
+        if (schedule.isEmpty()) {
+            return 0;
+        }
+        long today = Time.toEpochDay(Time.getFormattedCalendarInstance(0));
+        return (int) Math.max(0, Math.min(schedule.size(), today - schedule.get(0).getEpochDay()));
     }
 
     /**
@@ -814,7 +1207,7 @@ public class ScheduleManager {
      * @return Events table as a String
      */
     public String buildEventStr() {
-        return TableFormatter.formatEventSetTables(recurringEvents, indivEvents, true);
+        return renderCache.getTable("events", version, () -> TableFormatter.formatEventSetTables(eventStore.getRecurringEvents(), eventStore.getIndivEvents(), true));
     }
 
     /**
@@ -823,7 +1216,7 @@ public class ScheduleManager {
      * @return Cards table as a String
      */
     public String buildCardStr() {
-        return TableFormatter.formatCardTable(cards, true);
+        return renderCache.getTable("cards", version, () -> TableFormatter.formatCardTable(cards.getCards(), true));
     }
 
     /**
@@ -832,7 +1225,9 @@ public class ScheduleManager {
      * @return Tasks table as a String
      */
     public String buildTaskStr() {
-        return TableFormatter.formatTaskTable(taskManager, archivedTasks, true);
+        // archived status depends on the current date
+        long today = Time.toEpochDay(Time.getFormattedCalendarInstance(0));
+        return renderCache.getTable("tasks-" + today, version, () -> TableFormatter.formatTaskTable(taskManager, archivedTasks, true));
     }
 
     /**
@@ -841,7 +1236,7 @@ public class ScheduleManager {
      * @return Subtasks table as a String
      */
     public String buildSubTaskStr() {
-        return TableFormatter.formatSubTaskTable(schedule, true);
+        return renderCache.getTable("subtasks", version, () -> TableFormatter.formatSubTaskTable(schedule, true, renderCache));
     }
 
     /**
@@ -874,7 +1269,7 @@ public class ScheduleManager {
     }
 
     public String buildFormatEvent(int id) {
-        Event event = findEvent(id);
+        Event event = eventStore.get(id);
 
         if (event == null) {
             throw new IllegalArgumentException("Could not locate Event " + id + ".");
@@ -889,7 +1284,7 @@ public class ScheduleManager {
     public void quit() throws IOException {
         eventLog.reportExitSession();
         IOProcessing.writeSesLogToFile(buildReportStr()); // todo this needs to use a bool to remove the coloring
-        IOProcessing.writeSysLogToFile(eventLog.toString());
+        eventLog.close();
         System.exit(0);
     }
 
@@ -902,6 +1297,15 @@ public class ScheduleManager {
         return schedule;
     }
 
+    /**
+     * Measures the quality of the current schedule
+     *
+     * @return ScheduleMetrics of the schedule
+     */
+    public ScheduleMetrics getScheduleMetrics() {
+        return ScheduleMetrics.measure(schedule, taskMap.values(), errorCount);
+    }
+
     /**
      * Gets event log
      *
@@ -911,15 +1315,36 @@ public class ScheduleManager {
         return eventLog;
     }
 
+    /**
+     * Gets the cache of rendered tables and Days
+     *
+     * @return RenderCache of the ScheduleManager
+     */
+    public RenderCache getRenderCache() {
+        return renderCache;
+    }
+
     public void exportScheduleToExcel(String filename) throws IOException {
-        spreadsheetIO.setFilename(filename);
-        spreadsheetIO.exportScheduleToExcel(schedule, cards, archivedTasks, userConfig);
+        setupSpreadsheet();
+        spreadsheetService.setFilename(filename);
+        spreadsheetService.exportScheduleToExcel(schedule, cards.getCards(), archivedTasks, userConfig);
+    }
+
+    private void setupSpreadsheet() {
+        if (spreadsheetService == null) {
+            try {
+                spreadsheetService = SpreadsheetService.open(eventLog);
+            }
+            catch (GeneralSecurityException | IOException e) {
+                throw new IllegalArgumentException();
+            }
+        }
     }
 
     private void setupGoogle() {
-        if (googleCalendarIO == null) {
+        if (calendarService == null) {
             try {
-                googleCalendarIO = new GoogleCalendarIO(eventLog);
+                calendarService = CalendarService.connect(eventLog);
             }
             catch (GeneralSecurityException | IOException e) {
                 throw new IllegalArgumentException();
@@ -929,17 +1354,22 @@ public class ScheduleManager {
 
     public void exportScheduleToGoogle() throws IOException {
         setupGoogle();
-        googleCalendarIO.exportScheduleToGoogle(userConfig, schedule);
+        calendarService.exportScheduleToGoogle(userConfig, schedule);
+    }
+
+    public void syncScheduleToGoogle() throws IOException {
+        setupGoogle();
+        calendarService.syncScheduleToGoogle(schedule);
     }
 
     public void cleanGoogleSchedule() throws IOException {
         setupGoogle();
-        googleCalendarIO.cleanGoogleSchedule();
+        calendarService.cleanGoogleSchedule();
     }
 
     public void importScheduleFromGoogle() throws IOException {
         setupGoogle();
-        googleCalendarIO.importScheduleFromGoogle();
+        calendarService.importScheduleFromGoogle();
     }
 
     public static void main(String[] args) {
@@ -966,5 +1396,7 @@ public class ScheduleManager {
 
     public void setSched(List<Day> days) {
         this.schedule = days;
+        version++;
+        rebuildIdx = 0;
     }
 }
@@ -20,6 +20,8 @@ public class Task implements Comparable<Task> {
     private String name;
     /** Due date of the Task */
     private Calendar dueDate;
+    /** Local epoch day for the due date of the Task */
+    private long dueDay;
     /** Total number of hours for the Task */
     private double totalHours;
     /** Number of SubTask hours */
@@ -125,6 +127,16 @@ public class Task implements Comparable<Task> {
         dueDate.set(Calendar.SECOND, 0);
         dueDate.set(Calendar.MILLISECOND, 0);
         this.dueDate = dueDate;
+        this.dueDay = Time.toEpochDay(dueDate);
+    }
+
+    /**
+     * Gets the local epoch day for the due date of the Task
+     *
+     * @return epoch day of due date
+     */
+    public long getDueDay() {
+        return dueDay;
     }
 
     /**
@@ -210,6 +222,15 @@ public class Task implements Comparable<Task> {
         return new SubTask(this, hours, overflow, timeStamp);
     }
 
+    /**
+     * Gives back the hours of a discarded SubTask so that they can be scheduled again
+     *
+     * @param hours number of hours for the discarded SubTask
+     */
+    public void removeSubTaskHours(double hours) {
+        subTotalHours = Math.max(0, subTotalHours - hours);
+    }
+
     /**
      * Resets the Task in all of its properties, resets <code>subTotalHours</code> to zero
      */
@@ -231,19 +252,21 @@ public class Task implements Comparable<Task> {
      * Compares two Task objects based on their due date
      *
      * @param anotherTask the Task to be compared.
-     * @return <code>0</code> if there is no time difference between the due dates and the subtasks total hours are equal;
+     * @return <code>0</code> if there is no time difference between the due dates, the subtasks total hours are equal, and the IDs match;
      * and <code>1</code> if the due date of this Task is after the argument Task or when the argument Task has more remaining subtasks hours;
-     * and <code>-1</code> if the due date of this Task is before the argument Task or when the argument Task has less remaining subtasks hours
+     * and <code>-1</code> if the due date of this Task is before the argument Task or when the argument Task has less remaining subtasks hours;
+     * any remaining tie is ordered by ID
      */
     @Override
     public int compareTo(Task anotherTask) {
-        long timeDiff = this.dueDate.compareTo(anotherTask.dueDate);
+        long timeDiff = Long.compare(this.dueDay, anotherTask.dueDay);
         if(timeDiff < 0 || timeDiff == 0 && this.getSubTotalHoursRemaining() > anotherTask.getSubTotalHoursRemaining()) {
             return -1;
         } else if(timeDiff > 0 || this.getSubTotalHoursRemaining() < anotherTask.getSubTotalHoursRemaining()) {
             return 1;
         } else {
-            return 0;
+            // ties are broken by ID so that the heap order never depends on insertion history
+            return Integer.compare(this.id, anotherTask.id);
         }
     }
 
@@ -376,13 +399,10 @@ public class Task implements Comparable<Task> {
         public String get24HourTimeStampString() {
             StringBuilder output = new StringBuilder();
 
-            Calendar start = timeStamp.getStart();
-            Calendar end = timeStamp.getEnd();
-
-            int startHour = start.get(Calendar.HOUR_OF_DAY);
-            int startMinute = start.get(Calendar.MINUTE);
-            int endHour = end.get(Calendar.HOUR_OF_DAY);
-            int endMinute = end.get(Calendar.MINUTE);
+            int startHour = timeStamp.getStartHour();
+            int startMinute = timeStamp.getStartMin();
+            int endHour = timeStamp.getEndHour();
+            int endMinute = timeStamp.getEndMin();
 
             appendTime(output, startHour);
 
@@ -8,6 +8,9 @@ package com.planner.models;
  */
 public class UserConfig {
 
+    /** Name of the scheduling strategy used when none is configured */
+    public static final String DEFAULT_SCHEDULER = "compact";
+
     /** Daily range of hours for day */
     private int[] dailyHoursRange;
     /** Global data for hours per day of week */
@@ -28,6 +31,10 @@ public class UserConfig {
     private boolean defaultAtStart;
     /** Whether to format pretty time */
     private boolean formatPrettyTime;
+    /** Name of the scheduling strategy */
+    private String scheduler = DEFAULT_SCHEDULER;
+    /** Whether the application starts without the splash screen */
+    private boolean fastStart;
 
     /**
      * Primary constructor for UserConfig
@@ -268,6 +275,45 @@ public class UserConfig {
         this.formatPrettyTime = formatPrettyTime;
     }
 
+    /**
+     * Gets the name of the scheduling strategy
+     *
+     * @return name of the scheduling strategy
+     */
+    public String getScheduler() {
+        // settings files written before strategies were selectable have no scheduler
+        return scheduler == null ? DEFAULT_SCHEDULER : scheduler;
+    }
+
+    /**
+     * Sets the name of the scheduling strategy
+     *
+     * @param scheduler name of the scheduling strategy
+     */
+    public void setScheduler(String scheduler) {
+        if (scheduler == null || scheduler.isBlank())
+            throw new IllegalArgumentException("Scheduler cannot be empty for UserConfig");
+        this.scheduler = scheduler.trim().toLowerCase();
+    }
+
+    /**
+     * Checks if the application starts without the splash screen
+     *
+     * @return <code>true</code> if fast start is enabled; <code>false</code> otherwise
+     */
+    public boolean isFastStart() {
+        return fastStart;
+    }
+
+    /**
+     * Enables or disables starting the application without the splash screen
+     *
+     * @param fastStart Option
+     */
+    public void setFastStart(boolean fastStart) {
+        this.fastStart = fastStart;
+    }
+
 
     private boolean isRangeValid(int[] range)
     {
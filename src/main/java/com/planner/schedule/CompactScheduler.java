@@ -1,16 +1,24 @@
 package com.planner.schedule;
 
-import com.planner.models.Event;
 import com.planner.schedule.day.Day;
+import com.planner.schedule.day.FreeSlotIndex;
 import com.planner.models.Task;
 import com.planner.models.UserConfig;
 import com.planner.util.EventLog;
 import com.planner.util.Time;
 
+import java.util.AbstractQueue;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.PriorityQueue;
+import java.util.Queue;
 
 /**
  * The class {@code CompactScheduler} implements the interface {@link Scheduler} for compact scheduling actions.
@@ -19,17 +27,20 @@ import java.util.PriorityQueue;
  * <p>
  * Day optimizations occur when {@link com.planner.models.Task.SubTask} can be more uniformly fitted around {@link com.planner.models.Event}.
  * However, the user must have 'optimizeDay' config option set to true via the {@link UserConfig}.
+ * <p>
+ * Tasks are always drawn by due date. Tasks sharing a due date are drawn in their natural order unless the scheduler
+ * was given another order for them, such as {@link LongOrderComparator} or {@link ShortOrderComparator}.
  *
  * @author Andrew Roe
  */
 public class CompactScheduler implements Scheduler {
 
-    /** Singleton for CompactScheduler */
-    private static CompactScheduler singleton;
     /** Holds relevant data for user settings in scheduling */
-    private UserConfig userConfig;
+    protected UserConfig userConfig;
     /** EventLog for logging data on Day actions */
-    private final EventLog eventLog;
+    protected final EventLog eventLog;
+    /** Order of Tasks sharing a due date, or null for their natural order */
+    private final Comparator<Task> order;
 
     /**
      * Constructs a new {@code CompactScheduler} with a given {@link UserConfig} and {@link EventLog}
@@ -37,66 +48,69 @@ public class CompactScheduler implements Scheduler {
      * @param userConfig user settings for scheduling purposes
      * @param eventLog EventLog for logging data on Day actions
      */
-    private CompactScheduler(UserConfig userConfig, EventLog eventLog) {
-        this.userConfig = userConfig;
-        this.eventLog = eventLog;
-
+    protected CompactScheduler(UserConfig userConfig, EventLog eventLog) {
+        this(userConfig, eventLog, null);
     }
 
     /**
-     * Retrieves a singleton of {@code CompactScheduler} for scheduling purposes
+     * Constructs a new {@code CompactScheduler} which draws Tasks sharing a due date in the given order
      *
      * @param userConfig user settings for scheduling purposes
      * @param eventLog EventLog for logging data on Day actions
-     * @return instance of {@code CompactScheduler}
+     * @param order order of Tasks sharing a due date, or null for their natural order
      */
-    protected static CompactScheduler getSingleton(UserConfig userConfig, EventLog eventLog) {
-        if(singleton == null) {
-            singleton = new CompactScheduler(userConfig, eventLog);
-        }
-        return singleton;
+    protected CompactScheduler(UserConfig userConfig, EventLog eventLog, Comparator<Task> order) {
+        this.userConfig = userConfig;
+        this.eventLog = eventLog;
+        // ties of the order are broken by the natural order so that schedules stay deterministic
+        this.order = order == null ? null : order.thenComparing(Comparator.naturalOrder());
     }
 
     @Override
-    public int assignDay(Day day, int errorCount, PriorityQueue<Task> complete, PriorityQueue<Task> taskManager, Calendar date) {
+    public int assignDay(Day day, int errorCount, Queue<Task> complete, Queue<Task> heap, Calendar date) {
+        DeadlineOrder taskManager = order == null ? null : new DeadlineOrder(heap, order);
+        int numErrors = assignDay(day, errorCount, complete, taskManager == null ? heap : taskManager, heap, date);
+        if (taskManager != null) {
+            taskManager.restore();
+        }
+        return numErrors;
+    }
+
+    private int assignDay(Day day, int errorCount, Queue<Task> complete, Queue<Task> taskManager, Queue<Task> heap, Calendar date) {
+        long now = Time.toEpochMinute(date);
+        long epochDay = day.getEpochDay();
+        boolean isToday = epochDay == Time.getEpochDay(now);
+
         double maxHours = 0.0;
-        if (!Time.doDatesMatch(day.getDate(), date)) {
-            maxHours = getMaxHours(day, day.getDate(), false);
+        if (!isToday) {
+            maxHours = getMaxHours(day, day.getStartMinute(), false);
         } else {
-            maxHours = getMaxHours(day, date, true);
+            maxHours = getMaxHours(day, now, true);
         }
 
         PriorityQueue<Task> incomplete = new PriorityQueue<>();
         int numErrors = errorCount;
+        long lastDueDay = Long.MIN_VALUE;
+        boolean stoppedEarly = false;
 
         while ((!taskManager.isEmpty() && maxHours > 0) ||
-                (!taskManager.isEmpty() && Time.doDatesMatch(taskManager.peek().getDueDate(), day.getDate()))) {
+                (!taskManager.isEmpty() && taskManager.peek().getDueDay() == epochDay)) {
             // gets first task from heap and finds max possible hours available
             Task task = taskManager.remove();
+            boolean isDueToday = task.getDueDay() == epochDay;
+            lastDueDay = task.getDueDay();
 
-            double upperRangeHours = -1.0;
-            if (!Time.doDatesMatch(task.getDueDate(), day.getDate())) {
-                if (task.getSubTotalHoursRemaining() > maxHours && maxHours < userConfig.getSubtaskRange()[0]) {
-                    incomplete.add(task);
-                    continue;
-//                    break;
-                }
-                if (task.getSubTotalHoursRemaining() > userConfig.getSubtaskRange()[1]) {
-                    upperRangeHours = userConfig.getSubtaskRange()[1];
-                }
-//                if (task.getSubTotalHoursRemaining() )
-            }
-
-            double hours = Math.min(task.getSubTotalHoursRemaining(), maxHours);
-            if (upperRangeHours != -1.0 && hours > upperRangeHours) {
-                hours = upperRangeHours;
+            double hours = getHours(task, epochDay, maxHours);
+            if (hours < 0) {
+                incomplete.add(task);
+                continue;
             }
             maxHours -= hours;
 
             // status of task creation
-            boolean validTaskStatus = day.addSubTask(task, hours, userConfig, date, Time.doDatesMatch(day.getDate(), date));
+            boolean validTaskStatus = day.addSubTask(task, hours, userConfig, now, isToday);
 
-            if (userConfig.isOverflow() && Time.doDatesMatch(task.getDueDate(), day.getDate()) && task.getSubTotalHoursRemaining() > 0) {
+            if (userConfig.isOverflow() && isDueToday && task.getSubTotalHoursRemaining() > 0) {
                 if (task.getTotalHours() == task.getSubTotalHoursRemaining()) {
                     day.addOverflowError(task.getId(), task.getSubTotalHoursRemaining(), false);
                 } else {
@@ -105,64 +119,194 @@ public class CompactScheduler implements Scheduler {
             }
 
             // adds task to relevant completion heap
-            if (Time.doDatesMatch(task.getDueDate(), day.getDate()) || task.getSubTotalHoursRemaining() == 0) complete.add(task);
+            if (isDueToday || task.getSubTotalHoursRemaining() == 0) complete.add(task);
             else incomplete.add(task);
             // reports scheduling action
             eventLog.reportDayAction(day, task, validTaskStatus);
             // updates number of errors
             numErrors += validTaskStatus ? 0 : 1;
 
-            if (!validTaskStatus && !Time.doDatesMatch(task.getDueDate(), day.getDate())
-                    && Time.differenceOfDays(task.getDueDate(), day.getDate()) > 0) {
+            if (!validTaskStatus && !isDueToday && task.getDueDay() - epochDay > 0) {
+                stoppedEarly = true;
                 break;
             }
         }
+        // records how far into the heap the Day reached, which tells later changes whether they affect it
+        // (a Day which ran out of Tasks while it still had hours left would have drawn any Task)
+        boolean exhausted = taskManager.isEmpty() && maxHours > 0 && !stoppedEarly;
+        day.setLastDueDay(exhausted ? Long.MAX_VALUE : lastDueDay);
+        day.setIdleHours(exhausted ? maxHours : 0);
         while (!incomplete.isEmpty()) {
-            taskManager.add(incomplete.remove());
+            heap.add(incomplete.remove());
         }
         return numErrors;
     }
 
-    private double getMaxHours(Day day, Calendar date, boolean isToday) {
+    /**
+     * Gets the hours a Task is given on a Day. Tasks due on the Day take all the hours they still need, while others
+     * take as many as the Day has left, up to the top of the subtask range.
+     *
+     * @param task Task being scheduled
+     * @param epochDay day being scheduled
+     * @param maxHours hours the Day has left
+     * @return hours given to the Task, or a negative number to leave it for a later Day
+     */
+    protected double getHours(Task task, long epochDay, double maxHours) {
+        double remaining = task.getSubTotalHoursRemaining();
+        double hours = Math.min(remaining, maxHours);
+        if (task.getDueDay() == epochDay) {
+            return hours;
+        }
+        if (remaining > maxHours && maxHours < userConfig.getSubtaskRange()[0]) {
+            return -1;
+        }
+        if (remaining > userConfig.getSubtaskRange()[1]) {
+            hours = Math.min(hours, userConfig.getSubtaskRange()[1]);
+        }
+        return hours;
+    }
+
+    /**
+     * Draws the Tasks of a heap one due date at a time, ordering the Tasks which share a due date by the given order
+     */
+    private static class DeadlineOrder extends AbstractQueue<Task> {
+
+        /** Heap the Tasks are drawn from */
+        private final Queue<Task> heap;
+        /** Tasks drawn from the heap which share the earliest due date */
+        private final PriorityQueue<Task> ready;
+
+        private DeadlineOrder(Queue<Task> heap, Comparator<Task> order) {
+            this.heap = heap;
+            this.ready = new PriorityQueue<>(order);
+        }
+
+        @Override
+        public boolean offer(Task task) {
+            return heap.offer(task);
+        }
+
+        @Override
+        public Task poll() {
+            fill();
+            return ready.poll();
+        }
+
+        @Override
+        public Task peek() {
+            fill();
+            return ready.peek();
+        }
+
+        @Override
+        public int size() {
+            return ready.size() + heap.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return ready.contains(o) || heap.contains(o);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            return ready.remove(o) || heap.remove(o);
+        }
+
+        /**
+         * Iterates over the Tasks drawn from the heap, then over those still in it, in no particular order
+         */
+        @Override
+        public Iterator<Task> iterator() {
+            return new Iterator<>() {
+                private final Iterator<Task> drawn = ready.iterator();
+                private final Iterator<Task> remaining = heap.iterator();
+                /** Iterator which handed out the last Task */
+                private Iterator<Task> last;
+
+                @Override
+                public boolean hasNext() {
+                    return drawn.hasNext() || remaining.hasNext();
+                }
+
+                @Override
+                public Task next() {
+                    last = drawn.hasNext() ? drawn : remaining;
+                    return last.next();
+                }
+
+                @Override
+                public void remove() {
+                    if (last == null) {
+                        throw new IllegalStateException();
+                    }
+                    last.remove();
+                }
+            };
+        }
+
+        /**
+         * Returns the Tasks drawn but not handed out to the heap
+         */
+        private void restore() {
+            heap.addAll(ready);
+            ready.clear();
+        }
+
+        private void fill() {
+            if (ready.isEmpty() && !heap.isEmpty()) {
+                long dueDay = heap.peek().getDueDay();
+                while (!heap.isEmpty() && heap.peek().getDueDay() == dueDay) {
+                    ready.add(heap.poll());
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the number of hours available for SubTasks on a Day
+     *
+     * @param day Day being scheduled
+     * @param date time from which the Day is scheduled
+     * @param isToday whether the Day is today
+     * @return hours available
+     */
+    protected double getMaxHours(Day day, long date, boolean isToday) {
         int startingHour = getStartingHour(date, isToday);
 
         if (!userConfig.isDefaultAtStart() && startingHour >= userConfig.getDailyHoursRange()[1]) {
             return 0.0;
         }
 
-        Calendar time = (Calendar) date.clone();
-        time.set(Calendar.HOUR_OF_DAY, startingHour);
-        time.set(Calendar.SECOND, 0);
-        time.set(Calendar.MILLISECOND, 0);
+        long dayStart = Time.getStartOfDay(date);
+        long time = dayStart + startingHour * 60L + Time.getMinuteOfDay(date) % 60;
 
-        Calendar start = Time.getFirstAvailableTimeInDay(new ArrayList<>(), day.getEventTimeStamps(), userConfig, time, isToday);
-        Calendar end = (Calendar) time.clone();
-        end.set(Calendar.HOUR_OF_DAY, userConfig.getDailyHoursRange()[1]);
-        end.set(Calendar.MINUTE, 0);
+        FreeSlotIndex eventSlots = day.getEventSlots();
+        long start = Time.getFirstAvailableTimeInDay(Collections.emptyList(), eventSlots, userConfig, time, isToday);
+        long end = dayStart + userConfig.getDailyHoursRange()[1] * 60L;
 
         double hours = 0.0;
-        for (Event e : day.getEventList()) {
-            if (start.compareTo(e.getTimeStamp().getStart()) < 0) {
-                if (e.getTimeStamp().getStart().compareTo(end) < 0) {
-                    hours += Time.getTimeInterval(start, e.getTimeStamp().getStart());
-                    start = e.getTimeStamp().getEnd();
-                } else {
-                    // compute time until end of day
-                    hours += Time.getTimeInterval(start, end);
-                    return hours;
-                }
-            } else if (start.compareTo(e.getTimeStamp().getEnd()) <= 0) {
-                start = e.getTimeStamp().getEnd();
+        // walks each block of Events, summing the free time between them
+        long eventStart = eventSlots.nextOccupied(start);
+        while (eventStart != FreeSlotIndex.NONE) {
+            if (eventStart < end) {
+                hours += Time.getTimeInterval(start, eventStart);
+                start = eventSlots.nextFree(eventStart);
+                eventStart = eventSlots.nextOccupied(start);
+            } else {
+                // compute time until end of day
+                hours += Time.getTimeInterval(start, end);
+                return hours;
             }
         }
 
         hours += Time.getTimeInterval(start, end);
 
-        return Math.min(hours, userConfig.getHoursPerDayOfWeek()[date.get(Calendar.DAY_OF_WEEK) - 1]);
+        return Math.min(hours, userConfig.getHoursPerDayOfWeek()[Time.getDayOfWeekIndex(day.getEpochDay())]);
     }
 
-    private int getStartingHour(Calendar date, boolean isToday) {
-        int startingHour = date.get(Calendar.HOUR_OF_DAY);
+    private int getStartingHour(long date, boolean isToday) {
+        int startingHour = Time.getMinuteOfDay(date) / 60;
         if (isToday) {
             startingHour = Math.max(userConfig.getDailyHoursRange()[0], startingHour);
         } else {
@@ -173,13 +317,73 @@ public class CompactScheduler implements Scheduler {
 
     @Override
     public int optimizeDay(Day day) {
-        List<Double> timeBlocks = Time.computeTimeBlocks(day);
         List<Task.SubTask> subTasks = day.getSubTaskList();
-        // todo need to combine subTasks that were possibly broken up due to events
-        //   also, if there are no events (and subTasks were not broken up), there is no further optimization
-        //   while we could sort the subTasks, there is little need since the most we'll realistically have is 24 (tiny number, so bruteforce is acceptable)
+        List<Time.TimeStamp> timeStamps = day.getTaskTimeStamps();
+        if (day.getNumEvents() == 0 || subTasks.size() < 2 || subTasks.contains(null)) {
+            return 0;
+        }
+
+        // SubTasks are laid out back to back, so every run of touching time stamps is a block between Events
+        List<Long> blockStarts = new ArrayList<>();
+        List<Integer> blockMinutes = new ArrayList<>();
+        // time of each Task on the Day, in the order the Tasks first appear
+        Map<Integer, Integer> taskIdx = new HashMap<>();
+        List<Task> tasks = new ArrayList<>();
+        List<Integer> taskMinutes = new ArrayList<>();
+        List<Boolean> taskOverflow = new ArrayList<>();
+        for (int i = 0; i < subTasks.size(); i++) {
+            Time.TimeStamp ts = timeStamps.get(i);
+            if (i == 0 || ts.getStartMinute() != timeStamps.get(i - 1).getEndMinute()) {
+                blockStarts.add(ts.getStartMinute());
+                blockMinutes.add(0);
+            }
+            int last = blockMinutes.size() - 1;
+            blockMinutes.set(last, blockMinutes.get(last) + (int) (ts.getEndMinute() - ts.getStartMinute()));
+
+            Task.SubTask subTask = subTasks.get(i);
+            double minutes = subTask.getSubTaskHours() * 60;
+            if (minutes != Math.rint(minutes)) {
+                return 0;
+            }
+            Integer idx = taskIdx.get(subTask.getParentTask().getId());
+            if (idx == null) {
+                taskIdx.put(subTask.getParentTask().getId(), tasks.size());
+                tasks.add(subTask.getParentTask());
+                taskMinutes.add((int) minutes);
+                taskOverflow.add(subTask.isOverflow());
+            } else {
+                taskMinutes.set(idx, taskMinutes.get(idx) + (int) minutes);
+                taskOverflow.set(idx, taskOverflow.get(idx) || subTask.isOverflow());
+            }
+        }
 
-        return 0;
+        int[] items = taskMinutes.stream().mapToInt(Integer::intValue).toArray();
+        int[] blocks = blockMinutes.stream().mapToInt(Integer::intValue).toArray();
+        if (Arrays.stream(items).sum() != Arrays.stream(blocks).sum()) {
+            // the time stamps were rounded away from the hours of their SubTasks, so nothing is moved
+            return 0;
+        }
+        int[][] packing = SubTaskPacker.pack(items, blocks);
+        int pieces = SubTaskPacker.countPieces(packing);
+        if (pieces >= subTasks.size()) {
+            return subTasks.size() - tasks.size();
+        }
+
+        List<Task.SubTask> packed = new ArrayList<>(pieces);
+        List<Time.TimeStamp> packedTimeStamps = new ArrayList<>(pieces);
+        for (int i = 0; i < blocks.length; i++) {
+            long start = blockStarts.get(i);
+            for (int j = 0; j < items.length; j++) {
+                if (packing[i][j] > 0) {
+                    Time.TimeStamp ts = new Time.TimeStamp(start, start + packing[i][j]);
+                    packed.add(tasks.get(j).forceAddSubTask(packing[i][j] / 60.0, taskOverflow.get(j), ts));
+                    packedTimeStamps.add(ts);
+                    start += packing[i][j];
+                }
+            }
+        }
+        day.replaceSubTasks(packed, packedTimeStamps);
+        return pieces - tasks.size();
     }
 
     @Override
@@ -0,0 +1,57 @@
+package com.planner.schedule;
+
+import com.planner.models.Task;
+import com.planner.models.UserConfig;
+import com.planner.util.EventLog;
+
+/**
+ * The class {@code LoadBalancingScheduler} spreads the hours of every {@link Task} evenly over the Days left until
+ * it is due, rather than finishing Tasks as early as possible like {@link CompactScheduler}. Each Day gives a Task
+ * its remaining hours divided by the Days left, rounded up to the half hour and kept within the subtask range of the
+ * {@link UserConfig}, so the hours of the schedule are spread across the week instead of packed into its first Days.
+ * Tasks due on the Day take all the hours they still need.
+ */
+public class LoadBalancingScheduler extends CompactScheduler {
+
+    /**
+     * Constructs a new {@code LoadBalancingScheduler} with a given {@link UserConfig} and {@link EventLog}
+     *
+     * @param userConfig user settings for scheduling purposes
+     * @param eventLog EventLog for logging data on Day actions
+     */
+    protected LoadBalancingScheduler(UserConfig userConfig, EventLog eventLog) {
+        super(userConfig, eventLog);
+    }
+
+    @Override
+    protected double getHours(Task task, long epochDay, double maxHours) {
+        if (task.getDueDay() == epochDay) {
+            return Math.min(task.getSubTotalHoursRemaining(), maxHours);
+        }
+        double share = getShare(task, epochDay);
+        if (share > maxHours && maxHours < userConfig.getSubtaskRange()[0]) {
+            return -1;
+        }
+        return Math.min(share, maxHours);
+    }
+
+    /**
+     * Gets the hours a Task is given on a Day before its due date, which is its remaining hours divided by the Days
+     * left until it is due, rounded up to the half hour and kept within the subtask range
+     *
+     * @param task Task being scheduled
+     * @param epochDay day being scheduled
+     * @return hours given to the Task
+     */
+    private double getShare(Task task, long epochDay) {
+        double remaining = task.getSubTotalHoursRemaining();
+        long daysLeft = task.getDueDay() - epochDay + 1;
+        double share = Math.ceil(remaining / daysLeft * 2) / 2;
+        double[] range = userConfig.getSubtaskRange();
+        share = Math.max(share, Math.min(remaining, range[0]));
+        if (range.length > 1) {
+            share = Math.min(share, range[1]);
+        }
+        return Math.min(share, remaining);
+    }
+}
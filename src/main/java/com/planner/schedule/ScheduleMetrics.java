@@ -0,0 +1,134 @@
+package com.planner.schedule;
+
+import com.planner.models.Task;
+import com.planner.schedule.day.Day;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Measures how well a schedule fits its Tasks, so the {@link Scheduler} strategies can be compared on the same Tasks
+ */
+public class ScheduleMetrics {
+
+    /** Number of SubTasks which could not be fitted into their Day */
+    private final int errors;
+    /** Number of Tasks due within the schedule which were not given all of their hours */
+    private final int lateTasks;
+    /** Hours of Tasks due within the schedule which were not scheduled */
+    private final double overflowHours;
+    /** Hours of SubTasks in the schedule */
+    private final double scheduledHours;
+    /** Standard deviation of the hours of SubTasks on each Day */
+    private final double loadDeviation;
+    /** Number of SubTasks in the schedule */
+    private final int numSubTasks;
+
+    private ScheduleMetrics(int errors, int lateTasks, double overflowHours, double scheduledHours, double loadDeviation,
+                            int numSubTasks) {
+        this.errors = errors;
+        this.lateTasks = lateTasks;
+        this.overflowHours = overflowHours;
+        this.scheduledHours = scheduledHours;
+        this.loadDeviation = loadDeviation;
+        this.numSubTasks = numSubTasks;
+    }
+
+    /**
+     * Measures a schedule just after it was built
+     *
+     * @param schedule Days of the schedule
+     * @param tasks all Tasks of the schedule
+     * @param errors number of errors from building the schedule
+     * @return ScheduleMetrics of the schedule
+     */
+    public static ScheduleMetrics measure(List<Day> schedule, Collection<Task> tasks, int errors) {
+        if (schedule.isEmpty()) {
+            return new ScheduleMetrics(errors, 0, 0, 0, 0, 0);
+        }
+        double scheduledHours = 0;
+        int numSubTasks = 0;
+        for (Day day : schedule) {
+            scheduledHours += day.getHoursFilled();
+            numSubTasks += day.getNumSubTasks();
+        }
+        double mean = scheduledHours / schedule.size();
+        double variance = 0;
+        for (Day day : schedule) {
+            variance += (day.getHoursFilled() - mean) * (day.getHoursFilled() - mean);
+        }
+        variance /= schedule.size();
+
+        long firstDay = schedule.get(0).getEpochDay();
+        long lastDay = schedule.get(schedule.size() - 1).getEpochDay();
+        int lateTasks = 0;
+        double overflowHours = 0;
+        for (Task task : tasks) {
+            if (task.getDueDay() >= firstDay && task.getDueDay() <= lastDay && task.getSubTotalHoursRemaining() > 0) {
+                lateTasks++;
+                overflowHours += task.getSubTotalHoursRemaining();
+            }
+        }
+        return new ScheduleMetrics(errors, lateTasks, overflowHours, scheduledHours, Math.sqrt(variance), numSubTasks);
+    }
+
+    /**
+     * Gets the number of SubTasks which could not be fitted into their Day
+     *
+     * @return number of errors
+     */
+    public int getErrors() {
+        return errors;
+    }
+
+    /**
+     * Gets the number of Tasks due within the schedule which were not given all of their hours
+     *
+     * @return number of late Tasks
+     */
+    public int getLateTasks() {
+        return lateTasks;
+    }
+
+    /**
+     * Gets the hours of Tasks due within the schedule which were not scheduled
+     *
+     * @return overflow hours
+     */
+    public double getOverflowHours() {
+        return overflowHours;
+    }
+
+    /**
+     * Gets the hours of SubTasks in the schedule
+     *
+     * @return scheduled hours
+     */
+    public double getScheduledHours() {
+        return scheduledHours;
+    }
+
+    /**
+     * Gets the standard deviation of the hours of SubTasks on each Day, where lower means a more even load
+     *
+     * @return standard deviation of the daily hours
+     */
+    public double getLoadDeviation() {
+        return loadDeviation;
+    }
+
+    /**
+     * Gets the number of SubTasks in the schedule, which is how many rows it takes to display or export it
+     *
+     * @return number of SubTasks
+     */
+    public int getNumSubTasks() {
+        return numSubTasks;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("errors=%d, late tasks=%d, overflow hours=%.1f, scheduled hours=%.1f, load deviation=%.2f, subtasks=%d",
+                errors, lateTasks, overflowHours, scheduledHours, loadDeviation, numSubTasks);
+    }
+}
@@ -8,7 +8,7 @@ import com.planner.util.EventLog;
 
 import java.util.Calendar;
 import java.util.List;
-import java.util.PriorityQueue;
+import java.util.Queue;
 
 /**
  * The interface {@code Scheduler} is for all scheduling implementations to sort out tasks via the {@link ScheduleManager}
@@ -17,8 +17,28 @@ import java.util.PriorityQueue;
  */
 public interface Scheduler {
 
+    /**
+     * Gets the instance of the {@code Scheduler} selected by the 'scheduler' option of the {@link UserConfig}
+     * which is shared by the session
+     *
+     * @param userConfig user settings for scheduling purposes
+     * @param eventLog EventLog for logging data on Day actions
+     * @return shared instance of {@code Scheduler}
+     */
     static Scheduler getInstance(UserConfig userConfig, EventLog eventLog) {
-        return CompactScheduler.getSingleton(userConfig, eventLog);
+        return SchedulerRegistry.getShared(userConfig.getScheduler(), userConfig, eventLog);
+    }
+
+    /**
+     * Creates a new {@code Scheduler} selected by the 'scheduler' option of the {@link UserConfig}, which shares no
+     * state with any other instance, allowing separate {@link ScheduleManager} instances to build schedules concurrently
+     *
+     * @param userConfig user settings for scheduling purposes
+     * @param eventLog EventLog for logging data on Day actions
+     * @return new instance of {@code Scheduler}
+     */
+    static Scheduler newInstance(UserConfig userConfig, EventLog eventLog) {
+        return SchedulerRegistry.newInstance(userConfig.getScheduler(), userConfig, eventLog);
     }
 
     /**
@@ -27,10 +47,10 @@ public interface Scheduler {
      * @param day Day being processed
      * @param errorCount number of errors in current schedule
      * @param complete Tasks that are "finished scheduling" are added here
-     * @param taskManager PriorityQueue of all Tasks in sorted order
+     * @param taskManager heap of all Tasks in sorted order
      * @return number of errors in scheduling Day
      */
-    int assignDay(Day day, int errorCount, PriorityQueue<Task> complete, PriorityQueue<Task> taskManager, Calendar date);
+    int assignDay(Day day, int errorCount, Queue<Task> complete, Queue<Task> taskManager, Calendar date);
 
     /**
      * Optimizes a {@link Day}'s set of {@link com.planner.models.Task.SubTask} around {@link com.planner.models.Event}
@@ -0,0 +1,108 @@
+package com.planner.schedule;
+
+import com.planner.models.UserConfig;
+import com.planner.util.EventLog;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Registry of the {@link Scheduler} strategies by name, which are chosen via the 'scheduler' option of
+ * {@link UserConfig} or the 'scheduler' command
+ * <p>
+ * The built-in strategies are:
+ * <ul>
+ *     <li>compact: Tasks by due date, then by the most hours remaining</li>
+ *     <li>edf: Tasks by earliest due date and time, then by the longest Task</li>
+ *     <li>sjf: Tasks by due date, then by the shortest Task</li>
+ *     <li>balanced: the hours of every Task spread evenly over the Days until it is due</li>
+ * </ul>
+ */
+public class SchedulerRegistry {
+
+    /** Creates a new instance of every strategy by name, in the order they were registered */
+    private static final Map<String, BiFunction<UserConfig, EventLog, Scheduler>> STRATEGIES = new LinkedHashMap<>();
+    /** Instance of every strategy shared by the session, by name */
+    private static final Map<String, Scheduler> SHARED = new HashMap<>();
+
+    static {
+        register(UserConfig.DEFAULT_SCHEDULER, CompactScheduler::new);
+        register("edf", (userConfig, eventLog) -> new CompactScheduler(userConfig, eventLog, new LongOrderComparator()));
+        register("sjf", (userConfig, eventLog) -> new CompactScheduler(userConfig, eventLog, new ShortOrderComparator()));
+        register("balanced", LoadBalancingScheduler::new);
+    }
+
+    private SchedulerRegistry() {
+    }
+
+    /**
+     * Registers a scheduling strategy, replacing any strategy with the same name
+     *
+     * @param name name of the strategy
+     * @param factory creates a new instance of the strategy from the user settings and EventLog
+     */
+    public static synchronized void register(String name, BiFunction<UserConfig, EventLog, Scheduler> factory) {
+        if (name == null || name.isBlank() || factory == null) {
+            throw new IllegalArgumentException("Scheduler must have a name and a factory");
+        }
+        String key = name.trim().toLowerCase();
+        STRATEGIES.put(key, factory);
+        SHARED.remove(key);
+    }
+
+    /**
+     * Gets the names of the registered strategies
+     *
+     * @return List of names in the order they were registered
+     */
+    public static synchronized List<String> getNames() {
+        return new ArrayList<>(STRATEGIES.keySet());
+    }
+
+    /**
+     * Determines whether a strategy is registered under the given name
+     *
+     * @param name name of the strategy
+     * @return boolean value for whether the strategy exists
+     */
+    public static synchronized boolean contains(String name) {
+        return name != null && STRATEGIES.containsKey(name.trim().toLowerCase());
+    }
+
+    /**
+     * Creates a new instance of the named strategy which shares no state with any other instance
+     *
+     * @param name name of the strategy
+     * @param userConfig user settings for scheduling purposes
+     * @param eventLog EventLog for logging data on Day actions
+     * @return new instance of the strategy
+     */
+    public static synchronized Scheduler newInstance(String name, UserConfig userConfig, EventLog eventLog) {
+        return getFactory(name).apply(userConfig, eventLog);
+    }
+
+    /**
+     * Gets the instance of the named strategy shared by the session, creating it on first use
+     *
+     * @param name name of the strategy
+     * @param userConfig user settings for scheduling purposes
+     * @param eventLog EventLog for logging data on Day actions
+     * @return shared instance of the strategy
+     */
+    public static synchronized Scheduler getShared(String name, UserConfig userConfig, EventLog eventLog) {
+        BiFunction<UserConfig, EventLog, Scheduler> factory = getFactory(name);
+        return SHARED.computeIfAbsent(name.trim().toLowerCase(), k -> factory.apply(userConfig, eventLog));
+    }
+
+    private static BiFunction<UserConfig, EventLog, Scheduler> getFactory(String name) {
+        BiFunction<UserConfig, EventLog, Scheduler> factory = name == null ? null : STRATEGIES.get(name.trim().toLowerCase());
+        if (factory == null) {
+            throw new IllegalArgumentException("Unknown scheduler: " + name);
+        }
+        return factory;
+    }
+}
@@ -0,0 +1,207 @@
+package com.planner.schedule;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Packs the time a Day gives each of its Tasks into the free blocks between its Events, splitting as few Tasks as
+ * possible. The time of the Tasks always fills the blocks exactly, so the fewest SubTasks are produced by splitting
+ * the Tasks and blocks into as many groups of equal length as possible, since a group of n Tasks and b blocks is
+ * filled back to back with n + b - 1 SubTasks.
+ * <p>
+ * Small Days are packed exactly by searching every order of their Tasks and blocks. Larger ones first give every
+ * block a Task of exactly its length, then place the remaining Tasks by best fit decreasing, and finally split
+ * the Tasks that fit nowhere across the space left.
+ */
+public class SubTaskPacker {
+
+    /** Largest number of Tasks and blocks together which are packed by exhaustive search */
+    private static final int EXACT_LIMIT = 12;
+
+    private SubTaskPacker() {
+    }
+
+    /**
+     * Packs the Tasks into the blocks
+     *
+     * @param items minutes of each Task
+     * @param blocks minutes of each block, in the order they occur in the Day
+     * @return minutes of each Task placed in each block, indexed by block then by Task
+     * @throws IllegalArgumentException if the Tasks do not fill the blocks exactly
+     */
+    public static int[][] pack(int[] items, int[] blocks) {
+        if (Arrays.stream(items).sum() != Arrays.stream(blocks).sum()) {
+            throw new IllegalArgumentException("Tasks must fill the blocks exactly");
+        }
+        if (items.length + blocks.length <= EXACT_LIMIT) {
+            return packExact(items, blocks);
+        }
+        return packGreedy(items, blocks);
+    }
+
+    /**
+     * Gets the number of SubTasks a packing produces
+     *
+     * @param packing minutes of each Task placed in each block
+     * @return number of SubTasks
+     */
+    public static int countPieces(int[][] packing) {
+        int pieces = 0;
+        for (int[] block : packing) {
+            for (int minutes : block) {
+                if (minutes > 0) {
+                    pieces++;
+                }
+            }
+        }
+        return pieces;
+    }
+
+    /**
+     * Finds the order of the Tasks and blocks with the most prefixes where both have the same length, each of which
+     * closes a group that is filled independently of the others
+     */
+    private static int[][] packExact(int[] items, int[] blocks) {
+        int n = items.length;
+        int m = n + blocks.length;
+        // Tasks count positively and blocks negatively, so a set of both is a closed group when it sums to zero
+        int[] sizes = new int[m];
+        for (int i = 0; i < m; i++) {
+            sizes[i] = i < n ? items[i] : -blocks[i - n];
+        }
+        int full = (1 << m) - 1;
+        int[] sum = new int[full + 1];
+        // most groups closed by any order of each set
+        int[] groups = new int[full + 1];
+        for (int mask = 1; mask <= full; mask++) {
+            sum[mask] = sum[mask & (mask - 1)] + sizes[Integer.numberOfTrailingZeros(mask)];
+            int best = 0;
+            for (int rest = mask; rest != 0; rest &= rest - 1) {
+                best = Math.max(best, groups[mask & ~Integer.lowestOneBit(rest)]);
+            }
+            groups[mask] = best + (sum[mask] == 0 ? 1 : 0);
+        }
+
+        // walks back from the full set, taking off the last element of an optimal order each time
+        int[] order = new int[m];
+        int mask = full;
+        for (int pos = m - 1; pos >= 0; pos--) {
+            int prev = groups[mask] - (sum[mask] == 0 ? 1 : 0);
+            int bit = Integer.lowestOneBit(mask);
+            for (int rest = mask; rest != 0; rest &= rest - 1) {
+                if (groups[mask & ~Integer.lowestOneBit(rest)] == prev) {
+                    bit = Integer.lowestOneBit(rest);
+                    break;
+                }
+            }
+            order[pos] = Integer.numberOfTrailingZeros(bit);
+            mask &= ~bit;
+        }
+
+        int[][] packing = new int[blocks.length][n];
+        List<Integer> groupItems = new ArrayList<>();
+        List<Integer> groupBlocks = new ArrayList<>();
+        int prefix = 0;
+        for (int idx : order) {
+            if (idx < n) {
+                groupItems.add(idx);
+            } else {
+                groupBlocks.add(idx - n);
+            }
+            prefix += sizes[idx];
+            if (prefix == 0) {
+                groupItems.sort(null);
+                groupBlocks.sort(null);
+                fill(packing, items, blocks, groupItems, groupBlocks);
+                groupItems.clear();
+                groupBlocks.clear();
+            }
+        }
+        return packing;
+    }
+
+    private static int[][] packGreedy(int[] items, int[] blocks) {
+        int[][] packing = new int[blocks.length][items.length];
+        int[] room = blocks.clone();
+        boolean[] placed = new boolean[items.length];
+
+        // a Task as long as a block closes a group on its own
+        for (int i = 0; i < blocks.length; i++) {
+            for (int j = 0; j < items.length; j++) {
+                if (!placed[j] && items[j] == room[i]) {
+                    packing[i][j] = items[j];
+                    room[i] = 0;
+                    placed[j] = true;
+                    break;
+                }
+            }
+        }
+
+        // best fit decreasing of the whole Tasks
+        Integer[] byLength = new Integer[items.length];
+        for (int j = 0; j < items.length; j++) {
+            byLength[j] = j;
+        }
+        Arrays.sort(byLength, Comparator.comparingInt((Integer j) -> items[j]).reversed());
+        for (int j : byLength) {
+            if (placed[j]) {
+                continue;
+            }
+            int best = -1;
+            for (int i = 0; i < blocks.length; i++) {
+                if (room[i] >= items[j] && (best == -1 || room[i] < room[best])) {
+                    best = i;
+                }
+            }
+            if (best != -1) {
+                packing[best][j] = items[j];
+                room[best] -= items[j];
+                placed[j] = true;
+            }
+        }
+
+        // the Tasks left are split across the remaining space
+        List<Integer> rest = new ArrayList<>();
+        for (int j = 0; j < items.length; j++) {
+            if (!placed[j]) {
+                rest.add(j);
+            }
+        }
+        int i = 0;
+        for (int j : rest) {
+            int remaining = items[j];
+            while (remaining > 0) {
+                while (room[i] == 0) {
+                    i++;
+                }
+                int minutes = Math.min(remaining, room[i]);
+                packing[i][j] += minutes;
+                room[i] -= minutes;
+                remaining -= minutes;
+            }
+        }
+        return packing;
+    }
+
+    /**
+     * Fills a group of blocks with a group of Tasks of the same total length back to back
+     */
+    private static void fill(int[][] packing, int[] items, int[] blocks, List<Integer> groupItems, List<Integer> groupBlocks) {
+        int b = 0;
+        int room = groupBlocks.isEmpty() ? 0 : blocks[groupBlocks.get(0)];
+        for (int j : groupItems) {
+            int remaining = items[j];
+            while (remaining > 0) {
+                while (room == 0) {
+                    room = blocks[groupBlocks.get(++b)];
+                }
+                int minutes = Math.min(remaining, room);
+                packing[groupBlocks.get(b)][j] += minutes;
+                room -= minutes;
+                remaining -= minutes;
+            }
+        }
+    }
+}
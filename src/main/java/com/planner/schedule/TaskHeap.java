@@ -0,0 +1,332 @@
+package com.planner.schedule;
+
+import com.planner.models.Task;
+
+import java.util.AbstractQueue;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Min-heap of {@link Task}s in their natural order, kept as a 4-ary heap along with the position of every Task by
+ * its ID. Unlike {@link java.util.PriorityQueue}, finding a Task to remove it or to restore its order after its due
+ * date or hours changed takes no scan of the heap, so removing, re-keying and checking for a Task all run in
+ * O(log n) or better. Tasks added in bulk, or whose keys all changed at once, are put in order by heapify in O(n)
+ * rather than by sifting each of them.
+ * <p>
+ * Task IDs must be unique within a heap. Since they are handed out in sequence, positions are kept in an array
+ * indexed by ID.
+ */
+public class TaskHeap extends AbstractQueue<Task> {
+
+    /** Number of children of every node */
+    private static final int ARITY = 4;
+    /** Marks an ID not in the heap */
+    private static final int ABSENT = -1;
+
+    /** Tasks in heap order */
+    private Task[] heap;
+    /** Position of every Task in the heap by ID, or ABSENT */
+    private int[] positions;
+    /** Number of Tasks in the heap */
+    private int size;
+    /** Number of structural changes, to fail fast on iterators */
+    private int modCount;
+
+    /**
+     * Constructs an empty TaskHeap
+     */
+    public TaskHeap() {
+        this(16);
+    }
+
+    /**
+     * Constructs an empty TaskHeap with room for the given number of Tasks
+     *
+     * @param capacity initial number of Tasks the heap can hold without growing
+     */
+    public TaskHeap(int capacity) {
+        heap = new Task[Math.max(1, capacity)];
+        positions = new int[Math.max(1, capacity)];
+        Arrays.fill(positions, ABSENT);
+    }
+
+    /**
+     * Constructs a TaskHeap holding the given Tasks, put in order by heapify
+     *
+     * @param tasks Tasks being added
+     * @throws IllegalArgumentException if two Tasks share the same ID
+     */
+    public TaskHeap(Collection<? extends Task> tasks) {
+        this(tasks.size());
+        addAll(tasks);
+    }
+
+    /**
+     * Adds a Task to the heap
+     *
+     * @param task Task being added
+     * @return true
+     * @throws IllegalArgumentException if a Task with the same ID is already in the heap
+     */
+    @Override
+    public boolean offer(Task task) {
+        ensureCapacity(size + 1);
+        reserve(task);
+        modCount++;
+        siftUp(size++, task);
+        return true;
+    }
+
+    /**
+     * Adds all the given Tasks to the heap. Unless there are only a few of them compared to the Tasks already in the
+     * heap, they are appended as they are and the whole heap is put in order by heapify.
+     *
+     * @param tasks Tasks being added
+     * @return boolean value for whether any Task was added
+     * @throws IllegalArgumentException if a Task with the same ID is already in the heap, in which case the Tasks
+     *                                  before it stay added
+     */
+    @Override
+    public boolean addAll(Collection<? extends Task> tasks) {
+        if (tasks == this) {
+            throw new IllegalArgumentException("A TaskHeap cannot be added to itself.");
+        }
+        if (tasks.size() < size) {
+            return super.addAll(tasks);
+        }
+        ensureCapacity(size + tasks.size());
+        try {
+            for (Task task : tasks) {
+                reserve(task);
+                place(size++, task);
+            }
+        } finally {
+            // keeps the Tasks appended before a duplicate ID in order, as adding them one at a time would
+            modCount++;
+            heapify();
+        }
+        return !tasks.isEmpty();
+    }
+
+    /**
+     * Restores the order of the whole heap in O(n), for when the due date or hours of many Tasks changed at once
+     */
+    public void heapify() {
+        // starts from the parent of the last Task
+        for (int i = size < 2 ? -1 : (size - 2) / ARITY; i >= 0; i--) {
+            siftDown(i, heap[i]);
+        }
+    }
+
+    @Override
+    public Task poll() {
+        if (size == 0) {
+            return null;
+        }
+        return removeAt(0);
+    }
+
+    @Override
+    public Task peek() {
+        return size == 0 ? null : heap[0];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Task && indexOf((Task) o) != ABSENT;
+    }
+
+    /**
+     * Removes the given Task, found by its ID
+     *
+     * @param o Task being removed
+     * @return boolean value for whether the Task was in the heap
+     */
+    @Override
+    public boolean remove(Object o) {
+        if (!(o instanceof Task)) {
+            return false;
+        }
+        int idx = indexOf((Task) o);
+        if (idx == ABSENT) {
+            return false;
+        }
+        removeAt(idx);
+        return true;
+    }
+
+    /**
+     * Removes the Task with the given ID
+     *
+     * @param id ID of the Task
+     * @return removed Task, or null if there is none
+     */
+    public Task removeById(int id) {
+        if (id < 0 || id >= positions.length || positions[id] == ABSENT) {
+            return null;
+        }
+        return removeAt(positions[id]);
+    }
+
+    /**
+     * Gets the Task with the given ID
+     *
+     * @param id ID of the Task
+     * @return Task with the ID, or null if there is none
+     */
+    public Task get(int id) {
+        if (id < 0 || id >= positions.length || positions[id] == ABSENT) {
+            return null;
+        }
+        return heap[positions[id]];
+    }
+
+    /**
+     * Restores the order of a Task in the heap after its due date or hours changed
+     *
+     * @param task Task whose order changed
+     * @return boolean value for whether the Task was in the heap
+     */
+    public boolean update(Task task) {
+        int idx = indexOf(task);
+        if (idx == ABSENT) {
+            return false;
+        }
+        if (idx > 0 && task.compareTo(heap[(idx - 1) / ARITY]) < 0) {
+            siftUp(idx, task);
+        } else {
+            siftDown(idx, task);
+        }
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[heap[i].getId()] = ABSENT;
+            heap[i] = null;
+        }
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Iterates over the Tasks in no particular order
+     *
+     * @return Iterator over the Tasks
+     */
+    @Override
+    public Iterator<Task> iterator() {
+        return new Iterator<>() {
+            private int cursor;
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            public Task next() {
+                if (expectedModCount != modCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (cursor >= size) {
+                    throw new NoSuchElementException();
+                }
+                return heap[cursor++];
+            }
+        };
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > heap.length) {
+            heap = Arrays.copyOf(heap, Math.max(capacity, heap.length * 2));
+        }
+    }
+
+    /**
+     * Makes room for the position of a Task, checking that its ID is not already taken
+     */
+    private void reserve(Task task) {
+        int id = task.getId();
+        if (id >= positions.length) {
+            int length = positions.length;
+            positions = Arrays.copyOf(positions, Math.max(id + 1, length * 2));
+            Arrays.fill(positions, length, positions.length, ABSENT);
+        } else if (positions[id] != ABSENT) {
+            throw new IllegalArgumentException("Task " + id + " is already in the heap.");
+        }
+    }
+
+    private int indexOf(Task task) {
+        int id = task.getId();
+        if (id >= positions.length || positions[id] == ABSENT || heap[positions[id]] != task) {
+            return ABSENT;
+        }
+        return positions[id];
+    }
+
+    private Task removeAt(int idx) {
+        modCount++;
+        Task removed = heap[idx];
+        positions[removed.getId()] = ABSENT;
+        Task last = heap[--size];
+        heap[size] = null;
+        if (idx != size) {
+            siftDown(idx, last);
+            if (heap[idx] == last) {
+                siftUp(idx, last);
+            }
+        }
+        return removed;
+    }
+
+    private void siftUp(int idx, Task task) {
+        while (idx > 0) {
+            int parent = (idx - 1) / ARITY;
+            Task parentTask = heap[parent];
+            if (task.compareTo(parentTask) >= 0) {
+                break;
+            }
+            place(idx, parentTask);
+            idx = parent;
+        }
+        place(idx, task);
+    }
+
+    private void siftDown(int idx, Task task) {
+        while (true) {
+            int first = idx * ARITY + 1;
+            if (first >= size) {
+                break;
+            }
+            int smallest = first;
+            int end = Math.min(first + ARITY, size);
+            for (int child = first + 1; child < end; child++) {
+                if (heap[child].compareTo(heap[smallest]) < 0) {
+                    smallest = child;
+                }
+            }
+            if (task.compareTo(heap[smallest]) <= 0) {
+                break;
+            }
+            place(idx, heap[smallest]);
+            idx = smallest;
+        }
+        place(idx, task);
+    }
+
+    private void place(int idx, Task task) {
+        heap[idx] = task;
+        positions[task.getId()] = idx;
+    }
+}
@@ -20,6 +20,8 @@ public class Day {
 
     /** Holds the date and time of the particular Day */
     private Calendar date;
+    /** Local epoch day for the date of the Day */
+    private long epochDay;
     /** Number of hours possible for a given Day */
     private double capacity;
     /** Number of hours filled for a given Day */
@@ -32,10 +34,18 @@ public class Day {
     private final List<Event> eventList;
     /** List of time stamps for all events */
     private final List<TimeStamp> eventTimeStamps;
+    /** Minutes of the Day occupied by events */
+    private final FreeSlotIndex eventSlots;
     /** List of overflow errors for the Day */
     private final List<String> overflowErrors;
     /** ID for the specific Day */
     private int id;
+    /** Latest due day of any Task drawn while scheduling the Day (Long.MAX_VALUE if all Tasks were drawn) */
+    private long lastDueDay = Long.MAX_VALUE;
+    /** Hours the Day still had available once it ran out of Tasks to draw */
+    private double idleHours;
+    /** Number of times a SubTask, Event or overflow error was added to the Day */
+    private int modCount;
 
     /**
      * Constructor for Day that utilizes an incrementation value
@@ -48,6 +58,7 @@ public class Day {
         setId(id);
         setCapacity(capacity);
         setDate(incrementation);
+        eventSlots = new FreeSlotIndex(getStartMinute());
         subTaskList = new ArrayList<>();
         taskTimeStamps = new ArrayList<>();
         eventList = new ArrayList<>();
@@ -66,6 +77,8 @@ public class Day {
         setId(id);
         setCapacity(capacity);
         this.date = date;
+        this.epochDay = Time.toEpochDay(date);
+        eventSlots = new FreeSlotIndex(getStartMinute());
         subTaskList = new ArrayList<>();
         taskTimeStamps = new ArrayList<>();
         eventList = new ArrayList<>();
@@ -109,6 +122,17 @@ public class Day {
      */
     private void setDate(int incrementation) {
         this.date = Time.getFormattedCalendarInstance(incrementation);
+        this.epochDay = Time.toEpochDay(date);
+    }
+
+    /**
+     * Gets the number of times a SubTask, Event or overflow error was added to the Day, which tells whether anything
+     * rendered from the Day is out of date
+     *
+     * @return modification count of Day
+     */
+    public int getModCount() {
+        return modCount;
     }
 
     /**
@@ -120,6 +144,61 @@ public class Day {
         return date;
     }
 
+    /**
+     * Gets the local epoch day for the Day
+     *
+     * @return epoch day of Day
+     */
+    public long getEpochDay() {
+        return epochDay;
+    }
+
+    /**
+     * Gets the local epoch minute for 12:00 AM of the Day
+     *
+     * @return epoch minute at the start of Day
+     */
+    public long getStartMinute() {
+        return epochDay * Time.MINUTES_PER_DAY;
+    }
+
+    /**
+     * Gets the latest due day of any Task drawn from the heap while scheduling the Day. A Task due after this
+     * day could not have changed how the Day was scheduled.
+     *
+     * @return latest epoch day drawn, or Long.MAX_VALUE if every Task was drawn
+     */
+    public long getLastDueDay() {
+        return lastDueDay;
+    }
+
+    /**
+     * Sets the latest due day of any Task drawn from the heap while scheduling the Day
+     *
+     * @param lastDueDay latest epoch day drawn, or Long.MAX_VALUE if every Task was drawn
+     */
+    public void setLastDueDay(long lastDueDay) {
+        this.lastDueDay = lastDueDay;
+    }
+
+    /**
+     * Gets the hours the Day still had available once it ran out of Tasks to draw (zero if it never ran out)
+     *
+     * @return idle hours of the Day
+     */
+    public double getIdleHours() {
+        return idleHours;
+    }
+
+    /**
+     * Sets the hours the Day still had available once it ran out of Tasks to draw
+     *
+     * @param idleHours idle hours of the Day
+     */
+    public void setIdleHours(double idleHours) {
+        this.idleHours = idleHours;
+    }
+
     public String getDateStamp() {
         int day = date.get(Calendar.DAY_OF_MONTH);
         int year = date.get(Calendar.YEAR);
@@ -153,11 +232,12 @@ public class Day {
         if (!added) {
             err += " (Entire task lost)";
         }
-        overflowErrors.add(err);
+        addOverflowError(err);
     }
 
     public void addOverflowError(String err) {
         overflowErrors.add(err);
+        modCount++;
     }
 
     public List<String> getOverflowErrors() {
@@ -169,10 +249,14 @@ public class Day {
      *
      * @param task  Task to be added
      * @param hours number of hours for the SubTask
+     * @param userConfig user settings for scheduling purposes
+     * @param time current local epoch minute
+     * @param isToday whether the Day is the current day
      * @return boolean status for success of adding SubTask manually
      */
-    public boolean addSubTask(Task task, double hours, UserConfig userConfig, Calendar time, boolean isToday) {
+    public boolean addSubTask(Task task, double hours, UserConfig userConfig, long time, boolean isToday) {
         if (hours <= 0) return this.size <= this.capacity;
+        modCount++;
         boolean overflow = this.size + hours > this.capacity;
 //        SubTask subtask = task.addSubTask(hours, overflow); // todo need to rearrange this here
 
@@ -199,28 +283,25 @@ public class Day {
         return this.size <= this.capacity;
     }
 
-    private void createNonEventTimeStamps(double hours, UserConfig userConfig, Calendar time, boolean isToday) {
+    private void createNonEventTimeStamps(double hours, UserConfig userConfig, long time, boolean isToday) {
         // handles the creation of timestamps for subtasks created
         int taskHours = (int) hours;
         int taskMin = hours % 1 == 0.5 ? 30 : 0;
-        Calendar temp;
+        long temp;
         if (isToday) {
             temp = time;
         } else {
-            temp = this.date;
+            temp = getStartMinute();
         }
 
-        Calendar startTime = Time.getFirstAvailableTimeInDay(taskTimeStamps, eventTimeStamps, userConfig, temp, isToday);
-
-        Calendar endTime = (Calendar) startTime.clone();
-        endTime.add(Calendar.HOUR_OF_DAY, taskHours);
-        endTime.add(Calendar.MINUTE, taskMin);
+        long startTime = Time.getFirstAvailableTimeInDay(taskTimeStamps, eventSlots, userConfig, temp, isToday);
+        long endTime = startTime + taskHours * 60L + taskMin;
 
         taskTimeStamps.add(new TimeStamp(startTime, endTime));
     }
 
     // [COMPLETE]
-    private double createEventTimeStamps(double hours, UserConfig userConfig, Calendar time, boolean isToday) {
+    private double createEventTimeStamps(double hours, UserConfig userConfig, long time, boolean isToday) {
         // todo we'll handle event edge case here (simply check whether it's within the bounds for the day)
         //  avoid 'clever' solutions
         /*
@@ -233,39 +314,47 @@ public class Day {
             d. Repeat until task is completed (remember, Day needs a method that tells the scheduler how many hours are AVAILABLE, so we can assume we have enough)
         3. Done
          */
-        Calendar temp;
+        long temp;
         if (isToday) {
             temp = time;
         } else {
-            temp = this.date;
+            temp = getStartMinute();
         }
-        Calendar startTime = Time.getFirstAvailableTimeInDay(taskTimeStamps, eventTimeStamps, userConfig, temp, isToday);
+        long startTime = Time.getFirstAvailableTimeInDay(taskTimeStamps, eventSlots, userConfig, temp, isToday);
         // todo check whether startTime is within valid bounds (if it is, cap it at: Min(hours_remaining, hours_till_end_of_day) )
         //  once this is done (as well as handling 'eventTimeStamp'), return '0' (note: make sure to check whether 'fit_day' is true )
 
-        TimeStamp eventTimeStamp = null;
-        for (TimeStamp eTS : eventTimeStamps) { // this list needs to be sorted (given assumption below)
-            if (Time.isBefore(startTime, eTS.getStart())) {
-                eventTimeStamp = eTS;
-                break;
-            }
-        }
-
-        if (eventTimeStamp != null) {
-            hours = Math.min(hours, Time.getTimeInterval(startTime, eventTimeStamp.getStart()));
+        long nextEventStart = eventSlots.nextOccupied(startTime);
+        if (nextEventStart != FreeSlotIndex.NONE) {
+            hours = Math.min(hours, Time.getTimeInterval(startTime, nextEventStart));
         }
 
         int taskHours = (int) hours;
         int taskMin = hours % 1 == 0.5 ? 30 : 0;
 
-        Calendar endTime = (Calendar) startTime.clone();
-        endTime.add(Calendar.HOUR_OF_DAY, taskHours);
-        endTime.add(Calendar.MINUTE, taskMin);
+        long endTime = startTime + taskHours * 60L + taskMin;
 
         taskTimeStamps.add(new TimeStamp(startTime, endTime));
         return hours;
     }
 
+    /**
+     * Replaces the SubTasks of the Day along with their time stamps, for when they were rearranged within the Day
+     *
+     * @param subTasks new SubTasks of the Day
+     * @param timeStamps time stamps of the new SubTasks, in the same order
+     */
+    public void replaceSubTasks(List<SubTask> subTasks, List<TimeStamp> timeStamps) {
+        if (subTasks.size() != timeStamps.size()) {
+            throw new IllegalArgumentException("Every SubTask must have a time stamp");
+        }
+        subTaskList.clear();
+        subTaskList.addAll(subTasks);
+        taskTimeStamps.clear();
+        taskTimeStamps.addAll(timeStamps);
+        modCount++;
+    }
+
     /**
      * Gets a particular SubTask from the Day's list
      *
@@ -293,44 +382,63 @@ public class Day {
      */
     public boolean addEvent(Event event) {
         if (event.isRecurring()) { // this fixes issue for recurring events since they can happen on any day
-            Calendar start = (Calendar) date.clone();
-            start.set(Calendar.HOUR_OF_DAY, event.getTimeStamp().getStartHour());
-            start.set(Calendar.MINUTE, event.getTimeStamp().getStartMin());
-
-            Calendar end = (Calendar) start.clone();
-            end.set(Calendar.HOUR_OF_DAY, event.getTimeStamp().getEndHour());
-            end.set(Calendar.MINUTE, event.getTimeStamp().getEndMin());
-
-            event = new Event(event.getId(), event.getName(), event.getCard(), new TimeStamp(start, end), event.getDays());
+            event = new Event(event.getId(), event.getName(), event.getCard(), getRecurringTimeStamp(event), event.getDays());
         }
-        int idx = 0;
-        boolean idxFound = false;
-        for (Event e1 : eventList) {
-            if (Time.isConflictingEvent(event, e1))
-                return false;
-            else {
-                if (Time.isBefore(event.getTimeStamp().getStart(), e1.getTimeStamp().getStart())) {
-                    idxFound = true;
-                    break; // this prevents the search from incrementing idx past its correct spot
-                } else {
-                    idx++;
-                }
+        // binary search for the first Event starting after this one (keeps Events with equal starts in insertion order)
+        long start = event.getTimeStamp().getStartMinute();
+        int lo = 0;
+        int hi = eventTimeStamps.size();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (eventTimeStamps.get(mid).getStartMinute() <= start) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
             }
         }
 
-        if (idxFound) {
-            eventList.add(idx, event);
-            eventTimeStamps.add(idx, event.getTimeStamp());
-        } else {
-            eventList.add(event);
-            eventTimeStamps.add(event.getTimeStamp());
-        }
+        eventList.add(lo, event);
+        eventTimeStamps.add(lo, event.getTimeStamp());
+        eventSlots.occupy(event.getTimeStamp());
+        modCount++;
 
         // todo will need to add config option here that tallies event hours just the same as tasks (used with counting hours left in day)
 
         return true;
     }
 
+    /**
+     * Projects the time of day of a recurring Event onto the date of this Day
+     *
+     * @param event recurring Event
+     * @return TimeStamp for the Event on this Day
+     */
+    private TimeStamp getRecurringTimeStamp(Event event) {
+        long dayStart = getStartMinute();
+        TimeStamp ts = event.getTimeStamp();
+        return new TimeStamp(dayStart + Time.getMinuteOfDay(ts.getStartMinute()), dayStart + Time.getMinuteOfDay(ts.getEndMinute()));
+    }
+
+    /**
+     * Determines whether any Event of the Day overlaps the range [start, end)
+     *
+     * @param start first epoch minute of the range
+     * @param end epoch minute after the last one in the range
+     * @return boolean value for whether an Event conflicts with the range
+     */
+    public boolean hasEventConflict(long start, long end) {
+        return eventSlots.hasConflict(start, end);
+    }
+
+    /**
+     * Gets the index of minutes occupied by Events for the Day
+     *
+     * @return free slot index of the Day
+     */
+    public FreeSlotIndex getEventSlots() {
+        return eventSlots;
+    }
+
     /**
      * Gets a particular Event from the Day's list
      *
@@ -421,18 +529,11 @@ public class Day {
 
     public void forceAddEvent(Event event) {
         if (event.isRecurring()) { // this fixes issue for recurring events since they can happen on any day
-            Calendar start = (Calendar) date.clone();
-            start.set(Calendar.HOUR_OF_DAY, event.getTimeStamp().getStartHour());
-            start.set(Calendar.MINUTE, event.getTimeStamp().getStartMin());
-
-            Calendar end = (Calendar) start.clone();
-            end.set(Calendar.HOUR_OF_DAY, event.getTimeStamp().getEndHour());
-            end.set(Calendar.MINUTE, event.getTimeStamp().getEndMin());
-
-            event = new Event(event.getId(), event.getName(), event.getCard(), new TimeStamp(start, end), event.getDays());
+            event = new Event(event.getId(), event.getName(), event.getCard(), getRecurringTimeStamp(event), event.getDays());
         }
         eventList.add(event);
         eventTimeStamps.add(event.getTimeStamp());
+        eventSlots.occupy(event.getTimeStamp());
     }
 
     public void forceAddTask(Task t, double hours, TimeStamp ts) {
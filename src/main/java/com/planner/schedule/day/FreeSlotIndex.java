@@ -0,0 +1,182 @@
+package com.planner.schedule.day;
+
+import com.planner.util.Time;
+import com.planner.util.Time.TimeStamp;
+
+/**
+ * Tracks which minutes of a single {@link Day} are taken up by Events as a bitset of 1440 minute slots. Every query
+ * scans at most 23 words regardless of how many Events are on the Day, so placing SubTasks no longer depends on
+ * walking the Event list.
+ * <p>
+ * Minutes outside the Day (e.g. SubTasks overflowing past midnight) are always considered free.
+ */
+public class FreeSlotIndex {
+
+    /** Returned by {@link #nextOccupied(long)} when no occupied minute remains in the Day */
+    public static final long NONE = Long.MAX_VALUE;
+    /** Number of 64-bit words needed to cover every minute of a Day */
+    private static final int WORDS = (Time.MINUTES_PER_DAY + 63) / 64;
+
+    /** Local epoch minute for 12:00 AM of the Day */
+    private final long dayStart;
+    /** Bit i is set when minute i of the Day is occupied */
+    private final long[] occupied;
+    /** Number of occupied minutes in the Day */
+    private int occupiedMinutes;
+
+    /**
+     * Constructs an empty {@code FreeSlotIndex} for the Day beginning at the given epoch minute
+     *
+     * @param dayStart local epoch minute for 12:00 AM of the Day
+     */
+    public FreeSlotIndex(long dayStart) {
+        this.dayStart = dayStart;
+        this.occupied = new long[WORDS];
+    }
+
+    /**
+     * Marks the minutes covered by the time stamp as occupied
+     *
+     * @param timeStamp time stamp being occupied
+     */
+    public void occupy(TimeStamp timeStamp) {
+        occupy(timeStamp.getStartMinute(), timeStamp.getEndMinute());
+    }
+
+    /**
+     * Marks the minutes within [start, end) as occupied
+     *
+     * @param start first epoch minute occupied
+     * @param end epoch minute after the last one occupied
+     */
+    public void occupy(long start, long end) {
+        int from = clamp(start);
+        int to = clamp(end);
+        for (int i = from; i < to; ) {
+            int word = i >>> 6;
+            int bitEnd = Math.min(to, (word + 1) << 6);
+            long mask = rangeMask(i & 63, bitEnd - (word << 6));
+            occupiedMinutes += Long.bitCount(mask & ~occupied[word]);
+            occupied[word] |= mask;
+            i = bitEnd;
+        }
+    }
+
+    /**
+     * Determines whether any minute within [start, end) is occupied
+     *
+     * @param start first epoch minute checked
+     * @param end epoch minute after the last one checked
+     * @return boolean value for whether the range conflicts with an occupied minute
+     */
+    public boolean hasConflict(long start, long end) {
+        long next = nextOccupied(start);
+        return next != NONE && next < end;
+    }
+
+    /**
+     * Determines whether the given minute is free
+     *
+     * @param minute epoch minute being checked
+     * @return boolean value for whether the minute is free
+     */
+    public boolean isFree(long minute) {
+        long offset = minute - dayStart;
+        if (offset < 0 || offset >= Time.MINUTES_PER_DAY) return true;
+        return (occupied[(int) (offset >>> 6)] & (1L << offset)) == 0;
+    }
+
+    /**
+     * Gets the first occupied minute at or after the given minute
+     *
+     * @param from epoch minute from which to begin searching
+     * @return first occupied epoch minute, or {@link #NONE} if the rest of the Day is free
+     */
+    public long nextOccupied(long from) {
+        int i = clamp(from);
+        if (i >= Time.MINUTES_PER_DAY) return NONE;
+        int word = i >>> 6;
+        long bits = occupied[word] & (-1L << i);
+        while (bits == 0) {
+            if (++word == WORDS) return NONE;
+            bits = occupied[word];
+        }
+        int offset = (word << 6) + Long.numberOfTrailingZeros(bits);
+        return offset < Time.MINUTES_PER_DAY ? dayStart + offset : NONE;
+    }
+
+    /**
+     * Gets the first free minute at or after the given minute
+     *
+     * @param from epoch minute from which to begin searching
+     * @return first free epoch minute
+     */
+    public long nextFree(long from) {
+        long offset = from - dayStart;
+        if (offset < 0 || offset >= Time.MINUTES_PER_DAY) return from;
+        int word = (int) (offset >>> 6);
+        long bits = ~occupied[word] & (-1L << offset);
+        while (bits == 0) {
+            if (++word == WORDS) return dayStart + Time.MINUTES_PER_DAY;
+            bits = ~occupied[word];
+        }
+        return dayStart + Math.min((word << 6) + Long.numberOfTrailingZeros(bits), Time.MINUTES_PER_DAY);
+    }
+
+    /**
+     * Gets the first minute at or after the given minute which begins a free block of at least the given length.
+     * A free block running past the last occupied minute of the Day always satisfies the length.
+     *
+     * @param from epoch minute from which to begin searching
+     * @param length minimum number of free minutes required
+     * @return first epoch minute of a suitable free block
+     */
+    public long getFirstFreeSlot(long from, int length) {
+        long start = nextFree(from);
+        long next = nextOccupied(start);
+        while (next != NONE && next - start < length) {
+            start = nextFree(next);
+            next = nextOccupied(start);
+        }
+        return start;
+    }
+
+    /**
+     * Gets the number of free minutes within [start, end)
+     *
+     * @param start first epoch minute counted
+     * @param end epoch minute after the last one counted
+     * @return number of free minutes
+     */
+    public int getFreeMinutes(long start, long end) {
+        if (end <= start) return 0;
+        int from = clamp(start);
+        int to = clamp(end);
+        int taken = 0;
+        for (int i = from; i < to; ) {
+            int word = i >>> 6;
+            int bitEnd = Math.min(to, (word + 1) << 6);
+            taken += Long.bitCount(occupied[word] & rangeMask(i & 63, bitEnd - (word << 6)));
+            i = bitEnd;
+        }
+        return (int) (end - start) - taken;
+    }
+
+    /**
+     * Gets the total number of free minutes in the Day
+     *
+     * @return number of free minutes in the Day
+     */
+    public int getFreeMinutes() {
+        return Time.MINUTES_PER_DAY - occupiedMinutes;
+    }
+
+    private int clamp(long minute) {
+        return (int) Math.max(0, Math.min(Time.MINUTES_PER_DAY, minute - dayStart));
+    }
+
+    private static long rangeMask(int fromBit, int toBit) {
+        long upper = toBit == 64 ? -1L : (1L << toBit) - 1;
+        return upper & (-1L << fromBit);
+    }
+}
@@ -4,6 +4,7 @@ import com.planner.manager.ScheduleManager;
 import com.planner.models.Card;
 import com.planner.models.Event;
 import com.planner.models.Task;
+import com.planner.schedule.SchedulerRegistry;
 import com.planner.util.Parser;
 import com.planner.util.Serializer;
 import com.planner.util.Time;
@@ -85,9 +86,8 @@ public class CLI {
                 break;
             case "google":
                 if (tokens.length == 1) {
-                    System.out.println("Cleaning scheduling...");
-                    sm.cleanGoogleSchedule();
-                    sm.exportScheduleToGoogle();
+                    System.out.println("Syncing schedule...");
+                    sm.syncScheduleToGoogle();
                 } else {
                     throw new IllegalArgumentException("'google' has no args.");
                 }
@@ -181,24 +181,7 @@ public class CLI {
                     case "event":
                         Parser.EventInfo eventInfo = Parser.parseModEvent(tokens);
 
-                        Calendar[] timeStamp = eventInfo.getTimestamp();
-
-                        List<Calendar> dates = eventInfo.getDates();
-
-                        if (timeStamp != null && dates != null && dates.size() == 1) {
-                            Calendar start = timeStamp[0];
-                            Calendar end = timeStamp[1];
-
-                            start.set(Calendar.DAY_OF_MONTH, dates.get(0).get(Calendar.DAY_OF_MONTH));
-                            start.set(Calendar.MONTH, dates.get(0).get(Calendar.MONTH));
-                            start.set(Calendar.YEAR, dates.get(0).get(Calendar.YEAR));
-
-                            end.set(Calendar.DAY_OF_MONTH, dates.get(0).get(Calendar.DAY_OF_MONTH));
-                            end.set(Calendar.MONTH, dates.get(0).get(Calendar.MONTH));
-                            end.set(Calendar.YEAR, dates.get(0).get(Calendar.YEAR));
-
-                            timeStamp = new Calendar[]{start, end};
-                        }
+                        Calendar[] timeStamp = getModEventTimeStamp(eventInfo);
 
                         Event e = sm.modEvent(eventInfo.getId(), eventInfo.getName(), eventInfo.getCardId(), timeStamp, eventInfo.getDates());
                         System.out.println("Modified Event " + e.getId() + ".");
@@ -309,11 +292,42 @@ public class CLI {
                     } else {
                         throw new IllegalArgumentException("Expected '-f' or '-a' for full or archived flag options.");
                     }
+                } else if (tokens.length == 3 && "--page".equalsIgnoreCase(tokens[1])) {
+                    int page;
+                    try {
+                        page = Integer.parseInt(tokens[2]);
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("Expected a page number after '--page'.");
+                    }
+                    sm.printSchedulePage(System.out, page);
+                    System.out.println("Page " + page + " of " + sm.getNumSchedulePages());
+                } else if (tokens.length == 3) {
+                    Calendar[] range = Parser.parseDateRange(tokens[1], tokens[2]);
+                    sm.printSchedule(System.out, range[0], range[1]);
+                    System.out.println();
                 } else {
                     throw new IllegalArgumentException("Invalid input. Expected formats:\n" +
                             "       sched\n" +
                             "       sched -f\n" +
-                            "       sched -a");
+                            "       sched -a\n" +
+                            "       sched <from> <to>\n" +
+                            "       sched --page <N>");
+                }
+                break;
+            case "scheduler":
+                if (tokens.length == 1) {
+                    for (String name : SchedulerRegistry.getNames()) {
+                        System.out.println((name.equals(sm.getSchedulerName()) ? "* " : "  ") + name);
+                    }
+                    if (!sm.getSchedule().isEmpty() && !scheduleUpdated) {
+                        System.out.println(sm.getScheduleMetrics());
+                    }
+                } else if (tokens.length == 2) {
+                    sm.setScheduler(tokens[1]);
+                    scheduleUpdated = true;
+                    System.out.println("Scheduler set to '" + sm.getSchedulerName() + "'.");
+                } else {
+                    throw new IllegalArgumentException("'scheduler' can have only 1 or no args.");
                 }
                 break;
             case "read": {
@@ -430,6 +444,7 @@ public class CLI {
                             "report\n" +
                             "save\n" +
                             "sched\n" +
+                            "scheduler\n" +
                             "subtask\n" +
                             "task");
                 }
@@ -456,6 +471,9 @@ public class CLI {
                         case "sched":
                             System.out.println("\n" + Doc.getSchedDoc() + "\n");
                             break;
+                        case "scheduler":
+                            System.out.println("\n" + Doc.getSchedulerDoc() + "\n");
+                            break;
                         case "config":
                             System.out.println("\n" + Doc.getConfigDoc() + "\n");
                             break;
@@ -534,7 +552,35 @@ public class CLI {
         }
     }
 
-    private void validateFilename(StringBuilder filename) {
+    /**
+     * Gets the timestamp of a modified Event, moved to its new date if it was given exactly one
+     *
+     * @param eventInfo parsed 'mod event' command
+     * @return start and end of the Event, or null if they are unchanged
+     */
+    static Calendar[] getModEventTimeStamp(Parser.EventInfo eventInfo) {
+        Calendar[] timeStamp = eventInfo.getTimestamp();
+
+        List<Calendar> dates = eventInfo.getDates();
+
+        if (timeStamp != null && dates != null && dates.size() == 1) {
+            Calendar start = timeStamp[0];
+            Calendar end = timeStamp[1];
+
+            start.set(Calendar.DAY_OF_MONTH, dates.get(0).get(Calendar.DAY_OF_MONTH));
+            start.set(Calendar.MONTH, dates.get(0).get(Calendar.MONTH));
+            start.set(Calendar.YEAR, dates.get(0).get(Calendar.YEAR));
+
+            end.set(Calendar.DAY_OF_MONTH, dates.get(0).get(Calendar.DAY_OF_MONTH));
+            end.set(Calendar.MONTH, dates.get(0).get(Calendar.MONTH));
+            end.set(Calendar.YEAR, dates.get(0).get(Calendar.YEAR));
+
+            timeStamp = new Calendar[]{start, end};
+        }
+        return timeStamp;
+    }
+
+    static void validateFilename(StringBuilder filename) {
         boolean hasExtension = false;
 
         for (int i = 0; i < filename.length(); i++) {
@@ -561,7 +607,7 @@ public class CLI {
         }
     }
 
-    private void checkFileAvailability(File schedulesDir, File scheduleFile) {
+    static void checkFileAvailability(File schedulesDir, File scheduleFile) {
         if (!schedulesDir.exists()) {
             schedulesDir.mkdir();
             throw new IllegalArgumentException("File not found, no available schedule files to read");
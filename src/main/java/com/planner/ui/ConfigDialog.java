@@ -1,13 +1,11 @@
 package com.planner.ui;
 
+import com.planner.io.IOProcessing;
 import com.planner.models.UserConfig;
+import com.planner.schedule.SchedulerRegistry;
 import com.planner.ui.tables.TableFormatter;
-import com.planner.util.JsonHandler;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.Scanner;
 
 public class ConfigDialog {
@@ -19,7 +17,7 @@ public class ConfigDialog {
 
     public ConfigDialog() {
         try {
-            userConfig = JsonHandler.readUserConfig(Files.readString(Paths.get("settings/profile.json")));
+            userConfig = IOProcessing.readUserConfig();
         } catch (IOException e) {
             throw new IllegalArgumentException("Could not locate settings/profile.json");
         }
@@ -39,9 +37,8 @@ public class ConfigDialog {
 
         if (writeToFile) {
             // need to update the data here
-            Path path = Paths.get("settings/profile.json");
             try {
-                Files.write(path, JsonHandler.createUserConfig(userConfig).getBytes());
+                IOProcessing.writeUserConfig(userConfig);
             } catch (IOException e) {
                 throw new IllegalArgumentException("Could not write config data to settings/profile.json");
             }
@@ -72,7 +69,7 @@ public class ConfigDialog {
                 String input = scanner.nextLine();
                 if (!input.isBlank() && hasInteger(input)) {
                     int id = Integer.parseInt(input);
-                    if (id < 0 || id > 10) break;
+                    if (id < 0 || id > 11) break;
                     formatConfigPrompt(id);
                     break;
                 }
@@ -180,6 +177,21 @@ public class ConfigDialog {
             case 9:
                 userConfig.setFormatPrettyTime(promptBool("Format pretty time"));
                 break;
+            case 10:
+                System.out.print("\n                                                 Scheduling strategy " + SchedulerRegistry.getNames());
+                System.out.print("\n                                                       Input [name]: ");
+                if (scanner.hasNextLine()) {
+                    String input = scanner.nextLine();
+                    if (SchedulerRegistry.contains(input)) {
+                        userConfig.setScheduler(input);
+                    } else {
+                        throw new IllegalArgumentException("Invalid input for scheduler config option, expected one of " + SchedulerRegistry.getNames());
+                    }
+                }
+                break;
+            case 11:
+                userConfig.setFastStart(promptBool("Start without splash screen"));
+                break;
         }
     }
 
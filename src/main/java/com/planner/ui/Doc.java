@@ -14,12 +14,13 @@ public class Doc {
                 "  - get       Retrieves Task, Events, or Cards to be displayed\n\n" +
                 "Scheduling Operations:\n" +
                 "  - sched     Builds and displays user schedule\n" +
+                "  - scheduler Lists or selects the scheduling strategy\n" +
                 "  - subtask   Displays all scheduled SubTasks\n" +
                 "  - report    Produce a report of all schedule data\n\n" +
                 "File Management:\n" +
                 "  - read      Display all serialization files or read in a file\n" +
                 "  - save      Update the stored db with new scheduling data\n" +
-                "  - google    Export schedule data to Google Calendar\n" +
+                "  - google    Sync schedule data to Google Calendar\n" +
                 "  - doc       Display documentation for a command\n" +
                 "  - ls        Display all available commands\n\n" +
                 "System and Configuration:\n" +
@@ -98,9 +99,34 @@ public class Doc {
     public static String getSchedDoc() {
         return "Builds and displays a schedule chart of all scheduled SubTasks and Events throughout the upcoming weeks.\n\n" +
                 "Usage:\n" +
-                "  sched\n\n" +
+                "  sched [-f | -a]\n" +
+                "  sched <from> <to>\n" +
+                "  sched --page <N>\n\n" +
+                "Optional:\n" +
+                "  - -f         Full schedule, including past days.\n" +
+                "  - -a         Archived days only.\n" +
+                "  - from, to   Only the days between two dates (see 'doc date'), rendering just those days.\n" +
+                "  - --page     One week of the schedule per page, with page 1 starting today.\n\n" +
+                "Examples:\n" +
+                "  sched\n" +
+                "  sched today eow\n" +
+                "  sched 01-10-2024 15-10-2024\n" +
+                "  sched --page 2";
+    }
+
+    public static String getSchedulerDoc() {
+        return "Lists the scheduling strategies along with the quality of the current schedule, or selects the strategy\n" +
+                "used from the next 'sched' onward. Use 'config' to keep the strategy for later sessions.\n\n" +
+                "Usage:\n" +
+                "  scheduler [name]\n\n" +
+                "Strategies:\n" +
+                "  - compact    Tasks by due date, then by the most hours remaining (default).\n" +
+                "  - edf        Tasks by earliest due date and time, then by the longest Task.\n" +
+                "  - sjf        Tasks by due date, then by the shortest Task.\n" +
+                "  - balanced   Spreads the hours of every Task evenly over the days until it is due.\n\n" +
                 "Examples:\n" +
-                "  sched";
+                "  scheduler\n" +
+                "  scheduler balanced";
     }
 
     public static String getConfigDoc() {
@@ -193,7 +219,8 @@ public class Doc {
     }
 
     public static String getGoogleDoc() {
-        return "Exports your generated schedule to Google Calendar.\n\n" +
+        return "Syncs your generated schedule to Google Calendar, sending only the tasks and events\n" +
+                "which were added, changed or removed since the last sync.\n\n" +
                 "Usage:\n" +
                 "  google\n\n" +
                 "Examples:\n" +
@@ -0,0 +1,416 @@
+package com.planner.ui;
+
+import com.planner.manager.ScheduleManager;
+import com.planner.util.EventLog;
+import com.planner.util.Parser;
+import com.planner.util.Time;
+import com.planner.util.Tokens;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+
+/**
+ * Runs a script of CLI commands ('.qs' file) without user interaction, for bulk loads such as importing thousands of
+ * Tasks. The script is run in three passes:
+ * <ol>
+ *     <li>Every line is tokenized and parsed up front. If any line is invalid, every invalid line is reported and
+ *     nothing is applied.</li>
+ *     <li>The changes ('task', 'card', 'event', 'mod', 'delete', 'scheduler' and 'read') are applied to the
+ *     ScheduleManager in order, without rendering anything and with only a single entry in the log. This pass is
+ *     fail-fast rather than transactional: if a change fails, the run stops there and the changes before it stay
+ *     applied to the ScheduleManager, but the schedule is not built and nothing is printed or saved, so no partial
+ *     result is persisted.</li>
+ *     <li>The schedule is built once, then the output commands ('sched', 'subtask', 'report', 'get', listing with
+ *     'task', 'card' or 'event', and 'save') are run in order against the finished schedule.</li>
+ * </ol>
+ * Blank lines and lines starting with '#' are skipped. Interactive commands such as 'config' or 'quit' are not allowed.
+ */
+public class ScriptRunner {
+
+    /** Flag which runs a script rather than the interactive CLI */
+    public static final String SCRIPT_FLAG = "--script";
+    /** Marks a comment line */
+    private static final char COMMENT = '#';
+
+    /** ScheduleManager the script is applied to */
+    private final ScheduleManager sm;
+    /** Stream receiving the output commands */
+    private final PrintStream out;
+    /** Directory of the serialization files for 'read' and 'save' */
+    private final String schedulesDirName;
+    /** Tokens of the line being parsed, reset to every line */
+    private final Tokens lineTokens = new Tokens();
+
+    /**
+     * Constructs a ScriptRunner around the given ScheduleManager
+     *
+     * @param sm ScheduleManager the script is applied to
+     * @param out stream receiving the output commands
+     */
+    public ScriptRunner(ScheduleManager sm, PrintStream out) {
+        this.sm = sm;
+        this.out = out;
+        this.schedulesDirName = "schedules";
+    }
+
+    /**
+     * Runs a script file
+     *
+     * @param script path of the script
+     * @return number of commands run
+     * @throws IOException if the script could not be read or the schedule could not be built or saved
+     * @throws IllegalArgumentException if a line could not be parsed or a change could not be applied
+     */
+    public int run(Path script) throws IOException {
+        List<Command> commands;
+        try (BufferedReader reader = Files.newBufferedReader(script)) {
+            commands = parse(reader);
+        }
+        return apply(String.valueOf(script.getFileName()), commands);
+    }
+
+    /**
+     * Runs the given lines of a script
+     *
+     * @param name name of the script, for the log
+     * @param lines lines of the script
+     * @return number of commands run
+     * @throws IOException if the schedule could not be built or saved
+     * @throws IllegalArgumentException if a line could not be parsed or a change could not be applied
+     */
+    public int run(String name, List<String> lines) throws IOException {
+        List<Command> commands = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            parseLine(lines.get(i), i + 1, commands, errors);
+        }
+        checkErrors(errors);
+        return apply(name, commands);
+    }
+
+    private List<Command> parse(BufferedReader reader) throws IOException {
+        List<Command> commands = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        String line;
+        int lineNum = 0;
+        while ((line = reader.readLine()) != null) {
+            parseLine(line, ++lineNum, commands, errors);
+        }
+        checkErrors(errors);
+        return commands;
+    }
+
+    private int apply(String name, List<Command> commands) throws IOException {
+        EventLog eventLog = sm.getEventLog();
+        EventLog.Level level = eventLog.getLevel();
+        int changes = 0;
+        // the script is logged once rather than every Task, Card and Event it adds
+        eventLog.setLevel(level.compareTo(EventLog.Level.ERROR) < 0 ? EventLog.Level.ERROR : level);
+        try {
+            for (Command command : commands) {
+                if (command.isChange()) {
+                    try {
+                        applyChange(command);
+                    } catch (IllegalArgumentException e) {
+                        throw new IllegalArgumentException("Line " + command.line + ": " + e.getMessage(), e);
+                    }
+                    changes++;
+                }
+            }
+        } finally {
+            eventLog.setLevel(level);
+        }
+        eventLog.reportRunScript(name, commands.size(), changes);
+
+        sm.buildSchedule();
+
+        for (Command command : commands) {
+            if (!command.isChange()) {
+                try {
+                    runOutput(command);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Line " + command.line + ": " + e.getMessage(), e);
+                }
+            }
+        }
+        return commands.size();
+    }
+
+    /**
+     * Tokenizes and parses a line of the script, adding it to the commands or its error to the errors
+     */
+    private void parseLine(String line, int lineNum, List<Command> commands, List<String> errors) {
+        try {
+            lineTokens.reset(line);
+            if (lineTokens.size() == 0 || lineTokens.charAt(0, 0) == COMMENT) {
+                return;
+            }
+            commands.add(parseCommand(lineTokens, lineNum));
+        } catch (IllegalArgumentException e) {
+            errors.add("Line " + lineNum + ": " + e.getMessage());
+        }
+    }
+
+    private void checkErrors(List<String> errors) {
+        if (!errors.isEmpty()) {
+            throw new IllegalArgumentException("Script has " + errors.size() + " invalid line(s), nothing was applied:\n"
+                    + String.join("\n", errors));
+        }
+    }
+
+    /**
+     * Parses a line, where the 'task', 'card' and 'event' lines making up bulk loads are parsed straight from the
+     * line without splitting it into Strings
+     */
+    private Command parseCommand(Tokens line, int lineNum) {
+        if (line.size() > 1) {
+            if (line.equalsIgnoreCase(0, "task")) {
+                return new Command(lineNum, "task", null, true, Parser.parseTask(line, 1));
+            } else if (line.equalsIgnoreCase(0, "card")) {
+                return new Command(lineNum, "card", null, true, Parser.parseCard(line, 1));
+            } else if (line.equalsIgnoreCase(0, "event")) {
+                return new Command(lineNum, "event", null, true, checkEvent(Parser.parseEvent(line, 1)));
+            }
+        }
+        return parseCommand(line.toArray(), lineNum);
+    }
+
+    private Parser.EventInfo checkEvent(Parser.EventInfo eventInfo) {
+        if (!eventInfo.isRecurring() && eventInfo.getDates() != null && eventInfo.getDates().size() > 1) {
+            throw new IllegalArgumentException("Event is non-recurring but has multiple days");
+        }
+        return eventInfo;
+    }
+
+    private Command parseCommand(String[] tokens, int lineNum) {
+        String type = tokens[0].toLowerCase();
+        switch (type) {
+            case "task":
+                return tokens.length > 1 ? new Command(lineNum, type, tokens, true, Parser.parseTask(tokens))
+                        : new Command(lineNum, type, tokens, false, null);
+            case "card":
+                return tokens.length > 1 ? new Command(lineNum, type, tokens, true, Parser.parseCard(tokens))
+                        : new Command(lineNum, type, tokens, false, null);
+            case "event":
+                if (tokens.length == 1) {
+                    return new Command(lineNum, type, tokens, false, null);
+                }
+                return new Command(lineNum, type, tokens, true, checkEvent(Parser.parseEvent(tokens)));
+            case "mod":
+                if (tokens.length < 2) {
+                    throw new IllegalArgumentException("Invalid mod operation provided.");
+                }
+                switch (tokens[1]) {
+                    case "card":
+                        return new Command(lineNum, type, tokens, true, Parser.parseModCard(tokens));
+                    case "task":
+                        return new Command(lineNum, type, tokens, true, Parser.parseModTask(tokens));
+                    case "event":
+                        return new Command(lineNum, type, tokens, true, Parser.parseModEvent(tokens));
+                    default:
+                        throw new IllegalArgumentException("Invalid type provided for mod.");
+                }
+            case "delete":
+            case "get":
+                if (tokens.length < 3) {
+                    throw new IllegalArgumentException("Invalid number of arguments, must be 3 or more");
+                }
+                if (!tokens[1].equals("card") && !tokens[1].equals("task") && !tokens[1].equals("event")) {
+                    throw new IllegalArgumentException("Invalid type provided for " + type);
+                }
+                return new Command(lineNum, type, tokens, "delete".equals(type), Parser.parseIds(tokens));
+            case "scheduler":
+                if (tokens.length != 2) {
+                    throw new IllegalArgumentException("'scheduler' needs the name of a strategy in a script.");
+                }
+                return new Command(lineNum, type, tokens, true, null);
+            case "read":
+            case "save":
+                if (tokens.length != 2) {
+                    throw new IllegalArgumentException("'" + type + "' needs a filename in a script.");
+                }
+                StringBuilder filenameSb = new StringBuilder(tokens[1]);
+                CLI.validateFilename(filenameSb);
+                return new Command(lineNum, type, tokens, "read".equals(type), filenameSb.toString());
+            case "sched":
+                if (tokens.length == 3) {
+                    return new Command(lineNum, type, tokens, false, Parser.parseDateRange(tokens[1], tokens[2]));
+                }
+                if (tokens.length == 2 && !"-f".equalsIgnoreCase(tokens[1]) && !"-a".equalsIgnoreCase(tokens[1])
+                        || tokens.length > 3) {
+                    throw new IllegalArgumentException("Invalid input. Expected formats:\n" +
+                            "       sched\n" +
+                            "       sched -f\n" +
+                            "       sched -a\n" +
+                            "       sched <from> <to>");
+                }
+                return new Command(lineNum, type, tokens, false, null);
+            case "subtask":
+            case "report":
+                if (tokens.length != 1) {
+                    throw new IllegalArgumentException("'" + type + "' has no args.");
+                }
+                return new Command(lineNum, type, tokens, false, null);
+            default:
+                throw new IllegalArgumentException("'" + tokens[0] + "' cannot be used in a script.");
+        }
+    }
+
+    private void applyChange(Command command) throws IOException {
+        switch (command.type) {
+            case "task": {
+                Parser.TaskInfo ti = (Parser.TaskInfo) command.info;
+                sm.addTask(ti.getDesc(), ti.getHours(), ti.getDue(), ti.getCardId());
+                break;
+            }
+            case "card": {
+                Parser.CardInfo ci = (Parser.CardInfo) command.info;
+                sm.addCard(ci.getName(), ci.getColor());
+                break;
+            }
+            case "event": {
+                Parser.EventInfo eventInfo = (Parser.EventInfo) command.info;
+                Calendar[] timeStamp = eventInfo.getTimestamp();
+                sm.addEvent(eventInfo.getName(), eventInfo.getCardId(), new Time.TimeStamp(timeStamp[0], timeStamp[1]),
+                        eventInfo.isRecurring(), eventInfo.getDates());
+                break;
+            }
+            case "mod":
+                switch (command.tokens[1]) {
+                    case "card": {
+                        Parser.CardInfo ci = (Parser.CardInfo) command.info;
+                        sm.modCard(ci.getId(), ci.getName(), ci.getColor());
+                        break;
+                    }
+                    case "task": {
+                        Parser.TaskInfo ti = (Parser.TaskInfo) command.info;
+                        sm.modTask(ti.getTaskId(), ti.getDesc(), ti.getHours(), ti.getDue(), ti.getCardId());
+                        break;
+                    }
+                    default: {
+                        Parser.EventInfo eventInfo = (Parser.EventInfo) command.info;
+                        sm.modEvent(eventInfo.getId(), eventInfo.getName(), eventInfo.getCardId(),
+                                CLI.getModEventTimeStamp(eventInfo), eventInfo.getDates());
+                        break;
+                    }
+                }
+                break;
+            case "delete":
+                for (int id : (int[]) command.info) {
+                    boolean deleted;
+                    switch (command.tokens[1]) {
+                        case "card":
+                            deleted = sm.deleteCard(id);
+                            break;
+                        case "task":
+                            deleted = sm.deleteTask(id);
+                            break;
+                        default:
+                            deleted = sm.deleteEvent(id);
+                            break;
+                    }
+                    if (!deleted) {
+                        throw new IllegalArgumentException("No " + command.tokens[1] + " with ID " + id + ".");
+                    }
+                }
+                break;
+            case "scheduler":
+                sm.setScheduler(command.tokens[1]);
+                break;
+            default: {
+                File schedulesDir = new File(schedulesDirName);
+                File scheduleFile = new File(schedulesDirName, (String) command.info);
+                CLI.checkFileAvailability(schedulesDir, scheduleFile);
+                sm.deserializeScheduleFromFile(scheduleFile.toPath());
+                break;
+            }
+        }
+    }
+
+    private void runOutput(Command command) throws IOException {
+        switch (command.type) {
+            case "task":
+                out.println(sm.buildTaskStr());
+                break;
+            case "card":
+                out.println(sm.buildCardStr());
+                break;
+            case "event":
+                out.println(sm.buildEventStr());
+                break;
+            case "get":
+                for (int id : (int[]) command.info) {
+                    switch (command.tokens[1]) {
+                        case "card":
+                            out.println(sm.buildFormatCard(id));
+                            break;
+                        case "task":
+                            out.println(sm.buildFormatTask(id));
+                            break;
+                        default:
+                            out.println(sm.buildFormatEvent(id));
+                            break;
+                    }
+                }
+                break;
+            case "sched":
+                if (command.info != null) {
+                    Calendar[] range = (Calendar[]) command.info;
+                    sm.printSchedule(out, range[0], range[1]);
+                    out.println();
+                } else if (command.tokens.length == 1) {
+                    out.println(sm.buildCurrentScheduleStr());
+                } else if ("-f".equalsIgnoreCase(command.tokens[1])) {
+                    out.println(sm.buildScheduleStr());
+                } else {
+                    out.println(sm.buildArchivedScheduleStr());
+                }
+                break;
+            case "subtask":
+                out.println(sm.buildSubTaskStr());
+                break;
+            case "report":
+                out.println(sm.buildReportStr());
+                break;
+            default:
+                sm.serializeScheduleToFile((String) command.info);
+                out.println("Saved schedule to " + command.info);
+                break;
+        }
+    }
+
+    /**
+     * Parsed line of a script
+     */
+    private static class Command {
+        /** Line number of the command within the script */
+        private final int line;
+        /** Command name in lower case */
+        private final String type;
+        /** Tokens of the line, or null for the Tasks, Cards and Events being added */
+        private final String[] tokens;
+        /** Whether the command changes the schedule data rather than printing or saving it */
+        private final boolean change;
+        /** Parsed arguments of the command, if any */
+        private final Object info;
+
+        private Command(int line, String type, String[] tokens, boolean change, Object info) {
+            this.line = line;
+            this.type = type;
+            this.tokens = tokens;
+            this.change = change;
+            this.info = info;
+        }
+
+        private boolean isChange() {
+            return change;
+        }
+    }
+}
@@ -1,10 +1,11 @@
 package com.planner.ui;
 
+import com.planner.io.IOProcessing;
+import com.planner.manager.ScheduleManager;
 import com.planner.models.UserConfig;
-import com.planner.util.JsonHandler;
 
 import java.io.IOException;
-import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
 import java.util.Arrays;
@@ -14,7 +15,10 @@ import static java.lang.Thread.sleep;
 
 public class TUI {
 
-    private void sessionStartUp() throws InterruptedException {
+    /** Flag which starts the application without the splash screen, regardless of the 'fastStart' option */
+    public static final String FAST_START_FLAG = "--fast";
+
+    private void sessionStartUp(UserConfig userConfig) throws InterruptedException {
         // Welcome and basic info
         System.out.println("#########################################################\n" +
                 "#             Welcome to Quick Sched 1.2.0!             #\n" +
@@ -27,27 +31,23 @@ public class TUI {
         System.out.println("Current Date and Time: " + sdf.format(Calendar.getInstance().getTime()));
 
         // Config and System Info
-        try {
-            UserConfig userConfig = JsonHandler.readUserConfig(Files.readString(Paths.get("settings/profile.json")));
-
-            System.out.println(
-                    "Configuration Details:\n" +
-                            "    - Config File: profile.json\n" +
-                            "    - Mode: Production\n" +
-                            "    - Range: " + Arrays.toString(userConfig.getDailyHoursRange()) + "\n" +
-                            "    - Week Hours: " + Arrays.toString(userConfig.getHoursPerDayOfWeek()) + "\n" +
-                            "    - Subtask Range: " + Arrays.toString(userConfig.getSubtaskRange()) + "\n" +
-                            "    - Max Days: " + userConfig.getMaxDays() + "\n" +
-                            "    - Archive Days: " + userConfig.getArchiveDays() + "\n" +
-                            "    - Priority Scheduling: " + userConfig.isPriority() + "\n" +
-                            "    - Overflow Handling: " + userConfig.isOverflow() + "\n" +
-                            "    - Optimize Day: " + userConfig.isOptimizeDay() + "\n" +
-                            "    - Default at Start: " + userConfig.isDefaultAtStart() + "\n" +
-                            "    - Pretty Time: " + userConfig.isFormatPrettyTime() + "\n"
-            );
-        } catch (IOException e) {
-            throw new IllegalArgumentException("Could not properly set up config for session");
-        }
+        System.out.println(
+                "Configuration Details:\n" +
+                        "    - Config File: profile.json\n" +
+                        "    - Mode: Production\n" +
+                        "    - Range: " + Arrays.toString(userConfig.getDailyHoursRange()) + "\n" +
+                        "    - Week Hours: " + Arrays.toString(userConfig.getHoursPerDayOfWeek()) + "\n" +
+                        "    - Subtask Range: " + Arrays.toString(userConfig.getSubtaskRange()) + "\n" +
+                        "    - Max Days: " + userConfig.getMaxDays() + "\n" +
+                        "    - Archive Days: " + userConfig.getArchiveDays() + "\n" +
+                        "    - Priority Scheduling: " + userConfig.isPriority() + "\n" +
+                        "    - Overflow Handling: " + userConfig.isOverflow() + "\n" +
+                        "    - Optimize Day: " + userConfig.isOptimizeDay() + "\n" +
+                        "    - Default at Start: " + userConfig.isDefaultAtStart() + "\n" +
+                        "    - Pretty Time: " + userConfig.isFormatPrettyTime() + "\n" +
+                        "    - Scheduler: " + userConfig.getScheduler() + "\n" +
+                        "    - Fast Start: " + userConfig.isFastStart() + "\n"
+        );
 
         // Logs and warnings/alerts
         System.out.println(
@@ -70,10 +70,56 @@ public class TUI {
     }
 
 
+    /**
+     * Prints a single line in place of the splash screen, without clearing the terminal or pausing
+     */
+    private void fastStartUp() {
+        System.out.println("Quick Sched 1.2.0");
+    }
+
+    /**
+     * Runs a script without the splash screen or the CLI, exiting with status 1 if it fails
+     *
+     * @param script path of the script
+     */
+    private static void runScript(Path script) throws IOException {
+        ScheduleManager sm = new ScheduleManager();
+        try {
+            new ScriptRunner(sm, System.out).run(script);
+        } catch (IllegalArgumentException | IOException e) {
+            System.err.println("Error: " + e.getMessage());
+            sm.getEventLog().reportException(e);
+            sm.getEventLog().close();
+            System.exit(1);
+        }
+        sm.quit();
+    }
+
     public static void main(String... args) throws IOException, InterruptedException {
+        UserConfig userConfig;
+        try {
+            // the file is read once for the session, though the ScheduleManager gets a copy of its own
+            userConfig = IOProcessing.readUserConfig();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not properly set up config for session");
+        }
+        int scriptIdx = Arrays.asList(args).indexOf(ScriptRunner.SCRIPT_FLAG);
+        if (scriptIdx != -1) {
+            if (scriptIdx + 1 == args.length) {
+                System.err.println("Error: Expected a script file after '" + ScriptRunner.SCRIPT_FLAG + "'.");
+                System.exit(1);
+            }
+            runScript(Paths.get(args[scriptIdx + 1]));
+            return;
+        }
+
         TUI tui = new TUI();
-        Screen.clearScreen();
-        tui.sessionStartUp();
+        if (userConfig.isFastStart() || Arrays.asList(args).contains(FAST_START_FLAG)) {
+            tui.fastStartUp();
+        } else {
+            Screen.clearScreen();
+            tui.sessionStartUp(userConfig);
+        }
 
         CLI cli = new CLI();
         cli.loop();
@@ -0,0 +1,107 @@
+package com.planner.ui.tables;
+
+import com.planner.schedule.day.Day;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Keeps rendered tables between commands. Whole tables are reused for as long as the schedule version they were
+ * rendered at is current, while the rows of every {@link Day} are reused for as long as the Day itself is unchanged,
+ * so after a partial rebuild only the regenerated Days are rendered again.
+ */
+public class RenderCache {
+
+    /** Kind of rows rendered for the schedule table */
+    static final int SCHEDULE_ROWS = 0;
+    /** Kind of rows rendered for the SubTask table */
+    static final int SUBTASK_ROWS = 1;
+
+    /** Rendered rows of every Day still referenced by a schedule */
+    private final Map<Day, DayRows> dayRows = new WeakHashMap<>();
+    /** Whole tables rendered at the cached version, by name */
+    private final Map<String, String> tables = new HashMap<>();
+    /** Schedule version the cached tables were rendered at */
+    private long version = -1;
+    /** Number of times the rows of a Day had to be rendered */
+    private int numDayRenders;
+
+    /**
+     * Rows rendered for a single Day, in both plain and colored form
+     */
+    private static class DayRows {
+
+        /** Modification count of the Day when its rows were rendered */
+        private final int modCount;
+        /** Rendered rows by kind and color */
+        private final String[] rows = new String[4];
+
+        private DayRows(int modCount) {
+            this.modCount = modCount;
+        }
+    }
+
+    /**
+     * Gets a whole table, rendering it only if it was not already rendered at the given version
+     *
+     * @param name name of the table, including anything else it depends on
+     * @param version current version of the schedule
+     * @param render renders the table
+     * @return rendered table
+     */
+    public String getTable(String name, long version, Supplier<String> render) {
+        if (version != this.version) {
+            tables.clear();
+            this.version = version;
+        }
+        String table = tables.get(name);
+        if (table == null) {
+            table = render.get();
+            tables.put(name, table);
+        }
+        return table;
+    }
+
+    /**
+     * Gets the rows of a Day, rendering them only if the Day changed since they were rendered
+     *
+     * @param day Day being rendered
+     * @param kind kind of rows
+     * @param useColor whether to display color or not
+     * @param render renders the rows
+     * @return rendered rows
+     */
+    String getDayRows(Day day, int kind, boolean useColor, Supplier<String> render) {
+        DayRows entry = dayRows.get(day);
+        if (entry == null || entry.modCount != day.getModCount()) {
+            entry = new DayRows(day.getModCount());
+            dayRows.put(day, entry);
+        }
+        int idx = kind * 2 + (useColor ? 1 : 0);
+        if (entry.rows[idx] == null) {
+            entry.rows[idx] = render.get();
+            numDayRenders++;
+        }
+        return entry.rows[idx];
+    }
+
+    /**
+     * Discards every rendered table and Day, for changes such as renaming a Card which alter rows without changing
+     * any Day
+     */
+    public void invalidate() {
+        dayRows.clear();
+        tables.clear();
+    }
+
+    /**
+     * Gets the number of times the rows of a Day had to be rendered
+     *
+     * @return number of Day renders
+     */
+    int getNumDayRenders() {
+        return numDayRenders;
+    }
+}
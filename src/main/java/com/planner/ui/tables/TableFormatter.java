@@ -8,6 +8,8 @@ import com.planner.schedule.day.Day;
 import com.planner.util.Time;
 
 import java.io.File;
+import java.io.PrintStream;
+import java.text.DecimalFormatSymbols;
 import java.text.SimpleDateFormat;
 import java.util.*;
 
@@ -18,6 +20,14 @@ import java.util.*;
  */
 public class TableFormatter {
 
+    /** Decimal separator used by String.format in the default locale */
+    private static final char DECIMAL_SEPARATOR =
+            DecimalFormatSymbols.getInstance(Locale.getDefault(Locale.Category.FORMAT)).getDecimalSeparator();
+    /** Title of the schedule table */
+    private static final String SCHEDULE_HEADER = "------------------------------------------\n" +
+            "SCHEDULE\n" +
+            "------------------------------------------\n\n";
+
     /**
      * Creates a {@link UserConfig} table utilizing the pretty format
      *
@@ -26,7 +36,7 @@ public class TableFormatter {
      */
     public static String formatPrettyUserConfigTable(UserConfig userConfig) {
         String[] optionNames = {"RANGE", "WEEK", "SUBTASK_RANGE", "MAX_DAYS", "ARCHIVE_DAYS", "PRIORITY",
-                "OVERFLOW", "OPTIMIZE_DAY", "DEFAULT_AT_START", "PRETTY_TIME"};
+                "OVERFLOW", "OPTIMIZE_DAY", "DEFAULT_AT_START", "PRETTY_TIME", "SCHEDULER", "FAST_START"};
 
         StringBuilder sb = new StringBuilder();
         sb.append("                                                            Settings Options\n");
@@ -47,6 +57,8 @@ public class TableFormatter {
                 case 7: optionValue = String.valueOf(userConfig.isOptimizeDay()); break;
                 case 8: optionValue = String.valueOf(userConfig.isDefaultAtStart()); break;
                 case 9: optionValue = String.valueOf(userConfig.isFormatPrettyTime()); break;
+                case 10: optionValue = userConfig.getScheduler(); break;
+                case 11: optionValue = String.valueOf(userConfig.isFastStart()); break;
             }
             String formattedOptionValue = String.format(" %-25s|", optionValue);
             sb.append(String.format("                                         |%-6d|%-19s|", i, optionNames[i]));
@@ -94,12 +106,23 @@ public class TableFormatter {
      * @return dotted schedule table
      */
     public static String formatScheduleTable(List<Day> schedule, boolean useColor) {
+        return formatScheduleTable(schedule, useColor, null);
+    }
+
+    /**
+     * Creates a schedule table consisting of {@link Day}, reusing the rows of every Day left unchanged since it was
+     * last rendered into the cache
+     *
+     * @param schedule list of scheduled days
+     * @param useColor whether to display color or not
+     * @param cache cache of rendered Days, or null to render every Day
+     * @return dotted schedule table
+     */
+    public static String formatScheduleTable(List<Day> schedule, boolean useColor, RenderCache cache) {
         StringBuilder sb = new StringBuilder();
-        sb.append("------------------------------------------\n");
-        sb.append("SCHEDULE\n");
-        sb.append("------------------------------------------\n\n");
+        sb.append(SCHEDULE_HEADER);
 
-        SimpleDateFormat sdf = new SimpleDateFormat("dd-MM-yyyy");
+        StringBuilder rows = cache == null ? new StringBuilder() : null;
         boolean flag = false;
 
         for (Day day : schedule) {
@@ -108,98 +131,133 @@ public class TableFormatter {
             } else {
                 flag = true;
             }
+            sb.append(getScheduleDay(day, useColor, cache, rows));
+        }
 
-            String date = sdf.format(day.getDate().getTime());
-            // Print out the date
-            sb.append("DATE: ").append(date).append("\n");
-            sb.append("------------------------------------------\n");
-
-            int taskIdx = 0;
-            int eventIdx = 0;
-
-            // Iterate over tasks and events for the day
-            while (taskIdx < day.getNumSubTasks() || eventIdx < day.getNumEvents()) {
-                Card.Color color = null;
-                String name = "";
-                String tag = "      -     "; // Default value with padding
-                double hours = 0;
-                String timeStamp = "";
-                String idPrefix = "";  // To differentiate between tasks and events
-
-                // Check whether to process an event or a task
-                if (taskIdx >= day.getNumSubTasks() || (eventIdx < day.getNumEvents() &&
-                        Time.isAfter(day.getSubTaskList().get(taskIdx).getTimeStamp().getStart(),
-                                day.getEventList().get(eventIdx).getTimeStamp().getStart()))) {
-                    // Handle event data
-                    Event event = day.getEvent(eventIdx);
-                    color = event.getCard() != null ? event.getCard().getColor() : null;
-                    name = event.getName();
-                    tag = event.getCard() != null ? event.getCard().getName() : tag;
-                    hours = Time.getTimeInterval(event.getTimeStamp().getStart(), event.getTimeStamp().getEnd());
-                    timeStamp = event.getTimeStamp().toString();
-                    idPrefix = "E.ID:";  // Prefix for events
-                    eventIdx++;
-                } else {
-                    // Handle task data
-                    Task.SubTask subTask = day.getSubTask(taskIdx);
-                    Task task = subTask.getParentTask();
-                    color = task.getColor();
-                    name = task.getName();
-                    tag = task.getTag() != null ? task.getTag() : tag;
-                    hours = subTask.getSubTaskHours();
-                    timeStamp = subTask.getTimeStamp().toString();
-                    idPrefix = "T.ID:";  // Prefix for tasks
-                    taskIdx++;
-                }
+        sb.append("\n");
+        return sb.toString();
+    }
 
-                // Optionally apply color
-                if (useColor && color != null) {
-                    sb.append(getColorANSICode(color));
-                }
+    /**
+     * Writes a schedule table of the given window of {@link Day} straight to a stream, so only one Day at a time is
+     * held in memory. The output is identical to {@link #formatScheduleTable(List, boolean, RenderCache)}.
+     *
+     * @param out stream receiving the table
+     * @param days window of scheduled days
+     * @param useColor whether to display color or not
+     * @param cache cache of rendered Days, or null to render every Day
+     */
+    public static void printScheduleTable(PrintStream out, List<Day> days, boolean useColor, RenderCache cache) {
+        out.append(SCHEDULE_HEADER);
 
-                // Format the ID prefix and value
-                sb.append(idPrefix).append(" ").append(String.format("%-5d", idPrefix.equals("E.ID:") ? day.getEvent(eventIdx - 1).getId() : day.getSubTask(taskIdx - 1).getParentTask().getId()))
-                        .append(" | ");
-
-                // Format the name with a maximum width of 19 characters
-                String formattedName = name.length() > 19 ? name.substring(0, 19) : name;
-                int namePadding = 19 - formattedName.length();
-
-                // Format the tag with a maximum width of 12 characters
-                String formattedTag = tag.length() > 14 ? tag.substring(0, 14) : tag;
-                int tagPadding = 14 - formattedTag.length();
-
-                // Format and append the task/event details
-                sb.append(formattedName)
-                        .append(" ".repeat(namePadding))
-                        .append("| ")
-                        .append(formattedTag) // Adjusted for tag field width
-                        .append(" ".repeat(tagPadding))  // Updated space for tag field
-                        .append("|");
-
-                // Format the hours to ensure it fits with width like | 1.0 hrs  |
-                sb.append(String.format("%5.1f hrs ", hours))
-                        .append("| ")
-                        .append(timeStamp)
-                        .append("\n");
-
-                if (useColor) {
-                    sb.append("\u001B[0m"); // Reset color
-                }
-            }
+        StringBuilder rows = cache == null ? new StringBuilder() : null;
+        boolean flag = false;
 
-            for (String s : day.getOverflowErrors()) {
-                sb.append(s).append("\n");
+        for (Day day : days) {
+            if (flag) {
+                out.append("\n");
+            } else {
+                flag = true;
             }
+            out.append(getScheduleDay(day, useColor, cache, rows));
         }
 
-        sb.append("\n");
-        return sb.toString();
+        out.append("\n");
     }
 
+    /**
+     * Gets the rows of a Day for the schedule table, taking them from the cache if one is given and otherwise
+     * rendering them into the reusable StringBuilder
+     */
+    private static CharSequence getScheduleDay(Day day, boolean useColor, RenderCache cache, StringBuilder rows) {
+        if (cache != null) {
+            return cache.getDayRows(day, RenderCache.SCHEDULE_ROWS, useColor, () -> {
+                StringBuilder sb = new StringBuilder();
+                appendScheduleDay(sb, day, useColor);
+                return sb.toString();
+            });
+        }
+        rows.setLength(0);
+        appendScheduleDay(rows, day, useColor);
+        return rows;
+    }
+
+    private static void appendScheduleDay(StringBuilder sb, Day day, boolean useColor) {
+        // Print out the date
+        sb.append("DATE: ").append(day.getDateStamp()).append("\n");
+        sb.append("------------------------------------------\n");
+
+        int taskIdx = 0;
+        int eventIdx = 0;
+
+        // Iterate over tasks and events for the day
+        while (taskIdx < day.getNumSubTasks() || eventIdx < day.getNumEvents()) {
+            Card.Color color;
+            String name;
+            String tag = "      -     "; // Default value with padding
+            double hours;
+            String timeStamp;
+            String idPrefix;  // To differentiate between tasks and events
+            int id;
+
+            // Check whether to process an event or a task
+            if (taskIdx >= day.getNumSubTasks() || (eventIdx < day.getNumEvents() &&
+                    day.getSubTaskList().get(taskIdx).getTimeStamp().getStartMinute()
+                            >= day.getEventList().get(eventIdx).getTimeStamp().getStartMinute())) {
+                // Handle event data
+                Event event = day.getEvent(eventIdx);
+                color = event.getCard() != null ? event.getCard().getColor() : null;
+                name = event.getName();
+                tag = event.getCard() != null ? event.getCard().getName() : tag;
+                hours = Time.getTimeInterval(event.getTimeStamp().getStartMinute(), event.getTimeStamp().getEndMinute());
+                timeStamp = event.getTimeStamp().toString();
+                idPrefix = "E.ID:";  // Prefix for events
+                id = event.getId();
+                eventIdx++;
+            } else {
+                // Handle task data
+                Task.SubTask subTask = day.getSubTask(taskIdx);
+                Task task = subTask.getParentTask();
+                color = task.getColor();
+                name = task.getName();
+                tag = task.getTag() != null ? task.getTag() : tag;
+                hours = subTask.getSubTaskHours();
+                timeStamp = subTask.getTimeStamp().toString();
+                idPrefix = "T.ID:";  // Prefix for tasks
+                id = task.getId();
+                taskIdx++;
+            }
+
+            // Optionally apply color
+            if (useColor && color != null) {
+                sb.append(getColorANSICode(color));
+            }
+
+            // Format the ID prefix and value
+            sb.append(idPrefix).append(" ");
+            appendPadded(sb, id, 5).append(" | ");
+
+            // Name with a maximum width of 19 characters, then tag with a maximum width of 14 characters
+            appendPadded(sb, name, 19, 19).append("| ");
+            appendPadded(sb, tag, 14, 14).append("|");
+
+            // Format the hours to ensure it fits with width like | 1.0 hrs  |
+            appendHours(sb, hours, 5).append(" hrs ")
+                    .append("| ")
+                    .append(timeStamp)
+                    .append("\n");
+
+            if (useColor) {
+                sb.append("\u001B[0m"); // Reset color
+            }
+        }
 
+        for (String s : day.getOverflowErrors()) {
+            sb.append(s).append("\n");
+        }
+    }
 
-    public static String formatTaskTable(PriorityQueue<Task> currTasks, PriorityQueue<Task> archiveTasks, boolean useColor) {
+    public static String formatTaskTable(Collection<Task> currTasks, Collection<Task> archiveTasks, boolean useColor) {
         StringBuilder sb = new StringBuilder();
 
         sb.append("------------------------------------------\n");
@@ -209,8 +267,6 @@ public class TableFormatter {
         sb.append("ID   | NAME                | CARD           | HOURS     | DUE         | ARCHIVED\n");
         sb.append("-----|---------------------|----------------|-----------|-------------|---------\n");
 
-        SimpleDateFormat sdf = new SimpleDateFormat("dd-MM-yyyy");
-
         List<Task> list = new ArrayList<>(archiveTasks);
         list.addAll(currTasks);
 
@@ -232,24 +288,18 @@ public class TableFormatter {
             }
 
             // Dynamically adjust spacing after ID
-            String idStr = String.valueOf(id);
-            sb.append(idStr).append(" ".repeat(Math.max(0, 5 - idStr.length()))).append("| ");
+            appendPadded(sb, id, 5).append("| ");
 
             // NAME - Ensure max 19 characters
-            if (name.length() > 19) {
-                sb.append(name, 0, 19).append(" | ");
-            } else {
-                sb.append(name).append(" ".repeat(Math.max(0, 19 - name.length()))).append(" | ");
-            }
+            appendPadded(sb, name, 19, 19).append(" | ");
 
             // TAG - Truncate to 14 characters if too long
-            if (tag.length() > 14) {
-                tag = tag.substring(0, 14);
-            }
-            sb.append(tag).append(" ".repeat(Math.max(0, 14 - tag.length()))).append(" | ");
+            appendPadded(sb, tag, 14, 14).append(" | ");
 
             // HOURS
-            sb.append(String.format("%.1f", hours)).append(" ".repeat(Math.max(0, 9 - String.format("%.1f", hours).length()))).append(" | ");
+            int mark = sb.length();
+            appendHours(sb, hours, 0);
+            padTo(sb, mark + 9).append(" | ");
 
             // DUE
             sb.append(due).append("  | ");
@@ -355,21 +405,17 @@ public class TableFormatter {
                     sb.append(colorANSICode);
                 }
 
-                sb.append(String.format("%-4d", e.getId())).append(" | ");
+                appendPadded(sb, e.getId(), 4).append(" | ");
 
-                String name = e.getName();
-                sb.append(name.length() > 19 ? name.substring(0, 19) : String.format("%-19s", name)).append(" | ");
+                appendPadded(sb, e.getName(), 19, 19).append(" | ");
 
                 String tag = e.getCard() == null ? "       -       " : e.getCard().getName();
-                sb.append(tag.length() > 14 ? tag.substring(0, 14) : String.format("%-14s", tag)).append(" | ");
+                appendPadded(sb, tag, 14, 14).append(" | ");
 
                 sb.append(e.getTimeStamp()).append(" | ");
 
-                sb.append(Arrays.toString(
-                                e.getDays()),
-                        1,
-                        Arrays.toString(e.getDays()).length() - 1
-                ).append("\n");
+                String days = Arrays.toString(e.getDays());
+                sb.append(days, 1, days.length() - 1).append("\n");
 
                 if (e.getCard() != null && useColor) {
                     sb.append("\u001B[0m");
@@ -393,17 +439,16 @@ public class TableFormatter {
                     sb.append(colorANSICode);
                 }
 
-                sb.append(String.format("%-4d", e.getId())).append(" | ");
+                appendPadded(sb, e.getId(), 4).append(" | ");
 
-                String name = e.getName();
-                sb.append(name.length() > 19 ? name.substring(0, 19) : String.format("%-19s", name)).append(" | ");
+                appendPadded(sb, e.getName(), 19, 19).append(" | ");
 
                 String tag = e.getCard() == null ? "       -       " : e.getCard().getName();
-                sb.append(tag.length() > 14 ? tag.substring(0, 14) : String.format("%-14s", tag)).append(" | ");
+                appendPadded(sb, tag, 14, 14).append(" | ");
 
                 sb.append(e.getTimeStamp()).append(" | ");
 
-                sb.append(String.format(e.getDateStamp())).append("\n");
+                sb.append(e.getDateStamp()).append("\n");
 
                 if (e.getCard() != null && useColor) {
                     sb.append("\u001B[0m");
@@ -425,6 +470,19 @@ public class TableFormatter {
      * @return subtask table
      */
     public static String formatSubTaskTable(List<Day> schedule, boolean useColor) {
+        return formatSubTaskTable(schedule, useColor, null);
+    }
+
+    /**
+     * Creates a {@link com.planner.models.Task.SubTask} table, reusing the rows of every Day left unchanged since it
+     * was last rendered into the cache
+     *
+     * @param schedule list of days containing subtasks
+     * @param useColor whether to display color or not
+     * @param cache cache of rendered Days, or null to render every Day
+     * @return subtask table
+     */
+    public static String formatSubTaskTable(List<Day> schedule, boolean useColor, RenderCache cache) {
         StringBuilder sb = new StringBuilder();
 
         // Header
@@ -434,56 +492,113 @@ public class TableFormatter {
         sb.append("ID   | NAME                | CARD           | HOURS | TIME            | DATE       | DUE        \n");
         sb.append("-----|---------------------|----------------|-------|-----------------|------------|------------\n");
 
-        // Format date
-        SimpleDateFormat sdf = new SimpleDateFormat("dd-MM-yyyy");
-
         // Iterate through the schedule and each subtask
         for (Day day : schedule) {
-            for (Task.SubTask subTask : day.getSubTaskList()) {
-                // Get color if needed
-                if (subTask.getParentTask().getCard() != null && useColor) {
-                    String colorANSICode = getColorANSICode(subTask.getParentTask().getColor());
-                    sb.append(colorANSICode);
-                }
+            if (cache == null) {
+                appendSubTaskDay(sb, day, useColor);
+            } else {
+                sb.append(cache.getDayRows(day, RenderCache.SUBTASK_ROWS, useColor, () -> {
+                    StringBuilder rows = new StringBuilder();
+                    appendSubTaskDay(rows, day, useColor);
+                    return rows.toString();
+                }));
+            }
+        }
 
-                // ID (5 characters, left-aligned)
-                int id = subTask.getParentTask().getId();
-                sb.append(String.format("%-5d", id)).append("| ");
+        return sb.toString();
+    }
 
-                // NAME (20 characters, left-aligned, truncated if longer)
-                String name = subTask.getParentTask().getName();
-                sb.append(String.format("%-20s", name.length() > 20 ? name.substring(0, 20) : name)).append("| ");
+    private static void appendSubTaskDay(StringBuilder sb, Day day, boolean useColor) {
+        // every SubTask of the Day starts on its date
+        String date = day.getDateStamp();
+        for (Task.SubTask subTask : day.getSubTaskList()) {
+            // Get color if needed
+            if (subTask.getParentTask().getCard() != null && useColor) {
+                String colorANSICode = getColorANSICode(subTask.getParentTask().getColor());
+                sb.append(colorANSICode);
+            }
 
-                // TAG (15 characters, left-aligned, truncated if longer)
-                String tag = subTask.getParentTask().getTag() != null ? subTask.getParentTask().getTag() : "       -       ";
-                sb.append(String.format("%-15s", tag.length() > 15 ? tag.substring(0, 15) : tag)).append("| ");
+            // ID (5 characters, left-aligned)
+            appendPadded(sb, subTask.getParentTask().getId(), 5).append("| ");
 
-                // HOURS (5 characters, right-aligned)
-                String hours = String.format("%.1f", subTask.getSubTaskHours());
-                sb.append(String.format("%-6s", hours)).append("| ");
+            // NAME (20 characters, left-aligned, truncated if longer)
+            appendPadded(sb, subTask.getParentTask().getName(), 20, 20).append("| ");
 
-                // TIME (17 characters, left-aligned, truncated if longer)
-                String time = subTask.getTimeStamp().toString(); // Adjust this to the desired time format
-                sb.append(String.format("%-16s", time)).append("| ");
+            // TAG (15 characters, left-aligned, truncated if longer)
+            String tag = subTask.getParentTask().getTag() != null ? subTask.getParentTask().getTag() : "       -       ";
+            appendPadded(sb, tag, 15, 15).append("| ");
 
-                // DATE (10 characters, left-aligned, formatted)
-                String date = sdf.format(subTask.getTimeStamp().getStart().getTime());
-                sb.append(String.format("%-11s", date)).append("| ");
+            // HOURS (6 characters, left-aligned)
+            int mark = sb.length();
+            appendHours(sb, subTask.getSubTaskHours(), 0);
+            padTo(sb, mark + 6).append("| ");
 
-                // DUE (10 characters, left-aligned, formatted)
-                String due = subTask.getParentTask().getDateStamp();
-                sb.append(String.format("%-10s", due));
+            // TIME (16 characters, left-aligned)
+            appendPadded(sb, subTask.getTimeStamp().toString(), 16, Integer.MAX_VALUE).append("| ");
 
-                // Reset color formatting (if using ANSI codes)
+            // DATE (11 characters, left-aligned)
+            appendPadded(sb, date, 11, Integer.MAX_VALUE).append("| ");
 
-                if (subTask.getParentTask().getCard() != null && useColor) {
-                    sb.append("\u001B[0m");
-                }
-                sb.append("\n");
+            // DUE (10 characters, left-aligned)
+            appendPadded(sb, subTask.getParentTask().getDateStamp(), 10, Integer.MAX_VALUE);
+
+            // Reset color formatting (if using ANSI codes)
+
+            if (subTask.getParentTask().getCard() != null && useColor) {
+                sb.append("\u001B[0m");
             }
+            sb.append("\n");
         }
+    }
 
-        return sb.toString();
+    /**
+     * Appends a value left-aligned in a column, cutting it down to the maximum length first
+     *
+     * @param sb StringBuilder being appended to
+     * @param value value for the column
+     * @param width minimum width of the column
+     * @param maxLength maximum number of characters of the value kept
+     * @return the StringBuilder
+     */
+    private static StringBuilder appendPadded(StringBuilder sb, String value, int width, int maxLength) {
+        int mark = sb.length();
+        sb.append(value, 0, Math.min(value.length(), maxLength));
+        return padTo(sb, mark + width);
+    }
+
+    /**
+     * Appends an integer left-aligned in a column, matching {@code String.format("%-<width>d")}
+     */
+    private static StringBuilder appendPadded(StringBuilder sb, int value, int width) {
+        int mark = sb.length();
+        sb.append(value);
+        return padTo(sb, mark + width);
+    }
+
+    /**
+     * Appends hours with a single decimal right-aligned in a column, matching {@code String.format("%<width>.1f")}
+     */
+    private static StringBuilder appendHours(StringBuilder sb, double hours, int width) {
+        long tenths = Math.round(hours * 10);
+        if (tenths < 0 || tenths != hours * 10) {
+            // hours which are not an exact number of tenths are rounded the same way String.format rounds them
+            return sb.append(String.format(width == 0 ? "%.1f" : "%" + width + ".1f", hours));
+        }
+        int length = Long.toString(tenths / 10).length() + 2;
+        for (int i = length; i < width; i++) {
+            sb.append(' ');
+        }
+        return sb.append(tenths / 10).append(DECIMAL_SEPARATOR).append(tenths % 10);
+    }
+
+    /**
+     * Pads with spaces until the StringBuilder reaches the given length
+     */
+    private static StringBuilder padTo(StringBuilder sb, int length) {
+        for (int i = sb.length(); i < length; i++) {
+            sb.append(' ');
+        }
+        return sb;
     }
 
     public static String getColorANSICode(Card.Color color) {
@@ -4,13 +4,29 @@ import com.planner.models.*;
 import com.planner.schedule.day.Day;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Date;
 import java.util.InputMismatchException;
+import java.util.List;
 
 /**
  * Creates a cumulative log of all actions performed during each session
+ * <p>
+ * Reports are recorded into a fixed-size ring buffer of preallocated entries. The high-volume reports (Task and
+ * Day actions) only copy their fields into an entry, leaving all formatting to whoever drains the buffer. A log with
+ * a file has a background thread which formats entries and appends them to the file as the session goes on, so
+ * memory stays bounded for long sessions; producers wait for the flusher if the buffer ever fills up. A log without
+ * a file keeps only the most recent entries. The {@link Level} decides which reports are recorded at all.
  *
  * @author Andrew Roe
  * @author Lucia Langaney
@@ -18,32 +34,149 @@ import java.util.InputMismatchException;
  */
 public class EventLog {
 
+    /** Severity of a report, where a log records every report at or above its own level */
+    public enum Level {
+        /** Per-Day scheduling actions */
+        TRACE,
+        /** User and system actions */
+        INFO,
+        /** Exceptions */
+        ERROR,
+        /** Nothing is recorded */
+        OFF
+    }
+
+    /** System property for the level of the session log */
+    public static final String LEVEL_PROPERTY = "quicksched.log.level";
+    /** Number of entries held by the ring buffer */
+    private static final int DEFAULT_CAPACITY = 4096;
+    /** Longest time between two flushes of the background thread */
+    private static final long FLUSH_INTERVAL_MS = 500;
+
+    private static final int KIND_MESSAGE = 0;
+    private static final int KIND_TASK = 1;
+    private static final int KIND_DAY = 2;
+    private static final int KIND_EVENT = 3;
+
     /** Singleton instance for EventLog */
     private static EventLog instance;
 
-    private StringBuilder sb = new StringBuilder();
+    /** Heading of the log */
+    private final String header;
+    /** File the log is flushed to, or null to keep the log in memory */
+    private final Path logFile;
+    /** Guards the ring buffer */
+    private final Object lock = new Object();
+    /** Ring buffer of entries waiting to be flushed */
+    private Entry[] ring;
+    /** Entries handed over by the ring buffer for formatting, swapped in place to avoid allocation */
+    private Entry[] batch;
+    /** Position of the oldest entry in the ring buffer */
+    private int head;
+    /** Number of entries in the ring buffer */
+    private int count;
+    /** Minimum level of reports being recorded */
+    private volatile Level level;
+    /** Writer for the log file */
+    private Writer writer;
+    /** Background thread flushing the ring buffer to the log file */
+    private Thread flusher;
+    /** Whether the log has been closed */
+    private volatile boolean closed;
 
     /**
-     * Primary private constructor for EventLog
+     * Constructs a new in-memory EventLog for a single session, keeping the most recent entries at every level.
+     * Instances are independent of the singleton returned by {@link #getEventLog()}, which allows several schedules
+     * to be generated side by side.
+     */
+    public EventLog() {
+        this(null, Level.TRACE, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a new EventLog for a single session
+     *
+     * @param logFile file which the log is flushed to in the background, or null to keep the most recent entries
+     *                in memory
+     * @param level minimum level of reports being recorded
+     * @param capacity number of entries held by the ring buffer
      */
-    private EventLog() {
-        sb.append(new SimpleDateFormat("[dd-MM-yyyy]").format(Calendar.getInstance().getTime()))
-                .append(" Log of all activities from current session: \n\n");
+    public EventLog(Path logFile, Level level, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity of the EventLog must be at least 1");
+        }
+        // formatted by hand, since the locale data behind SimpleDateFormat takes a noticeable part of startup
+        LocalDate today = LocalDate.now();
+        this.header = "[" + (today.getDayOfMonth() < 10 ? "0" : "") + today.getDayOfMonth()
+                + "-" + (today.getMonthValue() < 10 ? "0" : "") + today.getMonthValue()
+                + "-" + today.getYear() + "] Log of all activities from current session: \n\n";
+        this.logFile = logFile;
+        this.level = level;
+        this.ring = createEntries(capacity);
+        this.batch = createEntries(capacity);
+        if (logFile != null) {
+            try {
+                if (logFile.getParent() != null) {
+                    Files.createDirectories(logFile.getParent());
+                }
+                writer = Files.newBufferedWriter(logFile, StandardCharsets.UTF_8);
+                writer.write(header);
+                writer.flush();
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Could not create log file " + logFile);
+            }
+            flusher = new Thread(this::runFlusher, "EventLog-flusher");
+            flusher.setDaemon(true);
+            flusher.start();
+        }
     }
 
     /**
-     * Gets a singleton of EventLog with passed file
+     * Gets a singleton of EventLog for the session, which is flushed to 'logs/system.log'. Its level can be chosen
+     * with the {@value #LEVEL_PROPERTY} system property and defaults to {@link Level#TRACE}.
      *
      * @return singleton of EventLog
      * @throws FileNotFoundException thrown if invalid file
      */
-    public static EventLog getEventLog() throws FileNotFoundException {
+    public static synchronized EventLog getEventLog() throws FileNotFoundException {
         if(instance == null) {
-            instance = new EventLog();
+            Level level = Level.valueOf(System.getProperty(LEVEL_PROPERTY, Level.TRACE.name()).toUpperCase());
+            instance = new EventLog(Paths.get("logs", "system.log"), level, DEFAULT_CAPACITY);
         }
         return instance;
     }
 
+    /**
+     * Gets the minimum level of reports being recorded
+     *
+     * @return level of the log
+     */
+    public Level getLevel() {
+        return level;
+    }
+
+    /**
+     * Sets the minimum level of reports being recorded (e.g. {@link Level#INFO} to skip per-Day tracing)
+     *
+     * @param level level of the log
+     */
+    public void setLevel(Level level) {
+        if (level == null) {
+            throw new IllegalArgumentException("Level of the EventLog cannot be null");
+        }
+        this.level = level;
+    }
+
+    /**
+     * Determines whether reports of the given level are being recorded
+     *
+     * @param level level of the report
+     * @return boolean value for whether the report is recorded
+     */
+    public boolean isEnabled(Level level) {
+        return level.compareTo(this.level) >= 0 && this.level != Level.OFF && !closed;
+    }
+
     /**
      * Reports a given Task action
      *
@@ -51,29 +184,16 @@ public class EventLog {
      * @param type Action type (0=Add, 1=Remove, 2=EDIT)
      */
     public void reportTaskAction(Task task, int type) {
-        SimpleDateFormat sdf = new SimpleDateFormat("[HH:mm:ss]");
-        sb.append(sdf.format(Calendar.getInstance().getTime()));
-        sb.append(" [INFO]");
-        if(type == 0) {
-            sb.append(" ADD(TASK):");
-        } else if(type == 1) {
-            sb.append(" REM(TASK):");
-        } else if (type == 2) {
-            sb.append(" MOD(TASK):");
-        }
-        sb.append(" ID=").append(task.getId());
-        sb.append(", NAME=").append(task.getName());
-        sb.append(", TAG=").append(task.getTag());
-        sb.append(", HOURS=").append(task.getTotalHours());
-
-        SimpleDateFormat sdf2 = new SimpleDateFormat("dd-MM-yyyy");
-        sb.append(", DUE=").append(sdf2.format(task.getDueDate().getTime()));
-        sb.append(", ARCHIVED=");
-        Calendar curr = Calendar.getInstance();
-        if (task.getTotalHours() == 0 || (!Time.doDatesMatch(curr, task.getDueDate()) && task.getDueDate().compareTo(curr) < 0)) {
-            sb.append("TRUE").append("\n");
-        } else {
-            sb.append("FALSE").append("\n");
+        if (!isEnabled(Level.INFO)) return;
+        synchronized (lock) {
+            Entry e = claim(KIND_TASK);
+            e.intVal = type;
+            e.id = task.getId();
+            e.text = task.getName();
+            e.tag = task.getTag();
+            e.d0 = task.getTotalHours();
+            e.longVal = task.getDueDay();
+            e.flag = task.getTotalHours() == 0 || task.getDueDay() < LocalDate.now().toEpochDay();
         }
     }
 
@@ -84,37 +204,29 @@ public class EventLog {
      * @param type Action type (0=Add, 1=Remove, 2=EDIT)
      */
     public void reportEventAction(Event event, int type) {
-        SimpleDateFormat sdf = new SimpleDateFormat("[HH:mm:ss]");
-
-        sb.append(sdf.format(Calendar.getInstance().getTime()));
-        sb.append(" [INFO]");
-
-        if(type == 0)
-            sb.append(" ADD(EVENT):");
-        else if(type == 1)
-            sb.append(" REM(EVENT):");
-        else if (type == 2)
-            sb.append(" MOD(EVENT):");
-
-        sb.append(" ID=").append(event.getId());
-        sb.append(", NAME=").append(event.getName());
-        sb.append(", TAG=").append(event.getCard() != null ? event.getCard().getName() : null);
-        sb.append(", TIMESTAMP=").append(event.getTimeStamp().toString());
-
-        SimpleDateFormat sdf2 = new SimpleDateFormat("dd-MM-yyyy");
-        sb.append(", DATE=").append(sdf2.format(event.getTimeStamp().getStart().getTime()));
-
-        sb.append(", RECURRENCE=").append(event.isRecurring());
-
-        if (event.isRecurring())
-            sb.append(", DAYS=").append(Arrays.toString(event.getDays()));
-
-        sb.append("\n");
+        if (!isEnabled(Level.INFO)) return;
+        synchronized (lock) {
+            Entry e = claim(KIND_EVENT);
+            e.intVal = type;
+            e.id = event.getId();
+            e.text = event.getName();
+            e.tag = event.getCard() != null ? event.getCard().getName() : null;
+            e.longVal = event.getTimeStamp().getStartMinute();
+            e.longVal2 = event.getTimeStamp().getEndMinute();
+            e.flag = event.isRecurring();
+            e.intVal2 = 0;
+            if (event.isRecurring()) {
+                // days are kept sorted, so a mask of them is written back out in the same order
+                for (Event.DayOfWeek day : event.getDays()) {
+                    e.intVal2 |= 1 << day.ordinal();
+                }
+            }
+        }
     }
 
     public void reportCardAction(Card card, int type) {
-        SimpleDateFormat sdf = new SimpleDateFormat("[HH:mm:ss]");
-        sb.append(sdf.format(Calendar.getInstance().getTime()));
+        if (!isEnabled(Level.INFO)) return;
+        StringBuilder sb = new StringBuilder();
         sb.append(" [INFO]");
 
         if(type == 0) {
@@ -129,6 +241,7 @@ public class EventLog {
         sb.append(", TITLE=").append(card.getName());
         sb.append(", COLOR=").append(card.getColor());
         sb.append("\n");
+        log(sb);
     }
 
     /**
@@ -139,53 +252,75 @@ public class EventLog {
      * @param nonOverflow overflow status for Day
      */
     public void reportDayAction(Day day, Task task, boolean nonOverflow) {
-        SimpleDateFormat sdf = new SimpleDateFormat("[HH:mm:ss]");
-        sb.append(sdf.format(Calendar.getInstance().getTime()));
-        sb.append(" [INFO] DAY:");
-        sb.append(" ID=").append(day.getId());
-        sb.append(", CAPACITY=").append(day.getCapacity());
-        sb.append(", HOURS_REMAINING=").append(day.getSpareHours());
-        sb.append(", HOURS_FILLED=").append(day.getHoursFilled());
-        sb.append(", TASK ADDED=").append(task.getId());
-        sb.append(", OVERFLOW=").append(!nonOverflow).append("\n");
+        // called for every SubTask placed, so only the fields are copied here
+        if (!isEnabled(Level.TRACE)) return;
+        synchronized (lock) {
+            Entry e = claim(KIND_DAY);
+            e.id = day.getId();
+            e.intVal = task.getId();
+            e.d0 = day.getCapacity();
+            e.d1 = day.getSpareHours();
+            e.d2 = day.getHoursFilled();
+            e.flag = !nonOverflow;
+        }
     }
 
     /**
      * Reports the start of scheduling
      */
     public void reportSchedulingStart() {
-        SimpleDateFormat sdf = new SimpleDateFormat("[HH:mm:ss]");
-        sb.append(sdf.format(Calendar.getInstance().getTime()));
+        if (!isEnabled(Level.INFO)) return;
+        StringBuilder sb = new StringBuilder();
         sb.append(" [INFO]");
         sb.append(" SCHEDULING HAS BEGUN...\n");
+        log(sb);
     }
 
     /**
      * Reports the end of scheduling
      */
     public void reportSchedulingFinish() {
-        SimpleDateFormat sdf = new SimpleDateFormat("[HH:mm:ss]");
-        sb.append(sdf.format(Calendar.getInstance().getTime()));
+        if (!isEnabled(Level.INFO)) return;
+        StringBuilder sb = new StringBuilder();
         sb.append(" [INFO]");
         sb.append(" SCHEDULING HAS FINISHED...\n");
+        log(sb);
     }
 
     public void reportSerializingSchedule(String filename) {
-        SimpleDateFormat sdf = new SimpleDateFormat("[HH:mm:ss]");
-        sb.append(sdf.format(Calendar.getInstance().getTime()));
-
+        if (!isEnabled(Level.INFO)) return;
+        StringBuilder sb = new StringBuilder();
         sb.append(" [INFO]");
         sb.append(" SERIALIZING DATA TO ").append(filename);
         sb.append('\n');
+        log(sb);
     }
 
-    public void reportDeserializingSchedule(String filename) {
-        SimpleDateFormat sdf = new SimpleDateFormat("[HH:mm:ss]");
-        sb.append(sdf.format(Calendar.getInstance().getTime()));
+    /**
+     * Reports a script run in place of the changes it applied
+     *
+     * @param filename name of the script
+     * @param numCommands number of commands in the script
+     * @param numChanges number of commands which changed the schedule data
+     */
+    public void reportRunScript(String filename, int numCommands, int numChanges) {
+        if (!isEnabled(Level.INFO)) return;
+        StringBuilder sb = new StringBuilder();
+        sb.append(" [INFO]");
+        sb.append(" RUNNING SCRIPT ").append(filename);
+        sb.append(": COMMANDS=").append(numCommands);
+        sb.append(", CHANGES=").append(numChanges);
+        sb.append('\n');
+        log(sb);
+    }
 
+    public void reportDeserializingSchedule(String filename) {
+        if (!isEnabled(Level.INFO)) return;
+        StringBuilder sb = new StringBuilder();
         sb.append(" [INFO]");
         sb.append(" DESERIALIZING DATA FROM ").append(filename);
         sb.append('\n');
+        log(sb);
     }
 
     /**
@@ -194,14 +329,14 @@ public class EventLog {
      * @param day Day being displayed to STDOUT
      */
     public void reportDisplayDaySchedule(Day day) {
-        SimpleDateFormat sdf = new SimpleDateFormat("[HH:mm:ss]");
-        sb.append(sdf.format(Calendar.getInstance().getTime()));
+        if (!isEnabled(Level.INFO)) return;
+        StringBuilder sb = new StringBuilder();
         sb.append(" [INFO]");
         sb.append(" Display Day_Schedule: ");
         sb.append("CAPACITY=").append(day.getCapacity());
         sb.append(", HOURS_FILLED=").append(day.getHoursFilled());
         sb.append(", NUM_TASKS=").append(day.getNumSubTasks()).append("\n");
-
+        log(sb);
     }
 
     /**
@@ -212,12 +347,13 @@ public class EventLog {
      * @param status whether output is directed to STDOUT or not
      */
     public void reportDisplaySchedule(int days, int numTasks, boolean status) {
-        SimpleDateFormat sdf = new SimpleDateFormat("[HH:mm:ss]");
-        sb.append(sdf.format(Calendar.getInstance().getTime()));
+        if (!isEnabled(Level.INFO)) return;
+        StringBuilder sb = new StringBuilder();
         sb.append(" [INFO]");
         sb.append(" Display Schedule: DAYS=").append(days);
         sb.append(", NUM_TASKS=").append(numTasks);
         sb.append(", STDOUT=").append(status).append("\n");
+        log(sb);
     }
 
     /**
@@ -226,9 +362,10 @@ public class EventLog {
      * @param e exception being reported
      */
     public void reportException(Exception e) {
-        SimpleDateFormat sdf = new SimpleDateFormat("[HH:mm:ss]");
-        sb.append(sdf.format(Calendar.getInstance().getTime()));
+        if (!isEnabled(Level.ERROR)) return;
+        StringBuilder sb = new StringBuilder();
         sb.append(" [ERROR] ").append(e.getMessage()).append("\n");
+        log(sb);
     }
 
 
@@ -238,10 +375,11 @@ public class EventLog {
      * @param filename name of Config file
      */
     public void reportProcessConfig(String filename) {
-        SimpleDateFormat sdf = new SimpleDateFormat("[HH:mm:ss]");
-        sb.append(sdf.format(Calendar.getInstance().getTime()));
+        if (!isEnabled(Level.INFO)) return;
+        StringBuilder sb = new StringBuilder();
         sb.append(" [INFO]");
         sb.append(" Reading Config: FILE=").append(filename).append("\n");
+        log(sb);
     }
 
     /**
@@ -263,8 +401,8 @@ public class EventLog {
      * @param value Object value now being utilized
      */
     public void reportConfigAction(int idx, Object value) {
-        SimpleDateFormat sdf = new SimpleDateFormat("[HH:mm:ss]");
-        sb.append(sdf.format(Calendar.getInstance().getTime()));
+        if (!isEnabled(Level.INFO)) return;
+        StringBuilder sb = new StringBuilder();
         sb.append(" [INFO]");
         if(idx == 0) {
             if(value instanceof String) {
@@ -327,6 +465,7 @@ public class EventLog {
                 throw new InputMismatchException("Expected <Integer> for <MIN_HOURS>");
             }
         }
+        log(sb);
     }
 
     /**
@@ -335,10 +474,11 @@ public class EventLog {
      * @param filename name of input file
      */
     public void reportReadJBinFile(String filename) {
-        SimpleDateFormat sdf = new SimpleDateFormat("[HH:mm:ss]");
-        sb.append(sdf.format(Calendar.getInstance().getTime()));
+        if (!isEnabled(Level.INFO)) return;
+        StringBuilder sb = new StringBuilder();
         sb.append(" [INFO]");
         sb.append(" READ(JBIN): FILE=").append(filename).append("\n");
+        log(sb);
     }
 
     /**
@@ -347,40 +487,44 @@ public class EventLog {
      * @param filename name of output file
      */
     public void reportWriteJBinFile(String filename) {
-        SimpleDateFormat sdf = new SimpleDateFormat("[HH:mm:ss]");
-        sb.append(sdf.format(Calendar.getInstance().getTime()));
+        if (!isEnabled(Level.INFO)) return;
+        StringBuilder sb = new StringBuilder();
         sb.append(" [INFO]");
         sb.append(" WRITE(JBIN): FILE=").append(filename).append("\n");
+        log(sb);
     }
 
     /**
      * Reports the creation of a JBin file
      */
     public void reportCreateJBin() {
-        SimpleDateFormat sdf = new SimpleDateFormat("[HH:mm:ss]");
-        sb.append(sdf.format(Calendar.getInstance().getTime()));
+        if (!isEnabled(Level.INFO)) return;
+        StringBuilder sb = new StringBuilder();
         sb.append(" [INFO]");
         sb.append(" JBIN FILE CREATED...\n");
+        log(sb);
     }
 
     /**
      * Reports the processing of a JBin file
      */
     public void reportProcessJBin() {
-        SimpleDateFormat sdf = new SimpleDateFormat("[HH:mm:ss]");
-        sb.append(sdf.format(Calendar.getInstance().getTime()));
+        if (!isEnabled(Level.INFO)) return;
+        StringBuilder sb = new StringBuilder();
         sb.append(" [INFO]");
         sb.append(" JBIN FILE PROCESSED...\n");
+        log(sb);
     }
 
     /**
      * Reports the User's most recent login
      */
     public void reportUserLogin() {
-        SimpleDateFormat sdf = new SimpleDateFormat("[HH:mm:ss]");
-        sb.append(sdf.format(Calendar.getInstance().getTime()));
+        if (!isEnabled(Level.INFO)) return;
+        StringBuilder sb = new StringBuilder();
         sb.append(" [INFO]");
         sb.append(" CURRENT SESSION HAS BEGUN...\n");
+        log(sb);
     }
 
     /**
@@ -389,8 +533,8 @@ public class EventLog {
      * @param userConfig UserConfig attributes
      */
     public void reportUserConfigAttr(UserConfig userConfig) {
-        SimpleDateFormat sdf = new SimpleDateFormat("[HH:mm:ss]");
-        sb.append(sdf.format(Calendar.getInstance().getTime()));
+        if (!isEnabled(Level.INFO)) return;
+        StringBuilder sb = new StringBuilder();
         sb.append(" [INFO]");
         sb.append(" RANGE=").append(Arrays.toString(userConfig.getDailyHoursRange()));
         sb.append(", WEEK_HOURS=").append(Arrays.toString(userConfig.getHoursPerDayOfWeek()));
@@ -400,7 +544,10 @@ public class EventLog {
         sb.append(", OVERFLOW=").append(userConfig.isOverflow());
         sb.append(", MIN_HOURS=").append(Arrays.toString(userConfig.getSubtaskRange()));
         sb.append(", OPTIMIZE_DAY=").append(userConfig.isOptimizeDay());
-        sb.append(", DEFAULT_AT_START=").append(userConfig.isDefaultAtStart()).append("\n");
+        sb.append(", DEFAULT_AT_START=").append(userConfig.isDefaultAtStart());
+        sb.append(", SCHEDULER=").append(userConfig.getScheduler());
+        sb.append(", FAST_START=").append(userConfig.isFastStart()).append("\n");
+        log(sb);
     }
 
     public void reportJsonActions() {
@@ -408,66 +555,320 @@ public class EventLog {
     }
 
     public void reportExcelFileNameChange(String newName) {
-        SimpleDateFormat sdf = new SimpleDateFormat("[HH:mm:ss]");
-        sb.append(sdf.format(Calendar.getInstance().getTime()));
+        if (!isEnabled(Level.INFO)) return;
+        StringBuilder sb = new StringBuilder();
         sb.append(" [INFO]");
         sb.append(" EXCEL FILE NAME HAS BEEN CHANGED TO '").append(newName).append(".xlsx'...\n");
+        log(sb);
     }
 
     public void reportExcelFileCreation() {
-        SimpleDateFormat sdf = new SimpleDateFormat("[HH:mm:ss]");
-        sb.append(sdf.format(Calendar.getInstance().getTime()));
+        if (!isEnabled(Level.INFO)) return;
+        StringBuilder sb = new StringBuilder();
         sb.append(" [INFO]");
         sb.append(" EXCEL FILE CREATION PROCESSED...\n");
+        log(sb);
     }
 
     public void reportExcelExportSchedule() {
-        SimpleDateFormat sdf = new SimpleDateFormat("[HH:mm:ss]");
-        sb.append(sdf.format(Calendar.getInstance().getTime()));
+        if (!isEnabled(Level.INFO)) return;
+        StringBuilder sb = new StringBuilder();
         sb.append(" [INFO]");
         sb.append(" SCHEDULE EXPORTED TO EXCEL FILE...\n");
+        log(sb);
     }
 
     public void reportGoogleCalendarAuthorization() {
-        SimpleDateFormat sdf = new SimpleDateFormat("[HH:mm:ss]");
-        sb.append(sdf.format(Calendar.getInstance().getTime()));
+        if (!isEnabled(Level.INFO)) return;
+        StringBuilder sb = new StringBuilder();
         sb.append(" [INFO]");
         sb.append(" GOOGLE CALENDAR AUTHORIZATION PROCESSED...\n");
+        log(sb);
     }
 
     public void reportGoogleCalendarCleanSchedule(int numTasksDeleted) {
-        SimpleDateFormat sdf = new SimpleDateFormat("[HH:mm:ss]");
-        sb.append(sdf.format(Calendar.getInstance().getTime()));
+        if (!isEnabled(Level.INFO)) return;
+        StringBuilder sb = new StringBuilder();
         sb.append(" [INFO]");
         sb.append(" ").append(numTasksDeleted).append(" TASKS REMOVED FROM GOOGLE CALENDAR...\n");
+        log(sb);
     }
 
-    public void reportGoogleCalendarExportSchedule() {
-        SimpleDateFormat sdf = new SimpleDateFormat("[HH:mm:ss]");
-        sb.append(sdf.format(Calendar.getInstance().getTime()));
+    public void reportGoogleCalendarExportSchedule(int numExported, int numFailed) {
+        if (!isEnabled(Level.INFO)) return;
+        StringBuilder sb = new StringBuilder();
         sb.append(" [INFO]");
-        sb.append(" SCHEDULE EXPORTED TO GOOGLE CALENDAR...\n");
+        sb.append(" SCHEDULE EXPORTED TO GOOGLE CALENDAR: EXPORTED=").append(numExported)
+                .append(", FAILED=").append(numFailed).append("...\n");
+        log(sb);
+    }
+
+    public void reportGoogleCalendarSyncSchedule(int numInserted, int numUpdated, int numDeleted, int numFailed) {
+        if (!isEnabled(Level.INFO)) return;
+        StringBuilder sb = new StringBuilder();
+        sb.append(" [INFO]");
+        sb.append(" SCHEDULE SYNCED TO GOOGLE CALENDAR: INSERTED=").append(numInserted)
+                .append(", UPDATED=").append(numUpdated)
+                .append(", DELETED=").append(numDeleted)
+                .append(", FAILED=").append(numFailed).append("...\n");
+        log(sb);
     }
 
     public void reportGoogleCalendarImportSchedule() {
-        SimpleDateFormat sdf = new SimpleDateFormat("[HH:mm:ss]");
-        sb.append(sdf.format(Calendar.getInstance().getTime()));
+        if (!isEnabled(Level.INFO)) return;
+        StringBuilder sb = new StringBuilder();
         sb.append(" [INFO]");
         sb.append(" SCHEDULE IMPORTED FROM GOOGLE CALENDAR...\n");
+        log(sb);
     }
 
     /**
      * Reports that current session has ended
      */
     public void reportExitSession() {
-        SimpleDateFormat sdf = new SimpleDateFormat("[HH:mm:ss]");
-        sb.append(sdf.format(Calendar.getInstance().getTime()));
+        if (!isEnabled(Level.INFO)) return;
+        StringBuilder sb = new StringBuilder();
         sb.append(" [INFO]");
         sb.append(" CURRENT SESSION HAS ENDED...\n");
+        log(sb);
+    }
+
+    /**
+     * Writes every recorded entry to the log file and waits until they are written. Does nothing for a log without
+     * a file.
+     */
+    public void flush() {
+        if (logFile != null) {
+            drain();
+        }
+    }
+
+    /**
+     * Flushes the log and stops its background thread. Reports made afterwards are ignored.
+     */
+    public void close() {
+        if (closed) return;
+        closed = true;
+        synchronized (lock) {
+            lock.notifyAll();
+        }
+        if (writer != null) {
+            try {
+                flusher.join();
+                drain();
+                writer.close();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException e) {
+                // nothing left to report to
+            }
+        }
+    }
+
+    /**
+     * Records a preformatted report
+     *
+     * @param message report following the time of day
+     */
+    private void log(CharSequence message) {
+        synchronized (lock) {
+            claim(KIND_MESSAGE).text = message.toString();
+        }
     }
 
+    /**
+     * Claims the next entry of the ring buffer, waiting for the flusher if it is full (or dropping the oldest entry
+     * for a log without a file). Must be called while holding the lock.
+     *
+     * @param kind kind of entry
+     * @return entry to be filled in
+     */
+    private Entry claim(int kind) {
+        while (count == ring.length) {
+            if (logFile == null || closed) {
+                head = (head + 1) % ring.length;
+                count--;
+            } else {
+                lock.notifyAll();
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    head = (head + 1) % ring.length;
+                    count--;
+                }
+            }
+        }
+        Entry e = ring[(head + count) % ring.length];
+        count++;
+        e.time = System.currentTimeMillis();
+        e.kind = kind;
+        if (logFile != null && count == ring.length / 2) {
+            lock.notifyAll();
+        }
+        return e;
+    }
+
+    private void runFlusher() {
+        while (!closed) {
+            synchronized (lock) {
+                if (count < ring.length / 2 && !closed) {
+                    try {
+                        lock.wait(FLUSH_INTERVAL_MS);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }
+            drain();
+        }
+    }
+
+    /**
+     * Moves all entries out of the ring buffer and appends them to the log file
+     */
+    private synchronized void drain() {
+        int n;
+        synchronized (lock) {
+            n = count;
+            for (int i = 0; i < n; i++) {
+                int idx = (head + i) % ring.length;
+                Entry e = ring[idx];
+                ring[idx] = batch[i];
+                batch[i] = e;
+            }
+            head = (head + n) % ring.length;
+            count = 0;
+            lock.notifyAll();
+        }
+        if (n == 0 && closed) return;
+        try {
+            StringBuilder sb = new StringBuilder();
+            SimpleDateFormat sdf = new SimpleDateFormat("[HH:mm:ss]");
+            SimpleDateFormat dateFormat = new SimpleDateFormat("dd-MM-yyyy");
+            for (int i = 0; i < n; i++) {
+                sb.setLength(0);
+                format(batch[i], sdf, dateFormat, sb);
+                writer.append(sb);
+            }
+            writer.flush();
+        } catch (IOException e) {
+            // the log is best effort, so entries which could not be written are dropped
+        }
+    }
+
+    private static void format(Entry e, SimpleDateFormat sdf, SimpleDateFormat dateFormat, StringBuilder sb) {
+        sb.append(sdf.format(new Date(e.time)));
+        switch (e.kind) {
+            case KIND_TASK:
+                sb.append(" [INFO]");
+                if (e.intVal == 0) {
+                    sb.append(" ADD(TASK):");
+                } else if (e.intVal == 1) {
+                    sb.append(" REM(TASK):");
+                } else if (e.intVal == 2) {
+                    sb.append(" MOD(TASK):");
+                }
+                sb.append(" ID=").append(e.id);
+                sb.append(", NAME=").append(e.text);
+                sb.append(", TAG=").append(e.tag);
+                sb.append(", HOURS=").append(e.d0);
+                Calendar due = Time.toCalendar(e.longVal * Time.MINUTES_PER_DAY);
+                sb.append(", DUE=").append(dateFormat.format(due.getTime()));
+                sb.append(", ARCHIVED=").append(e.flag ? "TRUE" : "FALSE").append("\n");
+                break;
+            case KIND_DAY:
+                sb.append(" [INFO] DAY:");
+                sb.append(" ID=").append(e.id);
+                sb.append(", CAPACITY=").append(e.d0);
+                sb.append(", HOURS_REMAINING=").append(e.d1);
+                sb.append(", HOURS_FILLED=").append(e.d2);
+                sb.append(", TASK ADDED=").append(e.intVal);
+                sb.append(", OVERFLOW=").append(e.flag).append("\n");
+                break;
+            case KIND_EVENT:
+                sb.append(" [INFO]");
+                if (e.intVal == 0) {
+                    sb.append(" ADD(EVENT):");
+                } else if (e.intVal == 1) {
+                    sb.append(" REM(EVENT):");
+                } else if (e.intVal == 2) {
+                    sb.append(" MOD(EVENT):");
+                }
+                sb.append(" ID=").append(e.id);
+                sb.append(", NAME=").append(e.text);
+                sb.append(", TAG=").append(e.tag);
+                sb.append(", TIMESTAMP=").append(new Time.TimeStamp(e.longVal, e.longVal2));
+                sb.append(", DATE=").append(dateFormat.format(Time.toCalendar(e.longVal).getTime()));
+                sb.append(", RECURRENCE=").append(e.flag);
+                if (e.flag) {
+                    List<Event.DayOfWeek> days = new ArrayList<>();
+                    for (Event.DayOfWeek day : Event.DayOfWeek.values()) {
+                        if ((e.intVal2 & 1 << day.ordinal()) != 0) {
+                            days.add(day);
+                        }
+                    }
+                    sb.append(", DAYS=").append(days);
+                }
+                sb.append("\n");
+                break;
+            default:
+                sb.append(e.text);
+        }
+    }
+
+    private static Entry[] createEntries(int capacity) {
+        Entry[] entries = new Entry[capacity];
+        for (int i = 0; i < capacity; i++) {
+            entries[i] = new Entry();
+        }
+        return entries;
+    }
+
+    /**
+     * Gets the contents of the log. For a log with a file this is the whole session read back from the file,
+     * otherwise it is the most recent entries held in memory.
+     *
+     * @return contents of the log
+     */
     @Override
     public String toString() {
+        if (logFile != null) {
+            flush();
+            try {
+                return Files.readString(logFile);
+            } catch (IOException e) {
+                return header;
+            }
+        }
+        StringBuilder sb = new StringBuilder(header);
+        SimpleDateFormat sdf = new SimpleDateFormat("[HH:mm:ss]");
+        SimpleDateFormat dateFormat = new SimpleDateFormat("dd-MM-yyyy");
+        synchronized (lock) {
+            for (int i = 0; i < count; i++) {
+                format(ring[(head + i) % ring.length], sdf, dateFormat, sb);
+            }
+        }
         return sb.toString();
     }
-}
\ No newline at end of file
+
+    /**
+     * Slot of the ring buffer. The meaning of each field depends on the kind of entry, and the fields are
+     * overwritten every time the slot is reused.
+     */
+    private static class Entry {
+        long time;
+        int kind;
+        int id;
+        int intVal;
+        int intVal2;
+        long longVal;
+        long longVal2;
+        double d0;
+        double d1;
+        double d2;
+        boolean flag;
+        String text;
+        String tag;
+    }
+}
@@ -2,6 +2,7 @@ package com.planner.util;
 
 import com.planner.models.Card;
 import com.planner.models.Task;
+import com.planner.schedule.day.Day;
 import com.google.api.client.util.DateTime;
 import com.google.api.services.calendar.model.Event;
 import com.google.api.services.calendar.model.EventDateTime;
@@ -9,7 +10,9 @@ import com.google.api.services.calendar.model.EventDateTime;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Handler of all core linker and utility functions for GoogleIO
@@ -19,6 +22,95 @@ import java.util.List;
  */
 public class GoogleCalendarUtil {
 
+    /** Private extended property holding the stable key of an exported Event or SubTask */
+    public static final String KEY_PROPERTY = "quickSchedKey";
+    /** Private extended property holding the hash of the exported content */
+    public static final String HASH_PROPERTY = "quickSchedHash";
+
+    /**
+     * Formats every Event and SubTask of the schedule into a Google event tagged with a stable key and content hash.
+     * Events are keyed by their id and day, while SubTasks are keyed by their parent Task, day and position among the
+     * SubTasks of that Task on the day, so the same item maps to the same Google event on every export.
+     *
+     * @param schedule List of Days to be formatted
+     * @return List of tagged Google events
+     */
+    public static List<Event> formatScheduleToGoogleEvents(List<Day> schedule) {
+        List<Event> events = new ArrayList<>();
+        Map<Integer, Integer> subTaskCount = new HashMap<>();
+        for (Day day : schedule) {
+            for (com.planner.models.Event e : day.getEventList()) {
+                events.add(setKey(formatEventToGoogleEvent(e), "event-" + e.getId() + "-" + day.getEpochDay()));
+            }
+            subTaskCount.clear();
+            for (Task.SubTask subTask : day.getSubTaskList()) {
+                int taskId = subTask.getParentTask().getId();
+                int n = subTaskCount.merge(taskId, 1, Integer::sum);
+                events.add(setKey(formatTaskToGoogleEvent(subTask), "task-" + taskId + "-" + day.getEpochDay() + "-" + n));
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Gets the stable key of a Google event created by this application
+     *
+     * @param event Google event
+     * @return key of the event, or null if it has none
+     */
+    public static String getKey(Event event) {
+        return getPrivateProperty(event, KEY_PROPERTY);
+    }
+
+    /**
+     * Gets the content hash stored with a Google event created by this application
+     *
+     * @param event Google event
+     * @return content hash of the event, or null if it has none
+     */
+    public static String getHash(Event event) {
+        return getPrivateProperty(event, HASH_PROPERTY);
+    }
+
+    /**
+     * Checks whether a Google event was created by this application
+     *
+     * @param event Google event
+     * @return true if the event is tagged as an Agile Planner event
+     */
+    public static boolean isTagged(Event event) {
+        return getKey(event) != null
+                || event.getDescription() != null && event.getDescription().contains("eb007aba6df2559a02ceb17ddba47c85b3e2b930");
+    }
+
+    private static String getPrivateProperty(Event event, String name) {
+        if (event.getExtendedProperties() == null || event.getExtendedProperties().getPrivate() == null) {
+            return null;
+        }
+        return event.getExtendedProperties().getPrivate().get(name);
+    }
+
+    private static Event setKey(Event event, String key) {
+        Map<String, String> properties = new HashMap<>();
+        properties.put(KEY_PROPERTY, key);
+        properties.put(HASH_PROPERTY, hashContent(event));
+        return event.setExtendedProperties(new Event.ExtendedProperties().setPrivate(properties));
+    }
+
+    /**
+     * Hashes every field written by this application with 64-bit FNV-1a
+     */
+    private static String hashContent(Event event) {
+        String content = event.getSummary() + '\u0000' + event.getDescription() + '\u0000'
+                + event.getStart().getDateTime().getValue() + '\u0000' + event.getEnd().getDateTime().getValue()
+                + '\u0000' + event.getColorId();
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < content.length(); i++) {
+            hash = (hash ^ content.charAt(i)) * 0x100000001b3L;
+        }
+        return Long.toHexString(hash);
+    }
+
     public static Event formatTaskToGoogleEvent(Task.SubTask subTask) {
         Task task = subTask.getParentTask();
         Event event = new Event().setSummary(task.getName()); //todo need to display label names with given Task
@@ -56,7 +148,7 @@ public class GoogleCalendarUtil {
     public static List<String> formatGoogleEventsToTasks(List<Event> items) throws IOException {
         List<String> tasks = new ArrayList<>();
         for(Event i1 : items) {
-            if(i1.getDescription() != null && i1.getDescription().contains("eb007aba6df2559a02ceb17ddba47c85b3e2b930")) {
+            if(isTagged(i1)) {
                 String title = i1.getSummary();
                 String start = i1.getStart().toPrettyString();
                 String end = i1.getEnd().toPrettyString();
@@ -0,0 +1,809 @@
+package com.planner.util;
+
+import com.planner.manager.ScheduleManager;
+import com.planner.models.Card;
+import com.planner.models.Event;
+import com.planner.models.Task;
+import com.planner.schedule.day.Day;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * Reads and writes the compact binary schedule format (JBin), which holds the same records as the text '.sched'
+ * format written by {@link Serializer}.
+ * <p>
+ * Layout (version 1), where every integer is an unsigned LEB128 varint unless stated otherwise:
+ * <pre>
+ *   magic "QSJB", version
+ *   string table: count, then (UTF-8 byte length, bytes) per string
+ *   section count, then per section: tag byte (CARD, TASK, EVENT, DAY), record count, records
+ *     CARD  name, color ordinal
+ *     TASK  name, hours (8-byte IEEE double), card + 1 (0 = none), due epoch day (zigzag)
+ *     EVENT flags (recurring, has date), name, card + 1, weekday bitmask (SUN = bit 0) or epoch day (zigzag),
+ *           start minute of day, length in minutes
+ *     DAY   epoch day (zigzag), item count, items: (ref &lt;&lt; 2 | kind) where kind is TASK (followed by start
+ *           minute of day and length in minutes), EVENT or ERROR (ref is a string)
+ * </pre>
+ * Names and overflow messages are stored once in the string table and referenced by index. Records keep the order
+ * of the text format, so converting a '.sched' file to JBin and back reproduces it exactly.
+ */
+public class JBin {
+
+    /** Current version of the format */
+    public static final int VERSION = 1;
+    /** Leading bytes of every JBin file */
+    private static final byte[] MAGIC = {'Q', 'S', 'J', 'B'};
+
+    private static final int CARD = 1;
+    private static final int TASK = 2;
+    private static final int EVENT = 3;
+    private static final int DAY = 4;
+
+    private static final int ITEM_TASK = 0;
+    private static final int ITEM_EVENT = 1;
+    private static final int ITEM_ERROR = 2;
+
+    private static final int FLAG_RECURRING = 1;
+    private static final int FLAG_DATE = 2;
+
+    /**
+     * Receives the records of a schedule in file order. Implemented by the binary writer, the text writer and the
+     * loader into a {@link ScheduleManager}, so any input can be routed to any output.
+     */
+    interface Handler {
+
+        void startSection(int tag) throws IOException;
+
+        void endSection(int tag) throws IOException;
+
+        void card(String name, Card.Color color) throws IOException;
+
+        void task(String name, double hours, int cardIdx, long dueDay) throws IOException;
+
+        void event(boolean recurring, String name, int cardIdx, int weekdays, long epochDay, int start, int length) throws IOException;
+
+        void startDay(long epochDay) throws IOException;
+
+        void dayTask(int taskIdx, int start, int length) throws IOException;
+
+        void dayEvent(int eventIdx) throws IOException;
+
+        void dayError(String err) throws IOException;
+
+        void endDay() throws IOException;
+    }
+
+    /**
+     * Writes the schedule in the JBin format
+     *
+     * @param out destination of the schedule
+     * @param cards Cards being written, or null
+     * @param tasks Tasks being written, or null
+     * @param indivEvents individual Events being written, or null
+     * @param recurEvents recurring Events being written, or null
+     * @param days Days being written, or null
+     * @throws IOException if the output could not be written to
+     */
+    public static void writeSchedule(OutputStream out, List<Card> cards, List<Task> tasks, List<Event> indivEvents, List<Event> recurEvents, List<Day> days) throws IOException {
+        Encoder encoder = new Encoder();
+        List<Event> totalEvent = new ArrayList<>();
+        if (indivEvents != null) {
+            totalEvent.addAll(indivEvents);
+        }
+        if (recurEvents != null) {
+            totalEvent.addAll(recurEvents);
+        }
+        int[] cardOrdinals = Serializer.getOrdinals(cards, Card::getId);
+
+        if (cards != null) {
+            encoder.startSection(CARD);
+            for (Card card : cards) {
+                encoder.card(card.getName(), card.getColor());
+            }
+            encoder.endSection(CARD);
+        }
+
+        if (tasks != null) {
+            encoder.startSection(TASK);
+            for (Task task : tasks) {
+                int card = task.getCard() == null ? -1 : Serializer.getOrdinal(cardOrdinals, task.getCard().getId());
+                encoder.task(task.getName(), task.getTotalHours(), card, task.getDueDay());
+            }
+            encoder.endSection(TASK);
+        }
+
+        if (indivEvents != null || recurEvents != null) {
+            encoder.startSection(EVENT);
+            for (Event event : totalEvent) {
+                int card = event.getCard() == null ? -1 : Serializer.getOrdinal(cardOrdinals, event.getCard().getId());
+                Time.TimeStamp ts = event.getTimeStamp();
+                int weekdays = 0;
+                if (event.isRecurring()) {
+                    for (Event.DayOfWeek dayOfWeek : event.getDays()) {
+                        weekdays |= 1 << dayOfWeek.ordinal();
+                    }
+                }
+                encoder.event(event.isRecurring(), event.getName(), card, weekdays, ts.getEpochDay(),
+                        Time.getMinuteOfDay(ts.getStartMinute()), (int) (ts.getEndMinute() - ts.getStartMinute()));
+            }
+            encoder.endSection(EVENT);
+        }
+
+        if (days != null) {
+            int[] taskOrdinals = Serializer.getOrdinals(tasks, Task::getId);
+            int[] eventOrdinals = Serializer.getOrdinals(totalEvent, Event::getId);
+            encoder.startSection(DAY);
+            for (Day day : days) {
+                encoder.startDay(day.getEpochDay());
+                for (Task.SubTask subTask : day.getSubTaskList()) {
+                    int idx = Serializer.getOrdinal(taskOrdinals, subTask.getParentTask().getId());
+                    if (idx != -1) {
+                        Time.TimeStamp ts = subTask.getTimeStamp();
+                        encoder.dayTask(idx, Time.getMinuteOfDay(ts.getStartMinute()), (int) (ts.getEndMinute() - ts.getStartMinute()));
+                    }
+                }
+                for (Event event : day.getEventList()) {
+                    int idx = Serializer.getOrdinal(eventOrdinals, event.getId());
+                    if (idx != -1) {
+                        encoder.dayEvent(idx);
+                    }
+                }
+                for (String err : day.getOverflowErrors()) {
+                    encoder.dayError(err);
+                }
+                encoder.endDay();
+            }
+            encoder.endSection(DAY);
+        }
+
+        encoder.writeTo(out);
+    }
+
+    /**
+     * Reads a JBin file into the ScheduleManager through a memory-mapped {@link FileChannel}, with the same effect
+     * as reading the equivalent '.sched' file through {@link Serializer#readSchedule(Reader, ScheduleManager)}
+     *
+     * @param path location of the JBin file
+     * @param sm ScheduleManager receiving the Cards, Events, Tasks and Days
+     * @throws IOException if the file could not be read
+     */
+    public static void readSchedule(Path path, ScheduleManager sm) throws IOException {
+        readSchedule(map(path), sm);
+    }
+
+    /**
+     * Reads a schedule in the JBin format into the ScheduleManager
+     *
+     * @param in buffer positioned at the start of the schedule
+     * @param sm ScheduleManager receiving the Cards, Events, Tasks and Days
+     */
+    public static void readSchedule(ByteBuffer in, ScheduleManager sm) {
+        try {
+            decode(in, new Loader(sm));
+        } catch (IOException e) {
+            // the Loader never throws IOException
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Converts a schedule in the text '.sched' format into the JBin format
+     *
+     * @param in source of the '.sched' schedule
+     * @param out destination of the JBin schedule
+     * @throws IOException if the input could not be read or the output could not be written to
+     */
+    public static void convertToBinary(Reader in, OutputStream out) throws IOException {
+        Encoder encoder = new Encoder();
+        BufferedReader lineReader = in instanceof BufferedReader ? (BufferedReader) in : new BufferedReader(in);
+        Tokens tokens = new Tokens();
+        String line;
+        while ((line = lineReader.readLine()) != null) {
+            int tag;
+            switch (line.trim()) {
+                case "CARD {":
+                    tag = CARD;
+                    break;
+                case "TASK {":
+                    tag = TASK;
+                    break;
+                case "EVENT {":
+                    tag = EVENT;
+                    break;
+                case "DAY {":
+                    tag = DAY;
+                    break;
+                default:
+                    continue;
+            }
+            encoder.startSection(tag);
+            while ((line = lineReader.readLine()) != null && !"}".equals(line.trim())) {
+                parseRecord(tag, tokens.reset(line), encoder);
+            }
+            encoder.endSection(tag);
+        }
+        encoder.writeTo(out);
+    }
+
+    /**
+     * Converts a schedule in the JBin format into the text '.sched' format
+     *
+     * @param in buffer positioned at the start of the JBin schedule
+     * @param out destination of the '.sched' schedule
+     * @throws IOException if the output could not be written to
+     */
+    public static void convertToText(ByteBuffer in, Appendable out) throws IOException {
+        decode(in, new TextWriter(out));
+    }
+
+    /**
+     * Converts between the two formats, choosing the direction from the extension of the input file
+     * <p>
+     * Usage: {@code JBin <in.sched> <out.jbin>} or {@code JBin <in.jbin> <out.sched>}
+     *
+     * @param args input and output file
+     * @throws IOException if either file could not be accessed
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.out.println("Usage: JBin <in.sched> <out.jbin> | <in.jbin> <out.sched>");
+            return;
+        }
+        Path in = Paths.get(args[0]);
+        Path out = Paths.get(args[1]);
+        if (args[0].endsWith(".jbin")) {
+            try (Writer writer = Files.newBufferedWriter(out, StandardCharsets.UTF_8)) {
+                convertToText(map(in), writer);
+            }
+        } else {
+            try (Reader reader = Files.newBufferedReader(in, StandardCharsets.UTF_8);
+                 OutputStream os = new BufferedOutputStream(Files.newOutputStream(out))) {
+                convertToBinary(reader, os);
+            }
+        }
+    }
+
+    private static MappedByteBuffer map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private static void parseRecord(int tag, Tokens tokens, Handler handler) throws IOException {
+        switch (tag) {
+            case CARD: {
+                Parser.CardInfo ci = Parser.parseCard(tokens, 0);
+                handler.card(ci.getName(), ci.getColor());
+                break;
+            }
+            case TASK: {
+                Parser.TaskInfo ti = Parser.parseTask(tokens, 0);
+                handler.task(ti.getDesc(), ti.getHours(), ti.getCardId() == null ? -1 : ti.getCardId(), Time.toEpochDay(ti.getDue()));
+                break;
+            }
+            case EVENT: {
+                Parser.EventInfo ei = Parser.parseEvent(tokens, 0);
+                long start = Time.toEpochMinute(ei.getTimestamp()[0]);
+                long end = Time.toEpochMinute(ei.getTimestamp()[1]);
+                int weekdays = 0;
+                long epochDay = Long.MIN_VALUE;
+                if (ei.isRecurring()) {
+                    for (Calendar date : ei.getDates()) {
+                        weekdays |= 1 << (date.get(Calendar.DAY_OF_WEEK) - 1);
+                    }
+                } else if (ei.getDates() != null) {
+                    epochDay = Time.toEpochDay(ei.getDates().get(0));
+                }
+                handler.event(ei.isRecurring(), ei.getName(), ei.getCardId() == null ? -1 : ei.getCardId(), weekdays,
+                        epochDay, Time.getMinuteOfDay(start), (int) (end - start));
+                break;
+            }
+            default: {
+                Parser.DayInfo di = Parser.parseDay(new String[]{tokens.toString(0)});
+                handler.startDay(Time.toEpochDay(di.getDate()));
+                for (int i = 1; i < tokens.size(); i++) {
+                    char kind = tokens.charAt(i, 0);
+                    if (kind == 'T') {
+                        i++;
+                        Calendar[] ts = Parser.parseTimeStamp(tokens.getLine(), tokens.start(i), tokens.end(i));
+                        long start = Time.toEpochMinute(ts[0]);
+                        handler.dayTask(tokens.parseInt(i - 1, 1), Time.getMinuteOfDay(start),
+                                (int) (Time.toEpochMinute(ts[1]) - start));
+                    } else if (kind == 'E') {
+                        handler.dayEvent(tokens.parseInt(i, 1));
+                    } else if (kind == '"') {
+                        handler.dayError(tokens.substring(i, 1, tokens.length(i) - 1));
+                    } else {
+                        throw new IllegalArgumentException("Error: Days can only include tasks, events, and overflow messages");
+                    }
+                }
+                handler.endDay();
+            }
+        }
+    }
+
+    private static void decode(ByteBuffer in, Handler handler) throws IOException {
+        for (byte b : MAGIC) {
+            if (!in.hasRemaining() || in.get() != b) {
+                throw new IllegalArgumentException("Not a JBin file");
+            }
+        }
+        int version = readInt(in);
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported JBin version: " + version);
+        }
+
+        String[] strings = new String[readInt(in)];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[readInt(in)];
+            in.get(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        Card.Color[] colors = Card.Color.values();
+        int sections = readInt(in);
+        for (int s = 0; s < sections; s++) {
+            int tag = in.get();
+            int count = readInt(in);
+            handler.startSection(tag);
+            for (int r = 0; r < count; r++) {
+                switch (tag) {
+                    case CARD:
+                        handler.card(strings[readInt(in)], colors[readInt(in)]);
+                        break;
+                    case TASK:
+                        handler.task(strings[readInt(in)], in.getDouble(), readInt(in) - 1, readZigZag(in));
+                        break;
+                    case EVENT: {
+                        int flags = readInt(in);
+                        String name = strings[readInt(in)];
+                        int card = readInt(in) - 1;
+                        boolean recurring = (flags & FLAG_RECURRING) != 0;
+                        int weekdays = recurring ? readInt(in) : 0;
+                        long epochDay = (flags & FLAG_DATE) != 0 ? readZigZag(in) : Long.MIN_VALUE;
+                        handler.event(recurring, name, card, weekdays, epochDay, readInt(in), readInt(in));
+                        break;
+                    }
+                    case DAY: {
+                        handler.startDay(readZigZag(in));
+                        int items = readInt(in);
+                        for (int i = 0; i < items; i++) {
+                            int item = readInt(in);
+                            switch (item & 3) {
+                                case ITEM_TASK:
+                                    handler.dayTask(item >>> 2, readInt(in), readInt(in));
+                                    break;
+                                case ITEM_EVENT:
+                                    handler.dayEvent(item >>> 2);
+                                    break;
+                                case ITEM_ERROR:
+                                    handler.dayError(strings[item >>> 2]);
+                                    break;
+                                default:
+                                    throw new IllegalArgumentException("Invalid JBin day item");
+                            }
+                        }
+                        handler.endDay();
+                        break;
+                    }
+                    default:
+                        throw new IllegalArgumentException("Invalid JBin section: " + tag);
+                }
+            }
+            handler.endSection(tag);
+        }
+    }
+
+    private static int readInt(ByteBuffer in) {
+        return (int) readVarint(in);
+    }
+
+    private static long readZigZag(ByteBuffer in) {
+        long v = readVarint(in);
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    private static long readVarint(ByteBuffer in) {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            result |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint in JBin file");
+    }
+
+    private static String formatDate(long epochDay) {
+        Calendar date = Time.toCalendar(epochDay * Time.MINUTES_PER_DAY);
+        int day = date.get(Calendar.DAY_OF_MONTH);
+        int month = date.get(Calendar.MONTH) + 1;
+        return (day < 10 ? "0" : "") + day + "-" + (month < 10 ? "0" : "") + month + "-" + date.get(Calendar.YEAR);
+    }
+
+    private static Calendar toCalendar(long epochDay, int minute) {
+        return Time.toCalendar(epochDay * Time.MINUTES_PER_DAY + minute);
+    }
+
+    /**
+     * Encodes records into the JBin format. Records are buffered per section, since the string table and the
+     * record counts have to precede them in the file.
+     */
+    private static class Encoder implements Handler {
+
+        private final Map<String, Integer> stringIdx = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+        private final ByteSink body = new ByteSink();
+        private final ByteSink section = new ByteSink();
+        private final ByteSink dayItems = new ByteSink();
+        private int sections;
+        private int records;
+        private int items;
+
+        @Override
+        public void startSection(int tag) {
+            section.reset();
+            records = 0;
+        }
+
+        @Override
+        public void endSection(int tag) {
+            body.writeByte(tag);
+            body.writeVarint(records);
+            body.write(section);
+            sections++;
+        }
+
+        @Override
+        public void card(String name, Card.Color color) {
+            section.writeVarint(intern(name));
+            section.writeVarint(color.ordinal());
+            records++;
+        }
+
+        @Override
+        public void task(String name, double hours, int cardIdx, long dueDay) {
+            section.writeVarint(intern(name));
+            section.writeLong(Double.doubleToLongBits(hours));
+            section.writeVarint(cardIdx + 1);
+            section.writeZigZag(dueDay);
+            records++;
+        }
+
+        @Override
+        public void event(boolean recurring, String name, int cardIdx, int weekdays, long epochDay, int start, int length) {
+            boolean hasDate = !recurring && epochDay != Long.MIN_VALUE;
+            section.writeVarint((recurring ? FLAG_RECURRING : 0) | (hasDate ? FLAG_DATE : 0));
+            section.writeVarint(intern(name));
+            section.writeVarint(cardIdx + 1);
+            if (recurring) {
+                section.writeVarint(weekdays);
+            }
+            if (hasDate) {
+                section.writeZigZag(epochDay);
+            }
+            section.writeVarint(start);
+            section.writeVarint(length);
+            records++;
+        }
+
+        @Override
+        public void startDay(long epochDay) {
+            section.writeZigZag(epochDay);
+            dayItems.reset();
+            items = 0;
+        }
+
+        @Override
+        public void dayTask(int taskIdx, int start, int length) {
+            dayItems.writeVarint((long) taskIdx << 2 | ITEM_TASK);
+            dayItems.writeVarint(start);
+            dayItems.writeVarint(length);
+            items++;
+        }
+
+        @Override
+        public void dayEvent(int eventIdx) {
+            dayItems.writeVarint((long) eventIdx << 2 | ITEM_EVENT);
+            items++;
+        }
+
+        @Override
+        public void dayError(String err) {
+            dayItems.writeVarint((long) intern(err) << 2 | ITEM_ERROR);
+            items++;
+        }
+
+        @Override
+        public void endDay() {
+            section.writeVarint(items);
+            section.write(dayItems);
+            records++;
+        }
+
+        private int intern(String s) {
+            Integer idx = stringIdx.get(s);
+            if (idx == null) {
+                idx = strings.size();
+                stringIdx.put(s, idx);
+                strings.add(s);
+            }
+            return idx;
+        }
+
+        void writeTo(OutputStream out) throws IOException {
+            ByteSink header = new ByteSink();
+            header.write(MAGIC, MAGIC.length);
+            header.writeVarint(VERSION);
+            header.writeVarint(strings.size());
+            for (String s : strings) {
+                byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+                header.writeVarint(bytes.length);
+                header.write(bytes, bytes.length);
+            }
+            header.writeVarint(sections);
+            header.writeTo(out);
+            body.writeTo(out);
+            out.flush();
+        }
+    }
+
+    /**
+     * Writes records in the text '.sched' format, matching the output of {@link Serializer}
+     */
+    private static class TextWriter implements Handler {
+
+        private final Appendable out;
+
+        TextWriter(Appendable out) {
+            this.out = out;
+        }
+
+        @Override
+        public void startSection(int tag) throws IOException {
+            switch (tag) {
+                case CARD:
+                    out.append("CARD {\n");
+                    break;
+                case TASK:
+                    out.append("TASK {\n");
+                    break;
+                case EVENT:
+                    out.append("EVENT {\n");
+                    break;
+                default:
+                    out.append("DAY {\n");
+            }
+        }
+
+        @Override
+        public void endSection(int tag) throws IOException {
+            out.append(tag == DAY ? "}" : "}\n\n");
+        }
+
+        @Override
+        public void card(String name, Card.Color color) throws IOException {
+            out.append("\t\"").append(name).append("\" ").append(color.toString()).append('\n');
+        }
+
+        @Override
+        public void task(String name, double hours, int cardIdx, long dueDay) throws IOException {
+            out.append("\t\"").append(name).append("\" ").append(String.valueOf(hours)).append(' ');
+            if (cardIdx != -1) {
+                out.append("+C").append(String.valueOf(cardIdx)).append(' ');
+            }
+            out.append("@ ").append(formatDate(dueDay)).append('\n');
+        }
+
+        @Override
+        public void event(boolean recurring, String name, int cardIdx, int weekdays, long epochDay, int start, int length) throws IOException {
+            out.append('\t').append(String.valueOf(recurring)).append(" \"").append(name).append("\" ");
+            if (cardIdx != -1) {
+                out.append("+C").append(String.valueOf(cardIdx)).append(' ');
+            }
+            out.append("@ ");
+            if (recurring) {
+                StringJoiner days = new StringJoiner(" ");
+                for (Event.DayOfWeek dayOfWeek : Event.DayOfWeek.values()) {
+                    if ((weekdays & 1 << dayOfWeek.ordinal()) != 0) {
+                        days.add(dayOfWeek.name());
+                    }
+                }
+                out.append(days.toString()).append(' ');
+            } else if (epochDay != Long.MIN_VALUE) {
+                out.append(formatDate(epochDay)).append(' ');
+            }
+            out.append(new Time.TimeStamp(start, start + length).toString()).append('\n');
+        }
+
+        @Override
+        public void startDay(long epochDay) throws IOException {
+            out.append('\t').append(formatDate(epochDay)).append(' ');
+        }
+
+        @Override
+        public void dayTask(int taskIdx, int start, int length) throws IOException {
+            out.append('T').append(String.valueOf(taskIdx)).append(' ')
+                    .append(new Time.TimeStamp(start, start + length).toString()).append(' ');
+        }
+
+        @Override
+        public void dayEvent(int eventIdx) throws IOException {
+            out.append('E').append(String.valueOf(eventIdx)).append(' ');
+        }
+
+        @Override
+        public void dayError(String err) throws IOException {
+            out.append('"').append(err).append("\" ");
+        }
+
+        @Override
+        public void endDay() throws IOException {
+            out.append('\n');
+        }
+    }
+
+    /**
+     * Loads records into a {@link ScheduleManager}, going through the same steps as {@link Serializer} does for
+     * the text format
+     */
+    private static class Loader implements Handler {
+
+        private final ScheduleManager sm;
+        private final int cardCount;
+        private final long today;
+        private final Calendar todayDate;
+        private List<Event> events;
+        private List<Task> tasks;
+        private List<Day> days;
+        private Parser.DayInfo dayInfo;
+        private long dayEpoch;
+
+        Loader(ScheduleManager sm) {
+            this.sm = sm;
+            this.cardCount = sm.getCards().size();
+            this.todayDate = Time.getFormattedCalendarInstance(0);
+            this.today = Time.toEpochDay(todayDate);
+        }
+
+        @Override
+        public void startSection(int tag) {
+            if (tag == TASK) {
+                tasks = new ArrayList<>();
+            } else if (tag == EVENT) {
+                events = new ArrayList<>();
+            } else if (tag == DAY) {
+                days = new ArrayList<>();
+            }
+        }
+
+        @Override
+        public void endSection(int tag) {
+            if (tag == DAY && !days.isEmpty()) {
+                sm.setSched(days);
+            }
+        }
+
+        @Override
+        public void card(String name, Card.Color color) {
+            sm.addCard(name, color);
+        }
+
+        @Override
+        public void task(String name, double hours, int cardIdx, long dueDay) {
+            Parser.TaskInfo ti = new Parser.TaskInfo(-1, name, toCalendar(dueDay, 0), hours, cardIdx == -1 ? null : cardIdx);
+            tasks.add(Serializer.addTask(ti, cardCount, sm));
+        }
+
+        @Override
+        public void event(boolean recurring, String name, int cardIdx, int weekdays, long epochDay, int start, int length) {
+            List<Calendar> dates = null;
+            if (recurring) {
+                dates = new ArrayList<>();
+                int todayIdx = Time.getDayOfWeekIndex(today);
+                for (int i = 0; i < 7; i++) {
+                    if ((weekdays & 1 << i) != 0) {
+                        dates.add(toCalendar(today + Math.floorMod(i - todayIdx, 7), 0));
+                    }
+                }
+            } else if (epochDay != Long.MIN_VALUE) {
+                dates = new ArrayList<>(List.of(toCalendar(epochDay, 0)));
+            }
+            Calendar[] timestamp = {toCalendar(today, start), toCalendar(today, start + length)};
+            Parser.EventInfo ei = new Parser.EventInfo(null, name, recurring, dates, timestamp, cardIdx == -1 ? null : cardIdx);
+            events.add(Serializer.addEvent(ei, cardCount, sm));
+        }
+
+        @Override
+        public void startDay(long epochDay) {
+            dayEpoch = epochDay;
+            dayInfo = new Parser.DayInfo(toCalendar(epochDay, 0), new HashMap<>(), new ArrayList<>(), new ArrayList<>());
+        }
+
+        @Override
+        public void dayTask(int taskIdx, int start, int length) {
+            long dayStart = dayEpoch * Time.MINUTES_PER_DAY;
+            dayInfo.getTaskTimeStampsMap().computeIfAbsent(taskIdx, k -> new ArrayList<>())
+                    .add(new Time.TimeStamp(dayStart + start, dayStart + start + length));
+        }
+
+        @Override
+        public void dayEvent(int eventIdx) {
+            dayInfo.getEventIds().add(eventIdx);
+        }
+
+        @Override
+        public void dayError(String err) {
+            dayInfo.getErrors().add(err);
+        }
+
+        @Override
+        public void endDay() {
+            days.add(Serializer.createDay(dayInfo, days.size(), events, tasks, todayDate, sm));
+        }
+    }
+
+    /**
+     * Growable byte array with varint encoding
+     */
+    private static class ByteSink {
+
+        private byte[] data = new byte[256];
+        private int size;
+
+        void reset() {
+            size = 0;
+        }
+
+        void writeByte(int b) {
+            if (size == data.length) {
+                data = Arrays.copyOf(data, size * 2);
+            }
+            data[size++] = (byte) b;
+        }
+
+        void write(byte[] bytes, int length) {
+            if (size + length > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, size + length));
+            }
+            System.arraycopy(bytes, 0, data, size, length);
+            size += length;
+        }
+
+        void write(ByteSink other) {
+            write(other.data, other.size);
+        }
+
+        void writeVarint(long v) {
+            while ((v & ~0x7FL) != 0) {
+                writeByte((int) (v & 0x7F) | 0x80);
+                v >>>= 7;
+            }
+            writeByte((int) v);
+        }
+
+        void writeZigZag(long v) {
+            writeVarint((v << 1) ^ (v >> 63));
+        }
+
+        void writeLong(long v) {
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                writeByte((int) (v >>> shift));
+            }
+        }
+
+        void writeTo(OutputStream out) throws IOException {
+            out.write(data, 0, size);
+        }
+    }
+}
@@ -2,78 +2,58 @@ package com.planner.util;
 
 import com.planner.models.Card;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.*;
 
 public class Parser {
 
-    private static final SimpleDateFormat DAY_MONTH_YEAR = new SimpleDateFormat("dd-MM-yyyy");
-    private static final SimpleDateFormat YEAR_MONTH_DAY = new SimpleDateFormat("yyyy-MM-dd");
+    /** Relative dates accepted wherever a date is expected, matched ignoring case */
+    private static final String[] DATE_KEYWORDS = {"TODAY", "TMRW", "EOW", "SUN", "SUNDAY", "MON", "MONDAY", "TUE",
+            "TUESDAY", "WED", "WEDNESDAY", "THU", "THURSDAY", "FRI", "FRIDAY", "SAT", "SATURDAY"};
+
+    /** Dates of the relative keywords for the current day, replaced once the day is over */
+    private static volatile RelativeDates relativeDates;
 
     public static String[] tokenize(String line) {
-        int start = 0;
-
-        List<String> tokens = new ArrayList<>();
-        while (start < line.length()) {
-            if (line.charAt(start) == ' ' || line.charAt(start) == '\t') {
-                start++;
-            } else if (line.charAt(start) == '"') {
-                int end = start + 1;
-                boolean closed = false;
-                while (end < line.length()) {
-                    if (line.charAt(end) == '"') {
-                        closed = true;
-                        break;
-                    }
-                    end++;
-                }
-                if (!closed) {
-                    throw new IllegalArgumentException("Strings must be closed by quotes.");
-                } else if (start + 1 == end) {
-                    throw new IllegalArgumentException("Strings cannot be empty.");
-                }
-                end++;
-                tokens.add(line.substring(start, end));
-                start = end;
-            } else {
-                int end = start + 1;
-                while (end < line.length()) {
-                    if (line.charAt(end) == ' ' || line.charAt(end) == '\t') {
-                        break;
-                    }
-                    end++;
-                }
-                tokens.add(line.substring(start, end));
-                start = end;
-            }
-        }
-        return tokens.toArray(new String[0]);
+        return Tokens.of(line).toArray();
     }
 
     // [DONE]
     public static TaskInfo parseTask(String[] args) {
+        return parseTask(Tokens.of(args), 1);
+    }
+
+    /**
+     * Parses the arguments of a 'task' command straight from the line, without copying out any token but the name
+     *
+     * @param args tokens of the command
+     * @param first index of the first argument, after the command name if the line has one
+     * @return parsed TaskInfo
+     */
+    public static TaskInfo parseTask(Tokens args, int first) {
         String name = null;
         Calendar due = null;
         Double hours = null;
         Integer cardId = null;
 
-        for (int i = 1; i < args.length; i++) {
-            if (args[i].charAt(0) == '"' && name == null) {
-                name = args[i].substring(1, args[i].length() - 1);
-            } else if (args[i].charAt(0) == '+' && cardId == null && args[i].length() > 2
-                    && (args[i].charAt(1) == 'c' || args[i].charAt(1) == 'C')) {
+        for (int i = first; i < args.size(); i++) {
+            if (args.charAt(i, 0) == '"' && name == null) {
+                name = args.substring(i, 1, args.length(i) - 1);
+            } else if (args.charAt(i, 0) == '+' && cardId == null && args.length(i) > 2
+                    && (args.charAt(i, 1) == 'c' || args.charAt(i, 1) == 'C')) {
                 try {
-                    cardId = Integer.parseInt(args[i].substring(2));
+                    cardId = args.parseInt(i, 2);
                 } catch (NumberFormatException e) {
                     throwAddTaskParsingError();
                 }
-            } else if ("@".equals(args[i]) && due == null && i + 1 < args.length) {
+            } else if (args.equals(i, "@") && due == null && i + 1 < args.size()) {
                 i++;
-                due = parseDate(args[i]);
+                due = parseDate(args.getLine(), args.start(i), args.end(i));
+                if (due == null) {
+                    throwDateParsingError();
+                }
             } else if (hours == null) {
                 try {
-                    hours = Double.parseDouble(args[i]);
+                    hours = args.parseDouble(i);
                 } catch (NumberFormatException e) {
                     throwAddTaskParsingError();
                 }
@@ -91,13 +71,24 @@ public class Parser {
 
     // [DONE]
     public static CardInfo parseCard(String[] args) {
+        return parseCard(Tokens.of(args), 1);
+    }
+
+    /**
+     * Parses the arguments of a 'card' command straight from the line
+     *
+     * @param args tokens of the command
+     * @param first index of the first argument, after the command name if the line has one
+     * @return parsed CardInfo
+     */
+    public static CardInfo parseCard(Tokens args, int first) {
         Card.Color color = null;
         String name = null;
-        for (int i = 1; i < args.length; i++) {
-            if (args[i].charAt(0) == '"' && name == null) {
-                name = args[i].substring(1, args[i].length() - 1);
+        for (int i = first; i < args.size(); i++) {
+            if (args.charAt(i, 0) == '"' && name == null) {
+                name = args.substring(i, 1, args.length(i) - 1);
             } else if (color == null) {
-                color = parseColor(args[i]);
+                color = parseColor(args.toString(i));
                 if (color == null) {
                     throwAddCardParsingError();
                 }
@@ -114,7 +105,18 @@ public class Parser {
     }
 
     public static EventInfo parseEvent(String[] args) {
-        if (args.length < 5) {
+        return parseEvent(Tokens.of(args), 1);
+    }
+
+    /**
+     * Parses the arguments of an 'event' command straight from the line, without copying out any token but the name
+     *
+     * @param args tokens of the command
+     * @param first index of the first argument, after the command name if the line has one
+     * @return parsed EventInfo
+     */
+    public static EventInfo parseEvent(Tokens args, int first) {
+        if (args.size() - first < 4) {
             throw new IllegalArgumentException("Invalid input. Expected format is:\n" +
                     "       event bool <name> [cardId] @ <date> <timestamp>");
         }
@@ -124,48 +126,43 @@ public class Parser {
         List<Calendar> dates = null;
         Calendar[] timestamp = null;
 
-        if ("true".equalsIgnoreCase(args[1])) {
+        if (args.equalsIgnoreCase(first, "true")) {
             recurring = true;
-        } else if (!"false".equalsIgnoreCase(args[1])) {
+        } else if (!args.equalsIgnoreCase(first, "false")) {
             throw new IllegalArgumentException("Invalid input. Expected format is:\n" +
                     "       event bool <name> [cardId] @ <date> <timestamp>");
         }
 
-        for (int i = 2; i < args.length; i++) {
-            if (args[i].charAt(0) == '"' && name == null) {
-                name = args[i].substring(1, args[i].length() - 1);
-            } else if (args[i].charAt(0) == '+' && cardId == null && args[i].length() > 2
-                    && (args[i].charAt(1) == 'c' || args[i].charAt(1) == 'C')) {
+        for (int i = first + 1; i < args.size(); i++) {
+            if (args.charAt(i, 0) == '"' && name == null) {
+                name = args.substring(i, 1, args.length(i) - 1);
+            } else if (args.charAt(i, 0) == '+' && cardId == null && args.length(i) > 2
+                    && (args.charAt(i, 1) == 'c' || args.charAt(i, 1) == 'C')) {
                 try {
-                    cardId = Integer.parseInt(args[i].substring(2));
+                    cardId = args.parseInt(i, 2);
                 } catch (NumberFormatException e) {
                     throwAddEventParsingError(recurring);
                 }
-            } else if ("@".equals(args[i]) && timestamp == null) {
-                if (i + 1 >= args.length) {
+            } else if (args.equals(i, "@") && timestamp == null) {
+                if (i + 1 >= args.size()) {
                     throwAddEventParsingError(recurring);
                 }
-                for (i = i + 1; i < args.length; i++) {
-                    try {
-                        Calendar d = parseDate(args[i]);
+                for (i = i + 1; i < args.size(); i++) {
+                    Calendar d = parseDate(args.getLine(), args.start(i), args.end(i));
+                    if (d != null) {
                         if (dates == null) {
                             dates = new ArrayList<>();
                         }
                         dates.add(d);
-                    } catch (IllegalArgumentException e) {
-                        try {
-                            Calendar[] ts = parseTimeStamp(args[i]);
-                            if (timestamp != null) {
-                                throw new IllegalArgumentException("Cannot have duplicate timestamps.");
-                            }
-                            timestamp = ts;
-                        } catch (IllegalArgumentException f) {
-                            if ("Cannot have duplicate timestamps.".equals(f.getMessage())) {
-                                throwAddEventParsingError(recurring);
-                            }
-                            i = i - 1;
-                            break;
+                    } else if (Character.isDigit(args.charAt(i, 0))) {
+                        // only a timestamp can start with a digit once it is not a date
+                        if (timestamp != null) {
+                            throwAddEventParsingError(recurring);
                         }
+                        timestamp = parseTimeStamp(args.getLine(), args.start(i), args.end(i));
+                    } else {
+                        i = i - 1;
+                        break;
                     }
                 }
                 if (timestamp == null) {
@@ -180,24 +177,25 @@ public class Parser {
     }
 
     public static DayInfo parseDay(String[] args) {
-        if (args.length == 0) {
+        return parseDay(Tokens.of(args));
+    }
+
+    /**
+     * Parses a Day record of a '.sched' file straight from the line, without copying out any token but the overflow
+     * messages
+     *
+     * @param args tokens of the record
+     * @return parsed DayInfo
+     */
+    public static DayInfo parseDay(Tokens args) {
+        if (args.size() == 0) {
             throw new IllegalArgumentException("Error: Must at least have a date");
         }
 
-        String dateString = args[0];
-
-        Calendar date = Time.getFormattedCalendarInstance(0);
-        Date due = null;
-        try {
-            due = DAY_MONTH_YEAR.parse(dateString);
-        } catch (ParseException e) {
-            try {
-                due = YEAR_MONTH_DAY.parse(dateString);
-            } catch (ParseException ex) {
-                throw new IllegalArgumentException("Invalid date format provided.");
-            }
+        Calendar date = parseNumericDate(args.getLine(), args.start(0), args.end(0));
+        if (date == null) {
+            throw new IllegalArgumentException("Invalid date format provided.");
         }
-        date.setTime(due);
 
         HashMap<Integer, List<Time.TimeStamp>> taskTimeStampMap = new HashMap<>();
 
@@ -205,17 +203,17 @@ public class Parser {
 
         List<String> overflowErrors = new ArrayList<>();
 
-        for (int i = 1; i < args.length; i++) {
-            if (args[i].charAt(0) == 'T') {
+        for (int i = 1; i < args.size(); i++) {
+            if (args.charAt(i, 0) == 'T') {
                 int id = -1;
                 try {
-                    id = Integer.parseInt(args[i].split("T")[1]);
+                    id = args.parseInt(i, 1);
                 }
                 catch (Exception e) {
                     throw new IllegalArgumentException("Error: T most be followed by task ID number");
                 }
 
-                Calendar[] parsedTimestamp = parseTimeStamp(args[i + 1]);
+                Calendar[] parsedTimestamp = parseTimeStamp(args.getLine(), args.start(i + 1), args.end(i + 1));
 
                 parsedTimestamp[0].set(Calendar.DAY_OF_MONTH, date.get(Calendar.DAY_OF_MONTH));
                 parsedTimestamp[0].set(Calendar.MONTH, date.get(Calendar.MONTH));
@@ -237,22 +235,18 @@ public class Parser {
                 }
 
                 i++;
-            } else if (args[i].charAt(0) == 'E') {
-//                if (i != args.length - 1 && !( args[i + 1].charAt(0) == 'T' || args[i + 1].charAt(0) == 'E' )) {
-//                    throw new IllegalArgumentException("Error: Events most be followed by tasks or events");
-//                }
-
+            } else if (args.charAt(i, 0) == 'E') {
                 int id = -1;
                 try {
-                    id = Integer.parseInt(args[i].split("E")[1]);
+                    id = args.parseInt(i, 1);
                 }
                 catch (Exception e) {
                     throw new IllegalArgumentException("Error: E most be followed by event ID number");
                 }
 
                 eventIds.add(id);
-            } else if (args[i].charAt(0) == '"' && args[i].charAt(args[i].length() - 1) == '"') {
-                overflowErrors.add(args[i].substring(1, args[i].length() - 1));
+            } else if (args.charAt(i, 0) == '"' && args.charAt(i, args.length(i) - 1) == '"') {
+                overflowErrors.add(args.substring(i, 1, args.length(i) - 1));
             }
             else {
                 throw new IllegalArgumentException("Error: Days can only include tasks, events, and overflow messages");
@@ -337,26 +331,20 @@ public class Parser {
                     throwModEventParsingError();
                 }
                 for (i = i + 1; i < args.length; i++) {
-                    try {
-                        Calendar d = parseDate(args[i]);
+                    Calendar d = parseDate(args[i], 0, args[i].length());
+                    if (d != null) {
                         if (dates == null) {
                             dates = new ArrayList<>();
                         }
                         dates.add(d);
-                    } catch (IllegalArgumentException e) {
-                        try {
-                            Calendar[] ts = parseTimeStamp(args[i]);
-                            if (timestamp != null) {
-                                throw new IllegalArgumentException("Cannot have duplicate timestamps.");
-                            }
-                            timestamp = ts;
-                        } catch (IllegalArgumentException f) {
-                            if ("Cannot have duplicate timestamps.".equals(f.getMessage())) {
-                                throwModEventParsingError();
-                            }
-                            i = i - 1;
-                            break;
+                    } else if (Character.isDigit(args[i].charAt(0))) {
+                        if (timestamp != null) {
+                            throwModEventParsingError();
                         }
+                        timestamp = parseTimeStamp(args[i]);
+                    } else {
+                        i = i - 1;
+                        break;
                     }
                 }
             } else {
@@ -442,61 +430,224 @@ public class Parser {
         }
     }
 
+    /**
+     * Parses the first and last date of a range of Days
+     *
+     * @param from first date of the range
+     * @param to last date of the range
+     * @return Calendar array holding the first and last date
+     */
+    public static Calendar[] parseDateRange(String from, String to) {
+        Calendar start = parseDate(from);
+        Calendar end = parseDate(to);
+        if (Time.toEpochDay(start) > Time.toEpochDay(end)) {
+            throw new IllegalArgumentException("Start date must not be after end date.");
+        }
+        return new Calendar[]{start, end};
+    }
+
     private static Calendar parseDate(String s) {
-        Calendar curr = Time.getFormattedCalendarInstance(0);
-        int day =  curr.get(Calendar.DAY_OF_WEEK) - 1;
-        int numDays = 0;
-        switch (s.toUpperCase()) {
-            case "TODAY":
-                return curr;
-            case "TMRW":
-                return Time.getFormattedCalendarInstance(curr, 1);
-            case "EOW":
-            case "SAT":
-            case "SATURDAY":
-                numDays = (Calendar.SATURDAY - day + 6) % 7;
-                return Time.getFormattedCalendarInstance(curr, numDays);
-            case "SUN":
-            case "SUNDAY":
-                numDays = (Calendar.SUNDAY - day + 6) % 7;
-                return Time.getFormattedCalendarInstance(curr, numDays);
-            case "MON":
-            case "MONDAY":
-                numDays = (Calendar.MONDAY - day + 6) % 7;
-                return Time.getFormattedCalendarInstance(curr, numDays);
-            case "TUE":
-            case "TUESDAY":
-                numDays = (Calendar.TUESDAY - day + 6) % 7;
-                return Time.getFormattedCalendarInstance(curr, numDays);
-            case "WED":
-            case "WEDNESDAY":
-                numDays = (Calendar.WEDNESDAY - day + 6) % 7;
-                return Time.getFormattedCalendarInstance(curr, numDays);
-            case "THU":
-            case "THURSDAY":
-                numDays = (Calendar.THURSDAY - day + 6) % 7;
-                return Time.getFormattedCalendarInstance(curr, numDays);
-            case "FRI":
-            case "FRIDAY":
-                numDays = (Calendar.FRIDAY - day + 6) % 7;
-                return Time.getFormattedCalendarInstance(curr, numDays);
+        Calendar date = parseDate(s, 0, s.length());
+        if (date == null) {
+            throwDateParsingError();
+        }
+        return date;
+    }
+
+    /**
+     * Parses a date such as 'tmrw', 'fri', '05-09-2024' or '2024-09-05' from part of a line. A part which is not a
+     * date is reported by returning null rather than by throwing, since every token after the '@' of an event is
+     * tried as a date before a timestamp.
+     *
+     * @param s line holding the date
+     * @param from offset of the first character of the date
+     * @param to offset after the last character of the date
+     * @return Calendar at 12:00 AM of the date, or null if that part of the line is not a date
+     */
+    static Calendar parseDate(CharSequence s, int from, int to) {
+        if (from < to && Character.isLetter(s.charAt(from))) {
+            return getRelativeDates().get(s, from, to);
+        }
+        return parseNumericDate(s, from, to);
+    }
+
+    /**
+     * Parses a date written as dd-MM-yyyy or yyyy-MM-dd, where the day and month may have a single digit. Unlike a
+     * lenient SimpleDateFormat, days past the end of the month are rejected rather than rolled over.
+     *
+     * @param s line holding the date
+     * @param from offset of the first character of the date
+     * @param to offset after the last character of the date
+     * @return Calendar at 12:00 AM of the date, or null if that part of the line is not a valid date
+     */
+    private static Calendar parseNumericDate(CharSequence s, int from, int to) {
+        int firstDash = indexOf(s, '-', from, to);
+        int secondDash = firstDash < 0 ? -1 : indexOf(s, '-', firstDash + 1, to);
+        if (secondDash < 0) {
+            return null;
+        }
+        int year;
+        int month = parseDigits(s, firstDash + 1, secondDash, 2);
+        int day;
+        if (firstDash - from == 4) {
+            year = parseDigits(s, from, firstDash, 4);
+            day = parseDigits(s, secondDash + 1, to, 2);
+        } else {
+            day = parseDigits(s, from, firstDash, 2);
+            year = to - secondDash - 1 == 4 ? parseDigits(s, secondDash + 1, to, 4) : -1;
+        }
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            return null;
+        }
+        Calendar date = (Calendar) getRelativeDates().today.clone();
+        date.set(year, month - 1, day);
+        return date;
+    }
+
+    private static int indexOf(CharSequence s, char c, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (s.charAt(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Parses up to the given number of digits, returning -1 if there are none, too many or anything but digits
+     */
+    private static int parseDigits(CharSequence s, int from, int to, int maxDigits) {
+        if (from >= to || to - from > maxDigits) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + c - '0';
+        }
+        return value;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return year % 4 == 0 && (year % 100 != 0 || year % 400 == 0) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
             default:
-                Date due = null;
-                try {
-                    due = DAY_MONTH_YEAR.parse(s);
-                } catch (ParseException e) {
-                    try {
-                        due = YEAR_MONTH_DAY.parse(s);
-                    } catch (ParseException ex) {
-                        throwDateParsingError();
-                    }
+                return 31;
+        }
+    }
+
+    /**
+     * Gets the dates of the relative keywords for the current day, working them out again only once the day is over.
+     * Two threads crossing midnight together may both work them out, which is harmless since either result is kept.
+     *
+     * @return RelativeDates of the current day
+     */
+    private static RelativeDates getRelativeDates() {
+        RelativeDates cached = relativeDates;
+        if (cached == null || System.currentTimeMillis() >= cached.expiresAt) {
+            cached = new RelativeDates(Time.getFormattedCalendarInstance(0));
+            relativeDates = cached;
+        }
+        return cached;
+    }
+
+    /**
+     * Dates of every relative keyword for a single day. The Calendars are never changed once constructed and only
+     * clones of them are handed out, so one instance is shared by every thread without locking.
+     */
+    private static final class RelativeDates {
+
+        /** Current day at 12:00 AM */
+        private final Calendar today;
+        /** Date of every keyword in DATE_KEYWORDS, in the same order */
+        private final Calendar[] dates;
+        /** Time in millis at which the next day starts */
+        private final long expiresAt;
+
+        private RelativeDates(Calendar today) {
+            this.today = today;
+            int day = today.get(Calendar.DAY_OF_WEEK) - 1;
+            dates = new Calendar[DATE_KEYWORDS.length];
+            for (int i = 0; i < DATE_KEYWORDS.length; i++) {
+                dates[i] = Time.getFormattedCalendarInstance(today, getDaysFromToday(DATE_KEYWORDS[i], day));
+            }
+            expiresAt = Time.getFormattedCalendarInstance(today, 1).getTimeInMillis();
+        }
+
+        private Calendar get(CharSequence s, int from, int to) {
+            for (int i = 0; i < DATE_KEYWORDS.length; i++) {
+                if (matchesKeyword(s, from, to, DATE_KEYWORDS[i])) {
+                    return (Calendar) dates[i].clone();
+                }
+            }
+            return null;
+        }
+
+        private static boolean matchesKeyword(CharSequence s, int from, int to, String keyword) {
+            if (to - from != keyword.length()) {
+                return false;
+            }
+            for (int i = 0; i < keyword.length(); i++) {
+                if (Character.toUpperCase(s.charAt(from + i)) != keyword.charAt(i)) {
+                    return false;
                 }
-                curr.setTime(due);
+            }
+            return true;
+        }
+
+        private static int getDaysFromToday(String keyword, int day) {
+            switch (keyword) {
+                case "TODAY":
+                    return 0;
+                case "TMRW":
+                    return 1;
+                case "EOW":
+                case "SAT":
+                case "SATURDAY":
+                    return (Calendar.SATURDAY - day + 6) % 7;
+                case "SUN":
+                case "SUNDAY":
+                    return (Calendar.SUNDAY - day + 6) % 7;
+                case "MON":
+                case "MONDAY":
+                    return (Calendar.MONDAY - day + 6) % 7;
+                case "TUE":
+                case "TUESDAY":
+                    return (Calendar.TUESDAY - day + 6) % 7;
+                case "WED":
+                case "WEDNESDAY":
+                    return (Calendar.WEDNESDAY - day + 6) % 7;
+                case "THU":
+                case "THURSDAY":
+                    return (Calendar.THURSDAY - day + 6) % 7;
+                default:
+                    return (Calendar.FRIDAY - day + 6) % 7;
+            }
         }
-        return curr;
     }
 
-    private static Calendar[] parseTimeStamp(String s) {
+    static Calendar[] parseTimeStamp(String s) {
+        return parseTimeStamp(s, 0, s.length());
+    }
+
+    /**
+     * Parses a timestamp such as '9:30am-2pm' from part of a line
+     *
+     * @param s line holding the timestamp
+     * @param from offset of the first character of the timestamp
+     * @param to offset after the last character of the timestamp
+     * @return Calendar array holding the start and end time on the current day
+     */
+    static Calendar[] parseTimeStamp(CharSequence s, int from, int to) {
         boolean hour = false;
         boolean colon = false;
         boolean minute = false;
@@ -506,10 +657,11 @@ public class Parser {
         int endHr = -1;
         int startMin = 0;
         int endMin = 0;
-        String startFmt = "";
-        String endFmt = "";
+        // 'a' or 'p' once AM/PM is given
+        char startFmt = 0;
+        char endFmt = 0;
 
-        for (int i = 0; i < s.length(); i++) {
+        for (int i = from; i < to; i++) {
             switch (s.charAt(i)) {
                 case ':':
                     if (!hour || minute) {
@@ -539,12 +691,12 @@ public class Parser {
                     if (!hour || am) {
                         throwTimestampParsingError();
                     }
-                    if (i + 1 < s.length() && (s.charAt(i+1) == 'm' || s.charAt(i+1) == 'M')) {
-                        String temp = s.substring(i, i + 2);
+                    if (i + 1 < to && (s.charAt(i+1) == 'm' || s.charAt(i+1) == 'M')) {
+                        char fmt = Character.toLowerCase(s.charAt(i));
                         if (!dash) {
-                            startFmt = temp;
+                            startFmt = fmt;
                         } else {
-                            endFmt = temp;
+                            endFmt = fmt;
                         }
                     } else {
                         throwTimestampParsingError();
@@ -570,8 +722,8 @@ public class Parser {
                         throwTimestampParsingError();
                     } else if (hour) {
                         minute = true;
-                        if (i+1 < s.length() && s.charAt(i + 1) >= '0' && s.charAt(i + 1) <= '9') {
-                            int x = Integer.parseInt(s.substring(i, i + 2));
+                        if (i+1 < to && s.charAt(i + 1) >= '0' && s.charAt(i + 1) <= '9') {
+                            int x = (s.charAt(i) - '0') * 10 + s.charAt(i + 1) - '0';
                             if (x > 59) {
                                 throwTimestampParsingError();
                             }
@@ -587,8 +739,8 @@ public class Parser {
                         }
                     } else {
                         hour = true;
-                        if (i+1 >= s.length() || s.charAt(i + 1) < '0' || s.charAt(i + 1) > '9') {
-                            int x = Integer.parseInt(s.substring(i, i + 1));
+                        if (i+1 >= to || s.charAt(i + 1) < '0' || s.charAt(i + 1) > '9') {
+                            int x = s.charAt(i) - '0';
                             if (x > 12) {
                                 throwTimestampParsingError();
                             }
@@ -598,8 +750,8 @@ public class Parser {
                             } else {
                                 endHr = x;
                             }
-                        } else if (i+1 < s.length() && s.charAt(i + 1) >= '0' && s.charAt(i + 1) <= '9') {
-                            int x = Integer.parseInt(s.substring(i, i + 2));
+                        } else {
+                            int x = (s.charAt(i) - '0') * 10 + s.charAt(i + 1) - '0';
                             if (x > 12) {
                                 throwTimestampParsingError();
                             }
@@ -610,8 +762,6 @@ public class Parser {
                                 endHr = x;
                             }
                             i++;
-                        } else {
-                            throwTimestampParsingError();
                         }
                     }
                     break;
@@ -620,9 +770,9 @@ public class Parser {
             }
         }
 
-        if (startFmt.equalsIgnoreCase("pm") && startHr != 12) {
+        if (startFmt == 'p' && startHr != 12) {
             startHr += 12;
-        } else if (startFmt.equalsIgnoreCase("am") && startHr == 12) {
+        } else if (startFmt == 'a' && startHr == 12) {
             startHr = 0;
         }
 
@@ -632,11 +782,11 @@ public class Parser {
             throwTimestampParsingError();
         }
 
-        if (endFmt.equalsIgnoreCase("pm") && endHr != 12) {
+        if (endFmt == 'p' && endHr != 12) {
             endHr += 12;
-        } else if (endFmt.equalsIgnoreCase("am") && endHr == 12) {
+        } else if (endFmt == 'a' && endHr == 12) {
             endHr = 0;
-        } else if (endFmt.isEmpty() && endHr < startHr) {
+        } else if (endFmt == 0 && endHr < startHr) {
             endHr += 12;
         }
 
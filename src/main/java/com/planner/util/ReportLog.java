@@ -42,9 +42,9 @@ public class ReportLog {
         }
 
         if (!scheduleManager.getSchedule().isEmpty()) {
-            sb.append(TableFormatter.formatSubTaskTable(scheduleManager.getSchedule(), false));
+            sb.append(TableFormatter.formatSubTaskTable(scheduleManager.getSchedule(), false, scheduleManager.getRenderCache()));
             sb.append("\n\n");
-            sb.append(TableFormatter.formatScheduleTable(scheduleManager.getSchedule(), false));
+            sb.append(TableFormatter.formatScheduleTable(scheduleManager.getSchedule(), false, scheduleManager.getRenderCache()));
             sb.append("\n");
         }
         return sb.toString();
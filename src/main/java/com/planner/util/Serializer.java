@@ -7,202 +7,259 @@ import com.planner.models.Task;
 import com.planner.models.UserConfig;
 import com.planner.schedule.day.Day;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.*;
+import java.util.function.ToIntFunction;
 
 public class Serializer {
 
     public static String serializeSchedule(List<Card> cards, List<Task> tasks, List<Event> indivEvents, List<Event> recurEvents, List<Day> days) {
         StringBuilder scheduleSb = new StringBuilder();
+        try {
+            writeSchedule(scheduleSb, cards, tasks, indivEvents, recurEvents, days);
+        } catch (IOException e) {
+            // StringBuilder never throws IOException
+            throw new IllegalStateException(e);
+        }
+        return scheduleSb.toString();
+    }
 
+    /**
+     * Writes the schedule in the '.sched' format directly to the given output, so that no copy of the whole file is
+     * ever held in memory. The output is identical to {@link #serializeSchedule(List, List, List, List, List)}.
+     *
+     * @param out destination of the schedule (e.g. a {@link java.io.BufferedWriter})
+     * @param cards Cards being written, or null
+     * @param tasks Tasks being written, or null
+     * @param indivEvents individual Events being written, or null
+     * @param recurEvents recurring Events being written, or null
+     * @param days Days being written, or null
+     * @throws IOException if the output could not be written to
+     */
+    public static void writeSchedule(Appendable out, List<Card> cards, List<Task> tasks, List<Event> indivEvents, List<Event> recurEvents, List<Day> days) throws IOException {
         List<Event> totalEvent = new ArrayList<>();
 
         if (cards != null) {
-            scheduleSb.append(getCardsSb(cards)).append('\n');
+            writeCards(out, cards);
+            out.append('\n');
         }
 
         if (tasks != null) {
-            scheduleSb.append(getTasksSb(tasks, cards)).append('\n');
+            writeTasks(out, tasks, cards);
+            out.append('\n');
         }
 
         if (indivEvents != null || recurEvents != null) {
-            scheduleSb.append("EVENT {").append('\n');
+            out.append("EVENT {").append('\n');
 
-            if (recurEvents == null) {
-                totalEvent.addAll(indivEvents);
-                scheduleSb.append(getEventsSb(totalEvent, cards));
-            } else if (indivEvents == null) {
-                totalEvent.addAll(recurEvents);
-                scheduleSb.append(getEventsSb(totalEvent, cards));
-            } else {
+            if (indivEvents != null) {
                 totalEvent.addAll(indivEvents);
+            }
+            if (recurEvents != null) {
                 totalEvent.addAll(recurEvents);
-                scheduleSb.append(getEventsSb(totalEvent, cards));
             }
+            writeEvents(out, totalEvent, cards);
 
-            scheduleSb.append('\n');
+            out.append('\n');
         }
 
         if (days != null) {
-            scheduleSb.append(getDaysSb(days, tasks, totalEvent));
+            writeDays(out, days, tasks, totalEvent);
         }
-
-        return scheduleSb.toString();
     }
 
-    private static StringBuilder getCardsSb(List<Card> cards) {
-        StringBuilder cardsSb = new StringBuilder();
-
-        cardsSb.append("CARD {").append('\n');
+    private static void writeCards(Appendable out, List<Card> cards) throws IOException {
+        out.append("CARD {").append('\n');
 
         for (Card card : cards) {
-            cardsSb.append('\t')
+            out.append('\t')
                     .append("\"").append(card.getName()).append("\"")
                     .append(" ")
-                    .append(card.getColor())
+                    .append(card.getColor().toString())
                     .append('\n');
         }
 
-        cardsSb.append("}").append('\n');
-
-        return cardsSb;
+        out.append("}").append('\n');
     }
 
-    private static StringBuilder getTasksSb(List<Task> tasks, List<Card> cards) {
-        StringBuilder tasksSb = new StringBuilder();
+    private static void writeTasks(Appendable out, List<Task> tasks, List<Card> cards) throws IOException {
+        int[] cardOrdinals = getOrdinals(cards, Card::getId);
 
-        tasksSb.append("TASK {").append('\n');
+        out.append("TASK {").append('\n');
 
         for (Task task : tasks) {
-            tasksSb.append('\t')
+            out.append('\t')
                     .append("\"").append(task.getName()).append("\"")
                     .append(" ")
-                    .append(task.getTotalHours())
+                    .append(String.valueOf(task.getTotalHours()))
                     .append(" ");
 
-            if (task.getCard() != null) {
-                for (int i = 0; i < cards.size(); i++) {
-                    if (cards.get(i).getId() == task.getCard().getId()) {
-                        tasksSb.append("+C")
-                                .append(i)
-                                .append(" ");
-                    }
-                }
+            int cardIdx = task.getCard() == null ? -1 : getOrdinal(cardOrdinals, task.getCard().getId());
+            if (cardIdx != -1) {
+                out.append("+C")
+                        .append(String.valueOf(cardIdx))
+                        .append(" ");
             }
 
-            tasksSb.append("@")
+            out.append("@")
                     .append(" ")
                     .append(task.getDateStamp())
                     .append('\n');
         }
 
-        tasksSb.append("}").append('\n');
-
-        return tasksSb;
+        out.append("}").append('\n');
     }
 
-    private static StringBuilder getEventsSb(List<Event> events, List<Card> cards) {
-        StringBuilder eventsSb = new StringBuilder();
+    private static void writeEvents(Appendable out, List<Event> events, List<Card> cards) throws IOException {
+        int[] cardOrdinals = getOrdinals(cards, Card::getId);
 
         for (Event event : events) {
-            eventsSb.append('\t')
-                    .append(event.isRecurring())
+            out.append('\t')
+                    .append(String.valueOf(event.isRecurring()))
                     .append(" ")
                     .append("\"").append(event.getName()).append("\"")
                     .append(" ");
 
-            if (event.getCard() != null) {
-                for (int i = 0; i < cards.size(); i++) {
-                    if (cards.get(i).getId() == event.getCard().getId()) {
-                        eventsSb.append("+C")
-                                .append(i)
-                                .append(" ");
-                    }
-                }
+            int cardIdx = event.getCard() == null ? -1 : getOrdinal(cardOrdinals, event.getCard().getId());
+            if (cardIdx != -1) {
+                out.append("+C")
+                        .append(String.valueOf(cardIdx))
+                        .append(" ");
             }
 
-            eventsSb.append("@")
+            out.append("@")
                     .append(" ");
 
             if (event.isRecurring()) {
-                eventsSb.append(event.getDaysString());
+                out.append(event.getDaysString());
             } else {
-                eventsSb.append(event.getDateStamp());
+                out.append(event.getDateStamp());
             }
 
-            eventsSb.append(" ");
+            out.append(" ");
 
-            eventsSb.append(event.getTimeStamp().toString())
+            out.append(event.getTimeStamp().toString())
                     .append('\n');
         }
 
-        eventsSb.append("}").append('\n');
-
-        return eventsSb;
+        out.append("}").append('\n');
     }
 
-    private static StringBuilder getDaysSb(List<Day> days, List<Task> tasks, List<Event> events) {
-        StringBuilder daysSb = new StringBuilder();
+    private static void writeDays(Appendable out, List<Day> days, List<Task> tasks, List<Event> events) throws IOException {
+        int[] taskOrdinals = getOrdinals(tasks, Task::getId);
+        int[] eventOrdinals = getOrdinals(events, Event::getId);
 
-        daysSb.append("DAY {").append('\n');
+        out.append("DAY {").append('\n');
 
         for (Day day : days) {
-            daysSb.append('\t')
+            out.append('\t')
                     .append(day.getDateStamp())
                     .append(" ");
 
             for (Task.SubTask subTask : day.getSubTaskList()) {
-                for (int i = 0; i < tasks.size(); i++) {
-                    if (tasks.get(i).getId() == subTask.getParentTask().getId()) {
-                        daysSb.append("T")
-                                .append(i)
-                                .append(" ")
-                                .append(subTask.getTimeStamp().toString())
-                                .append(" ");
-                    }
+                int taskIdx = getOrdinal(taskOrdinals, subTask.getParentTask().getId());
+                if (taskIdx != -1) {
+                    out.append("T")
+                            .append(String.valueOf(taskIdx))
+                            .append(" ")
+                            .append(subTask.getTimeStamp().toString())
+                            .append(" ");
                 }
             }
 
             for (Event event : day.getEventList()) {
-                for (int i = 0; i < events.size(); i++) {
-                    if (events.get(i).getId() == event.getId()) {
-                        daysSb.append("E")
-                                .append(i)
-                                .append(" ");
-                    }
+                int eventIdx = getOrdinal(eventOrdinals, event.getId());
+                if (eventIdx != -1) {
+                    out.append("E")
+                            .append(String.valueOf(eventIdx))
+                            .append(" ");
                 }
             }
 
             for (String err : day.getOverflowErrors()) {
-                daysSb.append("\"").append(err).append("\" ");
+                out.append("\"").append(err).append("\" ");
             }
 
-            daysSb.append('\n');
+            out.append('\n');
         }
 
-        daysSb.append("}");
+        out.append("}");
+    }
+
+    /**
+     * Maps the id of every item to its position within the list. Ids are handed out sequentially by the
+     * {@link ScheduleManager}, so a plain int array indexed by id serves as the map and each lookup is O(1).
+     *
+     * @param items items being mapped, or null
+     * @param getId function retrieving the id of an item
+     * @param <T> type of item
+     * @return array holding the position of each id, or -1 for ids not in the list
+     */
+    static <T> int[] getOrdinals(List<T> items, ToIntFunction<T> getId) {
+        if (items == null) {
+            return new int[0];
+        }
+        int maxId = -1;
+        for (T item : items) {
+            maxId = Math.max(maxId, getId.applyAsInt(item));
+        }
+        int[] ordinals = new int[maxId + 1];
+        Arrays.fill(ordinals, -1);
+        for (int i = 0; i < items.size(); i++) {
+            int id = getId.applyAsInt(items.get(i));
+            if (id >= 0 && ordinals[id] == -1) {
+                ordinals[id] = i;
+            }
+        }
+        return ordinals;
+    }
 
-        return daysSb;
+    static int getOrdinal(int[] ordinals, int id) {
+        return id >= 0 && id < ordinals.length ? ordinals[id] : -1;
     }
-  
+
     public static void deserializeSchedule(String data, ScheduleManager sm) {
+        try {
+            readSchedule(new StringReader(data), sm);
+        } catch (IOException e) {
+            // StringReader never throws IOException
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Reads a schedule in the '.sched' format line by line from the given input, so that the file never has to be
+     * held in memory as a whole
+     *
+     * @param in source of the schedule (e.g. a {@link BufferedReader} over the file)
+     * @param sm ScheduleManager receiving the Cards, Events, Tasks and Days
+     * @throws IOException if the input could not be read from
+     */
+    public static void readSchedule(Reader in, ScheduleManager sm) throws IOException {
         // todo currently not handling exceptions (so, it just cancels out if we run into an error)
-        Scanner lineScanner = new Scanner(data);
+        BufferedReader lineReader = in instanceof BufferedReader ? (BufferedReader) in : new BufferedReader(in);
         int cardCount = sm.getCards().size();
         List<Event> events = null;
         List<Task> tasks = null;
-        while (lineScanner.hasNextLine()) {
-            switch (lineScanner.nextLine().trim()) {
+        // reset to every record, so records are parsed straight from the line read
+        Tokens tokens = new Tokens();
+        String line;
+        while ((line = lineReader.readLine()) != null) {
+            switch (line.trim()) {
                 case "CARD {":
-                    processCards(lineScanner, sm);
+                    processCards(lineReader, tokens, sm);
                     break;
                 case "EVENT {":
-                    events = processEvents(lineScanner, cardCount, sm);
+                    events = processEvents(lineReader, tokens, cardCount, sm);
                     break;
                 case "TASK {":
-                    tasks = processTasks(lineScanner, cardCount, sm);
+                    tasks = processTasks(lineReader, tokens, cardCount, sm);
                     break;
                 case "DAY {":
-                    List<Day> days = processDays(lineScanner, events, tasks, sm);
+                    List<Day> days = processDays(lineReader, tokens, events, tasks, sm);
                     if (!days.isEmpty()) {
                         sm.setSched(days);
                     }
@@ -211,112 +268,144 @@ public class Serializer {
         }
     }
 
-    private static void processCards(Scanner lineScanner, ScheduleManager sm) {
-        while (lineScanner.hasNextLine()) {
-            String line = lineScanner.nextLine();
+    private static void processCards(BufferedReader lineReader, Tokens tokens, ScheduleManager sm) throws IOException {
+        String line;
+        while ((line = lineReader.readLine()) != null) {
             if ("}".equals(line.trim())) {
                 break;
             }
-            Parser.CardInfo ci = Parser.parseCard(Parser.tokenize("card " + line));
+            Parser.CardInfo ci = Parser.parseCard(tokens.reset(line), 0);
             sm.addCard(ci.getName(), ci.getColor());
         }
     }
 
-    private static List<Event> processEvents(Scanner lineScanner, int cardCount, ScheduleManager sm) {
+    private static List<Event> processEvents(BufferedReader lineReader, Tokens tokens, int cardCount, ScheduleManager sm) throws IOException {
         List<Event> events = new ArrayList<>();
-        while (lineScanner.hasNextLine()) {
-            String line = lineScanner.nextLine();
+        String line;
+        while ((line = lineReader.readLine()) != null) {
             if ("}".equals(line.trim())) {
                 break;
             }
-            Parser.EventInfo ei = Parser.parseEvent(Parser.tokenize("event " + line));
-
-            // todo all this here needs to be moved to sm.addEvent() --> START
-            Calendar start = ei.getTimestamp()[0];
-            Calendar end = ei.getTimestamp()[1];
-
-            List<Calendar> dates = ei.getDates();
-
-            if (!ei.isRecurring() && dates != null && dates.size() > 1) {
-                throw new IllegalArgumentException("Event is non-recurring but has multiple days");
-            }
-
-            if (!ei.isRecurring() && dates != null) {
-                start.set(Calendar.DAY_OF_MONTH, dates.get(0).get(Calendar.DAY_OF_MONTH));
-                start.set(Calendar.MONTH, dates.get(0).get(Calendar.MONTH));
-                start.set(Calendar.YEAR, dates.get(0).get(Calendar.YEAR));
-
-                end.set(Calendar.DAY_OF_MONTH, dates.get(0).get(Calendar.DAY_OF_MONTH));
-                end.set(Calendar.MONTH, dates.get(0).get(Calendar.MONTH));
-                end.set(Calendar.YEAR, dates.get(0).get(Calendar.YEAR));
-            }
-
-            Time.TimeStamp timeStamp = new Time.TimeStamp(start, end);
-            // todo <--- END
-
-
-            Event e = sm.addEvent(ei.getName(), ei.getCardId() == null ? null : cardCount + ei.getCardId(),  timeStamp, ei.isRecurring(), dates);
-
-            events.add(e);
+            Parser.EventInfo ei = Parser.parseEvent(tokens.reset(line), 0);
+            events.add(addEvent(ei, cardCount, sm));
         }
         return events;
     }
 
-    private static List<Task> processTasks(Scanner lineScanner, int cardCount, ScheduleManager sm) {
+    private static List<Task> processTasks(BufferedReader lineReader, Tokens tokens, int cardCount, ScheduleManager sm) throws IOException {
         List<Task> tasks = new ArrayList<>();
-        while (lineScanner.hasNextLine()) {
-            String line = lineScanner.nextLine();
+        String line;
+        while ((line = lineReader.readLine()) != null) {
             if ("}".equals(line.trim())) {
                 break;
             }
-            Parser.TaskInfo ti = Parser.parseTask(Parser.tokenize("task " + line));
-
-            Task t = sm.addTask(ti.getDesc(), ti.getHours(), ti.getDue(), ti.getCardId() == null ? null : cardCount + ti.getCardId());
-
-            tasks.add(t);
+            Parser.TaskInfo ti = Parser.parseTask(tokens.reset(line), 0);
+            tasks.add(addTask(ti, cardCount, sm));
         }
         return tasks;
     }
 
-    private static List<Day> processDays(Scanner lineScanner, List<Event> events, List<Task> tasks, ScheduleManager sm) {
+    private static List<Day> processDays(BufferedReader lineReader, Tokens tokens, List<Event> events, List<Task> tasks, ScheduleManager sm) throws IOException {
         List<Day> days = new ArrayList<>();
         Calendar today = Time.getFormattedCalendarInstance(0);
-        UserConfig userConfig = sm.getUserConfig();
         int dayId = 0;
-        while (lineScanner.hasNextLine()) {
-            String line = lineScanner.nextLine();
+        String line;
+        while ((line = lineReader.readLine()) != null) {
             if ("}".equals(line.trim())) {
                 break;
             }
-            Parser.DayInfo di = Parser.parseDay(Parser.tokenize(line));
-            Calendar d = di.getDate();
-            int dayHrs = userConfig.getHoursPerDayOfWeek()[d.get(Calendar.DAY_OF_WEEK) - 1];
-            Day day = new Day(dayId++, dayHrs, d);
-            for (int id : di.getEventIds()) {
-                day.forceAddEvent(events.get(id));
-            }
+            Parser.DayInfo di = Parser.parseDay(tokens.reset(line));
+            days.add(createDay(di, dayId++, events, tasks, today, sm));
+        }
+        return days;
+    }
 
-            for (int id : di.getTaskTimeStampsMap().keySet()) {
-                Task t = tasks.get(id);
-                List<Time.TimeStamp> timestamps = di.getTaskTimeStampsMap().get(id);
-                for (Time.TimeStamp ts : timestamps) {
-                    double hours = Time.getTimeInterval(ts.getStart(), ts.getEnd());
-                    day.forceAddTask(t, hours, ts);
-                    if (!Time.doDatesMatch(today, d) && d.compareTo(today) < 0 && t.getTotalHours() > 0) {
-                        // update Task here since the day is older than today
-                        double updatedHours = t.getTotalHours() - hours;
-                        sm.modTask(id, null, updatedHours, null, null);
-                    }
-                }
-            }
-            day.sortSubTasks();
+    /**
+     * Adds the Event described by a parsed '.sched' record to the ScheduleManager
+     *
+     * @param ei parsed Event record
+     * @param cardCount number of Cards the ScheduleManager held before the schedule was read
+     * @param sm ScheduleManager receiving the Event
+     * @return Event that was added
+     */
+    static Event addEvent(Parser.EventInfo ei, int cardCount, ScheduleManager sm) {
+        // todo all this here needs to be moved to sm.addEvent() --> START
+        Calendar start = ei.getTimestamp()[0];
+        Calendar end = ei.getTimestamp()[1];
+
+        List<Calendar> dates = ei.getDates();
+
+        if (!ei.isRecurring() && dates != null && dates.size() > 1) {
+            throw new IllegalArgumentException("Event is non-recurring but has multiple days");
+        }
+
+        if (!ei.isRecurring() && dates != null) {
+            start.set(Calendar.DAY_OF_MONTH, dates.get(0).get(Calendar.DAY_OF_MONTH));
+            start.set(Calendar.MONTH, dates.get(0).get(Calendar.MONTH));
+            start.set(Calendar.YEAR, dates.get(0).get(Calendar.YEAR));
+
+            end.set(Calendar.DAY_OF_MONTH, dates.get(0).get(Calendar.DAY_OF_MONTH));
+            end.set(Calendar.MONTH, dates.get(0).get(Calendar.MONTH));
+            end.set(Calendar.YEAR, dates.get(0).get(Calendar.YEAR));
+        }
+
+        Time.TimeStamp timeStamp = new Time.TimeStamp(start, end);
+        // todo <--- END
+
+        return sm.addEvent(ei.getName(), ei.getCardId() == null ? null : cardCount + ei.getCardId(), timeStamp, ei.isRecurring(), dates);
+    }
 
-            for (String err : di.getErrors()) {
-                day.addOverflowError(err);
+    /**
+     * Adds the Task described by a parsed '.sched' record to the ScheduleManager
+     *
+     * @param ti parsed Task record
+     * @param cardCount number of Cards the ScheduleManager held before the schedule was read
+     * @param sm ScheduleManager receiving the Task
+     * @return Task that was added
+     */
+    static Task addTask(Parser.TaskInfo ti, int cardCount, ScheduleManager sm) {
+        return sm.addTask(ti.getDesc(), ti.getHours(), ti.getDue(), ti.getCardId() == null ? null : cardCount + ti.getCardId());
+    }
+
+    /**
+     * Creates the Day described by a parsed '.sched' record. SubTasks on Days before today are deducted from the
+     * hours of their Task, since that work has already taken place.
+     *
+     * @param di parsed Day record
+     * @param dayId id of the Day
+     * @param events Events read so far, indexed by their position in the schedule
+     * @param tasks Tasks read so far, indexed by their position in the schedule
+     * @param today Calendar for the current day
+     * @param sm ScheduleManager receiving the Day
+     * @return Day that was created
+     */
+    static Day createDay(Parser.DayInfo di, int dayId, List<Event> events, List<Task> tasks, Calendar today, ScheduleManager sm) {
+        Calendar d = di.getDate();
+        int dayHrs = sm.getUserConfig().getHoursPerDayOfWeek()[d.get(Calendar.DAY_OF_WEEK) - 1];
+        Day day = new Day(dayId, dayHrs, d);
+        for (int id : di.getEventIds()) {
+            day.forceAddEvent(events.get(id));
+        }
+
+        for (int id : di.getTaskTimeStampsMap().keySet()) {
+            Task t = tasks.get(id);
+            List<Time.TimeStamp> timestamps = di.getTaskTimeStampsMap().get(id);
+            for (Time.TimeStamp ts : timestamps) {
+                double hours = Time.getTimeInterval(ts.getStartMinute(), ts.getEndMinute());
+                day.forceAddTask(t, hours, ts);
+                if (!Time.doDatesMatch(today, d) && d.compareTo(today) < 0 && t.getTotalHours() > 0) {
+                    // update Task here since the day is older than today
+                    double updatedHours = t.getTotalHours() - hours;
+                    sm.modTask(id, null, updatedHours, null, null);
+                }
             }
+        }
+        day.sortSubTasks();
 
-            days.add(day);
+        for (String err : di.getErrors()) {
+            day.addOverflowError(err);
         }
-        return days;
+
+        return day;
     }
 }
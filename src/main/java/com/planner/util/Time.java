@@ -3,19 +3,24 @@ package com.planner.util;
 import com.planner.models.Event;
 import com.planner.models.UserConfig;
 import com.planner.schedule.day.Day;
+import com.planner.schedule.day.FreeSlotIndex;
 
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
 
 /**
- * Handles all time operations involving Calendar instances
+ * Handles all time operations. Scheduling math is performed on local (wall-clock) epoch minutes, while
+ * Calendar instances are only utilized at the edges of the system (parsing, display, and export).
  *
  * @author Andrew Roe
  * @author Abah Olotuche Gabriel
  */
 public class Time {
 
+    /** Number of minutes in a single day */
+    public static final int MINUTES_PER_DAY = 1440;
+
     /**
      * Determines the difference of days between two Calendar instances
      *
@@ -113,16 +118,20 @@ public class Time {
 
     // [COMPLETE]
     public static double getTimeInterval(Calendar curr, Calendar event) {
-        // determine how many hours or minutes exist between current time and upcoming event
-        //   if the minutes is less than 30, return 0
-        //     e.g. 1 hour and 27 minutes --> 1 hour
-        //     e.g. 1 hour and 40 minutes --> 1.5 hours
-        //   we can safely assume that the event is properly aligned within the quarter period of the day (0, 15, 30, 45)
-        Calendar currTemp = cloneAndResetSecMillis(curr);
-        Calendar eventTemp = cloneAndResetSecMillis(event);
-        long milliseconds = Math.abs(currTemp.getTimeInMillis() - eventTemp.getTimeInMillis());
-        int min = (int) Math.round(milliseconds / 1000.0 / 60.0);
-        double hours = (int) (min / 60.0);
+        return getTimeInterval(toEpochMinute(curr), toEpochMinute(event));
+    }
+
+    /**
+     * Determines how many hours exist between two epoch minutes. Leftover minutes are rounded to the nearest
+     * half hour below (e.g. 1 hour and 27 minutes --> 1 hour, 1 hour and 40 minutes --> 1.5 hours)
+     *
+     * @param curr first epoch minute
+     * @param event second epoch minute
+     * @return number of hours between the two epoch minutes
+     */
+    public static double getTimeInterval(long curr, long event) {
+        long min = Math.abs(curr - event);
+        double hours = (int) (min / 60);
         min %= 60;
         hours += min >= 30 ? 0.5 : 0;
         return hours;
@@ -130,67 +139,81 @@ public class Time {
 
     // [COMPLETE]
     public static Calendar getFirstAvailableTimeInDay(List<TimeStamp> taskTimeStamps, List<TimeStamp> eventTimeStamps, UserConfig userConfig, Calendar time, boolean isToday) {
-        Calendar startTime;
-        if (isToday && time.get(Calendar.HOUR_OF_DAY) >= userConfig.getDailyHoursRange()[0] && taskTimeStamps.isEmpty() && !userConfig.isDefaultAtStart()) {
+        return toCalendar(getFirstAvailableTimeInDay(taskTimeStamps, eventTimeStamps, userConfig, toEpochMinute(time), isToday));
+    }
+
+    /**
+     * Determines the first available epoch minute within the day of <code>time</code> that is free of both
+     * SubTasks and Events
+     *
+     * @param taskTimeStamps time stamps of all SubTasks already assigned to the day
+     * @param eventTimeStamps time stamps of all Events for the day
+     * @param userConfig user settings for the daily range of hours
+     * @param time epoch minute from which to begin searching
+     * @param isToday whether the day being searched is the current day
+     * @return first available epoch minute, aligned to the nearest quarter of an hour
+     */
+    public static long getFirstAvailableTimeInDay(List<TimeStamp> taskTimeStamps, List<TimeStamp> eventTimeStamps, UserConfig userConfig, long time, boolean isToday) {
+        FreeSlotIndex eventSlots = new FreeSlotIndex(getStartOfDay(time));
+        for (TimeStamp eTS : eventTimeStamps) {
+            eventSlots.occupy(eTS);
+        }
+        return getFirstAvailableTimeInDay(taskTimeStamps, eventSlots, userConfig, time, isToday);
+    }
+
+    /**
+     * Determines the first available epoch minute within the day of <code>time</code> that is free of both
+     * SubTasks and Events. A gap between Events is only usable if it spans at least half an hour.
+     *
+     * @param taskTimeStamps time stamps of all SubTasks already assigned to the day
+     * @param eventSlots minutes of the day occupied by Events
+     * @param userConfig user settings for the daily range of hours
+     * @param time epoch minute from which to begin searching
+     * @param isToday whether the day being searched is the current day
+     * @return first available epoch minute, aligned to the nearest quarter of an hour
+     */
+    public static long getFirstAvailableTimeInDay(List<TimeStamp> taskTimeStamps, FreeSlotIndex eventSlots, UserConfig userConfig, long time, boolean isToday) {
+        long startTime;
+        if (isToday && getMinuteOfDay(time) / 60 >= userConfig.getDailyHoursRange()[0] && taskTimeStamps.isEmpty() && !userConfig.isDefaultAtStart()) {
             startTime = Time.getNearestQuarterOfHour(time, true);
         } else if (taskTimeStamps.isEmpty()) {
-            startTime = Time.getFormattedCalendarInstance(time, 0);
-            startTime.set(Calendar.HOUR_OF_DAY, userConfig.getDailyHoursRange()[0]);
-            startTime.set(Calendar.MINUTE, 0);
+            startTime = getStartOfDay(time) + userConfig.getDailyHoursRange()[0] * 60L;
         } else {
             TimeStamp ts = taskTimeStamps.get(taskTimeStamps.size() - 1);
-            startTime = (Calendar) ts.getEnd().clone();
+            startTime = ts.getEndMinute();
         }
 
-        if (eventTimeStamps.isEmpty()) {
+        if (eventSlots.getFreeMinutes() == MINUTES_PER_DAY) {
             return startTime;
         }
 
-        /*
-        Steps for determining correct start time with events throughout day:
-        1. Check whether startTime interferes with the event
-        2. If it does, assign the end of the event to startTime
-            a. If no more events, loop will break with correct value (so, do nothing here)
-            b. If there are events, simply continue (so, do nothing here)
-        3. If it doesn't, check whether it is before or after startTime
-            a. If it's before, continue (if no more events, no changes to startTime)
-            b. If it's after, check how much time there is between
-                i. If enough, break
-                ii. If not enough, assign end of event to startTime and loop again
-         */
-        for (TimeStamp eTS : eventTimeStamps) {
-            if (isInsideEventBlock(startTime, eTS)) startTime = eTS.getEnd();
-            else {
-                if (isAfter(startTime, eTS.getEnd())) {
-                    // do nothing here
-                } else {
-                    double hours = getTimeInterval(startTime, eTS.getStart());
-                    if (hours > 0) break;
-                    else startTime = eTS.getEnd();
-                }
-            }
-        }
-
-        return Time.getNearestQuarterOfHour(startTime, true);
+        return Time.getNearestQuarterOfHour(eventSlots.getFirstFreeSlot(startTime, 30), true);
     }
 
     // [COMPLETE]
     public static boolean isInsideEventBlock(Calendar startTime, TimeStamp eventTimeStamp) {
-        return !isAfter(startTime, eventTimeStamp.getEnd()) && !isBefore(startTime, eventTimeStamp.getStart());
+        return isInsideEventBlock(toEpochMinute(startTime), eventTimeStamp);
+    }
+
+    /**
+     * Determines whether an epoch minute falls within the bounds of an Event's time stamp
+     *
+     * @param startTime epoch minute being checked
+     * @param eventTimeStamp time stamp of the Event
+     * @return boolean value for whether the epoch minute is within the Event block
+     */
+    public static boolean isInsideEventBlock(long startTime, TimeStamp eventTimeStamp) {
+        return startTime < eventTimeStamp.getEndMinute() && startTime >= eventTimeStamp.getStartMinute();
     }
 
     // [COMPLETE]
     public static boolean isAfter(Calendar startTime, Calendar eventEnd) {
-        Calendar startTemp = cloneAndResetSecMillis(startTime);
-        Calendar eventTemp = cloneAndResetSecMillis(eventEnd);
-        return startTemp.compareTo(eventTemp) >= 0;
+        return toEpochMinute(startTime) >= toEpochMinute(eventEnd);
     }
 
     // [COMPLETE]
     public static boolean isBefore(Calendar startTime, Calendar eventStart) {
-        Calendar startTemp = cloneAndResetSecMillis(startTime);
-        Calendar eventTemp = cloneAndResetSecMillis(eventStart);
-        return startTemp.compareTo(eventTemp) < 0;
+        return toEpochMinute(startTime) < toEpochMinute(eventStart);
     }
 
     // [COMPLETE]
@@ -203,24 +226,138 @@ public class Time {
 
     // [COMPLETE]
     public static boolean isConflictingEvent(Event curr, Event other) {
-        Calendar currStart = cloneAndResetSecMillis(curr.getTimeStamp().getStart());
-        Calendar currEnd = cloneAndResetSecMillis(curr.getTimeStamp().getEnd());
-        Calendar otherStart = cloneAndResetSecMillis(other.getTimeStamp().getEnd());
-        Calendar otherEnd = cloneAndResetSecMillis(other.getTimeStamp().getEnd());
+        long currStart = curr.getTimeStamp().getStartMinute();
+        long currEnd = curr.getTimeStamp().getEndMinute();
+        long otherStart = other.getTimeStamp().getEndMinute();
+        long otherEnd = other.getTimeStamp().getEndMinute();
 
-        if (currStart.compareTo(otherStart) >= 0 && currStart.compareTo(otherEnd) < 0) return true;
-        else return currEnd.compareTo(otherStart) > 0 && currEnd.compareTo(otherEnd) < 0;
+        if (currStart >= otherStart && currStart < otherEnd) return true;
+        else return currEnd > otherStart && currEnd < otherEnd;
     }
 
     // [COMPLETE]
     public static List<Double> computeTimeBlocks(Day day) {
         List<Double> intervals = new ArrayList<>();
         for (TimeStamp taskTimeStamp : day.getTaskTimeStamps()) {
-            intervals.add(Time.getTimeInterval(taskTimeStamp.getStart(), taskTimeStamp.getEnd()));
+            intervals.add(Time.getTimeInterval(taskTimeStamp.getStartMinute(), taskTimeStamp.getEndMinute()));
         }
         return intervals;
     }
 
+    /**
+     * Converts a Calendar instance into the number of minutes since 01-01-1970 00:00 in local (wall-clock) time.
+     * Seconds and milliseconds are dropped.
+     *
+     * @param date Calendar instance being converted
+     * @return local epoch minute for the Calendar instance
+     */
+    public static long toEpochMinute(Calendar date) {
+        long epochDay = toEpochDay(date.get(Calendar.YEAR), date.get(Calendar.MONTH) + 1, date.get(Calendar.DAY_OF_MONTH));
+        return epochDay * MINUTES_PER_DAY + date.get(Calendar.HOUR_OF_DAY) * 60L + date.get(Calendar.MINUTE);
+    }
+
+    /**
+     * Converts a Calendar instance into the number of days since 01-01-1970 in local (wall-clock) time
+     *
+     * @param date Calendar instance being converted
+     * @return local epoch day for the Calendar instance
+     */
+    public static long toEpochDay(Calendar date) {
+        return toEpochDay(date.get(Calendar.YEAR), date.get(Calendar.MONTH) + 1, date.get(Calendar.DAY_OF_MONTH));
+    }
+
+    /**
+     * Converts a local epoch minute back into a Calendar instance. This should only be used at the edges of the
+     * system (e.g. display and export), since it allocates a new Calendar.
+     *
+     * @param epochMinute local epoch minute being converted
+     * @return new Calendar instance for the epoch minute
+     */
+    public static Calendar toCalendar(long epochMinute) {
+        long epochDay = Math.floorDiv(epochMinute, MINUTES_PER_DAY);
+        int minuteOfDay = Math.floorMod(epochMinute, MINUTES_PER_DAY);
+
+        // civil-from-days conversion (proleptic Gregorian calendar)
+        long z = epochDay + 719468;
+        long era = Math.floorDiv(z, 146097);
+        long doe = z - era * 146097;
+        long yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        long doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        long mp = (5 * doy + 2) / 153;
+        int day = (int) (doy - (153 * mp + 2) / 5 + 1);
+        int month = (int) (mp < 10 ? mp + 3 : mp - 9);
+        int year = (int) (yoe + era * 400 + (month <= 2 ? 1 : 0));
+
+        Calendar date = Calendar.getInstance();
+        date.clear();
+        date.set(year, month - 1, day, minuteOfDay / 60, minuteOfDay % 60);
+        return date;
+    }
+
+    /**
+     * Gets the epoch day for a local epoch minute
+     *
+     * @param epochMinute local epoch minute
+     * @return local epoch day
+     */
+    public static long getEpochDay(long epochMinute) {
+        return Math.floorDiv(epochMinute, MINUTES_PER_DAY);
+    }
+
+    /**
+     * Gets the epoch minute for 12:00 AM of the day containing the given epoch minute
+     *
+     * @param epochMinute local epoch minute
+     * @return local epoch minute at the start of the day
+     */
+    public static long getStartOfDay(long epochMinute) {
+        return getEpochDay(epochMinute) * MINUTES_PER_DAY;
+    }
+
+    /**
+     * Gets the number of minutes past 12:00 AM for a local epoch minute
+     *
+     * @param epochMinute local epoch minute
+     * @return minute of the day (0-1439)
+     */
+    public static int getMinuteOfDay(long epochMinute) {
+        return Math.floorMod(epochMinute, MINUTES_PER_DAY);
+    }
+
+    /**
+     * Gets the day of the week for an epoch day, following the ordering of Calendar.DAY_OF_WEEK - 1 (0=Sunday)
+     *
+     * @param epochDay local epoch day
+     * @return index for the day of the week
+     */
+    public static int getDayOfWeekIndex(long epochDay) {
+        // 01-01-1970 was a Thursday
+        return Math.floorMod(epochDay + 4, 7);
+    }
+
+    /**
+     * Determines the closest available epoch minute within a quarter of an hour (above or below)
+     *
+     * @param epochMinute current epoch minute being measured
+     * @param isAbove whether epoch minute will be above or below to nearest quarter
+     * @return epoch minute to nearest quarter
+     */
+    public static long getNearestQuarterOfHour(long epochMinute, boolean isAbove) {
+        int rem = Math.floorMod(epochMinute, 15);
+        if (rem == 0) return epochMinute;
+        return isAbove ? epochMinute + 15 - rem : epochMinute - rem;
+    }
+
+    private static long toEpochDay(int year, int month, int day) {
+        // days-from-civil conversion (proleptic Gregorian calendar)
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yoe = y - era * 400;
+        long doy = (153L * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * 146097 + doe - 719468;
+    }
+
     /**
      * Manages the creation of a time interval along with properly formatting its display.
      * <p>
@@ -229,43 +366,75 @@ public class Time {
      * @author Andrew Roe
      */
     public static class TimeStamp implements Comparable<TimeStamp> {
-        private final Calendar start;
-        private final Calendar end;
-        private final String strStamp;
+        private final long start;
+        private final long end;
+        private String strStamp;
 
         public TimeStamp(Calendar start, Calendar end) {
-            start.set(Calendar.SECOND, 0);
-            start.set(Calendar.MILLISECOND, 0);
-            end.set(Calendar.SECOND, 0);
-            end.set(Calendar.MILLISECOND, 0);
-            if (start.compareTo(end) >= 0) throw new IllegalArgumentException("Start time is greater than or equal to end time");
+            this(toEpochMinute(start), toEpochMinute(end));
+        }
+
+        /**
+         * Constructs a TimeStamp from two local epoch minutes
+         *
+         * @param start epoch minute for the start of the interval
+         * @param end epoch minute for the end of the interval
+         */
+        public TimeStamp(long start, long end) {
+            if (start >= end) throw new IllegalArgumentException("Start time is greater than or equal to end time");
             this.start = start;
             this.end = end;
-            strStamp = buildStamp();
         }
 
         public Calendar getStart() {
-            return start;
+            return toCalendar(start);
         }
 
         public Calendar getEnd() {
+            return toCalendar(end);
+        }
+
+        /**
+         * Gets the local epoch minute for the start of the interval
+         *
+         * @return epoch minute for start
+         */
+        public long getStartMinute() {
+            return start;
+        }
+
+        /**
+         * Gets the local epoch minute for the end of the interval
+         *
+         * @return epoch minute for end
+         */
+        public long getEndMinute() {
             return end;
         }
 
+        /**
+         * Gets the local epoch day on which the interval starts
+         *
+         * @return epoch day for start
+         */
+        public long getEpochDay() {
+            return Time.getEpochDay(start);
+        }
+
         public int getStartHour() {
-            return start.get(Calendar.HOUR_OF_DAY);
+            return getMinuteOfDay(start) / 60;
         }
 
         public int getStartMin() {
-            return start.get(Calendar.MINUTE);
+            return getMinuteOfDay(start) % 60;
         }
 
         public int getEndHour() {
-            return end.get(Calendar.HOUR_OF_DAY);
+            return getMinuteOfDay(end) / 60;
         }
 
         public int getEndMin() {
-            return end.get(Calendar.MINUTE);
+            return getMinuteOfDay(end) % 60;
         }
 
         private String buildStamp() {
@@ -306,16 +475,15 @@ public class Time {
 
         @Override
         public String toString() {
+            if (strStamp == null) {
+                strStamp = buildStamp();
+            }
             return strStamp;
         }
 
         @Override
         public int compareTo(TimeStamp o) {
-            if (this.getStartHour() < o.getStartHour()) return -1;
-            else if (this.getStartHour() > o.getStartHour()) return 1;
-            else {
-                return Integer.compare(this.getStartMin(), o.getStartMin());
-            }
+            return Integer.compare(getMinuteOfDay(this.start), getMinuteOfDay(o.start));
         }
     }
 
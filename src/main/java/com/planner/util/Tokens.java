@@ -0,0 +1,312 @@
+package com.planner.util;
+
+import java.util.Arrays;
+
+/**
+ * Tokens of a command line, kept as start and end offsets into the line rather than as substrings. Tokens are split
+ * on spaces and tabs, except within double quotes, where the quotes are part of the token. A Tokens instance can be
+ * reset to every line of a file in turn, so tokenizing allocates nothing once its offsets have grown to the longest
+ * line; only the values a parser keeps (such as names) are ever copied out of the line.
+ */
+public class Tokens {
+
+    /** Largest number of digits parsed without falling back to {@link Double#parseDouble(String)} */
+    private static final int MAX_FAST_DIGITS = 15;
+    /** Powers of ten which are exact as doubles */
+    private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15};
+
+    /** Line being tokenized */
+    private CharSequence line;
+    /** Start and end offset of every token, in pairs */
+    private int[] bounds;
+    /** Number of tokens */
+    private int size;
+
+    /**
+     * Constructs an empty Tokens, to be {@link #reset(CharSequence)} to each line
+     */
+    public Tokens() {
+        bounds = new int[16];
+    }
+
+    /**
+     * Tokenizes a line
+     *
+     * @param line line being tokenized
+     * @return Tokens of the line
+     * @throws IllegalArgumentException if a quoted string is empty or not closed
+     */
+    public static Tokens of(CharSequence line) {
+        return new Tokens().reset(line);
+    }
+
+    /**
+     * Wraps already split tokens, as returned by {@link Parser#tokenize(String)}
+     *
+     * @param tokens tokens being wrapped
+     * @return Tokens holding the given tokens in order
+     */
+    public static Tokens of(String... tokens) {
+        Tokens t = new Tokens();
+        StringBuilder sb = new StringBuilder();
+        for (String token : tokens) {
+            t.add(sb.length(), sb.length() + token.length());
+            sb.append(token);
+        }
+        t.line = sb;
+        return t;
+    }
+
+    /**
+     * Tokenizes another line, reusing the offsets of the previous one
+     *
+     * @param line line being tokenized
+     * @return this Tokens
+     * @throws IllegalArgumentException if a quoted string is empty or not closed
+     */
+    public Tokens reset(CharSequence line) {
+        this.line = line;
+        size = 0;
+        int start = 0;
+        int length = line.length();
+        while (start < length) {
+            char c = line.charAt(start);
+            if (c == ' ' || c == '\t') {
+                start++;
+            } else if (c == '"') {
+                int end = start + 1;
+                while (end < length && line.charAt(end) != '"') {
+                    end++;
+                }
+                if (end == length) {
+                    throw new IllegalArgumentException("Strings must be closed by quotes.");
+                } else if (start + 1 == end) {
+                    throw new IllegalArgumentException("Strings cannot be empty.");
+                }
+                end++;
+                add(start, end);
+                start = end;
+            } else {
+                int end = start + 1;
+                while (end < length && line.charAt(end) != ' ' && line.charAt(end) != '\t') {
+                    end++;
+                }
+                add(start, end);
+                start = end;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Gets the number of tokens
+     *
+     * @return number of tokens
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the line holding the tokens
+     *
+     * @return line being tokenized
+     */
+    public CharSequence getLine() {
+        return line;
+    }
+
+    /**
+     * Gets the offset of the first character of a token within the line
+     *
+     * @param idx index of the token
+     * @return start offset of the token
+     */
+    public int start(int idx) {
+        checkIndex(idx);
+        return bounds[2 * idx];
+    }
+
+    /**
+     * Gets the offset after the last character of a token within the line
+     *
+     * @param idx index of the token
+     * @return end offset of the token
+     */
+    public int end(int idx) {
+        checkIndex(idx);
+        return bounds[2 * idx + 1];
+    }
+
+    /**
+     * Gets the length of a token
+     *
+     * @param idx index of the token
+     * @return number of characters in the token
+     */
+    public int length(int idx) {
+        return end(idx) - start(idx);
+    }
+
+    /**
+     * Gets a character of a token
+     *
+     * @param idx index of the token
+     * @param pos position of the character within the token
+     * @return character at the position
+     */
+    public char charAt(int idx, int pos) {
+        if (pos < 0 || pos >= length(idx)) {
+            throw new StringIndexOutOfBoundsException(pos);
+        }
+        return line.charAt(bounds[2 * idx] + pos);
+    }
+
+    /**
+     * Determines whether a token matches the given String
+     *
+     * @param idx index of the token
+     * @param s String being compared
+     * @return boolean value for whether the token is equal to the String
+     */
+    public boolean equals(int idx, String s) {
+        return regionMatches(idx, s, false);
+    }
+
+    /**
+     * Determines whether a token matches the given String, ignoring case
+     *
+     * @param idx index of the token
+     * @param s String being compared
+     * @return boolean value for whether the token is equal to the String ignoring case
+     */
+    public boolean equalsIgnoreCase(int idx, String s) {
+        return regionMatches(idx, s, true);
+    }
+
+    /**
+     * Parses part of a token as a decimal integer
+     *
+     * @param idx index of the token
+     * @param from position within the token where the integer starts
+     * @return parsed integer
+     * @throws NumberFormatException if that part of the token is not an integer
+     */
+    public int parseInt(int idx, int from) {
+        int start = start(idx);
+        return Integer.parseInt(line, Math.min(start + from, end(idx)), end(idx), 10);
+    }
+
+    /**
+     * Parses a token as a double. Plain decimals such as '2.5' are read straight from the line, anything else is
+     * handed to {@link Double#parseDouble(String)}, so the result is always the same as that method's.
+     *
+     * @param idx index of the token
+     * @return parsed double
+     * @throws NumberFormatException if the token is not a number
+     */
+    public double parseDouble(int idx) {
+        int start = start(idx);
+        int end = end(idx);
+        int i = start;
+        boolean negative = false;
+        if (i < end && (line.charAt(i) == '-' || line.charAt(i) == '+')) {
+            negative = line.charAt(i) == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = -1;
+        for (; i < end; i++) {
+            char c = line.charAt(i);
+            if (c >= '0' && c <= '9') {
+                mantissa = mantissa * 10 + (c - '0');
+                digits++;
+                if (fractionDigits >= 0) {
+                    fractionDigits++;
+                }
+            } else if (c == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+            } else {
+                break;
+            }
+        }
+        if (i < end || digits == 0 || digits > MAX_FAST_DIGITS) {
+            return Double.parseDouble(toString(idx));
+        }
+        // both operands are exact, so the single division is rounded the same way as parseDouble
+        double value = fractionDigits > 0 ? mantissa / POWERS_OF_TEN[fractionDigits] : mantissa;
+        return negative ? -value : value;
+    }
+
+    /**
+     * Copies a token out of the line
+     *
+     * @param idx index of the token
+     * @return token as a String
+     */
+    public String toString(int idx) {
+        return line.subSequence(start(idx), end(idx)).toString();
+    }
+
+    /**
+     * Copies part of a token out of the line
+     *
+     * @param idx index of the token
+     * @param from position within the token where the copy starts
+     * @param to position within the token where the copy ends
+     * @return part of the token as a String
+     */
+    public String substring(int idx, int from, int to) {
+        int start = start(idx);
+        if (from < 0 || to > length(idx) || from > to) {
+            throw new StringIndexOutOfBoundsException("begin " + from + ", end " + to + ", length " + length(idx));
+        }
+        return line.subSequence(start + from, start + to).toString();
+    }
+
+    /**
+     * Copies every token out of the line
+     *
+     * @return array of the tokens as Strings
+     */
+    public String[] toArray() {
+        String[] tokens = new String[size];
+        for (int i = 0; i < size; i++) {
+            tokens[i] = toString(i);
+        }
+        return tokens;
+    }
+
+    private boolean regionMatches(int idx, String s, boolean ignoreCase) {
+        int start = start(idx);
+        if (end(idx) - start != s.length()) {
+            return false;
+        }
+        for (int i = 0; i < s.length(); i++) {
+            char a = line.charAt(start + i);
+            char b = s.charAt(i);
+            if (a != b && (!ignoreCase || Character.toUpperCase(a) != Character.toUpperCase(b)
+                    && Character.toLowerCase(a) != Character.toLowerCase(b))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void add(int start, int end) {
+        if (2 * size + 2 > bounds.length) {
+            bounds = Arrays.copyOf(bounds, bounds.length * 2);
+        }
+        bounds[2 * size] = start;
+        bounds[2 * size + 1] = end;
+        size++;
+    }
+
+    private void checkIndex(int idx) {
+        if (idx < 0 || idx >= size) {
+            throw new ArrayIndexOutOfBoundsException("Index " + idx + " out of bounds for length " + size);
+        }
+    }
+}
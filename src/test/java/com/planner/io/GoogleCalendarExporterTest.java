@@ -0,0 +1,168 @@
+package com.planner.io;
+
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.services.calendar.Calendar;
+import com.google.api.services.calendar.model.Event;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GoogleCalendarExporterTest {
+
+    /** Local stand-in for the Calendar batch endpoint */
+    private HttpServer server;
+    /** Number of times every summary was inserted successfully */
+    private final Map<String, Integer> inserted = new ConcurrentHashMap<>();
+    /** Summaries which were already rejected once */
+    private final Map<String, Boolean> rejected = new ConcurrentHashMap<>();
+    /** Number of batch requests received */
+    private final AtomicInteger requests = new AtomicInteger();
+    /** Number of whole batch requests to be rejected before the stub starts answering */
+    private final AtomicInteger requestFailures = new AtomicInteger();
+    /** Batch requests being handled right now, and the most seen at once */
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/batch/calendar/v3", this::handleBatch);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void export() throws IOException {
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            // one insert per batch of 50 is rejected once with a 503, and one is rejected for good
+            String summary = i == 999 ? "bad" : (i % 100 == 0 ? "flaky" : "task") + i;
+            events.add(new Event().setSummary(summary));
+        }
+
+        AtomicInteger updates = new AtomicInteger();
+        GoogleCalendarExporter exporter = new GoogleCalendarExporter(createService(), "primary", 50, 4, 3, 1);
+        GoogleCalendarExporter.Result result = exporter.export(events, (completed, total) -> {
+            assertEquals(1000, total);
+            updates.incrementAndGet();
+        });
+
+        assertEquals(999, result.getExported());
+        assertEquals(1, result.getFailed());
+        assertEquals(10, result.getRetries());
+        assertEquals(30, result.getRequests());
+        assertEquals(30, requests.get());
+        assertEquals(30, updates.get());
+        assertTrue(maxInFlight.get() <= 4);
+        assertEquals(999, inserted.size());
+        for (int count : inserted.values()) {
+            assertEquals(1, count);
+        }
+        for (int i = 0; i < 999; i++) {
+            assertEquals("http://stub/" + events.get(i).getSummary(), result.getLinks().get(i));
+        }
+        assertNull(result.getLinks().get(999));
+    }
+
+    @Test
+    void retryRequest() throws IOException {
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            events.add(new Event().setSummary("task" + i));
+        }
+        requestFailures.set(2);
+
+        GoogleCalendarExporter exporter = new GoogleCalendarExporter(createService(), "primary", 50, 1, 3, 1);
+        GoogleCalendarExporter.Result result = exporter.export(events, null);
+        assertEquals(120, result.getExported());
+        assertEquals(0, result.getFailed());
+        assertEquals(100, result.getRetries());
+        assertEquals(120, inserted.size());
+
+        requestFailures.set(Integer.MAX_VALUE);
+        result = new GoogleCalendarExporter(createService(), "primary", 50, 2, 1, 1).export(events, null);
+        assertEquals(0, result.getExported());
+        assertEquals(120, result.getFailed());
+
+        assertThrows(IllegalArgumentException.class, () -> new GoogleCalendarExporter(createService(), "primary", 51, 1, 0, 0));
+    }
+
+    private Calendar createService() {
+        return new Calendar.Builder(new NetHttpTransport(), GsonFactory.getDefaultInstance(), null)
+                .setRootUrl("http://localhost:" + server.getAddress().getPort() + "/")
+                .setApplicationName("test")
+                .build();
+    }
+
+    private void handleBatch(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            if (requestFailures.getAndDecrement() > 0) {
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+            String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+            String boundary = "--" + contentType.substring(contentType.indexOf("boundary=") + 9);
+
+            StringBuilder sb = new StringBuilder();
+            String[] parts = body.split(boundary);
+            // the first part is the empty preamble and the last one is the closing "--"
+            for (int i = 1; i < parts.length - 1; i++) {
+                String json = parts[i].substring(parts[i].lastIndexOf("\r\n\r\n") + 4).trim();
+                String summary = JsonParser.parseString(json).getAsJsonObject().get("summary").getAsString();
+                sb.append("--resp\r\nContent-Type: application/http\r\nContent-ID: <response-").append(i).append(">\r\n\r\n");
+                if ("bad".equals(summary)) {
+                    appendError(sb, 400, "Bad Request");
+                } else if (summary.startsWith("flaky") && rejected.putIfAbsent(summary, true) == null) {
+                    appendError(sb, 503, "Service Unavailable");
+                } else {
+                    inserted.merge(summary, 1, Integer::sum);
+                    sb.append("HTTP/1.1 200 OK\r\nContent-Type: application/json; charset=UTF-8\r\n\r\n")
+                            .append("{\"summary\":\"").append(summary).append("\",\"htmlLink\":\"http://stub/")
+                            .append(summary).append("\"}\r\n");
+                }
+            }
+            sb.append("--resp--\r\n");
+
+            byte[] response = sb.toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "multipart/mixed; boundary=resp");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private void appendError(StringBuilder sb, int code, String message) {
+        sb.append("HTTP/1.1 ").append(code).append(' ').append(message)
+                .append("\r\nContent-Type: application/json; charset=UTF-8\r\n\r\n")
+                .append("{\"error\":{\"code\":").append(code).append(",\"message\":\"").append(message).append("\"}}\r\n");
+    }
+}
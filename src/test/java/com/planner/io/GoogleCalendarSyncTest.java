@@ -0,0 +1,305 @@
+package com.planner.io;
+
+import com.planner.manager.ScheduleManager;
+import com.planner.manager.ScheduleManagerFixture;
+import com.planner.models.Card;
+import com.planner.schedule.day.Day;
+import com.planner.util.GoogleCalendarUtil;
+import com.planner.util.Time;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.util.DateTime;
+import com.google.api.services.calendar.Calendar;
+import com.google.api.services.calendar.model.Event;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GoogleCalendarSyncTest {
+
+    /** Number of events the stub returns per page, well below the 2500 asked for */
+    private static final int PAGE_SIZE = 100;
+
+    /** Local stand-in for the Calendar list and batch endpoints */
+    private HttpServer server;
+    /** Events stored by the stub, by id */
+    private final Map<String, JsonObject> stored = new TreeMap<>();
+    /** Next id handed out by the stub */
+    private int nextId;
+    /** Number of list and batch HTTP requests received */
+    private final AtomicInteger listRequests = new AtomicInteger();
+    private final AtomicInteger batchRequests = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/calendar/v3/calendars/primary/events", this::handleList);
+        server.createContext("/batch/calendar/v3", this::handleBatch);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void plan() {
+        Event unchanged = createKeyedEvent("event-1-100", "same");
+        Event changed = createKeyedEvent("task-2-100-1", "before");
+        Event removed = createKeyedEvent("task-3-100-1", "removed");
+        Event legacy = new Event().setId("legacy")
+                .setDescription("Agile Planner\n\neb007aba6df2559a02ceb17ddba47c85b3e2b930");
+        List<Event> remote = List.of(unchanged.clone().setId("a"), changed.clone().setId("b"),
+                removed.clone().setId("c"), unchanged.clone().setId("d"), legacy);
+
+        Event added = createKeyedEvent("task-4-101-1", "added");
+        Event edited = createKeyedEvent("task-2-100-1", "after");
+        GoogleCalendarSync sync = GoogleCalendarSync.plan(List.of(unchanged, edited, added), remote);
+
+        assertEquals(List.of(added), sync.getInserts());
+        assertEquals(1, sync.getUpdates().size());
+        assertEquals("b", sync.getUpdates().get(0).getId());
+        assertEquals("after", sync.getUpdates().get(0).getSummary());
+        assertEquals(Set.of("c", "d", "legacy"), new HashSet<>(sync.getDeletes()));
+        assertEquals(1, sync.getUnchanged());
+        assertEquals(5, sync.size());
+    }
+
+    @Test
+    void syncScheduleToGoogle() throws IOException {
+        // older exports without keys, plus events created by the user, spread over several pages
+        for (int i = 0; i < 250; i++) {
+            store(new JsonObject(), "legacy" + i, "Agile Planner\n\neb007aba6df2559a02ceb17ddba47c85b3e2b930");
+        }
+        for (int i = 0; i < 50; i++) {
+            store(new JsonObject(), "personal" + i, "dentist");
+        }
+
+        ScheduleManager sm = createScheduleManager();
+        GoogleCalendarIO io = new GoogleCalendarIO(createService(), sm.getEventLog());
+        GoogleCalendarExporter.Result result = io.syncScheduleToGoogle(sm.getSchedule());
+        List<Event> local = GoogleCalendarUtil.formatScheduleToGoogleEvents(sm.getSchedule());
+        assertEquals(0, result.getFailed());
+        assertEquals(local.size() + 250, result.getExported());
+        assertEquals(3, listRequests.get());
+        assertEquals(getStoredKeys(), getKeys(local));
+        assertEquals(local.size() + 50, stored.size());
+
+        // nothing changed, so nothing but the listing is sent
+        listRequests.set(0);
+        batchRequests.set(0);
+        result = io.syncScheduleToGoogle(sm.getSchedule());
+        assertEquals(0, result.getRequests());
+        assertEquals(0, batchRequests.get());
+        assertEquals(1, listRequests.get());
+
+        // renaming one task only updates its SubTasks
+        sm.modTask(0, "renamed", null, null, null);
+        sm.buildSchedule();
+        listRequests.set(0);
+        result = io.syncScheduleToGoogle(sm.getSchedule());
+        assertEquals(1, result.getRequests());
+        assertEquals(1, batchRequests.get());
+        assertTrue(result.getExported() > 0 && result.getExported() < 5);
+        int renamed = 0;
+        for (JsonObject event : stored.values()) {
+            if ("renamed".equals(event.get("summary").getAsString())) {
+                renamed++;
+            }
+        }
+        assertEquals(result.getExported(), renamed);
+        assertEquals(getStoredKeys(), getKeys(GoogleCalendarUtil.formatScheduleToGoogleEvents(sm.getSchedule())));
+    }
+
+    @Test
+    void pastDays() throws IOException {
+        ScheduleManager sm = createScheduleManager();
+        // a Day from last week is still at the head of the schedule, though the calendar is only listed from today
+        java.util.Calendar start = Time.getFormattedCalendarInstance(-7);
+        start.set(java.util.Calendar.HOUR_OF_DAY, 10);
+        java.util.Calendar end = (java.util.Calendar) start.clone();
+        end.set(java.util.Calendar.HOUR_OF_DAY, 12);
+        Day past = new Day(0, 8, Time.getFormattedCalendarInstance(-7));
+        past.addEvent(new com.planner.models.Event(99, "standup", null, new Time.TimeStamp(start, end)));
+        List<Day> schedule = new ArrayList<>();
+        schedule.add(past);
+        schedule.addAll(sm.getSchedule());
+
+        GoogleCalendarIO io = new GoogleCalendarIO(createService(), sm.getEventLog());
+        GoogleCalendarExporter.Result result = io.syncScheduleToGoogle(schedule);
+        List<Event> upcoming = GoogleCalendarUtil.formatScheduleToGoogleEvents(sm.getSchedule());
+        assertEquals(upcoming.size(), result.getExported());
+        assertEquals(getStoredKeys(), getKeys(upcoming));
+
+        // the past Day is never listed back, so syncing again must not insert it a second time
+        result = io.syncScheduleToGoogle(schedule);
+        assertEquals(0, result.getRequests());
+        assertEquals(upcoming.size(), stored.size());
+    }
+
+    private ScheduleManager createScheduleManager() throws IOException {
+        ScheduleManager sm = ScheduleManagerFixture.create();
+        sm.addCard("Math", Card.Color.BLUE);
+        for (int i = 0; i < 40; i++) {
+            sm.addTask("task" + i, 1 + (i % 4) * 0.5, Time.getFormattedCalendarInstance(1 + i % 10), i % 2 == 0 ? 0 : null);
+        }
+        java.util.Calendar start = Time.getFormattedCalendarInstance(2);
+        start.set(java.util.Calendar.HOUR_OF_DAY, 10);
+        java.util.Calendar end = (java.util.Calendar) start.clone();
+        end.set(java.util.Calendar.HOUR_OF_DAY, 12);
+        sm.addEvent("meeting", 0, new Time.TimeStamp(start, end), false, null);
+        sm.buildSchedule();
+        return sm;
+    }
+
+    private Calendar createService() {
+        return new Calendar.Builder(new NetHttpTransport(), GsonFactory.getDefaultInstance(), null)
+                .setRootUrl("http://localhost:" + server.getAddress().getPort() + "/")
+                .setApplicationName("test")
+                .build();
+    }
+
+    private Event createKeyedEvent(String key, String summary) {
+        Event event = new Event().setSummary(summary).setDescription("Agile Planner");
+        Map<String, String> properties = new HashMap<>();
+        properties.put(GoogleCalendarUtil.KEY_PROPERTY, key);
+        properties.put(GoogleCalendarUtil.HASH_PROPERTY, summary);
+        event.setExtendedProperties(new Event.ExtendedProperties().setPrivate(properties));
+        return event;
+    }
+
+    private Set<String> getKeys(List<Event> events) {
+        Set<String> keys = new HashSet<>();
+        for (Event event : events) {
+            keys.add(GoogleCalendarUtil.getKey(event));
+        }
+        return keys;
+    }
+
+    private Set<String> getStoredKeys() {
+        Set<String> keys = new HashSet<>();
+        for (JsonObject event : stored.values()) {
+            if (event.has("extendedProperties")) {
+                keys.add(event.getAsJsonObject("extendedProperties").getAsJsonObject("private")
+                        .get(GoogleCalendarUtil.KEY_PROPERTY).getAsString());
+            }
+        }
+        return keys;
+    }
+
+    private synchronized JsonObject store(JsonObject event, String summary, String description) {
+        event.addProperty("summary", summary);
+        event.addProperty("description", description);
+        return store(event);
+    }
+
+    private synchronized JsonObject store(JsonObject event) {
+        if (!event.has("id")) {
+            event.addProperty("id", String.format("id%06d", nextId++));
+        }
+        stored.put(event.get("id").getAsString(), event);
+        return event;
+    }
+
+    private synchronized void handleList(HttpExchange exchange) throws IOException {
+        listRequests.incrementAndGet();
+        String query = exchange.getRequestURI().getQuery();
+        int from = 0;
+        long timeMin = Long.MIN_VALUE;
+        for (String param : query.split("&")) {
+            if (param.startsWith("pageToken=")) {
+                from = Integer.parseInt(param.substring(10));
+            } else if (param.startsWith("timeMin=")) {
+                timeMin = DateTime.parseRfc3339(param.substring(8)).getValue();
+            }
+        }
+        // like the Calendar API, leaves out the events ending before timeMin
+        List<JsonObject> events = new ArrayList<>();
+        for (JsonObject event : stored.values()) {
+            if (!event.has("end") || DateTime.parseRfc3339(event.getAsJsonObject("end").get("dateTime").getAsString())
+                    .getValue() > timeMin) {
+                events.add(event);
+            }
+        }
+        JsonArray items = new JsonArray();
+        for (int i = from; i < Math.min(from + PAGE_SIZE, events.size()); i++) {
+            items.add(events.get(i));
+        }
+        JsonObject page = new JsonObject();
+        page.add("items", items);
+        if (from + PAGE_SIZE < events.size()) {
+            page.addProperty("nextPageToken", String.valueOf(from + PAGE_SIZE));
+        }
+        respond(exchange, "application/json; charset=UTF-8", page.toString());
+    }
+
+    private synchronized void handleBatch(HttpExchange exchange) throws IOException {
+        batchRequests.incrementAndGet();
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        String boundary = "--" + contentType.substring(contentType.indexOf("boundary=") + 9);
+
+        StringBuilder sb = new StringBuilder();
+        String[] parts = body.split(boundary);
+        for (int i = 1; i < parts.length - 1; i++) {
+            // part headers, then the request line, its headers and the JSON body
+            String request = parts[i].substring(parts[i].indexOf("\r\n\r\n") + 4);
+            String[] requestLine = request.substring(0, request.indexOf("\r\n")).split(" ");
+            String path = requestLine[1];
+            String id = path.substring(path.lastIndexOf('/') + 1);
+            sb.append("--resp\r\nContent-Type: application/http\r\nContent-ID: <response-").append(i).append(">\r\n\r\n");
+            switch (requestLine[0]) {
+                case "POST":
+                case "PUT":
+                    JsonObject event = JsonParser.parseString(request.substring(request.lastIndexOf("\r\n\r\n") + 4).trim())
+                            .getAsJsonObject();
+                    if ("PUT".equals(requestLine[0])) {
+                        event.addProperty("id", id);
+                    }
+                    store(event);
+                    sb.append("HTTP/1.1 200 OK\r\nContent-Type: application/json; charset=UTF-8\r\n\r\n")
+                            .append(event).append("\r\n");
+                    break;
+                case "DELETE":
+                    stored.remove(id);
+                    sb.append("HTTP/1.1 204 No Content\r\n\r\n");
+                    break;
+                default:
+                    fail("Unexpected request " + requestLine[0]);
+            }
+        }
+        sb.append("--resp--\r\n");
+        respond(exchange, "multipart/mixed; boundary=resp", sb.toString());
+    }
+
+    private void respond(HttpExchange exchange, String contentType, String body) throws IOException {
+        byte[] response = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(200, response.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(response);
+        }
+        exchange.close();
+    }
+}
@@ -0,0 +1,97 @@
+package com.planner.manager;
+
+import com.planner.models.Card;
+import com.planner.models.Event;
+import com.planner.schedule.day.Day;
+import com.planner.util.Time;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Calendar;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventStoreTest {
+
+    @Test
+    void indexes() {
+        EventStore store = new EventStore();
+        Card card = new Card(0, "Math", Card.Color.BLUE);
+        // one Event an hour on each of 1000 days, added out of order
+        for (int i = 0; i < 1000; i++) {
+            long day = (i * 7L) % 1000;
+            long start = day * Time.MINUTES_PER_DAY + 600;
+            store.add(new Event(i, "event" + i, i % 10 == 0 ? card : null, new Time.TimeStamp(start, start + 60)));
+        }
+        long start = 5 * Time.MINUTES_PER_DAY + 300;
+        store.add(new Event(1000, "early", null, new Time.TimeStamp(start, start + 60)));
+        store.add(new Event(1001, "weekly", card, new Time.TimeStamp(start, start + 60),
+                new Event.DayOfWeek[]{Event.DayOfWeek.MON, Event.DayOfWeek.WED}));
+
+        assertEquals(1002, store.size());
+        assertEquals(1001, store.getNumIndivEvents());
+        assertEquals("event70", store.get(70).getName());
+        assertNull(store.get(2000));
+        assertThrows(IllegalArgumentException.class, () -> store.add(store.get(70)));
+
+        List<Event> day5 = store.getIndivEvents(5);
+        assertEquals(2, day5.size());
+        assertEquals("early", day5.get(0).getName());
+        assertEquals(5, day5.get(1).getTimeStamp().getEpochDay());
+        assertEquals(0, store.getIndivEvents(1000).size());
+
+        List<Event> range = store.getIndivEvents(10, 19);
+        assertEquals(10, range.size());
+        for (int i = 1; i < range.size(); i++) {
+            assertTrue(range.get(i - 1).compareTo(range.get(i)) < 0);
+        }
+        assertEquals(1001, store.getIndivEvents().size());
+
+        assertEquals(101, store.getEventsWithCard(card).size());
+        assertEquals(List.of(store.get(1001)), store.getRecurringEvents(Event.DayOfWeek.MON.ordinal()));
+        assertEquals(List.of(store.get(1001)), store.getRecurringEventsList());
+
+        Event removed = store.remove(10);
+        assertNull(store.get(10));
+        assertNull(store.remove(10));
+        assertFalse(store.getIndivEvents(removed.getTimeStamp().getEpochDay()).contains(removed));
+        assertEquals(100, store.getEventsWithCard(card).size());
+
+        store.remove(1001);
+        assertTrue(store.getRecurringEvents(Event.DayOfWeek.WED.ordinal()).isEmpty());
+        assertEquals(99, store.getEventsWithCard(card).size());
+    }
+
+    @Test
+    void buildWithPastEvents() throws IOException {
+        ScheduleManager sm = ScheduleManagerFixture.create();
+        // past Events sort ahead of the schedule and must not keep later ones off their Days
+        for (int i = 1; i <= 50; i++) {
+            sm.addEvent("past" + i, null, createTimeStamp(-i, 9), false, null);
+        }
+        Event upcoming = sm.addEvent("upcoming", null, createTimeStamp(2, 9), false, null);
+        for (int i = 0; i < 10; i++) {
+            sm.addTask("task" + i, 4, Time.getFormattedCalendarInstance(5), null);
+        }
+        sm.buildSchedule();
+        assertTrue(sm.getSchedule().get(2).getEventList().contains(upcoming));
+
+        // moving the Event to another date moves it in the index as well
+        sm.modEvent(upcoming.getId(), null, null, null, List.of(Time.getFormattedCalendarInstance(3)));
+        sm.buildSchedule();
+        List<Day> schedule = sm.getSchedule();
+        assertFalse(schedule.get(2).getEventList().contains(upcoming));
+        assertTrue(schedule.get(3).getEventList().contains(upcoming));
+        assertEquals(List.of(upcoming), sm.getEventStore().getIndivEvents(schedule.get(3).getEpochDay()));
+        assertEquals(51, sm.getIndivEvents().size());
+    }
+
+    private Time.TimeStamp createTimeStamp(int days, int hour) {
+        Calendar start = Time.getFormattedCalendarInstance(days);
+        start.set(Calendar.HOUR_OF_DAY, hour);
+        Calendar end = (Calendar) start.clone();
+        end.set(Calendar.HOUR_OF_DAY, hour + 1);
+        return new Time.TimeStamp(start, end);
+    }
+}
@@ -0,0 +1,46 @@
+package com.planner.manager;
+
+import com.planner.models.UserConfig;
+import com.planner.util.EventLog;
+import com.planner.util.JsonHandler;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * Creates instance-scoped ScheduleManagers for tests, each with the settings from 'settings/profile.json', its own
+ * in-memory {@link EventLog} and its own Scheduler
+ */
+public class ScheduleManagerFixture {
+
+    /**
+     * Reads a new copy of the settings from 'settings/profile.json'
+     *
+     * @return UserConfig of the settings file
+     * @throws IOException if the settings file could not be read
+     */
+    public static UserConfig readUserConfig() throws IOException {
+        return JsonHandler.readUserConfig(Files.readString(Paths.get("settings/profile.json")));
+    }
+
+    /**
+     * Creates a ScheduleManager with the settings from 'settings/profile.json'
+     *
+     * @return new ScheduleManager
+     * @throws IOException if the settings file could not be read
+     */
+    public static ScheduleManager create() throws IOException {
+        return create(readUserConfig());
+    }
+
+    /**
+     * Creates a ScheduleManager with the given settings
+     *
+     * @param userConfig settings of the ScheduleManager
+     * @return new ScheduleManager
+     */
+    public static ScheduleManager create(UserConfig userConfig) {
+        return new ScheduleManager(userConfig, new EventLog(), null);
+    }
+}
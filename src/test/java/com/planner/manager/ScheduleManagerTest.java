@@ -2,12 +2,27 @@ package com.planner.manager;
 
 import com.planner.models.Card;
 import com.planner.models.Event;
+import com.planner.models.Task;
+import com.planner.models.UserConfig;
+import com.planner.schedule.ScheduleMetrics;
+import com.planner.schedule.Scheduler;
+import com.planner.schedule.SchedulerRegistry;
+import com.planner.schedule.day.Day;
+import com.planner.util.EventLog;
+import com.planner.util.JsonHandler;
+import com.planner.util.Serializer;
 import com.planner.util.Time;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -197,6 +212,38 @@ class ScheduleManagerTest {
         assertNull(sm.getTask(0).getCard());
     }
 
+    @Test
+    void cardItems() throws IOException {
+        ScheduleManager sm = ScheduleManagerFixture.create();
+        sm.addCard("Math", Card.Color.BLUE);
+        sm.addCard("Art", Card.Color.RED);
+        for (int i = 0; i < 20; i++) {
+            sm.addTask("task" + i, 2, Time.getFormattedCalendarInstance(1 + i % 5), i % 2);
+        }
+        Calendar start = Time.getFormattedCalendarInstance(1);
+        start.set(Calendar.HOUR_OF_DAY, 9);
+        Calendar end = (Calendar) start.clone();
+        end.set(Calendar.HOUR_OF_DAY, 10);
+        sm.addEvent("lecture", 0, new Time.TimeStamp(start, end), false, null);
+        sm.addEvent("studio", 1, new Time.TimeStamp(start, end), true, List.of(start));
+
+        assertEquals(10, sm.getCardTasks(0).size());
+        assertEquals("lecture", sm.getCardEvents(0).get(0).getName());
+
+        sm.modTask(0, null, null, null, 1);
+        sm.deleteTask(2);
+        assertEquals(8, sm.getCardTasks(0).size());
+        assertEquals(11, sm.getCardTasks(1).size());
+
+        assertTrue(sm.deleteCard(1));
+        assertNull(sm.getCardById(1));
+        assertNull(sm.getTask(0).getCard());
+        assertNull(sm.getEventStore().get(1).getCard());
+        assertEquals(List.of(sm.getCardById(0)), sm.getCards());
+        assertThrows(IllegalArgumentException.class, () -> sm.getCardTasks(1));
+        assertEquals(8, sm.getCardTasks(0).size());
+    }
+
     @Test
     void deleteEvent() {
         ScheduleManager sm = new ScheduleManager();
@@ -229,6 +276,164 @@ class ScheduleManagerTest {
         assertFalse(sm.deleteEvent(2));
     }
 
+    @Test
+    void buildScheduleIncremental() throws IOException {
+        ScheduleManager sm = new ScheduleManager();
+
+        for (int i = 0; i < 20; i++) {
+            sm.addTask("task" + i, 1 + (i % 6) * 0.5, Time.getFormattedCalendarInstance(1 + i % 10), null);
+        }
+        sm.buildSchedule();
+
+        // each change only regenerates the Days it affects, which must match a full rebuild
+        sm.addTask("late task", 2, Time.getFormattedCalendarInstance(12), null);
+        assertIncrementalMatchesFull(sm);
+
+        sm.modTask(3, null, 4.0, Time.getFormattedCalendarInstance(6), null);
+        assertIncrementalMatchesFull(sm);
+
+        sm.deleteTask(7);
+        assertIncrementalMatchesFull(sm);
+
+        Calendar start = Time.getFormattedCalendarInstance(4);
+        start.set(Calendar.HOUR_OF_DAY, 10);
+        Calendar end = (Calendar) start.clone();
+        end.set(Calendar.HOUR_OF_DAY, 12);
+        sm.addEvent("meeting", null, new Time.TimeStamp(start, end), false, null);
+        assertIncrementalMatchesFull(sm);
+    }
+
+    @Test
+    void buildScheduleParallel() throws IOException {
+        ScheduleManager sm = new ScheduleManager();
+
+        for (int i = 0; i < 60; i++) {
+            sm.addTask("task" + i, 4 + (i % 3) * 0.5, Time.getFormattedCalendarInstance(i % 14), null);
+        }
+        Calendar start = Time.getFormattedCalendarInstance(3);
+        start.set(Calendar.HOUR_OF_DAY, 10);
+        Calendar end = (Calendar) start.clone();
+        end.set(Calendar.HOUR_OF_DAY, 12);
+        sm.addEvent("meeting", null, new Time.TimeStamp(start, end), false, null);
+
+        sm.buildSchedule();
+        String sequential = sm.buildScheduleStr() + sm.buildSubTaskStr() + sm.buildTaskStr();
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        sm.buildSchedule(pool);
+        pool.shutdown();
+        assertEquals(sequential, sm.buildScheduleStr() + sm.buildSubTaskStr() + sm.buildTaskStr());
+    }
+
+    @Test
+    void buildScheduleBatch() throws IOException {
+        String config = Files.readString(Paths.get("settings/profile.json"));
+        List<String> inputs = new ArrayList<>();
+        for (String file : new String[]{"fall.sched", "semester.sched", "overflow.sched", "test.sched"}) {
+            String data = Files.readString(Paths.get("schedules", file));
+            inputs.add(data);
+            inputs.add(data);
+        }
+
+        BatchScheduler.Result result = new BatchScheduler(config, 4).run(inputs);
+        assertEquals(0, result.getFailures());
+        assertEquals(inputs.size(), result.getManagers().size());
+        assertTrue(result.getSchedulesPerSecond() > 0);
+
+        for (int i = 0; i < inputs.size(); i++) {
+            ScheduleManager sm = ScheduleManagerFixture.create(JsonHandler.readUserConfig(config));
+            Serializer.deserializeSchedule(inputs.get(i), sm);
+            sm.buildSchedule();
+
+            ScheduleManager batched = result.getManagers().get(i);
+            assertNotSame(sm.getEventLog(), batched.getEventLog());
+            assertEquals(sm.buildScheduleStr() + sm.buildTaskStr(), batched.buildScheduleStr() + batched.buildTaskStr());
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> new BatchScheduler(config, 0));
+    }
+
+    @Test
+    void schedulerStrategies() throws IOException {
+        ScheduleManager sm = ScheduleManagerFixture.create();
+        for (int i = 0; i < 40; i++) {
+            sm.addTask("task" + i, 1 + (i % 8) * 0.5, Time.getFormattedCalendarInstance(1 + i % 12), null);
+        }
+        assertEquals(UserConfig.DEFAULT_SCHEDULER, sm.getSchedulerName());
+        assertThrows(IllegalArgumentException.class, () -> sm.setScheduler("fifo"));
+
+        Map<String, ScheduleMetrics> metrics = new HashMap<>();
+        for (String name : SchedulerRegistry.getNames()) {
+            sm.setScheduler(name);
+            assertEquals(name, sm.getUserConfig().getScheduler());
+            sm.buildSchedule();
+            ScheduleMetrics built = sm.getScheduleMetrics();
+            metrics.put(name, built);
+            assertTrue(built.getScheduledHours() > 0);
+            assertTrue(built.getOverflowHours() >= 0);
+
+            // every strategy keeps incremental and parallel builds identical to a full build
+            Task task = sm.addTask("new task", 3, Time.getFormattedCalendarInstance(8), null);
+            assertIncrementalMatchesFull(sm);
+            String sequential = sm.buildScheduleStr() + sm.buildSubTaskStr() + sm.buildTaskStr();
+            ForkJoinPool pool = new ForkJoinPool(4);
+            sm.buildSchedule(pool);
+            pool.shutdown();
+            assertEquals(sequential, sm.buildScheduleStr() + sm.buildSubTaskStr() + sm.buildTaskStr());
+            sm.deleteTask(task.getId());
+        }
+
+        // shortest and longest first only reorder the Tasks sharing a due date
+        sm.setScheduler("sjf");
+        sm.buildSchedule();
+        assertEquals(1.0, sm.getSchedule().get(0).getSubTaskList().get(0).getParentTask().getTotalHours());
+        sm.setScheduler("edf");
+        sm.buildSchedule();
+        assertEquals(3.0, sm.getSchedule().get(0).getSubTaskList().get(0).getParentTask().getTotalHours());
+        assertTrue(metrics.get("balanced").getLoadDeviation() < metrics.get("compact").getLoadDeviation());
+    }
+
+    @Test
+    void sessionUserConfigs() {
+        ScheduleManager first = new ScheduleManager();
+        ScheduleManager second = new ScheduleManager();
+        assertNotSame(first.getUserConfig(), second.getUserConfig());
+
+        // settings changed on one manager stay with it
+        String name = second.getSchedulerName();
+        first.setScheduler(UserConfig.DEFAULT_SCHEDULER.equals(name) ? "balanced" : UserConfig.DEFAULT_SCHEDULER);
+        assertEquals(name, second.getUserConfig().getScheduler());
+        assertEquals(name, new ScheduleManager().getSchedulerName());
+    }
+
+    @Test
+    void instanceSchedulers() throws IOException {
+        String config = Files.readString(Paths.get("settings/profile.json"));
+        EventLog firstLog = new EventLog();
+        EventLog secondLog = new EventLog();
+        ScheduleManager first = new ScheduleManager(JsonHandler.readUserConfig(config), firstLog, null);
+        ScheduleManager second = new ScheduleManager(JsonHandler.readUserConfig(config), secondLog, null);
+        first.buildSchedule();
+
+        // each instance gets a Scheduler of its own, logging Day actions to its own EventLog
+        second.addTask("essay", 3, Time.getFormattedCalendarInstance(2), null);
+        second.buildSchedule();
+        assertTrue(secondLog.toString().contains("DAY:"));
+        assertFalse(firstLog.toString().contains("DAY:"));
+    }
+
+    private void assertIncrementalMatchesFull(ScheduleManager sm) throws IOException {
+        sm.buildSchedule();
+        Day lastDay = sm.getSchedule().get(sm.getSchedule().size() - 1);
+        String incremental = sm.buildScheduleStr() + sm.buildTaskStr();
+
+        // resetting the config forces a full rebuild
+        sm.setUserConfig(sm.getUserConfig());
+        sm.buildSchedule();
+        assertNotSame(lastDay, sm.getSchedule().get(sm.getSchedule().size() - 1));
+        assertEquals(incremental, sm.buildScheduleStr() + sm.buildTaskStr());
+    }
+
     private String eventToString(Event e) {
         StringBuilder eventSb = new StringBuilder();
         eventSb.append(e.getName())
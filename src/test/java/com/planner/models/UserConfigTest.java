@@ -71,6 +71,13 @@ class UserConfigTest {
         assertFalse(userConfig.isOverflow());
     }
 
+    @Test
+    void setFastStart() {
+        assertFalse(userConfig.isFastStart());
+        userConfig.setFastStart(true);
+        assertTrue(userConfig.isFastStart());
+    }
+
 //    @Test
 //    void setMinHours() {
 //        assertEquals(0.5, new double[]{userConfig.getSubtaskRange()});
@@ -0,0 +1,63 @@
+package com.planner.schedule;
+
+import com.planner.models.Event;
+import com.planner.models.Task;
+import com.planner.models.UserConfig;
+import com.planner.schedule.day.Day;
+import com.planner.util.EventLog;
+import com.planner.util.JsonHandler;
+import com.planner.util.Time;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactSchedulerTest {
+
+    @Test
+    void optimizeDay() throws IOException {
+        UserConfig userConfig = JsonHandler.readUserConfig(Files.readString(Paths.get("settings/profile.json")));
+        Scheduler scheduler = SchedulerRegistry.newInstance("compact", userConfig, new EventLog());
+        Day day = new Day(1, 8, 1);
+        long start = day.getStartMinute();
+        // free blocks of 1.5 hours (7:00-8:30), 1 hour (9:00-10:00) and the rest of the Day from 10:30
+        day.addEvent(new Event(0, "standup", null, new Time.TimeStamp(start + 510, start + 540)));
+        day.addEvent(new Event(1, "review", null, new Time.TimeStamp(start + 600, start + 630)));
+        List<Task> tasks = List.of(new Task(0, "long", 2, Time.getFormattedCalendarInstance(1)),
+                new Task(1, "medium", 1.5, Time.getFormattedCalendarInstance(1)),
+                new Task(2, "short", 1, Time.getFormattedCalendarInstance(1)));
+        for (Task task : tasks) {
+            day.addSubTask(task, task.getTotalHours(), userConfig, start, false);
+        }
+        assertEquals(5, day.getNumSubTasks());
+
+        // every Task fits one of the blocks whole
+        assertEquals(0, scheduler.optimizeDay(day));
+        assertEquals(3, day.getNumSubTasks());
+        assertEquals(3, day.getTaskTimeStamps().size());
+        Map<Task, Double> hours = new HashMap<>();
+        for (int i = 0; i < day.getNumSubTasks(); i++) {
+            Task.SubTask subTask = day.getSubTask(i);
+            Time.TimeStamp ts = day.getTaskTimeStamps().get(i);
+            assertSame(ts, subTask.getTimeStamp());
+            assertFalse(day.hasEventConflict(ts.getStartMinute(), ts.getEndMinute()));
+            hours.merge(subTask.getParentTask(), subTask.getSubTaskHours(), Double::sum);
+        }
+        for (Task task : tasks) {
+            assertEquals(task.getTotalHours(), hours.get(task));
+            assertEquals(0, task.getSubTotalHoursRemaining());
+        }
+        assertEquals(start + 420, day.getTaskTimeStamps().get(0).getStartMinute());
+        assertEquals(tasks.get(1), day.getSubTask(0).getParentTask());
+
+        // nothing left to merge
+        assertEquals(0, scheduler.optimizeDay(day));
+        assertEquals(3, day.getNumSubTasks());
+    }
+}
@@ -0,0 +1,67 @@
+package com.planner.schedule;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SubTaskPackerTest {
+
+    @Test
+    void packExact() {
+        // back to back, the 90 minute block splits the first Task
+        int[][] packing = SubTaskPacker.pack(new int[]{60, 120, 90}, new int[]{90, 180});
+        assertFitsExactly(new int[]{60, 120, 90}, new int[]{90, 180}, packing);
+        assertEquals(3, SubTaskPacker.countPieces(packing));
+        assertEquals(90, packing[0][2]);
+
+        assertThrows(IllegalArgumentException.class, () -> SubTaskPacker.pack(new int[]{60}, new int[]{90}));
+    }
+
+    @Test
+    void packGreedy() {
+        Random rand = new Random(34);
+        for (int trial = 0; trial < 200; trial++) {
+            int numItems = 2 + rand.nextInt(14);
+            int[] items = new int[numItems];
+            int total = 0;
+            for (int j = 0; j < numItems; j++) {
+                items[j] = 30 * (1 + rand.nextInt(8));
+                total += items[j];
+            }
+            // cuts the same time into blocks at random half hours
+            int numBlocks = 1 + rand.nextInt(Math.min(6, total / 30));
+            int[] blocks = new int[numBlocks];
+            int left = total;
+            for (int i = 0; i < numBlocks - 1; i++) {
+                blocks[i] = 30 * (1 + rand.nextInt(Math.max(1, (left / 30 - (numBlocks - i - 1)) / 2)));
+                left -= blocks[i];
+            }
+            blocks[numBlocks - 1] = left;
+
+            int[][] packing = SubTaskPacker.pack(items, blocks);
+            assertFitsExactly(items, blocks, packing);
+            // never worse than filling the blocks back to back
+            assertTrue(SubTaskPacker.countPieces(packing) <= numItems + numBlocks - 1);
+        }
+    }
+
+    private void assertFitsExactly(int[] items, int[] blocks, int[][] packing) {
+        for (int i = 0; i < blocks.length; i++) {
+            int sum = 0;
+            for (int j = 0; j < items.length; j++) {
+                assertTrue(packing[i][j] >= 0);
+                sum += packing[i][j];
+            }
+            assertEquals(blocks[i], sum);
+        }
+        for (int j = 0; j < items.length; j++) {
+            int sum = 0;
+            for (int[] block : packing) {
+                sum += block[j];
+            }
+            assertEquals(items[j], sum);
+        }
+    }
+}
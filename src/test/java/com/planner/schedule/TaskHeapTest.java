@@ -0,0 +1,114 @@
+package com.planner.schedule;
+
+import com.planner.models.Task;
+import com.planner.util.Time;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskHeapTest {
+
+    @Test
+    void matchesPriorityQueue() {
+        Random rand = new Random(34);
+        List<Task> tasks = new ArrayList<>();
+        TaskHeap heap = new TaskHeap(4);
+        PriorityQueue<Task> expected = new PriorityQueue<>();
+        for (int i = 0; i < 2000; i++) {
+            Task task = new Task(i, "task" + i, 1 + rand.nextInt(8) * 0.5, Time.getFormattedCalendarInstance(rand.nextInt(30)));
+            tasks.add(task);
+            heap.add(task);
+            expected.add(task);
+        }
+        assertThrows(IllegalArgumentException.class, () -> heap.add(tasks.get(0)));
+
+        for (int i = 0; i < 3000; i++) {
+            Task task = tasks.get(rand.nextInt(tasks.size()));
+            switch (rand.nextInt(3)) {
+                case 0:
+                    assertEquals(expected.remove(task), heap.remove(task));
+                    break;
+                case 1:
+                    // re-keys the Task wherever it is in the heap
+                    boolean present = expected.remove(task);
+                    task.setDueDate(Time.getFormattedCalendarInstance(rand.nextInt(30)));
+                    assertEquals(present, heap.update(task));
+                    if (present) {
+                        expected.add(task);
+                    }
+                    break;
+                default:
+                    if (!expected.contains(task)) {
+                        expected.add(task);
+                        heap.add(task);
+                    }
+                    break;
+            }
+            assertEquals(expected.size(), heap.size());
+            assertSame(expected.peek(), heap.peek());
+        }
+
+        Task first = heap.peek();
+        assertSame(first, heap.get(first.getId()));
+        assertSame(first, heap.removeById(first.getId()));
+        assertNull(heap.removeById(first.getId()));
+        assertFalse(heap.contains(first));
+        expected.remove(first);
+        while (!expected.isEmpty()) {
+            assertSame(expected.remove(), heap.remove());
+        }
+        assertNull(heap.poll());
+    }
+
+    @Test
+    void heapify() {
+        Random rand = new Random(34);
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            tasks.add(new Task(i, "task" + i, 1 + rand.nextInt(8) * 0.5, Time.getFormattedCalendarInstance(rand.nextInt(30))));
+        }
+        TaskHeap heap = new TaskHeap(tasks);
+        assertThrows(IllegalArgumentException.class, () -> new TaskHeap(List.of(tasks.get(0), tasks.get(0))));
+
+        // every key changes at once, then the order is restored in one pass
+        for (Task task : heap) {
+            task.setDueDate(Time.getFormattedCalendarInstance(rand.nextInt(30)));
+        }
+        heap.heapify();
+        PriorityQueue<Task> expected = new PriorityQueue<>(tasks);
+        heap.addAll(List.of());
+        while (!expected.isEmpty()) {
+            assertSame(expected.remove(), heap.remove());
+        }
+        assertTrue(heap.isEmpty());
+        heap.heapify();
+    }
+
+    @Test
+    void addAllDuplicate() {
+        Random rand = new Random(34);
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            tasks.add(new Task(i, "task" + i, 1 + rand.nextInt(8) * 0.5, Time.getFormattedCalendarInstance(rand.nextInt(30))));
+        }
+        TaskHeap heap = new TaskHeap();
+        heap.add(tasks.get(0));
+        List<Task> batch = new ArrayList<>(tasks.subList(1, 60));
+        batch.add(tasks.get(30));
+        batch.addAll(tasks.subList(60, 100));
+        assertThrows(IllegalArgumentException.class, () -> heap.addAll(batch));
+
+        // the Tasks before the duplicate were added and are still in order
+        PriorityQueue<Task> expected = new PriorityQueue<>(tasks.subList(0, 60));
+        assertEquals(expected.size(), heap.size());
+        while (!expected.isEmpty()) {
+            assertSame(expected.remove(), heap.poll());
+        }
+        assertNull(heap.poll());
+    }
+}
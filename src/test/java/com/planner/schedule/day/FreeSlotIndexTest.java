@@ -0,0 +1,69 @@
+package com.planner.schedule.day;
+
+import com.planner.util.Time;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests all FreeSlotIndex methods
+ */
+class FreeSlotIndexTest {
+
+    private static final long DAY_START = 20000L * Time.MINUTES_PER_DAY;
+
+    private FreeSlotIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new FreeSlotIndex(DAY_START);
+        // 9:00am-10:00am, 9:30am-10:15am (overlapping), 12:00pm-1:00pm, 1:20pm-2:00pm
+        index.occupy(at(9, 0), at(10, 0));
+        index.occupy(at(9, 30), at(10, 15));
+        index.occupy(at(12, 0), at(13, 0));
+        index.occupy(at(13, 20), at(14, 0));
+    }
+
+    @Test
+    void getFreeMinutes() {
+        assertEquals(Time.MINUTES_PER_DAY - 75 - 60 - 40, index.getFreeMinutes());
+        assertEquals(105, index.getFreeMinutes(at(10, 0), at(12, 0)));
+        assertEquals(0, index.getFreeMinutes(at(9, 0), at(10, 15)));
+        assertEquals(Time.MINUTES_PER_DAY, new FreeSlotIndex(DAY_START).getFreeMinutes());
+    }
+
+    @Test
+    void hasConflict() {
+        assertTrue(index.hasConflict(at(8, 0), at(9, 1)));
+        assertTrue(index.hasConflict(at(10, 14), at(10, 15)));
+        assertFalse(index.hasConflict(at(10, 15), at(12, 0)));
+        assertFalse(index.hasConflict(at(8, 0), at(9, 0)));
+    }
+
+    @Test
+    void nextOccupiedAndNextFree() {
+        assertEquals(at(9, 0), index.nextOccupied(at(0, 0)));
+        assertEquals(at(9, 45), index.nextOccupied(at(9, 45)));
+        assertEquals(at(10, 15), index.nextFree(at(9, 0)));
+        assertEquals(at(11, 0), index.nextFree(at(11, 0)));
+        assertEquals(FreeSlotIndex.NONE, index.nextOccupied(at(14, 0)));
+        assertTrue(index.isFree(at(14, 0)));
+        assertFalse(index.isFree(at(13, 59)));
+    }
+
+    @Test
+    void getFirstFreeSlot() {
+        assertEquals(at(8, 0), index.getFirstFreeSlot(at(8, 0), 30));
+        assertEquals(at(10, 15), index.getFirstFreeSlot(at(9, 10), 30));
+        // 20 minute gap between 1:00pm and 1:20pm is too short
+        assertEquals(at(14, 0), index.getFirstFreeSlot(at(13, 0), 30));
+        assertEquals(at(13, 0), index.getFirstFreeSlot(at(13, 0), 20));
+        // minutes past the end of the day are always free
+        assertEquals(DAY_START + Time.MINUTES_PER_DAY + 30, index.getFirstFreeSlot(DAY_START + Time.MINUTES_PER_DAY + 30, 60));
+    }
+
+    private static long at(int hour, int minute) {
+        return DAY_START + hour * 60L + minute;
+    }
+}
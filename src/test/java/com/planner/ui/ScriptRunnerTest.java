@@ -0,0 +1,86 @@
+package com.planner.ui;
+
+import com.planner.manager.ScheduleManager;
+import com.planner.manager.ScheduleManagerFixture;
+import com.planner.util.EventLog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScriptRunnerTest {
+
+    private ScheduleManager sm;
+    private EventLog eventLog;
+    private ByteArrayOutputStream out;
+    private ScriptRunner runner;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        sm = ScheduleManagerFixture.create();
+        eventLog = sm.getEventLog();
+        out = new ByteArrayOutputStream();
+        runner = new ScriptRunner(sm, new PrintStream(out));
+    }
+
+    @Test
+    void run() throws IOException {
+        int commands = runner.run("test.qs", List.of(
+                "# cards first so tasks can use them",
+                "card \"Math\" BLUE",
+                "",
+                "task \"hw\" 4 +C0 @ tmrw",
+                "task",
+                "task \"essay\" 6 @ fri",
+                "event false \"lecture\" @ tmrw 9-11",
+                "event true \"gym\" @ mon wed 5-6",
+                "mod task 1 7",
+                "delete task 0",
+                "sched"));
+        assertEquals(9, commands);
+        assertEquals(1, sm.getNumTasks());
+        assertEquals(7.0, sm.getTask(1).getTotalHours());
+        assertEquals(2, sm.getEventStore().size());
+        assertFalse(sm.getSchedule().isEmpty());
+        assertEquals(EventLog.Level.TRACE, eventLog.getLevel());
+
+        // listing runs after every change, so it shows the final Tasks
+        String output = out.toString();
+        assertFalse(output.contains("hw"));
+        assertTrue(output.contains("essay"));
+        assertTrue(output.indexOf("TASKS") < output.indexOf("SCHEDULE"));
+    }
+
+    @Test
+    void invalidLines() {
+        Exception e = assertThrows(IllegalArgumentException.class, () -> runner.run("test.qs", List.of(
+                "task \"hw\" 4 @ tmrw",
+                "task \"essay\" six @ fri",
+                "config",
+                "card \"Math\" BLUE")));
+        assertTrue(e.getMessage().contains("Line 2:"));
+        assertTrue(e.getMessage().contains("Line 3:"));
+        assertEquals(0, sm.getNumTasks());
+        assertTrue(sm.getCards().isEmpty());
+    }
+
+    @Test
+    void failedChange() {
+        Exception e = assertThrows(IllegalArgumentException.class, () -> runner.run("test.qs", List.of(
+                "task \"hw\" 4 @ tmrw",
+                "task",
+                "delete task 5",
+                "sched")));
+        assertTrue(e.getMessage().startsWith("Line 3:"));
+        // fail-fast rather than transactional, so the change before the failing line stays applied
+        assertEquals(1, sm.getNumTasks());
+        assertTrue(sm.getSchedule().isEmpty());
+        assertEquals(0, out.size());
+        assertEquals(EventLog.Level.TRACE, eventLog.getLevel());
+    }
+}
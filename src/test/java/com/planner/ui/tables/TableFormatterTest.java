@@ -0,0 +1,109 @@
+package com.planner.ui.tables;
+
+import com.planner.manager.ScheduleManager;
+import com.planner.manager.ScheduleManagerFixture;
+import com.planner.models.Card;
+import com.planner.models.Event;
+import com.planner.models.Task;
+import com.planner.models.UserConfig;
+import com.planner.schedule.day.Day;
+import com.planner.util.Parser;
+import com.planner.util.Time;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TableFormatterTest {
+
+    @Test
+    void renderCache() throws IOException {
+        ScheduleManager sm = ScheduleManagerFixture.create();
+        sm.addCard("Math", Card.Color.BLUE);
+        for (int i = 0; i < 30; i++) {
+            sm.addTask("task" + i, 1 + (i % 4) * 0.5, Time.getFormattedCalendarInstance(1 + i % 10), i % 2 == 0 ? 0 : null);
+        }
+        sm.buildSchedule();
+        RenderCache cache = sm.getRenderCache();
+        int numDays = sm.getSchedule().size();
+
+        String table = sm.buildScheduleStr();
+        assertEquals(TableFormatter.formatScheduleTable(sm.getSchedule(), true), table);
+        assertEquals(numDays, cache.getNumDayRenders());
+        assertSame(table, sm.buildScheduleStr());
+
+        // a Task due on the last Day only regenerates the Days from the one it was scheduled on
+        sm.addTask("late", 2, Time.getFormattedCalendarInstance(numDays - 1), null);
+        sm.buildSchedule();
+        table = sm.buildScheduleStr();
+        assertEquals(TableFormatter.formatScheduleTable(sm.getSchedule(), true), table);
+        assertTrue(cache.getNumDayRenders() < 2 * numDays);
+        assertEquals(TableFormatter.formatSubTaskTable(sm.getSchedule(), true), sm.buildSubTaskStr());
+
+        // renaming a Card changes rows of Days which were not regenerated
+        sm.modCard(0, "Calculus", null);
+        table = sm.buildScheduleStr();
+        assertTrue(table.contains("Calculus"));
+        assertEquals(TableFormatter.formatScheduleTable(sm.getSchedule(), true), table);
+        assertEquals(TableFormatter.formatSubTaskTable(sm.getSchedule(), false), TableFormatter.formatSubTaskTable(sm.getSchedule(), false, cache));
+    }
+
+    @Test
+    void printSchedule() throws IOException {
+        UserConfig userConfig = ScheduleManagerFixture.readUserConfig();
+        userConfig.setMaxDays(20);
+        ScheduleManager sm = ScheduleManagerFixture.create(userConfig);
+        for (int i = 0; i < 40; i++) {
+            sm.addTask("task" + i, 4, Time.getFormattedCalendarInstance(1 + i % 18), null);
+        }
+        sm.buildSchedule();
+        List<Day> schedule = sm.getSchedule();
+        assertTrue(schedule.size() > 14);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        sm.printSchedulePage(new PrintStream(bytes), 2);
+        assertEquals(TableFormatter.formatScheduleTable(schedule.subList(7, 14), true), bytes.toString());
+        int numPages = (schedule.size() + ScheduleManager.SCHEDULE_PAGE_DAYS - 1) / ScheduleManager.SCHEDULE_PAGE_DAYS;
+        assertEquals(numPages, sm.getNumSchedulePages());
+        assertThrows(IllegalArgumentException.class, () -> sm.printSchedulePage(new PrintStream(bytes), numPages + 1));
+        assertThrows(IllegalArgumentException.class, () -> sm.printSchedulePage(new PrintStream(bytes), 0));
+
+        bytes.reset();
+        sm.printSchedule(new PrintStream(bytes), Time.getFormattedCalendarInstance(1), Time.getFormattedCalendarInstance(3));
+        assertEquals(TableFormatter.formatScheduleTable(schedule.subList(1, 4), true), bytes.toString());
+        assertThrows(IllegalArgumentException.class, () -> sm.printSchedule(new PrintStream(bytes),
+                Time.getFormattedCalendarInstance(3), Time.getFormattedCalendarInstance(1)));
+        assertThrows(IllegalArgumentException.class, () -> Parser.parseDateRange("tmrw", "today"));
+    }
+
+    @Test
+    void formatHours() {
+        PriorityQueue<Task> tasks = new PriorityQueue<>();
+        double[] hours = {0.5, 2, 12.5, 100};
+        for (int i = 0; i < hours.length; i++) {
+            tasks.add(new Task(i, "task" + i, hours[i], Time.getFormattedCalendarInstance(1), null));
+        }
+        String table = TableFormatter.formatTaskTable(tasks, new PriorityQueue<>(), false);
+        for (int i = 0; i < hours.length; i++) {
+            assertTrue(table.contains(String.format("%-5d| %-19s | %-14s | %-9s | ", i, "task" + i, "       -      ",
+                    String.format("%.1f", hours[i]))));
+        }
+
+        // Events can last any number of minutes, which are not always an exact number of tenths of an hour
+        Day day = new Day(0, 8, Time.getFormattedCalendarInstance(1));
+        int[] minutes = {20, 21, 45, 90, 600};
+        for (int i = 0; i < minutes.length; i++) {
+            long start = day.getStartMinute() + 60 * (i + 8);
+            day.addEvent(new Event(i, "event" + i, null, new Time.TimeStamp(start, start + minutes[i])));
+        }
+        table = TableFormatter.formatScheduleTable(List.of(day), false);
+        for (int i = 0; i < minutes.length; i++) {
+            assertTrue(table.contains(String.format("|%5.1f hrs |", Time.getTimeInterval(0, minutes[i]))), table);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.planner.util;
+
+import com.planner.models.Card;
+import com.planner.models.Event;
+import com.planner.models.Task;
+import com.planner.schedule.day.Day;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventLogTest {
+
+    @Test
+    void ringBuffer() {
+        EventLog log = new EventLog(null, EventLog.Level.TRACE, 4);
+        for (int i = 0; i < 10; i++) {
+            log.reportCardAction(new Card(i, "card" + i, Card.Color.RED), 0);
+        }
+
+        String contents = log.toString();
+        assertFalse(contents.contains("TITLE=card5,"));
+        for (int i = 6; i < 10; i++) {
+            assertTrue(contents.contains("ADD(CARD): ID=" + i + ", TITLE=card" + i + ", COLOR=RED\n"));
+        }
+    }
+
+    @Test
+    void level() {
+        EventLog log = new EventLog(null, EventLog.Level.INFO, 16);
+        Task task = new Task(3, "essay", 2.5, Time.getFormattedCalendarInstance(1), null);
+        Day day = new Day(0, 8, Time.getFormattedCalendarInstance(0));
+
+        log.reportDayAction(day, task, true);
+        log.reportTaskAction(task, 0);
+        assertFalse(log.toString().contains("DAY:"));
+        assertTrue(log.toString().contains("[INFO] ADD(TASK): ID=3, NAME=essay, TAG=null, HOURS=2.5, DUE="
+                + task.getDateStamp() + ", ARCHIVED=FALSE\n"));
+
+        log.setLevel(EventLog.Level.TRACE);
+        log.reportDayAction(day, task, false);
+        assertTrue(log.toString().contains("[INFO] DAY: ID=0, CAPACITY=8.0, HOURS_REMAINING=8.0, HOURS_FILLED=0.0, TASK ADDED=3, OVERFLOW=true\n"));
+
+        log.setLevel(EventLog.Level.OFF);
+        assertFalse(log.isEnabled(EventLog.Level.ERROR));
+        assertThrows(IllegalArgumentException.class, () -> log.setLevel(null));
+    }
+
+    @Test
+    void eventAction() {
+        EventLog log = new EventLog(null, EventLog.Level.INFO, 16);
+        long start = Time.toEpochMinute(Time.getFormattedCalendarInstance(2)) + 9 * 60;
+        Time.TimeStamp timeStamp = new Time.TimeStamp(start, start + 90);
+        String date = new SimpleDateFormat("dd-MM-yyyy").format(timeStamp.getStart().getTime());
+        Card card = new Card(0, "gym", Card.Color.RED);
+
+        log.reportEventAction(new Event(4, "lecture", null, timeStamp), 0);
+        log.reportEventAction(new Event(5, "lift", card, timeStamp,
+                new Event.DayOfWeek[]{Event.DayOfWeek.FRI, Event.DayOfWeek.MON}), 2);
+        String contents = log.toString();
+        assertTrue(contents.contains("[INFO] ADD(EVENT): ID=4, NAME=lecture, TAG=null, TIMESTAMP=" + timeStamp
+                + ", DATE=" + date + ", RECURRENCE=false\n"));
+        assertTrue(contents.contains("[INFO] MOD(EVENT): ID=5, NAME=lift, TAG=gym, TIMESTAMP=" + timeStamp
+                + ", DATE=" + date + ", RECURRENCE=true, DAYS=[MON, FRI]\n"));
+    }
+
+    @Test
+    void flush() throws IOException {
+        Path file = Files.createTempFile("session", ".log");
+        EventLog log = new EventLog(file, EventLog.Level.TRACE, 8);
+        for (int i = 0; i < 100; i++) {
+            log.reportException(new IllegalArgumentException("error" + i));
+        }
+        log.flush();
+
+        String contents = Files.readString(file);
+        assertTrue(contents.startsWith(log.toString().substring(0, 12)));
+        for (int i = 0; i < 100; i++) {
+            assertTrue(contents.contains("[ERROR] error" + i + "\n"));
+        }
+
+        log.close();
+        log.reportException(new IllegalArgumentException("after close"));
+        assertFalse(Files.readString(file).contains("after close"));
+        Files.delete(file);
+    }
+}
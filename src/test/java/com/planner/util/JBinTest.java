@@ -0,0 +1,81 @@
+package com.planner.util;
+
+import com.planner.manager.ScheduleManager;
+import com.planner.manager.ScheduleManagerFixture;
+import com.planner.models.Card;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JBinTest {
+
+    @Test
+    void convert() throws IOException {
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(Paths.get("schedules"))) {
+            files = stream.filter(p -> p.toString().endsWith(".sched")).toList();
+        }
+        assertFalse(files.isEmpty());
+
+        for (Path file : files) {
+            String text = Files.readString(file);
+            ByteArrayOutputStream binary = new ByteArrayOutputStream();
+            JBin.convertToBinary(new StringReader(text), binary);
+            assertTrue(binary.size() < text.length());
+
+            StringBuilder sb = new StringBuilder();
+            JBin.convertToText(ByteBuffer.wrap(binary.toByteArray()), sb);
+            assertEquals(text, sb.toString(), file.toString());
+
+            ScheduleManager fromText = ScheduleManagerFixture.create();
+            Serializer.deserializeSchedule(text, fromText);
+            ScheduleManager fromBinary = ScheduleManagerFixture.create();
+            JBin.readSchedule(ByteBuffer.wrap(binary.toByteArray()), fromBinary);
+            assertEquals(serialize(fromText), serialize(fromBinary), file.toString());
+        }
+    }
+
+    @Test
+    void writeSchedule() throws IOException {
+        ScheduleManager sm = ScheduleManagerFixture.create();
+        sm.addCard("Math", Card.Color.BLUE);
+        for (int i = 0; i < 20; i++) {
+            sm.addTask("task" + i, 2 + (i % 4) * 0.5, Time.getFormattedCalendarInstance(1 + i % 7), i % 2 == 0 ? 0 : null);
+        }
+        Calendar start = Time.getFormattedCalendarInstance(2);
+        start.set(Calendar.HOUR_OF_DAY, 10);
+        Calendar end = (Calendar) start.clone();
+        end.set(Calendar.HOUR_OF_DAY, 12);
+        sm.addEvent("meeting", 0, new Time.TimeStamp(start, end), false, null);
+        List<Calendar> dates = new ArrayList<>();
+        dates.add(Time.getFormattedCalendarInstance(3));
+        dates.add(Time.getFormattedCalendarInstance(5));
+        sm.addEvent("class", null, new Time.TimeStamp(start, end), true, dates);
+        sm.buildSchedule();
+
+        ByteArrayOutputStream binary = new ByteArrayOutputStream();
+        JBin.writeSchedule(binary, sm.getCards(), new ArrayList<>(sm.getTaskManager()), sm.getIndivEvents(), null, sm.getSchedule());
+        StringBuilder sb = new StringBuilder();
+        JBin.convertToText(ByteBuffer.wrap(binary.toByteArray()), sb);
+        assertEquals(Serializer.serializeSchedule(sm.getCards(), new ArrayList<>(sm.getTaskManager()), sm.getIndivEvents(), null, sm.getSchedule()), sb.toString());
+
+        assertThrows(IllegalArgumentException.class, () -> JBin.readSchedule(ByteBuffer.wrap(new byte[]{'Q', 'S'}), ScheduleManagerFixture.create()));
+    }
+
+    private String serialize(ScheduleManager sm) {
+        return Serializer.serializeSchedule(sm.getCards(), new ArrayList<>(sm.getTaskManager()), sm.getIndivEvents(), null, sm.getSchedule())
+                + sm.buildTaskStr();
+    }
+}
@@ -3,7 +3,14 @@ package com.planner.util;
 import com.planner.models.Card;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -49,4 +56,73 @@ class ParserTest {
     @Test
     void parseDelete() {
     }
-}
\ No newline at end of file
+
+    @Test
+    void parseDate() {
+        Calendar[] range = Parser.parseDateRange("05-09-2024", "2024-09-05");
+        assertEquals(range[0], range[1]);
+        assertEquals(2024, range[0].get(Calendar.YEAR));
+        assertEquals(Calendar.SEPTEMBER, range[0].get(Calendar.MONTH));
+        assertEquals(5, range[0].get(Calendar.DAY_OF_MONTH));
+        assertEquals(0, range[0].get(Calendar.HOUR_OF_DAY));
+        assertEquals(range[0], Parser.parseDateRange("5-9-2024", "5-9-2024")[0]);
+        assertEquals(29, Parser.parseDateRange("29-02-2024", "29-02-2024")[0].get(Calendar.DAY_OF_MONTH));
+
+        // days past the end of the month are not rolled over into the next one
+        for (String s : new String[]{"31-02-2024", "29-02-2023", "05-09-24", "2024-9-5x", "05-13-2024", "5--2024", "tmrrw"}) {
+            assertThrows(IllegalArgumentException.class, () -> Parser.parseDateRange(s, s), s);
+        }
+
+        range = Parser.parseDateRange("today", "TMRW");
+        assertEquals(Time.getFormattedCalendarInstance(0), range[0]);
+        assertEquals(Time.getFormattedCalendarInstance(1), range[1]);
+        // cached keywords are handed out as copies
+        range[0].add(Calendar.DAY_OF_MONTH, 3);
+        assertEquals(Time.getFormattedCalendarInstance(0), Parser.parseDateRange("today", "today")[0]);
+
+        Calendar mon = Parser.parseDateRange("mon", "mon")[0];
+        assertEquals(Calendar.MONDAY, mon.get(Calendar.DAY_OF_WEEK));
+        assertTrue(Time.differenceOfDays(mon, Time.getFormattedCalendarInstance(0)) < 7);
+        assertEquals(Parser.parseDateRange("sat", "eow")[0], Parser.parseDateRange("Saturday", "eow")[1]);
+
+        Parser.EventInfo ei = Parser.parseEvent(Parser.tokenize("event false \"a\" @ fri 05-09-2024 9-11 +C2"));
+        assertEquals(2, ei.getDates().size());
+        assertEquals(2, ei.getCardId());
+        assertThrows(IllegalArgumentException.class, () -> Parser.parseEvent(Parser.tokenize("event false \"a\" @ fri 9-11 1-2")));
+        assertThrows(IllegalArgumentException.class, () -> Parser.parseEvent(Parser.tokenize("event false \"a\" @ 32-01-2024 9-11")));
+    }
+
+    @Test
+    void parseDatesConcurrently() throws Exception {
+        String[] keywords = {"today", "tmrw", "eow", "mon", "thursday"};
+        List<Callable<Boolean>> jobs = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int offset = t;
+            jobs.add(() -> {
+                Tokens tokens = new Tokens();
+                for (int i = 0; i < 2000; i++) {
+                    int day = 1 + (i + offset) % 28;
+                    int month = 1 + (i + offset) % 12;
+                    Calendar due = Parser.parseTask(tokens.reset("\"t\" 1 @ " + day + "-" + month + "-2025"), 0).getDue();
+                    if (due.get(Calendar.DAY_OF_MONTH) != day || due.get(Calendar.MONTH) != month - 1
+                            || due.get(Calendar.YEAR) != 2025) {
+                        return false;
+                    }
+                    String keyword = keywords[(i + offset) % keywords.length];
+                    if (!Parser.parseDateRange(keyword, keyword)[0].equals(Parser.parseDateRange(keyword, keyword)[1])) {
+                        return false;
+                    }
+                }
+                return true;
+            });
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (Future<Boolean> result : executor.invokeAll(jobs)) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
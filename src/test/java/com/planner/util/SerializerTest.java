@@ -0,0 +1,119 @@
+package com.planner.util;
+
+import com.planner.manager.ScheduleManager;
+import com.planner.manager.ScheduleManagerFixture;
+import com.planner.models.Card;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SerializerTest {
+
+    @Test
+    void roundTrip() throws IOException {
+        ScheduleManager sm = ScheduleManagerFixture.create();
+        sm.addCard("Math", Card.Color.BLUE);
+        sm.addCard("Art", Card.Color.RED);
+        for (int i = 0; i < 20; i++) {
+            sm.addTask("task" + i, 2 + (i % 4) * 0.5, Time.getFormattedCalendarInstance(1 + i % 7), i % 3 == 2 ? null : i % 3);
+        }
+        Calendar start = Time.getFormattedCalendarInstance(2);
+        start.set(Calendar.HOUR_OF_DAY, 10);
+        Calendar end = (Calendar) start.clone();
+        end.set(Calendar.HOUR_OF_DAY, 12);
+        sm.addEvent("meeting", 1, new Time.TimeStamp(start, end), false, null);
+        List<Calendar> dates = new ArrayList<>();
+        dates.add(Time.getFormattedCalendarInstance(3));
+        dates.add(Time.getFormattedCalendarInstance(5));
+        sm.addEvent("class", 0, new Time.TimeStamp(start, end), true, dates);
+        sm.buildSchedule();
+        String expected = serialize(sm);
+
+        ByteArrayOutputStream file = new ByteArrayOutputStream();
+        try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(file, StandardCharsets.UTF_8))) {
+            Serializer.writeSchedule(writer, sm.getCards(), new ArrayList<>(sm.getTaskManager()), sm.getIndivEvents(),
+                    sm.getEventStore().getRecurringEventsList(), sm.getSchedule());
+        }
+        assertEquals(expected, file.toString(StandardCharsets.UTF_8));
+
+        ScheduleManager read = ScheduleManagerFixture.create();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ByteArrayInputStream(file.toByteArray()), StandardCharsets.UTF_8))) {
+            Serializer.readSchedule(reader, read);
+        }
+        // Tasks come back in a different heap order, so the stream is checked against reading the same text whole
+        ScheduleManager fromText = ScheduleManagerFixture.create();
+        Serializer.deserializeSchedule(expected, fromText);
+        assertEquals(serialize(fromText), serialize(read));
+        assertEquals(fromText.buildTaskStr(), read.buildTaskStr());
+        assertEquals(sm.getNumTasks(), read.getNumTasks());
+        assertEquals(sm.getSchedule().size(), read.getSchedule().size());
+    }
+
+    @Test
+    void getOrdinals() {
+        // ids left with gaps by deletes, out of order, with a duplicate and a negative id
+        List<Card> cards = List.of(new Card(5, "a", Card.Color.RED), new Card(0, "b", Card.Color.BLUE),
+                new Card(2, "c", Card.Color.GREEN), new Card(2, "d", Card.Color.BLUE), new Card(-1, "e", Card.Color.RED));
+        int[] ordinals = Serializer.getOrdinals(cards, Card::getId);
+        assertArrayEquals(new int[]{1, -1, 2, -1, -1, 0}, ordinals);
+        assertEquals(0, Serializer.getOrdinal(ordinals, 5));
+        assertEquals(2, Serializer.getOrdinal(ordinals, 2));
+        assertEquals(-1, Serializer.getOrdinal(ordinals, 3));
+        assertEquals(-1, Serializer.getOrdinal(ordinals, 6));
+        assertEquals(-1, Serializer.getOrdinal(ordinals, -1));
+
+        // null and empty lists map no id
+        for (int[] empty : new int[][]{Serializer.getOrdinals(null, Card::getId),
+                Serializer.getOrdinals(List.<Card>of(), Card::getId)}) {
+            assertEquals(0, empty.length);
+            assertEquals(-1, Serializer.getOrdinal(empty, 0));
+        }
+
+        // the array is sized by the largest id rather than by the number of items
+        ordinals = Serializer.getOrdinals(List.of(new Card(1_000_000, "a", Card.Color.RED), new Card(3, "b", Card.Color.RED)),
+                Card::getId);
+        assertEquals(1_000_001, ordinals.length);
+        assertEquals(0, Serializer.getOrdinal(ordinals, 1_000_000));
+        assertEquals(1, Serializer.getOrdinal(ordinals, 3));
+        assertEquals(-1, Serializer.getOrdinal(ordinals, 999_999));
+        assertEquals(-1, Serializer.getOrdinal(ordinals, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void missingCards() throws IOException {
+        ScheduleManager sm = ScheduleManagerFixture.create();
+        sm.addCard("Math", Card.Color.BLUE);
+        sm.addCard("Art", Card.Color.RED);
+        sm.addCard("Gym", Card.Color.GREEN);
+        sm.addTask("essay", 2, Time.getFormattedCalendarInstance(1), 1);
+        sm.addTask("laps", 2, Time.getFormattedCalendarInstance(2), 2);
+        // the Task keeps its Card after the Card is deleted, leaving a gap in the ids
+        sm.deleteCard(1);
+
+        String data = Serializer.serializeSchedule(sm.getCards(), List.of(sm.getTask(0), sm.getTask(1)), null, null, null);
+        assertTrue(data.contains("\t\"essay\" 2.0 @ "));
+        assertTrue(data.contains("\t\"laps\" 2.0 +C1 @ "));
+
+        // without any Cards, no Task is written with one
+        data = Serializer.serializeSchedule(null, List.of(sm.getTask(0), sm.getTask(1)), null, null, null);
+        assertFalse(data.contains("+C"));
+    }
+
+    private String serialize(ScheduleManager sm) {
+        return Serializer.serializeSchedule(sm.getCards(), new ArrayList<>(sm.getTaskManager()), sm.getIndivEvents(),
+                sm.getEventStore().getRecurringEventsList(), sm.getSchedule());
+    }
+}
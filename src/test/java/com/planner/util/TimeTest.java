@@ -0,0 +1,215 @@
+package com.planner.util;
+
+import com.planner.models.UserConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeTest {
+
+    private TimeZone defaultZone;
+
+    @BeforeEach
+    void setUp() {
+        // pins the DST transitions: 03-10-2024 skips 2:00-3:00 AM and 11-03-2024 repeats 1:00-2:00 AM
+        defaultZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("America/New_York"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TimeZone.setDefault(defaultZone);
+    }
+
+    @Test
+    void everyDay() {
+        // noon of every day from 1600 through 2100, covering every leap day, month end and year end
+        Calendar date = date(1600, 1, 1, 12, 0);
+        Calendar last = date(2100, 12, 31, 12, 0);
+        while (!date.after(last)) {
+            long epochDay = LocalDate.of(date.get(Calendar.YEAR), date.get(Calendar.MONTH) + 1,
+                    date.get(Calendar.DAY_OF_MONTH)).toEpochDay();
+            assertEquals(epochDay, Time.toEpochDay(date));
+            long epochMinute = Time.toEpochMinute(date);
+            assertEquals(epochDay * Time.MINUTES_PER_DAY + 720, epochMinute);
+            assertEquals(epochDay, Time.getEpochDay(epochMinute));
+            assertEquals(date.get(Calendar.DAY_OF_WEEK) - 1, Time.getDayOfWeekIndex(epochDay));
+            assertFields(date, Time.toCalendar(epochMinute));
+            date.add(Calendar.DAY_OF_MONTH, 1);
+        }
+    }
+
+    @Test
+    void boundaries() {
+        assertEquals(0, Time.toEpochMinute(date(1970, 1, 1, 0, 0)));
+        assertEquals(-1, Time.toEpochMinute(date(1969, 12, 31, 23, 59)));
+        assertEquals(-1, Time.toEpochDay(date(1969, 12, 31, 23, 59)));
+        assertEquals(4, Time.getDayOfWeekIndex(0));
+        assertEquals(3, Time.getDayOfWeekIndex(-1));
+
+        // the minute after the last of a leap day, a month, a year and the day before the epoch
+        assertNextMinute(date(2024, 2, 28, 23, 59), date(2024, 2, 29, 0, 0));
+        assertNextMinute(date(2024, 2, 29, 23, 59), date(2024, 3, 1, 0, 0));
+        assertNextMinute(date(2023, 2, 28, 23, 59), date(2023, 3, 1, 0, 0));
+        assertNextMinute(date(1900, 2, 28, 23, 59), date(1900, 3, 1, 0, 0));
+        assertNextMinute(date(2000, 2, 28, 23, 59), date(2000, 2, 29, 0, 0));
+        assertNextMinute(date(2024, 4, 30, 23, 59), date(2024, 5, 1, 0, 0));
+        assertNextMinute(date(1999, 12, 31, 23, 59), date(2000, 1, 1, 0, 0));
+        assertNextMinute(date(1969, 12, 31, 23, 59), date(1970, 1, 1, 0, 0));
+        assertNextMinute(date(1965, 6, 30, 23, 59), date(1965, 7, 1, 0, 0));
+
+        // seconds and milliseconds are dropped
+        Calendar date = date(1950, 7, 4, 9, 30);
+        date.set(Calendar.SECOND, 59);
+        date.set(Calendar.MILLISECOND, 999);
+        assertEquals(Time.toEpochMinute(date(1950, 7, 4, 9, 30)), Time.toEpochMinute(date));
+    }
+
+    @Test
+    void springForward() {
+        long dayStart = Time.toEpochMinute(date(2024, 3, 10, 0, 0));
+        assertEquals(Time.toEpochDay(date(2024, 3, 9, 12, 0)) + 1, Time.getEpochDay(dayStart));
+        // the day is still 1440 wall-clock minutes, though only 23 hours pass
+        assertEquals(dayStart + Time.MINUTES_PER_DAY, Time.toEpochMinute(date(2024, 3, 11, 0, 0)));
+        Calendar before = date(2024, 3, 10, 1, 0);
+        Calendar after = date(2024, 3, 10, 3, 0);
+        assertEquals(60 * 60 * 1000, after.getTimeInMillis() - before.getTimeInMillis());
+        assertEquals(120, Time.toEpochMinute(after) - Time.toEpochMinute(before));
+
+        for (int minute = 0; minute < Time.MINUTES_PER_DAY; minute++) {
+            Calendar date = Time.toCalendar(dayStart + minute);
+            assertEquals(10, date.get(Calendar.DAY_OF_MONTH));
+            if (minute >= 120 && minute < 180) {
+                // 2:00-2:59 AM does not exist, so the Calendar moves an hour ahead
+                assertEquals(minute / 60 + 1, date.get(Calendar.HOUR_OF_DAY));
+                assertEquals(dayStart + minute + 60, Time.toEpochMinute(date));
+            } else {
+                assertEquals(minute / 60, date.get(Calendar.HOUR_OF_DAY));
+                assertEquals(dayStart + minute, Time.toEpochMinute(date));
+            }
+        }
+    }
+
+    @Test
+    void fallBack() {
+        long dayStart = Time.toEpochMinute(date(2024, 11, 3, 0, 0));
+        // the day is still 1440 wall-clock minutes, though 25 hours pass
+        assertEquals(dayStart + Time.MINUTES_PER_DAY, Time.toEpochMinute(date(2024, 11, 4, 0, 0)));
+        Calendar before = date(2024, 11, 3, 0, 0);
+        Calendar after = date(2024, 11, 3, 3, 0);
+        assertEquals(4 * 60 * 60 * 1000, after.getTimeInMillis() - before.getTimeInMillis());
+        assertEquals(180, Time.toEpochMinute(after) - Time.toEpochMinute(before));
+
+        // both passes through 1:00-1:59 AM map to the same wall-clock minutes
+        Calendar second = date(2024, 11, 3, 1, 30);
+        Calendar first = (Calendar) second.clone();
+        first.add(Calendar.HOUR_OF_DAY, -1);
+        assertEquals(1, first.get(Calendar.HOUR_OF_DAY));
+        assertNotEquals(first.get(Calendar.DST_OFFSET), second.get(Calendar.DST_OFFSET));
+        assertEquals(Time.toEpochMinute(first), Time.toEpochMinute(second));
+
+        for (int minute = 0; minute < Time.MINUTES_PER_DAY; minute++) {
+            Calendar date = Time.toCalendar(dayStart + minute);
+            assertEquals(3, date.get(Calendar.DAY_OF_MONTH));
+            assertEquals(minute / 60, date.get(Calendar.HOUR_OF_DAY));
+            assertEquals(minute % 60, date.get(Calendar.MINUTE));
+            assertEquals(dayStart + minute, Time.toEpochMinute(date));
+        }
+    }
+
+    @Test
+    void getNearestQuarterOfHour() {
+        assertEquals(0, Time.getNearestQuarterOfHour(-1, true));
+        assertEquals(-15, Time.getNearestQuarterOfHour(-1, false));
+        assertEquals(-15, Time.getNearestQuarterOfHour(-15, true));
+        assertEquals(15, Time.getNearestQuarterOfHour(7, true));
+        assertEquals(0, Time.getNearestQuarterOfHour(7, false));
+        assertEquals(30, Time.getNearestQuarterOfHour(30, false));
+
+        // matches the Calendar overload on both sides of the epoch, across the end of a day and a year
+        for (Calendar start : List.of(date(1969, 12, 31, 22, 0), date(2024, 2, 29, 23, 0), date(1899, 12, 31, 23, 0))) {
+            for (int minute = 0; minute < 180; minute++) {
+                Calendar date = (Calendar) start.clone();
+                date.add(Calendar.MINUTE, minute);
+                long epochMinute = Time.toEpochMinute(date);
+                for (boolean isAbove : new boolean[]{true, false}) {
+                    long nearest = Time.getNearestQuarterOfHour(epochMinute, isAbove);
+                    assertEquals(0, Math.floorMod(nearest, 15));
+                    assertTrue(Math.abs(nearest - epochMinute) < 15);
+                    assertEquals(Time.toEpochMinute(Time.getNearestQuarterOfHour(date, isAbove)), nearest);
+                }
+            }
+        }
+    }
+
+    @Test
+    void getFirstAvailableTimeInDay() {
+        UserConfig userConfig = createUserConfig(false);
+        for (Calendar day : List.of(date(2024, 5, 15, 0, 0), date(2024, 3, 10, 0, 0), date(2024, 11, 3, 0, 0),
+                date(1960, 2, 29, 0, 0))) {
+            long dayStart = Time.toEpochMinute(day);
+            List<Time.TimeStamp> tasks = new ArrayList<>();
+            List<Time.TimeStamp> events = new ArrayList<>();
+
+            // starts the day at the start of the daily range
+            assertFirstAvailable(dayStart + 8 * 60, tasks, events, userConfig, dayStart + 6 * 60, false);
+            // starts today from the next quarter of an hour
+            assertFirstAvailable(dayStart + 10 * 60 + 15, tasks, events, userConfig, dayStart + 10 * 60 + 7, true);
+            assertFirstAvailable(dayStart + 8 * 60, tasks, events, createUserConfig(true), dayStart + 10 * 60 + 7, true);
+            // continues after the last SubTask
+            tasks.add(new Time.TimeStamp(dayStart + 8 * 60, dayStart + 11 * 60));
+            assertFirstAvailable(dayStart + 11 * 60, tasks, events, userConfig, dayStart + 10 * 60 + 7, true);
+
+            // skips Events along with a gap of under half an hour between them
+            events.add(new Time.TimeStamp(dayStart + 11 * 60, dayStart + 11 * 60 + 20));
+            events.add(new Time.TimeStamp(dayStart + 11 * 60 + 40, dayStart + 13 * 60 + 10));
+            assertFirstAvailable(dayStart + 13 * 60 + 15, tasks, events, userConfig, dayStart + 6 * 60, false);
+            // takes a gap of half an hour
+            events.add(new Time.TimeStamp(dayStart + 13 * 60 + 45, dayStart + 15 * 60));
+            assertFirstAvailable(dayStart + 13 * 60 + 15, tasks, events, userConfig, dayStart + 6 * 60, false);
+        }
+    }
+
+    private void assertFirstAvailable(long expected, List<Time.TimeStamp> tasks, List<Time.TimeStamp> events,
+                                      UserConfig userConfig, long time, boolean isToday) {
+        assertEquals(expected, Time.getFirstAvailableTimeInDay(tasks, events, userConfig, time, isToday));
+        Calendar date = Time.getFirstAvailableTimeInDay(tasks, events, userConfig, Time.toCalendar(time), isToday);
+        assertEquals(expected, Time.toEpochMinute(date));
+    }
+
+    private void assertNextMinute(Calendar date, Calendar next) {
+        long epochMinute = Time.toEpochMinute(date);
+        assertEquals(Time.toEpochMinute(next), epochMinute + 1);
+        assertEquals(Time.toEpochDay(next), Time.getEpochDay(epochMinute + 1));
+        assertEquals(next.get(Calendar.DAY_OF_WEEK) - 1, Time.getDayOfWeekIndex(Time.toEpochDay(next)));
+        assertFields(date, Time.toCalendar(epochMinute));
+        assertFields(next, Time.toCalendar(epochMinute + 1));
+    }
+
+    private void assertFields(Calendar expected, Calendar actual) {
+        for (int field : new int[]{Calendar.YEAR, Calendar.MONTH, Calendar.DAY_OF_MONTH, Calendar.HOUR_OF_DAY,
+                Calendar.MINUTE}) {
+            assertEquals(expected.get(field), actual.get(field));
+        }
+    }
+
+    private UserConfig createUserConfig(boolean defaultAtStart) {
+        return new UserConfig(new int[]{8, 20}, new int[]{8, 8, 8, 8, 8, 8, 8}, new double[]{1.0}, 14, 5, false,
+                true, false, defaultAtStart, true);
+    }
+
+    private static Calendar date(int year, int month, int day, int hour, int minute) {
+        Calendar date = Calendar.getInstance();
+        date.clear();
+        date.set(year, month - 1, day, hour, minute);
+        return date;
+    }
+}
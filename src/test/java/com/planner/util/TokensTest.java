@@ -0,0 +1,84 @@
+package com.planner.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Calendar;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokensTest {
+
+    @Test
+    void reset() {
+        Tokens tokens = new Tokens();
+        assertArrayEquals(new String[]{"task", "\"finish ch 12\"", "4.5", "+C0", "@", "tmrw"},
+                tokens.reset("  task\t\"finish ch 12\" 4.5 +C0 @ tmrw ").toArray());
+        assertEquals(7, tokens.start(1));
+        assertEquals(21, tokens.end(1));
+        assertTrue(tokens.equals(4, "@"));
+        assertTrue(tokens.equalsIgnoreCase(0, "TASK"));
+        assertFalse(tokens.equals(0, "tas"));
+        assertEquals(0, tokens.parseInt(3, 2));
+        assertEquals("finish ch 12", tokens.substring(1, 1, tokens.length(1) - 1));
+
+        // the offsets are reused by every line
+        assertEquals(0, tokens.reset("   ").size());
+        String[] words = new String[40];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = "w" + i;
+        }
+        assertArrayEquals(words, tokens.reset(String.join(" ", words)).toArray());
+        assertArrayEquals(words, Tokens.of(words).toArray());
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> tokens.start(40));
+
+        assertThrows(IllegalArgumentException.class, () -> tokens.reset("task \"open"));
+        assertThrows(IllegalArgumentException.class, () -> tokens.reset("task \"\""));
+    }
+
+    @Test
+    void parseDouble() {
+        Random rand = new Random(34);
+        Tokens tokens = new Tokens();
+        String[] fixed = {"4", "4.5", "-0", ".5", "5.", "0.1", "007.250", "123456789012345", "1234567890.123456",
+                "1e3", "0x1p3", "2.5d", "NaN", "-Infinity"};
+        for (String s : fixed) {
+            assertEquals(Double.parseDouble(s), tokens.reset(s).parseDouble(0), s);
+        }
+        for (int i = 0; i < 10000; i++) {
+            String s = rand.nextInt(100000) + "." + rand.nextInt(1000000);
+            assertEquals(Double.parseDouble(s), tokens.reset(s).parseDouble(0), s);
+        }
+        assertThrows(NumberFormatException.class, () -> tokens.reset(".").parseDouble(0));
+        assertThrows(NumberFormatException.class, () -> tokens.reset("4.5h").parseDouble(0));
+    }
+
+    @Test
+    void parseViews() {
+        String task = "\"finish ch12\" 4.5 +C2 @ 05-09-2024";
+        Parser.TaskInfo ti = Parser.parseTask(Tokens.of(task), 0);
+        Parser.TaskInfo expected = Parser.parseTask(Parser.tokenize("task " + task));
+        assertEquals(expected.getDesc(), ti.getDesc());
+        assertEquals(expected.getHours(), ti.getHours());
+        assertEquals(expected.getCardId(), ti.getCardId());
+        assertEquals(expected.getDue(), ti.getDue());
+
+        Parser.EventInfo ei = Parser.parseEvent(Tokens.of("true \"gym\" +C1 @ mon wed 9:30am-11am"), 0);
+        assertTrue(ei.isRecurring());
+        assertEquals(2, ei.getDates().size());
+        assertEquals(9, ei.getTimestamp()[0].get(Calendar.HOUR_OF_DAY));
+        assertEquals(30, ei.getTimestamp()[0].get(Calendar.MINUTE));
+        assertEquals(11, ei.getTimestamp()[1].get(Calendar.HOUR_OF_DAY));
+
+        Parser.DayInfo di = Parser.parseDay(Tokens.of("05-09-2024 T3 1-2:15pm E0 T3 3pm-4pm \"overflow\""));
+        assertEquals(5, di.getDate().get(Calendar.DAY_OF_MONTH));
+        assertEquals(2, di.getTaskTimeStampsMap().get(3).size());
+        assertEquals(14, di.getTaskTimeStampsMap().get(3).get(0).getEnd().get(Calendar.HOUR_OF_DAY));
+        assertEquals(1, di.getEventIds().size());
+        assertEquals("overflow", di.getErrors().get(0));
+
+        assertThrows(IllegalArgumentException.class, () -> Parser.parseTask(Tokens.of("\"hw\" four @ tmrw"), 0));
+        assertThrows(IllegalArgumentException.class, () -> Parser.parseDay(Tokens.of("05-09-2024 Tx 1-2pm")));
+        assertThrows(IllegalArgumentException.class, () -> Parser.parseEvent(Tokens.of("false \"a\" @ 9-13"), 0));
+    }
+}